@@ -0,0 +1,217 @@
+package org.example.context;
+
+import org.example.db.ConnectionManager;
+import org.example.db.TransactionManager;
+import org.example.db.impl.ConnectionManagerImpl;
+import org.example.db.impl.InstrumentedConnectionManager;
+import org.example.db.impl.QueryPlanCheckerImpl;
+import org.example.db.impl.SchemaMigratorImpl;
+import org.example.db.impl.TransactionManagerImpl;
+import org.example.db.metrics.QueryMetrics;
+import org.example.db.metrics.QueryNames;
+import org.example.exception.RepositoryException;
+import org.example.repository.FreelancerRepository;
+import org.example.repository.OrderRepository;
+import org.example.repository.QualificationRepository;
+import org.example.repository.cache.CandidateIndex;
+import org.example.repository.cache.EmailBloomFilter;
+import org.example.repository.cache.QualificationCache;
+import org.example.repository.cache.TableVersions;
+import org.example.repository.cache.impl.CandidateIndexImpl;
+import org.example.repository.cache.impl.EmailBloomFilterImpl;
+import org.example.repository.cache.impl.QualificationCacheImpl;
+import org.example.repository.cache.impl.TableVersionsImpl;
+import org.example.repository.impl.*;
+import org.example.repository.mapper.impl.FreelancerResultSetMapperIndexedImpl;
+import org.example.repository.mapper.impl.OrderResultSetMapperIndexedImpl;
+import org.example.repository.mapper.impl.QualificationResultSetMapperIndexedImpl;
+import org.example.repository.memory.InMemoryDataset;
+import org.example.service.CandidateService;
+import org.example.service.FreelancerService;
+import org.example.service.OrderService;
+import org.example.service.QualificationService;
+import org.example.service.impl.CandidateServiceImpl;
+import org.example.service.impl.FreelancerServiceImpl;
+import org.example.service.impl.OrderServiceImpl;
+import org.example.service.impl.QualificationServiceImpl;
+import org.example.service.mapper.FreelancerMapper;
+import org.example.service.mapper.OrderMapper;
+import org.example.service.mapper.QualificationMapper;
+import org.example.servlet.executor.RequestExecutor;
+import org.example.servlet.executor.impl.RequestExecutorFactory;
+
+import java.time.Duration;
+
+import static java.lang.System.Logger.Level.WARNING;
+
+public final class ApplicationContext {
+    private static final System.Logger LOGGER = System.getLogger(ApplicationContext.class.getName());
+    private static ApplicationContext instance;
+    private static final String ENGINE_JDBC = "jdbc";
+    private static final String ENGINE_MEMORY = "memory";
+
+    private final ConnectionManager connectionManager;
+    private final QueryMetrics queryMetrics;
+    private final TransactionManagerImpl transactionManager;
+    private final QualificationCache qualificationCache;
+    private final EmailBloomFilter emailFilter;
+    private final CandidateIndex candidateIndex;
+    private final TableVersions tableVersions;
+    private final FreelancerRepository freelancerRepository;
+    private final OrderRepository orderRepository;
+    private final QualificationRepository qualificationRepository;
+    private final InMemoryDataset dataset;
+    private final FreelancerRepository jdbcFreelancerRepository;
+    private final OrderRepository jdbcOrderRepository;
+    private final QualificationRepository jdbcQualificationRepository;
+    private final FreelancerService freelancerService;
+    private final OrderService orderService;
+    private final QualificationService qualificationService;
+    private final CandidateService candidateService;
+    private final RequestExecutor requestExecutor;
+
+    ApplicationContext(ConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+        this.queryMetrics = new QueryMetrics(ApplicationProperties.getLong("instrumentation.slowQueryMillis", 200));
+        if (ApplicationProperties.getBoolean("instrumentation.enabled", true)) {
+            connectionManager = new InstrumentedConnectionManager(connectionManager, queryMetrics);
+        }
+        this.transactionManager = new TransactionManagerImpl(connectionManager);
+        connectionManager = transactionManager;
+        this.qualificationCache = QualificationCacheImpl.getInstance();
+        this.emailFilter = EmailBloomFilterImpl.getInstance();
+        this.candidateIndex = CandidateIndexImpl.getInstance();
+        this.tableVersions = TableVersionsImpl.getInstance();
+        this.jdbcFreelancerRepository = new FreelancerRepositoryImpl(connectionManager,
+                new FreelancerResultSetMapperIndexedImpl(),
+                new QualificationRelationRepositoryImpl(new QualificationResultSetMapperIndexedImpl(), qualificationCache),
+                emailFilter, candidateIndex, tableVersions);
+        this.jdbcOrderRepository = new OrderRepositoryImpl(connectionManager, new OrderResultSetMapperIndexedImpl(),
+                tableVersions);
+        this.jdbcQualificationRepository = new QualificationRepositoryImpl(connectionManager,
+                new QualificationResultSetMapperIndexedImpl(), qualificationCache, tableVersions);
+        String engine = ApplicationProperties.getString("repository.engine", ENGINE_JDBC);
+        if (ENGINE_MEMORY.equals(engine)) {
+            this.dataset = new InMemoryDataset();
+            this.freelancerRepository = new FreelancerRepositoryInMemoryImpl(jdbcFreelancerRepository, dataset,
+                    tableVersions, transactionManager);
+            this.orderRepository = new OrderRepositoryInMemoryImpl(jdbcOrderRepository, dataset, tableVersions,
+                    transactionManager);
+            this.qualificationRepository = new QualificationRepositoryInMemoryImpl(jdbcQualificationRepository, dataset,
+                    tableVersions, transactionManager);
+        } else if (ENGINE_JDBC.equals(engine)) {
+            this.dataset = null;
+            this.freelancerRepository = jdbcFreelancerRepository;
+            this.orderRepository = jdbcOrderRepository;
+            this.qualificationRepository = jdbcQualificationRepository;
+        } else {
+            throw new IllegalArgumentException("Unknown repository.engine: " + engine);
+        }
+        this.freelancerService = new FreelancerServiceImpl(freelancerRepository, FreelancerMapper.INSTANCE,
+                transactionManager);
+        this.orderService = new OrderServiceImpl(orderRepository, OrderMapper.INSTANCE);
+        this.qualificationService = new QualificationServiceImpl(qualificationRepository, QualificationMapper.INSTANCE);
+        this.candidateService = new CandidateServiceImpl(orderRepository, freelancerRepository, candidateIndex,
+                FreelancerMapper.INSTANCE);
+        this.requestExecutor = RequestExecutorFactory.create();
+    }
+
+    public static synchronized ApplicationContext getInstance() {
+        if (instance == null) {
+            instance = new ApplicationContext(ConnectionManagerImpl.getInstance());
+        }
+        return instance;
+    }
+
+    // Warms state that needs the database; kept out of the constructor so wiring stays side-effect free.
+    // A failed migration stops startup; a plan warning does not.
+    public void start() {
+        if (ApplicationProperties.getBoolean("schema.migrate", true)) {
+            new SchemaMigratorImpl(connectionManager).migrate();
+        }
+        if (ApplicationProperties.getBoolean("schema.planCheck", true)) {
+            try {
+                new QueryPlanCheckerImpl(connectionManager).check(QueryNames.statements());
+            } catch (RepositoryException e) {
+                LOGGER.log(WARNING, "Query plan check failed", e);
+            }
+        }
+        if (dataset != null) {
+            try {
+                dataset.load(jdbcFreelancerRepository, jdbcOrderRepository, jdbcQualificationRepository);
+            } catch (RepositoryException e) {
+                LOGGER.log(WARNING, "In-memory dataset load failed, reads fall back to the database", e);
+            }
+        }
+        try {
+            emailFilter.rebuild(freelancerRepository::forEachEmail);
+        } catch (RepositoryException e) {
+            LOGGER.log(WARNING, "Email filter rebuild failed, uniqueness checks fall back to the database", e);
+        }
+        try {
+            candidateIndex.rebuild(freelancerRepository::forEachRelation);
+        } catch (RepositoryException e) {
+            LOGGER.log(WARNING, "Candidate index rebuild failed, matching falls back to the database", e);
+        }
+    }
+
+    public static synchronized void destroy(Duration drainTimeout) {
+        if (instance != null) {
+            instance.requestExecutor.shutdown(drainTimeout);
+            instance.connectionManager.destroy(drainTimeout);
+            instance = null;
+        }
+    }
+
+    public ConnectionManager getConnectionManager() {
+        return connectionManager;
+    }
+
+    public TransactionManager getTransactionManager() {
+        return transactionManager;
+    }
+
+    public QueryMetrics getQueryMetrics() {
+        return queryMetrics;
+    }
+
+    public InMemoryDataset getDataset() {
+        return dataset;
+    }
+
+    public QualificationCache getQualificationCache() {
+        return qualificationCache;
+    }
+
+    public EmailBloomFilter getEmailFilter() {
+        return emailFilter;
+    }
+
+    public CandidateIndex getCandidateIndex() {
+        return candidateIndex;
+    }
+
+    public TableVersions getTableVersions() {
+        return tableVersions;
+    }
+
+    public RequestExecutor getRequestExecutor() {
+        return requestExecutor;
+    }
+
+    public FreelancerService getFreelancerService() {
+        return freelancerService;
+    }
+
+    public OrderService getOrderService() {
+        return orderService;
+    }
+
+    public QualificationService getQualificationService() {
+        return qualificationService;
+    }
+
+    public CandidateService getCandidateService() {
+        return candidateService;
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.context;
+
+import java.io.IOException;
+import java.util.Properties;
+
+public class ApplicationProperties {
+    private static final Properties PROPERTIES = new Properties();
+    private static final String PROPERTIES_FILE_NAME = "application.properties";
+
+    static {
+        loadProperties();
+    }
+
+    private ApplicationProperties() {
+    }
+
+    public static Properties getProperties() {
+        return PROPERTIES;
+    }
+
+    public static String getString(String key, String defaultValue) {
+        return PROPERTIES.getProperty(key, defaultValue);
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        String value = PROPERTIES.getProperty(key);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    public static long getLong(String key, long defaultValue) {
+        String value = PROPERTIES.getProperty(key);
+        return value == null ? defaultValue : Long.parseLong(value.trim());
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = PROPERTIES.getProperty(key);
+        return value == null ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
+
+    private static void loadProperties() {
+        try (var resourcesAsStream =
+                     ApplicationProperties.class.getClassLoader().getResourceAsStream(PROPERTIES_FILE_NAME)) {
+            if (resourcesAsStream != null) {
+                PROPERTIES.load(resourcesAsStream);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -2,10 +2,17 @@ package org.example.db;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
 
 public interface ConnectionManager {
 
     Connection getConnection() throws SQLException;
 
+    int getActiveConnections();
+
+    int getTotalConnections();
+
     void destroy();
+
+    void destroy(Duration drainTimeout);
 }
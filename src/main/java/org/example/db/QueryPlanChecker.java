@@ -0,0 +1,10 @@
+package org.example.db;
+
+import java.util.List;
+import java.util.Map;
+
+public interface QueryPlanChecker {
+
+    // statements maps SQL to its name; returns the names whose plan scans a whole table
+    List<String> check(Map<String, String> statements);
+}
@@ -0,0 +1,9 @@
+package org.example.db;
+
+public interface SchemaMigrator {
+
+    // Applies pending migrations in version order and returns how many ran
+    int migrate();
+
+    int currentVersion();
+}
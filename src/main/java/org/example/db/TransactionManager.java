@@ -0,0 +1,13 @@
+package org.example.db;
+
+import java.util.function.Supplier;
+
+public interface TransactionManager {
+
+    <T> T inTransaction(TransactionMode mode, Supplier<T> work);
+
+    void runInTransaction(TransactionMode mode, Runnable work);
+
+    // Runs action once the current transaction has committed, at once outside a transaction; a rollback drops it
+    void afterCommit(Runnable action);
+}
@@ -0,0 +1,6 @@
+package org.example.db;
+
+public enum TransactionMode {
+    READ_ONLY,
+    READ_WRITE
+}
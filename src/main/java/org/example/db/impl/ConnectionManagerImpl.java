@@ -7,12 +7,17 @@ import org.example.db.PropertiesUtil;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class ConnectionManagerImpl implements ConnectionManager {
 
     private static ConnectionManagerImpl instance;
+    private static final AtomicInteger CREATED_POOLS = new AtomicInteger();
     private final HikariDataSource hikariCP;
     private static final String DRIVER = "com.mysql.cj.jdbc.Driver";
+    private static final long DRAIN_POLL_MILLIS = 50;
 
     static {
         loadDriver();
@@ -20,6 +25,7 @@ public class ConnectionManagerImpl implements ConnectionManager {
 
     {
         hikariCP = new HikariDataSource(new HikariConfig(PropertiesUtil.getProperties()));
+        CREATED_POOLS.incrementAndGet();
     }
 
     private ConnectionManagerImpl() {
@@ -33,8 +39,15 @@ public class ConnectionManagerImpl implements ConnectionManager {
         }
     }
 
-    public static ConnectionManagerImpl getInstance() {
-        return instance == null ? new ConnectionManagerImpl() : instance;
+    public static synchronized ConnectionManagerImpl getInstance() {
+        if (instance == null) {
+            instance = new ConnectionManagerImpl();
+        }
+        return instance;
+    }
+
+    public static int getCreatedPools() {
+        return CREATED_POOLS.get();
     }
 
     @Override
@@ -45,9 +58,40 @@ public class ConnectionManagerImpl implements ConnectionManager {
             throw new RuntimeException(e);
         }
     }
+
+    @Override
+    public int getActiveConnections() {
+        var pool = hikariCP.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getActiveConnections();
+    }
+
+    @Override
+    public int getTotalConnections() {
+        var pool = hikariCP.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getTotalConnections();
+    }
+
     @Override
     public void destroy() {
-        hikariCP.close();
-        instance = null;
+        synchronized (ConnectionManagerImpl.class) {
+            hikariCP.close();
+            if (instance == this) {
+                instance = null;
+            }
+        }
+    }
+
+    @Override
+    public void destroy(Duration drainTimeout) {
+        long deadline = System.nanoTime() + drainTimeout.toNanos();
+        try {
+            while (getActiveConnections() > 0 && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(DRAIN_POLL_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            destroy();
+        }
     }
-}
\ No newline at end of file
+}
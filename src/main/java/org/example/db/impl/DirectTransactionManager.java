@@ -0,0 +1,24 @@
+package org.example.db.impl;
+
+import org.example.db.TransactionManager;
+import org.example.db.TransactionMode;
+
+import java.util.function.Supplier;
+
+public class DirectTransactionManager implements TransactionManager {
+
+    @Override
+    public <T> T inTransaction(TransactionMode mode, Supplier<T> work) {
+        return work.get();
+    }
+
+    @Override
+    public void runInTransaction(TransactionMode mode, Runnable work) {
+        work.run();
+    }
+
+    @Override
+    public void afterCommit(Runnable action) {
+        action.run();
+    }
+}
@@ -0,0 +1,210 @@
+package org.example.db.impl;
+
+import org.example.db.ConnectionManager;
+import org.example.db.metrics.QueryMetrics;
+import org.example.db.metrics.QueryStats;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class InstrumentedConnectionManager implements ConnectionManager {
+    private static final ClassLoader CLASS_LOADER = InstrumentedConnectionManager.class.getClassLoader();
+    private static final Constructor<?> CONNECTION_PROXY = proxyConstructor(Connection.class);
+    private static final Constructor<?> STATEMENT_PROXY = proxyConstructor(PreparedStatement.class);
+    private static final Constructor<?> RESULT_SET_PROXY = proxyConstructor(ResultSet.class);
+
+    private final ConnectionManager delegate;
+    private final QueryMetrics metrics;
+
+    public InstrumentedConnectionManager(ConnectionManager delegate, QueryMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(CONNECTION_PROXY, Connection.class, new ConnectionHandler(delegate.getConnection(), metrics));
+    }
+
+    @Override
+    public int getActiveConnections() {
+        return delegate.getActiveConnections();
+    }
+
+    @Override
+    public int getTotalConnections() {
+        return delegate.getTotalConnections();
+    }
+
+    @Override
+    public void destroy() {
+        delegate.destroy();
+    }
+
+    @Override
+    public void destroy(Duration drainTimeout) {
+        delegate.destroy(drainTimeout);
+    }
+
+    public QueryMetrics getMetrics() {
+        return metrics;
+    }
+
+    // Proxy.newProxyInstance looks the proxy class up on every call; reusing the constructor keeps wrapping cheap
+    private static Constructor<?> proxyConstructor(Class<?> type) {
+        try {
+            return Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[]{type}, (proxy, method, args) -> null)
+                    .getClass().getConstructor(InvocationHandler.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static <T> T proxy(Constructor<?> constructor, Class<T> type, InvocationHandler handler) {
+        try {
+            return type.cast(constructor.newInstance(handler));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+        private final Connection connection;
+        private final QueryMetrics metrics;
+
+        private ConnectionHandler(Connection connection, QueryMetrics metrics) {
+            this.connection = connection;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            var result = invokeTarget(connection, method, args);
+            if (result instanceof PreparedStatement && "prepareStatement".equals(method.getName())) {
+                var stats = metrics.statsFor((String) args[0]);
+                return proxy(STATEMENT_PROXY, PreparedStatement.class,
+                        new StatementHandler((PreparedStatement) result, stats, metrics));
+            }
+            return result;
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+        private final PreparedStatement statement;
+        private final QueryStats stats;
+        private final QueryMetrics metrics;
+        private Map<Integer, String> parameterTypes;
+        private int batchSize;
+
+        private StatementHandler(PreparedStatement statement, QueryStats stats, QueryMetrics metrics) {
+            this.statement = statement;
+            this.stats = stats;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            var name = method.getName();
+            switch (name) {
+                case "executeQuery":
+                case "executeUpdate":
+                case "executeLargeUpdate":
+                case "executeBatch":
+                case "execute":
+                    return execute(method, args);
+                case "addBatch":
+                    batchSize++;
+                    break;
+                case "clearParameters":
+                    parameterTypes = null;
+                    break;
+                case "clearBatch":
+                    batchSize = 0;
+                    break;
+                default:
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                        if (parameterTypes == null) {
+                            parameterTypes = new TreeMap<>();
+                        }
+                        parameterTypes.put((Integer) args[0], redact(name, args[1]));
+                    }
+                    break;
+            }
+            return invokeTarget(statement, method, args);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = invokeTarget(statement, method, args);
+            } catch (Throwable e) {
+                stats.addError();
+                throw e;
+            } finally {
+                metrics.record(stats, System.nanoTime() - start, this::describeParameters);
+            }
+            if (result instanceof ResultSet) {
+                return proxy(RESULT_SET_PROXY, ResultSet.class, new ResultSetHandler((ResultSet) result, stats));
+            }
+            if (result instanceof Integer || result instanceof Long) {
+                stats.addRows(((Number) result).longValue());
+            } else if (result instanceof int[]) {
+                for (int count : (int[]) result) {
+                    if (count > 0) stats.addRows(count);
+                }
+                batchSize = 0;
+            }
+            return result;
+        }
+
+        private String describeParameters() {
+            var types = parameterTypes == null ? "[]" : parameterTypes.values().toString();
+            return batchSize > 0 ? types + " x" + batchSize : types;
+        }
+
+        private static String redact(String setter, Object value) {
+            if (value == null || "setNull".equals(setter)) {
+                return "NULL";
+            }
+            return value.getClass().getSimpleName();
+        }
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+        private final ResultSet resultSet;
+        private final QueryStats stats;
+
+        private ResultSetHandler(ResultSet resultSet, QueryStats stats) {
+            this.resultSet = resultSet;
+            this.stats = stats;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            var result = invokeTarget(resultSet, method, args);
+            if (Boolean.TRUE.equals(result) && "next".equals(method.getName())) {
+                stats.addRows(1);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.db.impl;
+
+import org.example.db.ConnectionManager;
+import org.example.db.QueryPlanChecker;
+import org.example.exception.RepositoryException;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static java.lang.System.Logger.Level.WARNING;
+
+// Runs EXPLAIN on every filtered SELECT and warns when a table is read in full. Statements without WHERE are
+// whole-table reads by design and are skipped; parameters are bound to 1, which is enough for the plan shape.
+public class QueryPlanCheckerImpl implements QueryPlanChecker {
+    private static final System.Logger LOGGER = System.getLogger(QueryPlanCheckerImpl.class.getName());
+    private static final String FULL_SCAN = "ALL";
+    private static final long PARAMETER_VALUE = 1L;
+    private static final String IN_LIST = "%s";
+
+    private final ConnectionManager manager;
+
+    public QueryPlanCheckerImpl(ConnectionManager manager) {
+        this.manager = manager;
+    }
+
+    @Override
+    public List<String> check(Map<String, String> statements) {
+        List<String> fullScans = new ArrayList<>();
+        try (Connection connection = manager.getConnection()) {
+            for (var statement : statements.entrySet()) {
+                String sql = explainable(statement.getKey());
+                if (isFilteredSelect(sql) && scansTable(connection, statement.getValue(), sql)) {
+                    fullScans.add(statement.getValue());
+                }
+            }
+        } catch (SQLException e) {
+            throw new RepositoryException(e);
+        }
+        return fullScans;
+    }
+
+    private static boolean scansTable(Connection connection, String name, String sql) throws SQLException {
+        boolean fullScan = false;
+        try (var preparedStatement = connection.prepareStatement("EXPLAIN " + sql)) {
+            int parameters = preparedStatement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                preparedStatement.setLong(i, PARAMETER_VALUE);
+            }
+            var resultSet = preparedStatement.executeQuery();
+            while (resultSet.next()) {
+                String table = resultSet.getString("table");
+                // <union1,2> and <derivedN> rows read temporary results, not base tables
+                if (FULL_SCAN.equals(resultSet.getString("type")) && table != null && !table.startsWith("<")) {
+                    LOGGER.log(WARNING, "Statement {0} reads all of {1} (~{2} rows): {3}",
+                            name, table, resultSet.getLong("rows"), sql);
+                    fullScan = true;
+                }
+            }
+        }
+        return fullScan;
+    }
+
+    // IN-list templates are expanded per call; one placeholder gives the same access path
+    static String explainable(String sql) {
+        return sql.replace(IN_LIST, "?");
+    }
+
+    static boolean isFilteredSelect(String sql) {
+        String upper = sql.toUpperCase(Locale.ROOT);
+        return upper.startsWith("SELECT") && upper.contains(" WHERE ");
+    }
+}
@@ -0,0 +1,224 @@
+package org.example.db.impl;
+
+import org.example.db.ConnectionManager;
+import org.example.db.SchemaMigrator;
+import org.example.exception.RepositoryException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+import static java.lang.System.Logger.Level.INFO;
+import static java.lang.System.Logger.Level.WARNING;
+
+// Versioned, forward-only migrations from db/migration. Applied versions are recorded in schema_version;
+// nothing is ever dropped. A named lock keeps concurrently starting instances from migrating twice.
+public class SchemaMigratorImpl implements SchemaMigrator {
+    private static final System.Logger LOGGER = System.getLogger(SchemaMigratorImpl.class.getName());
+    private static final String LOCATION = "db/migration/";
+    private static final List<String> MIGRATIONS = List.of(
+            "V1__create_schema.sql",
+            "V2__order_filter_indexes.sql",
+            "V3__relation_reverse_index.sql");
+    private static final Pattern SCRIPT_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+    private static final int LOCK_TIMEOUT_SECONDS = 60;
+    private static final int MYSQL_DUPLICATE_KEY_NAME = 1061;
+
+    private final ConnectionManager manager;
+    private final List<String> scripts;
+
+    private enum MigrationSQL {
+        CREATE_VERSION_TABLE("CREATE TABLE IF NOT EXISTS schema_version (" +
+                             "version INT NOT NULL, " +
+                             "description VARCHAR(100) NOT NULL, " +
+                             "checksum BIGINT NOT NULL, " +
+                             "installedOn TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, " +
+                             "PRIMARY KEY (version))"),
+        FIND_APPLIED("SELECT version, checksum FROM schema_version"),
+        SAVE_APPLIED("INSERT INTO schema_version (version, description, checksum) VALUE (?, ?, ?)"),
+        LOCK("SELECT GET_LOCK('schema_version', ?)"),
+        UNLOCK("SELECT RELEASE_LOCK('schema_version')");
+        private final String value;
+
+        MigrationSQL(String value) {
+            this.value = value;
+        }
+
+        private String getValue() {
+            return value;
+        }
+    }
+
+    public SchemaMigratorImpl(ConnectionManager manager) {
+        this(manager, MIGRATIONS);
+    }
+
+    public SchemaMigratorImpl(ConnectionManager manager, List<String> scripts) {
+        this.manager = manager;
+        this.scripts = scripts;
+    }
+
+    @Override
+    public int migrate() {
+        var migrations = scripts.stream().map(SchemaMigratorImpl::load).collect(Collectors.toList());
+        try (Connection connection = manager.getConnection()) {
+            lock(connection);
+            try {
+                execute(connection, MigrationSQL.CREATE_VERSION_TABLE.getValue());
+                var applied = findApplied(connection);
+                int count = 0;
+                for (Migration migration : migrations) {
+                    var checksum = applied.get(migration.version());
+                    if (checksum == null) {
+                        apply(connection, migration);
+                        count++;
+                    } else if (checksum != migration.checksum()) {
+                        LOGGER.log(WARNING, "Migration V{0} changed after it was applied", migration.version());
+                    }
+                }
+                return count;
+            } finally {
+                execute(connection, MigrationSQL.UNLOCK.getValue());
+            }
+        } catch (SQLException e) {
+            throw new RepositoryException(e);
+        }
+    }
+
+    @Override
+    public int currentVersion() {
+        try (Connection connection = manager.getConnection()) {
+            execute(connection, MigrationSQL.CREATE_VERSION_TABLE.getValue());
+            return findApplied(connection).keySet().stream().mapToInt(Integer::intValue).max().orElse(0);
+        } catch (SQLException e) {
+            throw new RepositoryException(e);
+        }
+    }
+
+    // DDL commits implicitly in MySQL, so a migration is not atomic: an index left behind by a failed run,
+    // or created by the reset script, is taken as already there
+    private void apply(Connection connection, Migration migration) throws SQLException {
+        LOGGER.log(INFO, "Applying migration V{0} {1}", migration.version(), migration.description());
+        for (String sql : migration.statements()) {
+            try {
+                execute(connection, sql);
+            } catch (SQLException e) {
+                if (e.getErrorCode() != MYSQL_DUPLICATE_KEY_NAME) {
+                    throw e;
+                }
+            }
+        }
+        try (var preparedStatement = connection.prepareStatement(MigrationSQL.SAVE_APPLIED.getValue())) {
+            preparedStatement.setInt(1, migration.version());
+            preparedStatement.setString(2, migration.description());
+            preparedStatement.setLong(3, migration.checksum());
+            preparedStatement.executeUpdate();
+        }
+    }
+
+    private static void lock(Connection connection) throws SQLException {
+        try (var preparedStatement = connection.prepareStatement(MigrationSQL.LOCK.getValue())) {
+            preparedStatement.setInt(1, LOCK_TIMEOUT_SECONDS);
+            var resultSet = preparedStatement.executeQuery();
+            if (!resultSet.next() || resultSet.getInt(1) != 1) {
+                throw new SQLException("Timed out waiting for the schema migration lock");
+            }
+        }
+    }
+
+    private static Map<Integer, Long> findApplied(Connection connection) throws SQLException {
+        Map<Integer, Long> applied = new HashMap<>();
+        try (var statement = connection.createStatement()) {
+            var resultSet = statement.executeQuery(MigrationSQL.FIND_APPLIED.getValue());
+            while (resultSet.next()) {
+                applied.put(resultSet.getInt(1), resultSet.getLong(2));
+            }
+        }
+        return applied;
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    static Migration load(String script) {
+        var name = SCRIPT_NAME.matcher(script);
+        if (!name.matches()) {
+            throw new IllegalArgumentException("Migration name must look like V1__description.sql: " + script);
+        }
+        String text;
+        try (InputStream in = SchemaMigratorImpl.class.getClassLoader().getResourceAsStream(LOCATION + script)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Migration not found: " + LOCATION + script);
+            }
+            text = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        var crc = new CRC32();
+        crc.update(text.getBytes(StandardCharsets.UTF_8));
+        return new Migration(Integer.parseInt(name.group(1)), name.group(2).replace('_', ' '),
+                crc.getValue(), split(text));
+    }
+
+    // Statements end with ';' at the end of a line; whole-line '--' comments are dropped
+    static List<String> split(String script) {
+        List<String> statements = new ArrayList<>();
+        var current = new StringBuilder();
+        for (String line : script.split("\\R")) {
+            String trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("--")) continue;
+            current.append(line).append('\n');
+            if (trimmed.endsWith(";")) {
+                String sql = current.toString().strip();
+                statements.add(sql.substring(0, sql.length() - 1));
+                current.setLength(0);
+            }
+        }
+        if (!current.toString().isBlank()) {
+            statements.add(current.toString().strip());
+        }
+        return statements;
+    }
+
+    static final class Migration {
+        private final int version;
+        private final String description;
+        private final long checksum;
+        private final List<String> statements;
+
+        Migration(int version, String description, long checksum, List<String> statements) {
+            this.version = version;
+            this.description = description;
+            this.checksum = checksum;
+            this.statements = statements;
+        }
+
+        int version() {
+            return version;
+        }
+
+        String description() {
+            return description;
+        }
+
+        long checksum() {
+            return checksum;
+        }
+
+        List<String> statements() {
+            return statements;
+        }
+    }
+}
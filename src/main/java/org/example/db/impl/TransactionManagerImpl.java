@@ -0,0 +1,233 @@
+package org.example.db.impl;
+
+import org.example.db.ConnectionManager;
+import org.example.db.TransactionManager;
+import org.example.db.TransactionMode;
+import org.example.exception.RepositoryException;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+public class TransactionManagerImpl implements TransactionManager, ConnectionManager {
+    private final ConnectionManager delegate;
+    private final ThreadLocal<TransactionContext> current = new ThreadLocal<>();
+
+    public TransactionManagerImpl(ConnectionManager delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public <T> T inTransaction(TransactionMode mode, Supplier<T> work) {
+        var context = current.get();
+        if (context != null) {
+            return join(context, mode, work);
+        }
+        context = begin(mode);
+        current.set(context);
+        try {
+            T result;
+            try {
+                result = work.get();
+            } catch (RuntimeException | Error e) {
+                context.finishQuietly(e);
+                throw e;
+            }
+            context.finish();
+            return result;
+        } finally {
+            current.remove();
+        }
+    }
+
+    @Override
+    public void runInTransaction(TransactionMode mode, Runnable work) {
+        inTransaction(mode, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    @Override
+    public void afterCommit(Runnable action) {
+        var context = current.get();
+        if (context == null) {
+            action.run();
+        } else {
+            context.afterCommit.add(action);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        var context = current.get();
+        return context != null ? context.shared : delegate.getConnection();
+    }
+
+    public boolean isInTransaction() {
+        return current.get() != null;
+    }
+
+    @Override
+    public int getActiveConnections() {
+        return delegate.getActiveConnections();
+    }
+
+    @Override
+    public int getTotalConnections() {
+        return delegate.getTotalConnections();
+    }
+
+    @Override
+    public void destroy() {
+        delegate.destroy();
+    }
+
+    @Override
+    public void destroy(Duration drainTimeout) {
+        delegate.destroy(drainTimeout);
+    }
+
+    private static <T> T join(TransactionContext context, TransactionMode mode, Supplier<T> work) {
+        if (context.mode == TransactionMode.READ_ONLY && mode == TransactionMode.READ_WRITE) {
+            throw new IllegalStateException("Read-write work cannot join a read-only transaction");
+        }
+        try {
+            return work.get();
+        } catch (RuntimeException | Error e) {
+            context.rollbackOnly = true;
+            throw e;
+        }
+    }
+
+    private TransactionContext begin(TransactionMode mode) {
+        Connection connection = null;
+        try {
+            connection = delegate.getConnection();
+            connection.setAutoCommit(false);
+            if (mode == TransactionMode.READ_ONLY) {
+                connection.setReadOnly(true);
+            }
+            return new TransactionContext(connection, mode);
+        } catch (SQLException e) {
+            if (connection != null) {
+                try {
+                    connection.close();
+                } catch (SQLException closeException) {
+                    e.addSuppressed(closeException);
+                }
+            }
+            throw new RepositoryException(e);
+        }
+    }
+
+    private static final class TransactionContext {
+        private final Connection connection;
+        private final Connection shared;
+        private final TransactionMode mode;
+        private final List<Runnable> afterCommit = new ArrayList<>();
+        private boolean rollbackOnly;
+        private boolean finished;
+
+        private TransactionContext(Connection connection, TransactionMode mode) {
+            this.connection = connection;
+            this.mode = mode;
+            this.shared = (Connection) Proxy.newProxyInstance(TransactionManagerImpl.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, this::invoke);
+        }
+
+        // Repositories keep their own commit/close calls; inside a unit of work those belong to the owner.
+        private Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (finished) {
+                throw new SQLException("Transaction already finished");
+            }
+            switch (method.getName()) {
+                case "close":
+                case "commit":
+                case "setAutoCommit":
+                case "setReadOnly":
+                    return null;
+                case "rollback":
+                    if (args == null) {
+                        rollbackOnly = true;
+                        return null;
+                    }
+                    break;
+                case "isClosed":
+                    return false;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private void finish() {
+            if (rollbackOnly && mode == TransactionMode.READ_WRITE) {
+                var failure = new IllegalStateException("Transaction rolled back because joined work failed");
+                finishQuietly(failure);
+                throw failure;
+            }
+            try {
+                if (rollbackOnly) {
+                    connection.rollback();
+                } else {
+                    connection.commit();
+                }
+            } catch (SQLException e) {
+                finishQuietly(e);
+                throw new RepositoryException(e);
+            }
+            release();
+            if (!rollbackOnly) {
+                afterCommit.forEach(Runnable::run);
+            }
+        }
+
+        private void finishQuietly(Throwable cause) {
+            if (finished) {
+                return;
+            }
+            try {
+                connection.rollback();
+            } catch (SQLException e) {
+                cause.addSuppressed(e);
+            }
+            try {
+                release();
+            } catch (RepositoryException e) {
+                cause.addSuppressed(e.getCause());
+            }
+        }
+
+        private void release() {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            try {
+                if (mode == TransactionMode.READ_ONLY) {
+                    connection.setReadOnly(false);
+                }
+                connection.setAutoCommit(true);
+            } catch (SQLException e) {
+                throw new RepositoryException(e);
+            } finally {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    throw new RepositoryException(e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.db.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static java.lang.System.Logger.Level.WARNING;
+
+public class QueryMetrics {
+    private static final System.Logger LOGGER = System.getLogger(QueryMetrics.class.getName());
+    private static final int MAX_STATEMENTS = 256;
+    private static final int MAX_SQL_TEXTS = 4 * MAX_STATEMENTS;
+    private static final String OTHER = "other";
+
+    private final ConcurrentMap<String, QueryStats> stats = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, QueryStats> statsBySql = new ConcurrentHashMap<>();
+    private final long slowThresholdNanos;
+    private final LongAdder slowQueries = new LongAdder();
+
+    public QueryMetrics(long slowThresholdMillis) {
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+    }
+
+    public QueryStats statsFor(String sql) {
+        var cached = statsBySql.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        var name = QueryNames.nameOf(sql);
+        if (!stats.containsKey(name) && stats.size() >= MAX_STATEMENTS) {
+            name = OTHER;
+        }
+        var queryStats = stats.computeIfAbsent(name, QueryStats::new);
+        if (statsBySql.size() < MAX_SQL_TEXTS) {
+            statsBySql.put(sql, queryStats);
+        }
+        return queryStats;
+    }
+
+    public void record(QueryStats queryStats, long nanos, Supplier<String> redactedParameters) {
+        queryStats.getLatency().record(nanos);
+        if (nanos >= slowThresholdNanos) {
+            slowQueries.increment();
+            LOGGER.log(WARNING, "Slow statement {0} took {1} ms, parameters {2}",
+                    queryStats.getName(), TimeUnit.NANOSECONDS.toMillis(nanos), redactedParameters.get());
+        }
+    }
+
+    public long getSlowQueryCount() {
+        return slowQueries.sum();
+    }
+
+    public List<QueryStatsSnapshot> snapshot() {
+        List<QueryStatsSnapshot> snapshots = new ArrayList<>(stats.size());
+        for (QueryStats queryStats : stats.values()) {
+            snapshots.add(queryStats.snapshot());
+        }
+        snapshots.sort(Comparator.comparingLong(QueryStatsSnapshot::getTotalMillis).reversed()
+                .thenComparing(QueryStatsSnapshot::getName));
+        return snapshots;
+    }
+
+    public void reset() {
+        statsBySql.clear();
+        stats.clear();
+        slowQueries.reset();
+    }
+}
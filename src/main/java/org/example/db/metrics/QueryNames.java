@@ -0,0 +1,34 @@
+package org.example.db.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+public final class QueryNames {
+    private static final Map<String, String> NAMES = new ConcurrentHashMap<>();
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\?(\\s*,\\s*\\?)+");
+    private static final Pattern FORMAT_SLOT = Pattern.compile("%s");
+    private static final String UNNAMED = "unnamed";
+
+    private QueryNames() {
+    }
+
+    public static void register(String name, String sql) {
+        NAMES.merge(normalize(FORMAT_SLOT.matcher(sql).replaceAll("?")), name,
+                (current, added) -> current.contains(added) ? current : current + "|" + added);
+    }
+
+    // SQL (normalized) to name for every statement registered so far
+    public static Map<String, String> statements() {
+        return Map.copyOf(NAMES);
+    }
+
+    public static String nameOf(String sql) {
+        return NAMES.getOrDefault(normalize(sql), UNNAMED);
+    }
+
+    // IN-lists of any length share the name of their template
+    static String normalize(String sql) {
+        return PLACEHOLDER_LIST.matcher(sql.trim()).replaceAll("?");
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.db.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class QueryStats {
+    private final String name;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    public QueryStats(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    public void addRows(long count) {
+        rows.add(count);
+    }
+
+    public long getRows() {
+        return rows.sum();
+    }
+
+    public void addError() {
+        errors.increment();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public QueryStatsSnapshot snapshot() {
+        return new QueryStatsSnapshot(name, latency.getCount(), getErrors(), getRows(),
+                latency.getTotalNanos() / 1_000_000, latency.getMeanMicros(), latency.getPercentileMicros(50),
+                latency.getPercentileMicros(95), latency.getPercentileMicros(99), latency.getMaxMicros());
+    }
+}
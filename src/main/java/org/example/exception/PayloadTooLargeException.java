@@ -0,0 +1,9 @@
+package org.example.exception;
+
+import java.io.IOException;
+
+public class PayloadTooLargeException extends IOException {
+    public PayloadTooLargeException(long maxBytes) {
+        super("Request body exceeds " + maxBytes + " bytes");
+    }
+}
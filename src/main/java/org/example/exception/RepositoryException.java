@@ -1,7 +1,20 @@
 package org.example.exception;
 
+import java.sql.SQLException;
+
 public class RepositoryException extends RuntimeException {
+    private static final String INTEGRITY_VIOLATION_CLASS = "23";
+
     public RepositoryException(Throwable e) {
         super(e);
     }
+
+    // SQLState class 23: the statement broke a constraint, so running it again cannot succeed
+    public boolean isIntegrityViolation() {
+        if (!(getCause() instanceof SQLException)) {
+            return false;
+        }
+        var sqlState = ((SQLException) getCause()).getSQLState();
+        return sqlState != null && sqlState.startsWith(INTEGRITY_VIOLATION_CLASS);
+    }
 }
@@ -0,0 +1,111 @@
+package org.example.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+public class OrderFilter {
+    public static final int QUALIFICATION = 1;
+    public static final int MIN_PRICE = 1 << 1;
+    public static final int MAX_PRICE = 1 << 2;
+    public static final int TERM_FROM = 1 << 3;
+    public static final int TERM_TO = 1 << 4;
+    public static final int AFTER_ID = 1 << 5;
+
+    private final Long qualificationId;
+    private final BigDecimal minPrice;
+    private final BigDecimal maxPrice;
+    private final LocalDate termFrom;
+    private final LocalDate termTo;
+    private final OrderSort sort;
+    private final long afterId;
+    private final int limit;
+
+    public OrderFilter(Long qualificationId, BigDecimal minPrice, BigDecimal maxPrice,
+                       LocalDate termFrom, LocalDate termTo, OrderSort sort, long afterId, int limit) {
+        if (afterId != 0 && sort != OrderSort.ID) {
+            throw new IllegalArgumentException("Cursor paging is only supported when sorting by id");
+        }
+        this.qualificationId = qualificationId;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.termFrom = termFrom;
+        this.termTo = termTo;
+        this.sort = Objects.requireNonNull(sort);
+        this.afterId = afterId;
+        this.limit = limit;
+    }
+
+    public Long getQualificationId() {
+        return qualificationId;
+    }
+
+    public BigDecimal getMinPrice() {
+        return minPrice;
+    }
+
+    public BigDecimal getMaxPrice() {
+        return maxPrice;
+    }
+
+    public LocalDate getTermFrom() {
+        return termFrom;
+    }
+
+    public LocalDate getTermTo() {
+        return termTo;
+    }
+
+    public OrderSort getSort() {
+        return sort;
+    }
+
+    public long getAfterId() {
+        return afterId;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    // Filters with the same predicates and sort share one SQL string; values only change the parameters
+    public int shape() {
+        int shape = 0;
+        if (qualificationId != null) shape |= QUALIFICATION;
+        if (minPrice != null) shape |= MIN_PRICE;
+        if (maxPrice != null) shape |= MAX_PRICE;
+        if (termFrom != null) shape |= TERM_FROM;
+        if (termTo != null) shape |= TERM_TO;
+        if (afterId != 0) shape |= AFTER_ID;
+        return shape << 2 | sort.ordinal();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OrderFilter that = (OrderFilter) o;
+        return afterId == that.afterId && limit == that.limit && Objects.equals(qualificationId, that.qualificationId) &&
+               Objects.equals(minPrice, that.minPrice) && Objects.equals(maxPrice, that.maxPrice) &&
+               Objects.equals(termFrom, that.termFrom) && Objects.equals(termTo, that.termTo) && sort == that.sort;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(qualificationId, minPrice, maxPrice, termFrom, termTo, sort, afterId, limit);
+    }
+
+    @Override
+    public String toString() {
+        return "OrderFilter{" +
+                "qualificationId=" + qualificationId +
+                ", minPrice=" + minPrice +
+                ", maxPrice=" + maxPrice +
+                ", termFrom=" + termFrom +
+                ", termTo=" + termTo +
+                ", sort=" + sort +
+                ", afterId=" + afterId +
+                ", limit=" + limit +
+                '}';
+    }
+}
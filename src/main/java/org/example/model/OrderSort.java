@@ -0,0 +1,17 @@
+package org.example.model;
+
+public enum OrderSort {
+    ID("id"),
+    PRICE("orderPrice, id"),
+    TERM("orderTerm, id");
+
+    private final String orderBy;
+
+    OrderSort(String orderBy) {
+        this.orderBy = orderBy;
+    }
+
+    public String getOrderBy() {
+        return orderBy;
+    }
+}
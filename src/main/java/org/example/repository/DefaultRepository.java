@@ -1,7 +1,9 @@
 package org.example.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface DefaultRepository<T, K> {
     T save(T t);
@@ -10,9 +12,13 @@ public interface DefaultRepository<T, K> {
 
     List<T> findAll();
 
-    void update(T t);
+    List<T> findAllById(Collection<K> ids);
 
-    boolean deleteById(K id);
+    List<T> findPage(K afterId, int limit);
 
+    void forEach(Consumer<? super T> action);
 
+    void update(T t);
+
+    boolean deleteById(K id);
 }
@@ -2,7 +2,30 @@ package org.example.repository;
 
 import org.example.model.FreelancerEntity;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
 public interface FreelancerRepository extends DefaultRepository<FreelancerEntity, Long> {
     boolean containsFreelancerByEmail(String email);
 
+    Optional<FreelancerEntity> saveIfEmailAbsent(FreelancerEntity entity);
+
+    // The rows alone, in the order of ids, without the qualifications findAllById loads
+    List<FreelancerEntity> findAllSimpleById(Collection<Long> ids);
+
+    Set<String> findExistingEmails(Collection<String> emails);
+
+    void saveAll(List<FreelancerEntity> entities);
+
+    void forEachEmail(Consumer<String> action);
+
+    List<FreelancerEntity> findPageWithQualifications(Long afterId, int limit);
+
+    List<FreelancerEntity> findPageByQualification(Long qualificationId, Long afterId, int limit);
+
+    void forEachRelation(BiConsumer<Long, Long> action);
 }
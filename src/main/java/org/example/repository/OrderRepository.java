@@ -2,6 +2,23 @@ package org.example.repository;
 
 
 import org.example.model.OrderEntity;
+import org.example.model.OrderFilter;
+
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface OrderRepository extends DefaultRepository<OrderEntity, Long> {
+    List<OrderEntity> findAllSummaries();
+
+    List<OrderEntity> findSummaryPage(Long afterId, int limit);
+
+    void forEachSummary(Consumer<? super OrderEntity> action);
+
+    List<OrderEntity> findFiltered(OrderFilter filter);
+
+    // Every match in id order with its qualification id; sort and limit of the filter are ignored
+    void forEachFiltered(OrderFilter filter, Consumer<? super OrderEntity> action);
+
+    // One transaction for the whole list; generated ids are set on the entities in list order
+    void saveAll(List<OrderEntity> entities);
 }
@@ -3,11 +3,15 @@ package org.example.repository;
 import org.example.model.QualificationEntity;
 
 import java.sql.Connection;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface QualificationRelationRepository {
     Optional<QualificationEntity> findByRelationId(Long id, Connection connection);
 
     List<QualificationEntity> findAllByRelationId(Long relId, Connection connection);
+
+    Map<Long, List<QualificationEntity>> findAllByRelationIds(Collection<Long> relIds, Connection connection);
 }
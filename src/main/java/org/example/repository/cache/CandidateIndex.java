@@ -0,0 +1,24 @@
+package org.example.repository.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+public interface CandidateIndex {
+    long[] findCandidates(long qualificationId, long afterFreelancerId, int limit);
+
+    int countCandidates(long qualificationId);
+
+    void setRelations(long freelancerId, Collection<Long> qualificationIds);
+
+    // Relations of freelancers that had none before, such as a freshly inserted batch
+    void addRelations(Map<Long, Collection<Long>> qualificationIdsByFreelancer);
+
+    void removeFreelancer(long freelancerId);
+
+    // source emits (qualificationId, freelancerId) pairs ordered by qualificationId, then freelancerId
+    void rebuild(Consumer<BiConsumer<Long, Long>> source);
+
+    boolean isReady();
+}
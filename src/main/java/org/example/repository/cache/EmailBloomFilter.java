@@ -0,0 +1,13 @@
+package org.example.repository.cache;
+
+import java.util.function.Consumer;
+
+public interface EmailBloomFilter {
+    boolean mightContain(String email);
+
+    void add(String email);
+
+    void rebuild(Consumer<Consumer<String>> source);
+
+    boolean isReady();
+}
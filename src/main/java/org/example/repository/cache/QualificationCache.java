@@ -0,0 +1,23 @@
+package org.example.repository.cache;
+
+import org.example.model.QualificationEntity;
+
+import java.util.Optional;
+
+public interface QualificationCache {
+    Optional<QualificationEntity> get(long id);
+
+    void put(QualificationEntity entity);
+
+    void invalidate(long id);
+
+    void clear();
+
+    int size();
+
+    long getHitCount();
+
+    long getMissCount();
+
+    long getEvictionCount();
+}
@@ -0,0 +1,21 @@
+package org.example.repository.cache;
+
+// Change counters that repository writes move once the change is committed. A version read before the data
+// it describes is never newer than that data, so equal versions mean nothing changed in between.
+public interface TableVersions {
+    enum Table {
+        QUALIFICATION, FREELANCER, ORDER
+    }
+
+    // Tells apart versions of different processes, which all count from zero
+    long getEpoch();
+
+    long get(Table table);
+
+    // Version of the last change that may have touched the entity; never lower than its real last change
+    long get(Table table, long id);
+
+    void changed(Table table);
+
+    void changed(Table table, long id);
+}
@@ -0,0 +1,109 @@
+package org.example.repository.cache.impl;
+
+import org.example.repository.cache.CandidateIndex;
+import org.example.repository.memory.CompressedIdSet;
+import org.example.repository.memory.ConcurrentLongMap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+// Inverted index qualification id -> compressed sorted freelancer ids. Readers page a published set without
+// locking; writers replace the sets they touch.
+public class CandidateIndexImpl implements CandidateIndex {
+    private static final long[] NO_CANDIDATES = new long[0];
+    private static CandidateIndexImpl instance;
+
+    private final ConcurrentLongMap<CompressedIdSet> freelancersByQualification = new ConcurrentLongMap<>();
+    private volatile boolean ready;
+
+    public static synchronized CandidateIndexImpl getInstance() {
+        if (instance == null) {
+            instance = new CandidateIndexImpl();
+        }
+        return instance;
+    }
+
+    @Override
+    public long[] findCandidates(long qualificationId, long afterFreelancerId, int limit) {
+        var freelancers = freelancersByQualification.get(qualificationId);
+        return freelancers == null ? NO_CANDIDATES : freelancers.page(afterFreelancerId, limit);
+    }
+
+    @Override
+    public int countCandidates(long qualificationId) {
+        var freelancers = freelancersByQualification.get(qualificationId);
+        return freelancers == null ? 0 : freelancers.size();
+    }
+
+    // Qualifications are few, so checking every set is cheaper than asking the database for the old relations
+    @Override
+    public synchronized void setRelations(long freelancerId, Collection<Long> qualificationIds) {
+        var wanted = new HashSet<>(qualificationIds);
+        freelancersByQualification.forEach((qualificationId, freelancers) -> {
+            var updated = wanted.remove(qualificationId) ? freelancers.with(freelancerId) : freelancers.without(freelancerId);
+            if (updated != freelancers) {
+                replace(qualificationId, updated);
+            }
+        });
+        for (Long qualificationId : wanted) {
+            replace(qualificationId, CompressedIdSet.EMPTY.with(freelancerId));
+        }
+    }
+
+    // Groups the new ids by qualification so every touched set is rebuilt once, not once per freelancer
+    @Override
+    public synchronized void addRelations(Map<Long, Collection<Long>> qualificationIdsByFreelancer) {
+        Map<Long, List<Long>> added = new HashMap<>();
+        qualificationIdsByFreelancer.forEach((freelancerId, qualificationIds) -> {
+            for (Long qualificationId : qualificationIds) {
+                added.computeIfAbsent(qualificationId, id -> new ArrayList<>()).add(freelancerId);
+            }
+        });
+        added.forEach((qualificationId, freelancerIds) -> {
+            long[] ids = freelancerIds.stream().mapToLong(Long::longValue).sorted().toArray();
+            var freelancers = freelancersByQualification.get(qualificationId);
+            replace(qualificationId, (freelancers == null ? CompressedIdSet.EMPTY : freelancers).withAll(ids));
+        });
+    }
+
+    @Override
+    public synchronized void removeFreelancer(long freelancerId) {
+        freelancersByQualification.forEach((qualificationId, freelancers) -> {
+            var updated = freelancers.without(freelancerId);
+            if (updated != freelancers) {
+                replace(qualificationId, updated);
+            }
+        });
+    }
+
+    // Holds the write lock for the whole load: a relation committed meanwhile is applied after the rebuild
+    @Override
+    public synchronized void rebuild(Consumer<BiConsumer<Long, Long>> source) {
+        Map<Long, CompressedIdSet.Builder> builders = new HashMap<>();
+        source.accept((qualificationId, freelancerId) ->
+                builders.computeIfAbsent(qualificationId, id -> new CompressedIdSet.Builder()).add(freelancerId));
+        Map<Long, CompressedIdSet> sets = new HashMap<>();
+        builders.forEach((qualificationId, builder) -> sets.put(qualificationId, builder.build()));
+        freelancersByQualification.replaceAll(sets);
+        ready = true;
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void replace(long qualificationId, CompressedIdSet freelancers) {
+        if (freelancers.size() == 0) {
+            freelancersByQualification.remove(qualificationId);
+        } else {
+            freelancersByQualification.put(qualificationId, freelancers);
+        }
+    }
+}
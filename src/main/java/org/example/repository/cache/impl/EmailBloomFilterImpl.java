@@ -0,0 +1,162 @@
+package org.example.repository.cache.impl;
+
+import org.example.context.ApplicationProperties;
+import org.example.repository.cache.EmailBloomFilter;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+public class EmailBloomFilterImpl implements EmailBloomFilter {
+    private static EmailBloomFilterImpl instance;
+    private static final int DEFAULT_EXPECTED_EMAILS = 100_000;
+    private static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+
+    private final int bitCount;
+    private final int hashCount;
+    private volatile AtomicLongArray bits;
+    private volatile AtomicLongArray rebuilding;
+    private volatile boolean ready;
+    // Adds share it; publishing or retiring the array being rebuilt takes it alone, so an add lands in both
+    // arrays or in the published one, never only in the one being replaced
+    private final ReentrantReadWriteLock swap = new ReentrantReadWriteLock();
+
+    public EmailBloomFilterImpl() {
+        this(ApplicationProperties.getInt("emailFilter.expectedEmails", DEFAULT_EXPECTED_EMAILS),
+                Double.parseDouble(ApplicationProperties.getString("emailFilter.falsePositiveRate",
+                        String.valueOf(DEFAULT_FALSE_POSITIVE_RATE))));
+    }
+
+    public EmailBloomFilterImpl(int expectedEmails, double falsePositiveRate) {
+        if (expectedEmails <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("expectedEmails must be positive and falsePositiveRate in (0, 1)");
+        }
+        long bitsNeeded = (long) Math.ceil(-expectedEmails * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - Long.SIZE, Math.max(Long.SIZE, bitsNeeded));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedEmails * Math.log(2)));
+        this.bits = new AtomicLongArray(words(bitCount));
+    }
+
+    public static synchronized EmailBloomFilterImpl getInstance() {
+        if (instance == null) {
+            instance = new EmailBloomFilterImpl();
+        }
+        return instance;
+    }
+
+    // Until the first rebuild finishes every email is a possible duplicate, so callers fall back to the database.
+    @Override
+    public boolean mightContain(String email) {
+        if (!ready) {
+            return true;
+        }
+        var current = bits;
+        long hash = hash(email);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((current.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void add(String email) {
+        if (email == null) {
+            return;
+        }
+        long hash = hash(email);
+        swap.readLock().lock();
+        try {
+            set(bits, hash);
+            var pending = rebuilding;
+            if (pending != null) {
+                set(pending, hash);
+            }
+        } finally {
+            swap.readLock().unlock();
+        }
+    }
+
+    @Override
+    public synchronized void rebuild(Consumer<Consumer<String>> source) {
+        var fresh = new AtomicLongArray(words(bitCount));
+        swap.writeLock().lock();
+        try {
+            rebuilding = fresh;
+        } finally {
+            swap.writeLock().unlock();
+        }
+        boolean complete = false;
+        try {
+            source.accept(email -> {
+                if (email != null) {
+                    set(fresh, hash(email));
+                }
+            });
+            complete = true;
+        } finally {
+            swap.writeLock().lock();
+            try {
+                if (complete) {
+                    bits = fresh;
+                    ready = true;
+                }
+                rebuilding = null;
+            } finally {
+                swap.writeLock().unlock();
+            }
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    int getBitCount() {
+        return bitCount;
+    }
+
+    int getHashCount() {
+        return hashCount;
+    }
+
+    private void set(AtomicLongArray target, long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            int word = bit >>> 6;
+            long mask = 1L << bit;
+            long value;
+            do {
+                value = target.get(word);
+            } while ((value & mask) == 0 && !target.compareAndSet(word, value, value | mask));
+        }
+    }
+
+    // freelancerEmail is compared with a case-insensitive collation, so the filter normalises the same way
+    private static long hash(String email) {
+        var normalized = email.trim().toLowerCase(Locale.ROOT);
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < normalized.length(); i++) {
+            hash ^= normalized.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static int words(int bitCount) {
+        return (bitCount + Long.SIZE - 1) / Long.SIZE;
+    }
+}
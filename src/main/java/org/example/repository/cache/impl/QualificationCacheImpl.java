@@ -0,0 +1,173 @@
+package org.example.repository.cache.impl;
+
+import org.example.context.ApplicationProperties;
+import org.example.model.QualificationEntity;
+import org.example.repository.cache.QualificationCache;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+public class QualificationCacheImpl implements QualificationCache {
+    private static QualificationCacheImpl instance;
+    private static final int DEFAULT_CAPACITY = 256;
+
+    private final int capacity;
+    private final int mask;
+    private final long[] keys;
+    private final String[] names;
+    private final boolean[] referenced;
+    private int size;
+    private int hand;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public QualificationCacheImpl() {
+        this(ApplicationProperties.getInt("cache.qualification.capacity", DEFAULT_CAPACITY));
+    }
+
+    public QualificationCacheImpl(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        int tableSize = Integer.highestOneBit(capacity * 2 - 1) << 1;
+        this.capacity = capacity;
+        this.mask = tableSize - 1;
+        this.keys = new long[tableSize];
+        this.names = new String[tableSize];
+        this.referenced = new boolean[tableSize];
+    }
+
+    public static synchronized QualificationCacheImpl getInstance() {
+        if (instance == null) {
+            instance = new QualificationCacheImpl();
+        }
+        return instance;
+    }
+
+    @Override
+    public synchronized Optional<QualificationEntity> get(long id) {
+        int slot = indexOf(id);
+        if (slot < 0) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        referenced[slot] = true;
+        var qualification = new QualificationEntity();
+        qualification.setId(id);
+        qualification.setQualificationName(names[slot]);
+        return Optional.of(qualification);
+    }
+
+    @Override
+    public synchronized void put(QualificationEntity entity) {
+        long id = entity.getId();
+        String name = Objects.requireNonNull(entity.getQualificationName());
+        int slot = indexOf(id);
+        if (slot >= 0) {
+            names[slot] = name;
+            return;
+        }
+        if (size == capacity) {
+            evict();
+        }
+        slot = home(id);
+        while (names[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = id;
+        names[slot] = name;
+        referenced[slot] = false;
+        size++;
+    }
+
+    @Override
+    public synchronized void invalidate(long id) {
+        int slot = indexOf(id);
+        if (slot >= 0) {
+            remove(slot);
+        }
+    }
+
+    @Override
+    public synchronized void clear() {
+        Arrays.fill(names, null);
+        Arrays.fill(referenced, false);
+        size = 0;
+        hand = 0;
+    }
+
+    @Override
+    public synchronized int size() {
+        return size;
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private int indexOf(long id) {
+        for (int slot = home(id); names[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == id) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    // CLOCK second-chance: entries read since the last sweep survive one more pass
+    private void evict() {
+        while (true) {
+            int slot = hand;
+            hand = (hand + 1) & mask;
+            if (names[slot] == null) {
+                continue;
+            }
+            if (referenced[slot]) {
+                referenced[slot] = false;
+                continue;
+            }
+            remove(slot);
+            evictions.increment();
+            return;
+        }
+    }
+
+    private void remove(int slot) {
+        names[slot] = null;
+        referenced[slot] = false;
+        size--;
+        int hole = slot;
+        for (int next = (slot + 1) & mask; names[next] != null; next = (next + 1) & mask) {
+            int home = home(keys[next]);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                names[hole] = names[next];
+                referenced[hole] = referenced[next];
+                names[next] = null;
+                referenced[next] = false;
+                hole = next;
+            }
+        }
+    }
+
+    private int home(long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
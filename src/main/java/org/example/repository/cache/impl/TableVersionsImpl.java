@@ -0,0 +1,81 @@
+package org.example.repository.cache.impl;
+
+import org.example.context.ApplicationProperties;
+import org.example.repository.cache.TableVersions;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Entity versions live in a fixed number of slots per table: ids sharing a slot share a version, which costs
+// a needless miss now and then but keeps the memory bounded whatever the table size.
+public class TableVersionsImpl implements TableVersions {
+    private static TableVersionsImpl instance;
+    private static final int DEFAULT_ENTITY_SLOTS = 4096;
+
+    private final long epoch = new SecureRandom().nextLong() >>> 1;
+    private final AtomicLong[] versions = new AtomicLong[Table.values().length];
+    private final AtomicLong[] wholeTable = new AtomicLong[Table.values().length];
+    private final AtomicLongArray[] entities = new AtomicLongArray[Table.values().length];
+    private final int mask;
+
+    public TableVersionsImpl() {
+        this(ApplicationProperties.getInt("cache.versions.entitySlots", DEFAULT_ENTITY_SLOTS));
+    }
+
+    public TableVersionsImpl(int entitySlots) {
+        if (entitySlots <= 0) {
+            throw new IllegalArgumentException("entitySlots must be positive: " + entitySlots);
+        }
+        int slots = Integer.highestOneBit(entitySlots * 2 - 1);
+        this.mask = slots - 1;
+        for (int table = 0; table < versions.length; table++) {
+            versions[table] = new AtomicLong();
+            wholeTable[table] = new AtomicLong();
+            entities[table] = new AtomicLongArray(slots);
+        }
+    }
+
+    public static synchronized TableVersionsImpl getInstance() {
+        if (instance == null) {
+            instance = new TableVersionsImpl();
+        }
+        return instance;
+    }
+
+    @Override
+    public long getEpoch() {
+        return epoch;
+    }
+
+    @Override
+    public long get(Table table) {
+        return versions[table.ordinal()].get();
+    }
+
+    @Override
+    public long get(Table table, long id) {
+        int index = table.ordinal();
+        return Math.max(entities[index].get(slot(id)), wholeTable[index].get());
+    }
+
+    @Override
+    public void changed(Table table) {
+        int index = table.ordinal();
+        long version = versions[index].incrementAndGet();
+        wholeTable[index].accumulateAndGet(version, Math::max);
+    }
+
+    // Writers racing on one slot keep the higher version, so a slot never moves backwards
+    @Override
+    public void changed(Table table, long id) {
+        int index = table.ordinal();
+        long version = versions[index].incrementAndGet();
+        entities[index].accumulateAndGet(slot(id), version, Math::max);
+    }
+
+    private int slot(long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -2,36 +2,61 @@ package org.example.repository.impl;
 
 import org.example.db.ConnectionManager;
 import org.example.db.impl.ConnectionManagerImpl;
+import org.example.db.metrics.QueryNames;
 import org.example.exception.RepositoryException;
 import org.example.model.FreelancerEntity;
 import org.example.model.QualificationEntity;
 import org.example.repository.FreelancerRepository;
 import org.example.repository.QualificationRelationRepository;
+import org.example.repository.cache.CandidateIndex;
+import org.example.repository.cache.EmailBloomFilter;
+import org.example.repository.cache.TableVersions;
+import org.example.repository.cache.impl.CandidateIndexImpl;
+import org.example.repository.cache.impl.EmailBloomFilterImpl;
+import org.example.repository.cache.impl.TableVersionsImpl;
 import org.example.repository.mapper.FreelancerResultSetMapper;
-import org.example.repository.mapper.impl.FreelancerResultSetMapperImpl;
+import org.example.repository.mapper.impl.FreelancerResultSetMapperIndexedImpl;
 
 import java.sql.*;
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 public class FreelancerRepositoryImpl implements FreelancerRepository {
     private final ConnectionManager manager;
     private final FreelancerResultSetMapper resultSetMapper;
     private final QualificationRelationRepository relationRepository;
+    private final EmailBloomFilter emailFilter;
+    private final CandidateIndex candidateIndex;
+    private final TableVersions versions;
+
+    private static final int EMAIL_IN_LIST_SIZE = 1000;
 
     private enum FreelancerSQL {
-        FIND_ALL("SELECT * FROM freelancer"),
-        FIND_BY_ID("SELECT * FROM freelancer WHERE id=?"),
-        FIND_BY_EMAIL("SELECT * FROM freelancer WHERE freelancerEmail=?"),
+        FIND_ALL(FreelancerResultSetMapperIndexedImpl.SELECT),
+        FIND_PAGE(FreelancerResultSetMapperIndexedImpl.SELECT + " WHERE id>? ORDER BY id LIMIT ?"),
+        FIND_BY_ID(FreelancerResultSetMapperIndexedImpl.SELECT + " WHERE id=?"),
+        FIND_ALL_BY_IDS(FreelancerResultSetMapperIndexedImpl.SELECT + " WHERE id IN (%s)"),
+        FIND_BY_EMAIL(FreelancerResultSetMapperIndexedImpl.SELECT + " WHERE freelancerEmail=?"),
+        FIND_ALL_EMAILS("SELECT freelancerEmail FROM freelancer"),
+        FIND_EXISTING_EMAILS("SELECT freelancerEmail FROM freelancer WHERE freelancerEmail IN (%s)"),
+        FIND_PAGE_BY_QUALIFICATION("SELECT " + FreelancerResultSetMapperIndexedImpl.columns("f") + " " +
+                                   "FROM freelancer_qualification AS fq JOIN freelancer AS f ON f.id = fq.freelancerId " +
+                                   "WHERE fq.qualificationId=? AND fq.freelancerId>? ORDER BY fq.freelancerId LIMIT ?"),
+        FIND_ALL_RELATIONS("SELECT qualificationId, freelancerId FROM freelancer_qualification " +
+                           "ORDER BY qualificationId, freelancerId"),
         SAVE("INSERT INTO freelancer (freelancerName, freelancerSecondName, freelancerEmail) VALUE (?, ?, ?)"),
         UPDATE("UPDATE freelancer SET freelancerName=?, freelancerSecondName=?, freelancerEmail=? WHERE id=?"),
         DELETE("DELETE FROM freelancer WHERE id=?"),
+        FIND_RELATION_IDS("SELECT qualificationId FROM freelancer_qualification WHERE freelancerId=?"),
         SAVE_RELATION("INSERT INTO freelancer_qualification (freelancerId, qualificationId) VALUE (?, ?)"),
-        DELETE_RELATIONS("DELETE FROM freelancer_qualification WHERE freelancerId=?");
+        DELETE_RELATION("DELETE FROM freelancer_qualification WHERE freelancerId=? AND qualificationId=?");
 
         private final String value;
 
         FreelancerSQL(String value) {
             this.value = value;
+            QueryNames.register(getClass().getSimpleName() + "." + name(), value);
         }
 
         private String getValue() {
@@ -39,17 +64,29 @@ public class FreelancerRepositoryImpl implements FreelancerRepository {
         }
     }
 
+    // Registers the statements with QueryNames at class load, before first use, for the startup plan check
+    static {
+        FreelancerSQL.values();
+    }
+
     public FreelancerRepositoryImpl() {
         this.manager = ConnectionManagerImpl.getInstance();
-        this.resultSetMapper = new FreelancerResultSetMapperImpl();
+        this.resultSetMapper = new FreelancerResultSetMapperIndexedImpl();
         this.relationRepository = new QualificationRelationRepositoryImpl();
+        this.emailFilter = EmailBloomFilterImpl.getInstance();
+        this.candidateIndex = CandidateIndexImpl.getInstance();
+        this.versions = TableVersionsImpl.getInstance();
     }
 
     public FreelancerRepositoryImpl(ConnectionManager manager, FreelancerResultSetMapper mapper,
-                                    QualificationRelationRepository relationRepository) {
+                                    QualificationRelationRepository relationRepository, EmailBloomFilter emailFilter,
+                                    CandidateIndex candidateIndex, TableVersions versions) {
         this.manager = manager;
         this.resultSetMapper = mapper;
         this.relationRepository = relationRepository;
+        this.emailFilter = emailFilter;
+        this.candidateIndex = candidateIndex;
+        this.versions = versions;
     }
 
     @Override
@@ -77,6 +114,72 @@ public class FreelancerRepositoryImpl implements FreelancerRepository {
         }
     }
 
+    @Override
+    public List<FreelancerEntity> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Connection connection = null;
+        try {
+            connection = manager.getConnection();
+            connection.setAutoCommit(false);
+            var sql = RepositoryUtil.expandInLists(FreelancerSQL.FIND_ALL_BY_IDS.getValue(), ids.size());
+            try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                RepositoryUtil.bindIds(preparedStatement, 1, ids);
+                ResultSet resultSet = preparedStatement.executeQuery();
+                Map<Long, FreelancerEntity> found = new HashMap<>();
+                while (resultSet.next()) {
+                    var entity = resultSetMapper.map(resultSet);
+                    found.put(entity.getId(), entity);
+                }
+                var qualifications = relationRepository.findAllByRelationIds(found.keySet(), connection);
+                connection.commit();
+                List<FreelancerEntity> freelancers = new ArrayList<>(found.size());
+                for (Long id : ids) {
+                    var entity = found.get(id);
+                    if (entity != null) {
+                        entity.setQualifications(qualifications.getOrDefault(id, new ArrayList<>()));
+                        freelancers.add(entity);
+                    }
+                }
+                return freelancers;
+            }
+        } catch (SQLException e) {
+            RepositoryUtil.connectionRollback(connection);
+            throw new RepositoryException(e);
+        } finally {
+            RepositoryUtil.connectionClose(connection);
+        }
+    }
+
+    @Override
+    public List<FreelancerEntity> findAllSimpleById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        var sql = RepositoryUtil.expandInLists(FreelancerSQL.FIND_ALL_BY_IDS.getValue(), ids.size());
+        try (Connection connection = manager.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            RepositoryUtil.bindIds(preparedStatement, 1, ids);
+            ResultSet resultSet = preparedStatement.executeQuery();
+            Map<Long, FreelancerEntity> found = new HashMap<>();
+            while (resultSet.next()) {
+                var entity = resultSetMapper.map(resultSet);
+                found.put(entity.getId(), entity);
+            }
+            List<FreelancerEntity> freelancers = new ArrayList<>(found.size());
+            for (Long id : ids) {
+                var entity = found.get(id);
+                if (entity != null) {
+                    freelancers.add(entity);
+                }
+            }
+            return freelancers;
+        } catch (SQLException e) {
+            throw new RepositoryException(e);
+        }
+    }
+
     @Override
     public List<FreelancerEntity> findAll() {
         try (Connection connection = manager.getConnection();
@@ -92,8 +195,117 @@ public class FreelancerRepositoryImpl implements FreelancerRepository {
         }
     }
 
+    @Override
+    public List<FreelancerEntity> findPage(Long afterId, int limit) {
+        try (Connection connection = manager.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(FreelancerSQL.FIND_PAGE.getValue())) {
+            preparedStatement.setLong(1, afterId == null ? 0L : afterId);
+            preparedStatement.setInt(2, limit);
+            ResultSet resultSet = preparedStatement.executeQuery();
+            List<FreelancerEntity> page = new ArrayList<>(limit);
+            while (resultSet.next()) {
+                page.add(resultSetMapper.map(resultSet));
+            }
+            return page;
+        } catch (SQLException e) {
+            throw new RepositoryException(e);
+        }
+    }
+
+    @Override
+    public List<FreelancerEntity> findPageWithQualifications(Long afterId, int limit) {
+        Connection connection = null;
+        try {
+            connection = manager.getConnection();
+            connection.setAutoCommit(false);
+            try (PreparedStatement preparedStatement = connection.prepareStatement(FreelancerSQL.FIND_PAGE.getValue())) {
+                preparedStatement.setLong(1, afterId == null ? 0L : afterId);
+                preparedStatement.setInt(2, limit);
+                ResultSet resultSet = preparedStatement.executeQuery();
+                List<FreelancerEntity> page = new ArrayList<>(limit);
+                List<Long> ids = new ArrayList<>(limit);
+                while (resultSet.next()) {
+                    var entity = resultSetMapper.map(resultSet);
+                    page.add(entity);
+                    ids.add(entity.getId());
+                }
+                var qualifications = relationRepository.findAllByRelationIds(ids, connection);
+                connection.commit();
+                for (FreelancerEntity entity : page) {
+                    entity.setQualifications(qualifications.getOrDefault(entity.getId(), new ArrayList<>()));
+                }
+                return page;
+            }
+        } catch (SQLException e) {
+            RepositoryUtil.connectionRollback(connection);
+            throw new RepositoryException(e);
+        } finally {
+            RepositoryUtil.connectionClose(connection);
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<? super FreelancerEntity> action) {
+        try (Connection connection = manager.getConnection();
+             PreparedStatement preparedStatement = RepositoryUtil.prepareStreaming(connection, FreelancerSQL.FIND_ALL.getValue())) {
+            ResultSet resultSet = preparedStatement.executeQuery();
+            while (resultSet.next()) {
+                action.accept(resultSetMapper.map(resultSet));
+            }
+        } catch (SQLException e) {
+            throw new RepositoryException(e);
+        }
+    }
+
+    @Override
+    public void forEachEmail(Consumer<String> action) {
+        try (Connection connection = manager.getConnection();
+             PreparedStatement preparedStatement = RepositoryUtil.prepareStreaming(connection, FreelancerSQL.FIND_ALL_EMAILS.getValue())) {
+            ResultSet resultSet = preparedStatement.executeQuery();
+            while (resultSet.next()) {
+                action.accept(resultSet.getString(1));
+            }
+        } catch (SQLException e) {
+            throw new RepositoryException(e);
+        }
+    }
+
+    @Override
+    public List<FreelancerEntity> findPageByQualification(Long qualificationId, Long afterId, int limit) {
+        try (Connection connection = manager.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(FreelancerSQL.FIND_PAGE_BY_QUALIFICATION.getValue())) {
+            preparedStatement.setLong(1, qualificationId);
+            preparedStatement.setLong(2, afterId == null ? 0L : afterId);
+            preparedStatement.setInt(3, limit);
+            ResultSet resultSet = preparedStatement.executeQuery();
+            List<FreelancerEntity> page = new ArrayList<>(limit);
+            while (resultSet.next()) {
+                page.add(resultSetMapper.map(resultSet));
+            }
+            return page;
+        } catch (SQLException e) {
+            throw new RepositoryException(e);
+        }
+    }
+
+    @Override
+    public void forEachRelation(BiConsumer<Long, Long> action) {
+        try (Connection connection = manager.getConnection();
+             PreparedStatement preparedStatement = RepositoryUtil.prepareStreaming(connection, FreelancerSQL.FIND_ALL_RELATIONS.getValue())) {
+            ResultSet resultSet = preparedStatement.executeQuery();
+            while (resultSet.next()) {
+                action.accept(resultSet.getLong(1), resultSet.getLong(2));
+            }
+        } catch (SQLException e) {
+            throw new RepositoryException(e);
+        }
+    }
+
     @Override
     public boolean containsFreelancerByEmail(String email) {
+        if (email != null && !emailFilter.mightContain(email)) {
+            return false;
+        }
         try (var connection = manager.getConnection();
              var preparedStatement = connection.prepareStatement(FreelancerSQL.FIND_BY_EMAIL.getValue())) {
             preparedStatement.setString(1, email);
@@ -105,25 +317,90 @@ public class FreelancerRepositoryImpl implements FreelancerRepository {
 
     @Override
     public FreelancerEntity save(FreelancerEntity entity) {
+        return insert(entity, false).orElseThrow();
+    }
+
+    @Override
+    public Optional<FreelancerEntity> saveIfEmailAbsent(FreelancerEntity entity) {
+        return insert(entity, true);
+    }
+
+    // The filter drops emails that were never stored; the rest are checked with IN lists of bounded size.
+    // Emails are compared lower-cased, like the case-insensitive collation of the unique key.
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        List<String> candidates = new ArrayList<>();
+        for (String email : emails) {
+            if (email != null && emailFilter.mightContain(email)) {
+                candidates.add(email);
+            }
+        }
+        Set<String> existing = new HashSet<>();
+        if (candidates.isEmpty()) {
+            return existing;
+        }
+        try (var connection = manager.getConnection()) {
+            for (int from = 0; from < candidates.size(); from += EMAIL_IN_LIST_SIZE) {
+                var part = candidates.subList(from, Math.min(from + EMAIL_IN_LIST_SIZE, candidates.size()));
+                var sql = RepositoryUtil.expandInLists(FreelancerSQL.FIND_EXISTING_EMAILS.getValue(), part.size());
+                try (var preparedStatement = connection.prepareStatement(sql)) {
+                    int index = 1;
+                    for (String email : part) {
+                        preparedStatement.setString(index++, email);
+                    }
+                    var resultSet = preparedStatement.executeQuery();
+                    while (resultSet.next()) {
+                        existing.add(resultSet.getString(1).toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+            return existing;
+        } catch (SQLException e) {
+            throw new RepositoryException(e);
+        }
+    }
+
+    // One batch for the freelancers and one for their relations, committed together
+    @Override
+    public void saveAll(List<FreelancerEntity> entities) {
+        if (entities.isEmpty()) return;
         Connection connection = null;
         try {
             connection = manager.getConnection();
             connection.setAutoCommit(false);
             try (var preparedStatement = connection.prepareStatement(FreelancerSQL.SAVE.getValue(), Statement.RETURN_GENERATED_KEYS)) {
-                preparedStatement.setString(1, entity.getFreelancerName());
-                preparedStatement.setString(2, entity.getFreelancerSecondName());
-                preparedStatement.setString(3, entity.getFreelancerEmail());
-                var relations = entity.getQualifications();
-                preparedStatement.executeUpdate();
+                for (FreelancerEntity entity : entities) {
+                    preparedStatement.setString(1, entity.getFreelancerName());
+                    preparedStatement.setString(2, entity.getFreelancerSecondName());
+                    preparedStatement.setString(3, entity.getFreelancerEmail());
+                    preparedStatement.addBatch();
+                }
+                preparedStatement.executeBatch();
                 var keys = preparedStatement.getGeneratedKeys();
-                if (keys.next()) {
-                    var entityId = keys.getObject(1, Long.class);
-                    entity.setId(entityId);
-                    if (relations != null && !relations.isEmpty()) saveRelations(entityId, relations, connection);
+                for (FreelancerEntity entity : entities) {
+                    if (!keys.next()) {
+                        throw new SQLException("Fewer generated keys than inserted freelancers");
+                    }
+                    entity.setId(keys.getObject(1, Long.class));
+                }
+            }
+            boolean hasRelations = false;
+            try (var preparedStatement = connection.prepareStatement(FreelancerSQL.SAVE_RELATION.getValue())) {
+                for (FreelancerEntity entity : entities) {
+                    if (entity.getQualifications() == null) continue;
+                    for (Long relationId : toIds(entity.getQualifications())) {
+                        preparedStatement.setLong(1, entity.getId());
+                        preparedStatement.setLong(2, relationId);
+                        preparedStatement.addBatch();
+                        hasRelations = true;
+                    }
+                }
+                if (hasRelations) {
+                    preparedStatement.executeBatch();
                 }
             }
             connection.commit();
-            return entity;
+            RepositoryUtil.afterCommit(manager, () -> savedAll(entities));
         } catch (SQLException e) {
             RepositoryUtil.connectionRollback(connection);
             throw new RepositoryException(e);
@@ -135,6 +412,7 @@ public class FreelancerRepositoryImpl implements FreelancerRepository {
     @Override
     public void update(FreelancerEntity entity) {
         Connection connection = null;
+        Set<Long> relationIds;
         try {
             connection = manager.getConnection();
             connection.setAutoCommit(false);
@@ -145,10 +423,17 @@ public class FreelancerRepositoryImpl implements FreelancerRepository {
                 preparedStatement.setLong(4, entity.getId());
                 var relations = entity.getQualifications();
                 preparedStatement.executeUpdate();
-                deleteRelations(entity.getId(), connection);
-                if (relations != null && !relations.isEmpty()) saveRelations(entity.getId(), relations, connection);
+                relationIds = relations == null ? Set.of() : toIds(relations);
+                updateRelations(entity.getId(), relationIds, connection);
             }
             connection.commit();
+            long id = entity.getId();
+            String email = entity.getFreelancerEmail();
+            RepositoryUtil.afterCommit(manager, () -> {
+                versions.changed(TableVersions.Table.FREELANCER, id);
+                emailFilter.add(email);
+                candidateIndex.setRelations(id, relationIds);
+            });
         } catch (SQLException e) {
             RepositoryUtil.connectionRollback(connection);
             throw new RepositoryException(e);
@@ -162,30 +447,136 @@ public class FreelancerRepositoryImpl implements FreelancerRepository {
         try (var connection = manager.getConnection();
              var preparedStatement = connection.prepareStatement(FreelancerSQL.DELETE.getValue())) {
             preparedStatement.setLong(1, id);
-            return preparedStatement.executeUpdate() != 0;
+            boolean deleted = preparedStatement.executeUpdate() != 0;
+            if (deleted) {
+                RepositoryUtil.afterCommit(manager, () -> {
+                    candidateIndex.removeFreelancer(id);
+                    versions.changed(TableVersions.Table.FREELANCER, id);
+                });
+            }
+            return deleted;
         } catch (SQLException e) {
             throw new RepositoryException(e);
         }
     }
 
-    private void saveRelations(Long entityId, List<QualificationEntity> relations, Connection connection) {
-        try (var preparedStatement = connection.prepareStatement(FreelancerSQL.SAVE_RELATION.getValue())) {
-            for (QualificationEntity relation : relations) {
-                preparedStatement.setLong(1, entityId);
-                preparedStatement.setLong(2, relation.getId());
-                preparedStatement.executeUpdate();
+    // A duplicate email fails the INSERT statement alone, so nothing has to be rolled back when it is skipped.
+    private Optional<FreelancerEntity> insert(FreelancerEntity entity, boolean skipDuplicateEmail) {
+        Connection connection = null;
+        try {
+            connection = manager.getConnection();
+            connection.setAutoCommit(false);
+            try (var preparedStatement = connection.prepareStatement(FreelancerSQL.SAVE.getValue(), Statement.RETURN_GENERATED_KEYS)) {
+                preparedStatement.setString(1, entity.getFreelancerName());
+                preparedStatement.setString(2, entity.getFreelancerSecondName());
+                preparedStatement.setString(3, entity.getFreelancerEmail());
+                var relations = entity.getQualifications();
+                try {
+                    preparedStatement.executeUpdate();
+                } catch (SQLException e) {
+                    if (skipDuplicateEmail && RepositoryUtil.isDuplicateKey(e)) {
+                        connection.commit();
+                        String email = entity.getFreelancerEmail();
+                        RepositoryUtil.afterCommit(manager, () -> emailFilter.add(email));
+                        return Optional.empty();
+                    }
+                    throw e;
+                }
+                var keys = preparedStatement.getGeneratedKeys();
+                if (keys.next()) {
+                    var entityId = keys.getObject(1, Long.class);
+                    entity.setId(entityId);
+                    if (relations != null && !relations.isEmpty()) saveRelations(entityId, toIds(relations), connection);
+                }
             }
+            connection.commit();
+            RepositoryUtil.afterCommit(manager, () -> saved(entity));
+            return Optional.of(entity);
         } catch (SQLException e) {
+            RepositoryUtil.connectionRollback(connection);
             throw new RepositoryException(e);
+        } finally {
+            RepositoryUtil.connectionClose(connection);
         }
     }
 
-    private void deleteRelations(Long entityId, Connection connection) {
-        try (var preparedStatement = connection.prepareStatement(FreelancerSQL.DELETE_RELATIONS.getValue())) {
+    // The caches only learn about a row once its transaction committed: inside an outer transaction the commit
+    // above is deferred, and a rollback must not leave a candidate or an email behind
+    private void saved(FreelancerEntity entity) {
+        if (entity.getId() != null) {
+            versions.changed(TableVersions.Table.FREELANCER, entity.getId());
+        }
+        emailFilter.add(entity.getFreelancerEmail());
+        if (entity.getQualifications() != null && !entity.getQualifications().isEmpty()) {
+            candidateIndex.setRelations(entity.getId(), toIds(entity.getQualifications()));
+        }
+    }
+
+    // A chunk can hold thousands of freelancers, so the candidate index takes their relations in one call
+    private void savedAll(List<FreelancerEntity> entities) {
+        Map<Long, Collection<Long>> relations = new HashMap<>();
+        for (FreelancerEntity entity : entities) {
+            versions.changed(TableVersions.Table.FREELANCER, entity.getId());
+            emailFilter.add(entity.getFreelancerEmail());
+            if (entity.getQualifications() != null && !entity.getQualifications().isEmpty()) {
+                relations.put(entity.getId(), toIds(entity.getQualifications()));
+            }
+        }
+        if (!relations.isEmpty()) {
+            candidateIndex.addRelations(relations);
+        }
+    }
+
+    private void updateRelations(Long entityId, Set<Long> relationIds, Connection connection) {
+        Set<Long> currentIds = findRelationIds(entityId, connection);
+        Set<Long> removed = new HashSet<>(currentIds);
+        removed.removeAll(relationIds);
+        Set<Long> added = new HashSet<>(relationIds);
+        added.removeAll(currentIds);
+        if (!removed.isEmpty()) deleteRelations(entityId, removed, connection);
+        if (!added.isEmpty()) saveRelations(entityId, added, connection);
+    }
+
+    private Set<Long> findRelationIds(Long entityId, Connection connection) {
+        try (var preparedStatement = connection.prepareStatement(FreelancerSQL.FIND_RELATION_IDS.getValue())) {
             preparedStatement.setLong(1, entityId);
-            preparedStatement.executeUpdate();
+            var resultSet = preparedStatement.executeQuery();
+            Set<Long> ids = new HashSet<>();
+            while (resultSet.next()) {
+                ids.add(resultSet.getLong(1));
+            }
+            return ids;
+        } catch (SQLException e) {
+            throw new RepositoryException(e);
+        }
+    }
+
+    private void saveRelations(Long entityId, Collection<Long> relationIds, Connection connection) {
+        executeRelationBatch(FreelancerSQL.SAVE_RELATION, entityId, relationIds, connection);
+    }
+
+    private void deleteRelations(Long entityId, Collection<Long> relationIds, Connection connection) {
+        executeRelationBatch(FreelancerSQL.DELETE_RELATION, entityId, relationIds, connection);
+    }
+
+    private void executeRelationBatch(FreelancerSQL sql, Long entityId, Collection<Long> relationIds, Connection connection) {
+        try (var preparedStatement = connection.prepareStatement(sql.getValue())) {
+            for (Long relationId : relationIds) {
+                preparedStatement.setLong(1, entityId);
+                preparedStatement.setLong(2, relationId);
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
         } catch (SQLException e) {
             throw new RepositoryException(e);
         }
     }
-}
\ No newline at end of file
+
+    private static Set<Long> toIds(List<QualificationEntity> relations) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (QualificationEntity relation : relations) {
+            ids.add(relation.getId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,259 @@
+package org.example.repository.impl;
+
+import org.example.db.TransactionManager;
+import org.example.db.impl.DirectTransactionManager;
+import org.example.model.FreelancerEntity;
+import org.example.model.QualificationEntity;
+import org.example.repository.FreelancerRepository;
+import org.example.repository.cache.TableVersions;
+import org.example.repository.cache.impl.TableVersionsImpl;
+import org.example.repository.memory.InMemoryDataset;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+// Reads come from the dataset once it is loaded; writes go to the JDBC repository first and then to memory.
+// The delegate moves the table version before memory has a write, so it is moved again once memory has it.
+// Memory only takes a write after its unit of work committed, so a rollback cannot leave it ahead of the database.
+public class FreelancerRepositoryInMemoryImpl implements FreelancerRepository {
+    private final FreelancerRepository delegate;
+    private final InMemoryDataset dataset;
+    private final TableVersions versions;
+    private final TransactionManager transactionManager;
+
+    public FreelancerRepositoryInMemoryImpl(FreelancerRepository delegate, InMemoryDataset dataset) {
+        this.delegate = delegate;
+        this.dataset = dataset;
+        this.versions = TableVersionsImpl.getInstance();
+        this.transactionManager = new DirectTransactionManager();
+    }
+
+    public FreelancerRepositoryInMemoryImpl(FreelancerRepository delegate, InMemoryDataset dataset,
+                                            TableVersions versions, TransactionManager transactionManager) {
+        this.delegate = delegate;
+        this.dataset = dataset;
+        this.versions = versions;
+        this.transactionManager = transactionManager;
+    }
+
+    @Override
+    public Optional<FreelancerEntity> findById(Long id) {
+        if (!dataset.isLoaded()) {
+            return delegate.findById(id);
+        }
+        var stored = dataset.findFreelancer(id);
+        return stored == null ? Optional.empty() : Optional.of(withQualifications(stored, new HashMap<>()));
+    }
+
+    @Override
+    public List<FreelancerEntity> findAllById(Collection<Long> ids) {
+        if (!dataset.isLoaded()) {
+            return delegate.findAllById(ids);
+        }
+        Map<Long, QualificationEntity> shared = new HashMap<>();
+        List<FreelancerEntity> freelancers = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            var stored = dataset.findFreelancer(id);
+            if (stored != null) {
+                freelancers.add(withQualifications(stored, shared));
+            }
+        }
+        return freelancers;
+    }
+
+    @Override
+    public List<FreelancerEntity> findAllSimpleById(Collection<Long> ids) {
+        if (!dataset.isLoaded()) {
+            return delegate.findAllSimpleById(ids);
+        }
+        List<FreelancerEntity> freelancers = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            var stored = dataset.findFreelancer(id);
+            if (stored != null) {
+                freelancers.add(InMemoryDataset.copyOf(stored));
+            }
+        }
+        return freelancers;
+    }
+
+    @Override
+    public List<FreelancerEntity> findAll() {
+        if (!dataset.isLoaded()) {
+            return delegate.findAll();
+        }
+        List<FreelancerEntity> freelancers = new ArrayList<>(dataset.getFreelancers().size());
+        dataset.getFreelancers().forEachValue(stored -> freelancers.add(InMemoryDataset.copyOf(stored)));
+        return freelancers;
+    }
+
+    @Override
+    public List<FreelancerEntity> findPage(Long afterId, int limit) {
+        if (!dataset.isLoaded()) {
+            return delegate.findPage(afterId, limit);
+        }
+        var page = dataset.getFreelancers().pageAfter(afterId == null ? 0L : afterId, limit);
+        page.replaceAll(InMemoryDataset::copyOf);
+        return page;
+    }
+
+    @Override
+    public List<FreelancerEntity> findPageWithQualifications(Long afterId, int limit) {
+        if (!dataset.isLoaded()) {
+            return delegate.findPageWithQualifications(afterId, limit);
+        }
+        Map<Long, QualificationEntity> shared = new HashMap<>();
+        var page = dataset.getFreelancers().pageAfter(afterId == null ? 0L : afterId, limit);
+        page.replaceAll(stored -> withQualifications(stored, shared));
+        return page;
+    }
+
+    @Override
+    public List<FreelancerEntity> findPageByQualification(Long qualificationId, Long afterId, int limit) {
+        if (!dataset.isLoaded()) {
+            return delegate.findPageByQualification(qualificationId, afterId, limit);
+        }
+        var ids = dataset.getRelations().freelancersOf(qualificationId);
+        List<FreelancerEntity> page = new ArrayList<>(Math.min(limit, ids.cardinality()));
+        int from = afterId == null ? 0 : (int) Math.min(Integer.MAX_VALUE, afterId + 1);
+        for (int id = ids.nextSetBit(from); id >= 0 && page.size() < limit; id = ids.nextSetBit(id + 1)) {
+            var stored = dataset.findFreelancer(id);
+            if (stored != null) {
+                page.add(InMemoryDataset.copyOf(stored));
+            }
+        }
+        return page;
+    }
+
+    @Override
+    public void forEachRelation(BiConsumer<Long, Long> action) {
+        if (!dataset.isLoaded()) {
+            delegate.forEachRelation(action);
+            return;
+        }
+        dataset.getQualifications().forEach((qualificationId, qualification) ->
+                dataset.getRelations().freelancersOf(qualificationId).stream()
+                        .forEach(freelancerId -> action.accept(qualificationId, (long) freelancerId)));
+    }
+
+    @Override
+    public void forEach(Consumer<? super FreelancerEntity> action) {
+        if (!dataset.isLoaded()) {
+            delegate.forEach(action);
+            return;
+        }
+        dataset.getFreelancers().forEachValue(stored -> action.accept(InMemoryDataset.copyOf(stored)));
+    }
+
+    @Override
+    public void forEachEmail(Consumer<String> action) {
+        if (!dataset.isLoaded()) {
+            delegate.forEachEmail(action);
+            return;
+        }
+        dataset.getFreelancers().forEachValue(stored -> action.accept(stored.getFreelancerEmail()));
+    }
+
+    @Override
+    public boolean containsFreelancerByEmail(String email) {
+        if (!dataset.isLoaded()) {
+            return delegate.containsFreelancerByEmail(email);
+        }
+        return dataset.containsEmail(email);
+    }
+
+    @Override
+    public FreelancerEntity save(FreelancerEntity entity) {
+        return dataset.write(() -> {
+            var saved = delegate.save(entity);
+            transactionManager.afterCommit(() -> {
+                dataset.putFreelancer(saved);
+                versions.changed(TableVersions.Table.FREELANCER, saved.getId());
+            });
+            return saved;
+        });
+    }
+
+    @Override
+    public Optional<FreelancerEntity> saveIfEmailAbsent(FreelancerEntity entity) {
+        return dataset.write(() -> {
+            if (dataset.isLoaded() && dataset.containsEmail(entity.getFreelancerEmail())) {
+                return Optional.empty();
+            }
+            var saved = delegate.saveIfEmailAbsent(entity);
+            saved.ifPresent(freelancer -> transactionManager.afterCommit(() -> {
+                dataset.putFreelancer(freelancer);
+                versions.changed(TableVersions.Table.FREELANCER, freelancer.getId());
+            }));
+            return saved;
+        });
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (!dataset.isLoaded()) {
+            return delegate.findExistingEmails(emails);
+        }
+        Set<String> existing = new HashSet<>();
+        for (String email : emails) {
+            if (dataset.containsEmail(email)) {
+                existing.add(email.toLowerCase(Locale.ROOT));
+            }
+        }
+        return existing;
+    }
+
+    @Override
+    public void saveAll(List<FreelancerEntity> entities) {
+        dataset.write(() -> {
+            delegate.saveAll(entities);
+            transactionManager.afterCommit(() -> {
+                dataset.putFreelancers(entities);
+                for (FreelancerEntity entity : entities) {
+                    versions.changed(TableVersions.Table.FREELANCER, entity.getId());
+                }
+            });
+            return null;
+        });
+    }
+
+    @Override
+    public void update(FreelancerEntity entity) {
+        dataset.write(entity.getId(), () -> {
+            delegate.update(entity);
+            transactionManager.afterCommit(() -> {
+                if (dataset.findFreelancer(entity.getId()) != null) {
+                    dataset.putFreelancer(entity);
+                    versions.changed(TableVersions.Table.FREELANCER, entity.getId());
+                }
+            });
+            return null;
+        });
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        return dataset.write(id, () -> {
+            boolean deleted = delegate.deleteById(id);
+            transactionManager.afterCommit(() -> {
+                dataset.removeFreelancer(id);
+                versions.changed(TableVersions.Table.FREELANCER, id);
+            });
+            return deleted;
+        });
+    }
+
+    private FreelancerEntity withQualifications(FreelancerEntity stored, Map<Long, QualificationEntity> shared) {
+        var freelancer = InMemoryDataset.copyOf(stored);
+        freelancer.setQualifications(dataset.qualificationsOf(stored.getId(), shared));
+        return freelancer;
+    }
+}
@@ -2,26 +2,57 @@ package org.example.repository.impl;
 
 import org.example.db.ConnectionManager;
 import org.example.db.impl.ConnectionManagerImpl;
+import org.example.db.metrics.QueryNames;
 import org.example.exception.RepositoryException;
 import org.example.model.OrderEntity;
+import org.example.model.OrderFilter;
 import org.example.repository.OrderRepository;
-import org.example.repository.QualificationRelationRepository;
+import org.example.repository.cache.TableVersions;
+import org.example.repository.cache.impl.TableVersionsImpl;
 import org.example.repository.mapper.OrderResultSetMapper;
-import org.example.repository.mapper.impl.OrderResultSetMapperImpl;
+import org.example.repository.mapper.OrderSummaryResultSetMapper;
+import org.example.repository.mapper.impl.OrderResultSetMapperIndexedImpl;
+import org.example.repository.mapper.impl.OrderSummaryResultSetMapperIndexedImpl;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 public class OrderRepositoryImpl implements OrderRepository {
     private final ConnectionManager manager;
     private final OrderResultSetMapper resultSetMapper;
-    private final QualificationRelationRepository relationRepository;
+    private final OrderSummaryResultSetMapper summaryMapper = new OrderSummaryResultSetMapperIndexedImpl();
+    private final TableVersions versions;
+
+    private static final Map<Integer, String> FILTER_SQL = new ConcurrentHashMap<>();
+    private static final Map<Integer, String> EXPORT_SQL = new ConcurrentHashMap<>();
+    private static final String FILTER_QUALIFICATION = "qualificationId=?";
+    private static final String FILTER_MIN_PRICE = "orderPrice>=?";
+    private static final String FILTER_MAX_PRICE = "orderPrice<=?";
+    private static final String FILTER_TERM_FROM = "orderTerm>=?";
+    private static final String FILTER_TERM_TO = "orderTerm<=?";
+    private static final String FILTER_AFTER_ID = "id>?";
+
+    private static final int QUALIFICATION_NAME_COLUMN = OrderResultSetMapperIndexedImpl.COLUMN_COUNT + 1;
 
     private enum OrderSQL {
-        FIND_ALL("SELECT * FROM qualif_order"),
-        FIND_BY_ID("SELECT * FROM qualif_order WHERE id=?"),
+        FIND_ALL(OrderResultSetMapperIndexedImpl.SELECT),
+        FIND_PAGE(OrderResultSetMapperIndexedImpl.SELECT + " WHERE id>? ORDER BY id LIMIT ?"),
+        FIND_ALL_SUMMARIES(OrderSummaryResultSetMapperIndexedImpl.SELECT),
+        FIND_SUMMARY_PAGE(OrderSummaryResultSetMapperIndexedImpl.SELECT + " WHERE id>? ORDER BY id LIMIT ?"),
+        FIND_BY_ID("SELECT " + OrderResultSetMapperIndexedImpl.columns("o") + ", q.qualificationName " +
+                   "FROM qualif_order AS o " +
+                   "LEFT JOIN qualification AS q ON q.id = o.qualificationId WHERE o.id=?"),
+        FIND_ALL_BY_IDS("SELECT " + OrderResultSetMapperIndexedImpl.columns("o") + ", q.qualificationName " +
+                        "FROM qualif_order AS o " +
+                        "LEFT JOIN qualification AS q ON q.id = o.qualificationId WHERE o.id IN (%s)"),
         SAVE("INSERT INTO qualif_order (orderTitle, orderDescription, orderPrice, orderTerm, qualificationId) VALUE (?, ?, ?, ?, ?)"),
         UPDATE("UPDATE qualif_order SET orderTitle=?, orderDescription=?, orderPrice=?, orderTerm=?, qualificationId=? " +
                "WHERE id=?"),
@@ -30,6 +61,7 @@ public class OrderRepositoryImpl implements OrderRepository {
 
         OrderSQL(String value) {
             this.value = value;
+            QueryNames.register(getClass().getSimpleName() + "." + name(), value);
         }
 
         private String getValue() {
@@ -37,44 +69,77 @@ public class OrderRepositoryImpl implements OrderRepository {
         }
     }
 
+    static {
+        OrderSQL.values();
+    }
+
     public OrderRepositoryImpl() {
         this.manager = ConnectionManagerImpl.getInstance();
-        this.resultSetMapper = new OrderResultSetMapperImpl();
-        this.relationRepository = new QualificationRelationRepositoryImpl();
+        this.resultSetMapper = new OrderResultSetMapperIndexedImpl();
+        this.versions = TableVersionsImpl.getInstance();
     }
 
-    public OrderRepositoryImpl(ConnectionManager manager, OrderResultSetMapper mapper, QualificationRelationRepository relationRepository) {
+    public OrderRepositoryImpl(ConnectionManager manager, OrderResultSetMapper mapper, TableVersions versions) {
         this.manager = manager;
         this.resultSetMapper = mapper;
-        this.relationRepository = relationRepository;
+        this.versions = versions;
     }
 
     @Override
     public Optional<OrderEntity> findById(Long id) {
-        Connection connection = null;
-        try {
-            connection = manager.getConnection();
-            connection.setAutoCommit(false);
-            try (var preparedStatement = connection.prepareStatement(OrderSQL.FIND_BY_ID.getValue())) {
-                preparedStatement.setLong(1, id);
-                var resultSet = preparedStatement.executeQuery();
-                OrderEntity order = null;
-                if (resultSet.next()) {
-                    order = resultSetMapper.map(resultSet);
-                    var qualification = relationRepository.findByRelationId(order.getQualification().getId(), connection);
-                    order.setQualification(qualification.orElse(null));
+        try (var connection = manager.getConnection();
+             var preparedStatement = connection.prepareStatement(OrderSQL.FIND_BY_ID.getValue())) {
+            preparedStatement.setLong(1, id);
+            var resultSet = preparedStatement.executeQuery();
+            OrderEntity order = null;
+            if (resultSet.next()) {
+                order = mapWithQualification(resultSet);
+            }
+            return Optional.ofNullable(order);
+        } catch (SQLException e) {
+            throw new RepositoryException(e);
+        }
+    }
+
+    @Override
+    public List<OrderEntity> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        var sql = RepositoryUtil.expandInLists(OrderSQL.FIND_ALL_BY_IDS.getValue(), ids.size());
+        try (var connection = manager.getConnection();
+             var preparedStatement = connection.prepareStatement(sql)) {
+            RepositoryUtil.bindIds(preparedStatement, 1, ids);
+            var resultSet = preparedStatement.executeQuery();
+            Map<Long, OrderEntity> found = new HashMap<>();
+            while (resultSet.next()) {
+                var order = mapWithQualification(resultSet);
+                found.put(order.getId(), order);
+            }
+            List<OrderEntity> orders = new ArrayList<>(found.size());
+            for (Long id : ids) {
+                var order = found.get(id);
+                if (order != null) {
+                    orders.add(order);
                 }
-                connection.commit();
-                return Optional.ofNullable(order);
             }
+            return orders;
         } catch (SQLException e) {
-            RepositoryUtil.connectionRollback(connection);
             throw new RepositoryException(e);
-        } finally {
-            RepositoryUtil.connectionClose(connection);
         }
     }
 
+    private OrderEntity mapWithQualification(ResultSet resultSet) throws SQLException {
+        var order = resultSetMapper.map(resultSet);
+        String qualificationName = resultSet.getString(QUALIFICATION_NAME_COLUMN);
+        if (qualificationName != null) {
+            order.getQualification().setQualificationName(qualificationName);
+        } else {
+            order.setQualification(null);
+        }
+        return order;
+    }
+
 
     @Override
     public List<OrderEntity> findAll() {
@@ -91,19 +156,172 @@ public class OrderRepositoryImpl implements OrderRepository {
         }
     }
 
+    @Override
+    public List<OrderEntity> findPage(Long afterId, int limit) {
+        try (Connection connection = manager.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(OrderSQL.FIND_PAGE.getValue())) {
+            preparedStatement.setLong(1, afterId == null ? 0L : afterId);
+            preparedStatement.setInt(2, limit);
+            ResultSet resultSet = preparedStatement.executeQuery();
+            List<OrderEntity> page = new ArrayList<>(limit);
+            while (resultSet.next()) {
+                page.add(resultSetMapper.map(resultSet));
+            }
+            return page;
+        } catch (SQLException e) {
+            throw new RepositoryException(e);
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<? super OrderEntity> action) {
+        try (Connection connection = manager.getConnection();
+             PreparedStatement preparedStatement = RepositoryUtil.prepareStreaming(connection, OrderSQL.FIND_ALL.getValue())) {
+            ResultSet resultSet = preparedStatement.executeQuery();
+            while (resultSet.next()) {
+                action.accept(resultSetMapper.map(resultSet));
+            }
+        } catch (SQLException e) {
+            throw new RepositoryException(e);
+        }
+    }
+
+    @Override
+    public List<OrderEntity> findAllSummaries() {
+        try (Connection connection = manager.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(OrderSQL.FIND_ALL_SUMMARIES.getValue())) {
+            ResultSet resultSet = preparedStatement.executeQuery();
+            List<OrderEntity> orders = new ArrayList<>();
+            while (resultSet.next()) {
+                orders.add(summaryMapper.map(resultSet));
+            }
+            return orders;
+        } catch (SQLException e) {
+            throw new RepositoryException(e);
+        }
+    }
+
+    @Override
+    public List<OrderEntity> findSummaryPage(Long afterId, int limit) {
+        try (Connection connection = manager.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(OrderSQL.FIND_SUMMARY_PAGE.getValue())) {
+            preparedStatement.setLong(1, afterId == null ? 0L : afterId);
+            preparedStatement.setInt(2, limit);
+            ResultSet resultSet = preparedStatement.executeQuery();
+            List<OrderEntity> page = new ArrayList<>(limit);
+            while (resultSet.next()) {
+                page.add(summaryMapper.map(resultSet));
+            }
+            return page;
+        } catch (SQLException e) {
+            throw new RepositoryException(e);
+        }
+    }
+
+    @Override
+    public void forEachSummary(Consumer<? super OrderEntity> action) {
+        try (Connection connection = manager.getConnection();
+             PreparedStatement preparedStatement = RepositoryUtil.prepareStreaming(connection, OrderSQL.FIND_ALL_SUMMARIES.getValue())) {
+            ResultSet resultSet = preparedStatement.executeQuery();
+            while (resultSet.next()) {
+                action.accept(summaryMapper.map(resultSet));
+            }
+        } catch (SQLException e) {
+            throw new RepositoryException(e);
+        }
+    }
+
+    @Override
+    public List<OrderEntity> findFiltered(OrderFilter filter) {
+        try (Connection connection = manager.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(filterSql(filter))) {
+            bindFilter(preparedStatement, filter);
+            ResultSet resultSet = preparedStatement.executeQuery();
+            List<OrderEntity> orders = new ArrayList<>(filter.getLimit());
+            while (resultSet.next()) {
+                orders.add(summaryMapper.map(resultSet));
+            }
+            return orders;
+        } catch (SQLException e) {
+            throw new RepositoryException(e);
+        }
+    }
+
+    // Forward-only cursor: rows reach the action as the server sends them, so memory stays flat
+    @Override
+    public void forEachFiltered(OrderFilter filter, Consumer<? super OrderEntity> action) {
+        try (Connection connection = manager.getConnection();
+             PreparedStatement preparedStatement = RepositoryUtil.prepareStreaming(connection, exportSql(filter))) {
+            bindPredicates(preparedStatement, filter);
+            ResultSet resultSet = preparedStatement.executeQuery();
+            while (resultSet.next()) {
+                action.accept(resultSetMapper.map(resultSet));
+            }
+        } catch (SQLException e) {
+            throw new RepositoryException(e);
+        }
+    }
+
+    static String filterSql(OrderFilter filter) {
+        return FILTER_SQL.computeIfAbsent(filter.shape(), shape -> buildFilterSql(shape, filter));
+    }
+
+    static String exportSql(OrderFilter filter) {
+        return EXPORT_SQL.computeIfAbsent(filter.shape() >> 2, shape -> buildExportSql(shape, filter));
+    }
+
+    static void bindFilter(PreparedStatement preparedStatement, OrderFilter filter) throws SQLException {
+        preparedStatement.setInt(bindPredicates(preparedStatement, filter), filter.getLimit());
+    }
+
+    // Returns the index of the first parameter after the predicates
+    private static int bindPredicates(PreparedStatement preparedStatement, OrderFilter filter) throws SQLException {
+        int index = 1;
+        if (filter.getQualificationId() != null) preparedStatement.setLong(index++, filter.getQualificationId());
+        if (filter.getMinPrice() != null) preparedStatement.setBigDecimal(index++, filter.getMinPrice());
+        if (filter.getMaxPrice() != null) preparedStatement.setBigDecimal(index++, filter.getMaxPrice());
+        if (filter.getTermFrom() != null) preparedStatement.setDate(index++, Date.valueOf(filter.getTermFrom()));
+        if (filter.getTermTo() != null) preparedStatement.setDate(index++, Date.valueOf(filter.getTermTo()));
+        if (filter.getAfterId() != 0) preparedStatement.setLong(index++, filter.getAfterId());
+        return index;
+    }
+
+    // Predicate order follows the composite indexes: equality on qualificationId first, then one range column
+    private static String buildFilterSql(int shape, OrderFilter filter) {
+        String sql = OrderSummaryResultSetMapperIndexedImpl.SELECT + predicates(filter) +
+                     " ORDER BY " + filter.getSort().getOrderBy() + " LIMIT ?";
+        QueryNames.register(OrderSQL.class.getSimpleName() + ".FIND_FILTERED_" + shape, sql);
+        return sql;
+    }
+
+    private static String buildExportSql(int shape, OrderFilter filter) {
+        String sql = OrderResultSetMapperIndexedImpl.SELECT + predicates(filter) + " ORDER BY id";
+        QueryNames.register(OrderSQL.class.getSimpleName() + ".EXPORT_FILTERED_" + shape, sql);
+        return sql;
+    }
+
+    private static String predicates(OrderFilter filter) {
+        var predicates = new StringJoiner(" AND ", " WHERE ", "").setEmptyValue("");
+        if (filter.getQualificationId() != null) predicates.add(FILTER_QUALIFICATION);
+        if (filter.getMinPrice() != null) predicates.add(FILTER_MIN_PRICE);
+        if (filter.getMaxPrice() != null) predicates.add(FILTER_MAX_PRICE);
+        if (filter.getTermFrom() != null) predicates.add(FILTER_TERM_FROM);
+        if (filter.getTermTo() != null) predicates.add(FILTER_TERM_TO);
+        if (filter.getAfterId() != 0) predicates.add(FILTER_AFTER_ID);
+        return predicates.toString();
+    }
+
     @Override
     public OrderEntity save(OrderEntity entity) {
         try (var connection = manager.getConnection();
              var preparedStatement = connection.prepareStatement(OrderSQL.SAVE.getValue(), Statement.RETURN_GENERATED_KEYS)) {
-            preparedStatement.setString(1, entity.getOrderTitle());
-            preparedStatement.setString(2, entity.getOrderDescription());
-            preparedStatement.setBigDecimal(3, entity.getOrderPrice());
-            preparedStatement.setDate(4, Date.valueOf(entity.getOrderTerm()));
-            preparedStatement.setLong(5, entity.getQualification().getId());
+            bindSave(preparedStatement, entity);
             preparedStatement.executeUpdate();
             var keys = preparedStatement.getGeneratedKeys();
             if (keys.next()) {
-                entity.setId(keys.getObject(1, Long.class));
+                Long id = keys.getObject(1, Long.class);
+                entity.setId(id);
+                RepositoryUtil.afterCommit(manager, () -> versions.changed(TableVersions.Table.ORDER, id));
             }
             return entity;
         } catch (SQLException e) {
@@ -111,6 +329,48 @@ public class OrderRepositoryImpl implements OrderRepository {
         }
     }
 
+    // rewriteBatchedStatements turns the batch into multi-row INSERTs; the keys of such an INSERT are consecutive
+    // and come back in row order
+    @Override
+    public void saveAll(List<OrderEntity> entities) {
+        if (entities.isEmpty()) return;
+        Connection connection = null;
+        try {
+            connection = manager.getConnection();
+            connection.setAutoCommit(false);
+            try (var preparedStatement = connection.prepareStatement(OrderSQL.SAVE.getValue(), Statement.RETURN_GENERATED_KEYS)) {
+                for (OrderEntity entity : entities) {
+                    bindSave(preparedStatement, entity);
+                    preparedStatement.addBatch();
+                }
+                preparedStatement.executeBatch();
+                var keys = preparedStatement.getGeneratedKeys();
+                for (OrderEntity entity : entities) {
+                    if (!keys.next()) {
+                        throw new SQLException("Fewer generated keys than inserted orders");
+                    }
+                    entity.setId(keys.getObject(1, Long.class));
+                }
+            }
+            connection.commit();
+            RepositoryUtil.afterCommit(manager, () -> entities.forEach(entity ->
+                    versions.changed(TableVersions.Table.ORDER, entity.getId())));
+        } catch (SQLException e) {
+            RepositoryUtil.connectionRollback(connection);
+            throw new RepositoryException(e);
+        } finally {
+            RepositoryUtil.connectionClose(connection);
+        }
+    }
+
+    private static void bindSave(PreparedStatement preparedStatement, OrderEntity entity) throws SQLException {
+        preparedStatement.setString(1, entity.getOrderTitle());
+        preparedStatement.setString(2, entity.getOrderDescription());
+        preparedStatement.setBigDecimal(3, entity.getOrderPrice());
+        preparedStatement.setDate(4, Date.valueOf(entity.getOrderTerm()));
+        preparedStatement.setLong(5, entity.getQualification().getId());
+    }
+
     @Override
     public void update(OrderEntity entity) {
         try (var connection = manager.getConnection();
@@ -121,7 +381,10 @@ public class OrderRepositoryImpl implements OrderRepository {
             preparedStatement.setDate(4, Date.valueOf(entity.getOrderTerm()));
             preparedStatement.setLong(5, entity.getQualification().getId());
             preparedStatement.setLong(6, entity.getId());
-            preparedStatement.executeUpdate();
+            if (preparedStatement.executeUpdate() != 0) {
+                long id = entity.getId();
+                RepositoryUtil.afterCommit(manager, () -> versions.changed(TableVersions.Table.ORDER, id));
+            }
         } catch (SQLException e) {
             throw new RepositoryException(e);
         }
@@ -132,7 +395,11 @@ public class OrderRepositoryImpl implements OrderRepository {
         try (var connection = manager.getConnection();
              var preparedStatement = connection.prepareStatement(OrderSQL.DELETE.getValue())) {
             preparedStatement.setLong(1, id);
-            return preparedStatement.executeUpdate() != 0;
+            boolean deleted = preparedStatement.executeUpdate() != 0;
+            if (deleted) {
+                RepositoryUtil.afterCommit(manager, () -> versions.changed(TableVersions.Table.ORDER, id));
+            }
+            return deleted;
         } catch (SQLException e) {
             throw new RepositoryException(e);
         }
@@ -0,0 +1,256 @@
+package org.example.repository.impl;
+
+import org.example.db.TransactionManager;
+import org.example.db.impl.DirectTransactionManager;
+import org.example.model.OrderEntity;
+import org.example.model.OrderFilter;
+import org.example.model.OrderSort;
+import org.example.repository.OrderRepository;
+import org.example.repository.cache.TableVersions;
+import org.example.repository.cache.impl.TableVersionsImpl;
+import org.example.repository.memory.InMemoryDataset;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// Reads come from the dataset once it is loaded; writes go to the JDBC repository first and then to memory.
+// The delegate moves the table version before memory has a write, so it is moved again once memory has it.
+// Memory only takes a write after its unit of work committed, so a rollback cannot leave it ahead of the database.
+public class OrderRepositoryInMemoryImpl implements OrderRepository {
+    private static final Comparator<OrderEntity> BY_PRICE =
+            Comparator.comparing(OrderEntity::getOrderPrice).thenComparing(OrderEntity::getId);
+    private static final Comparator<OrderEntity> BY_TERM =
+            Comparator.comparing(OrderEntity::getOrderTerm).thenComparing(OrderEntity::getId);
+
+    private final OrderRepository delegate;
+    private final InMemoryDataset dataset;
+    private final TableVersions versions;
+    private final TransactionManager transactionManager;
+
+    public OrderRepositoryInMemoryImpl(OrderRepository delegate, InMemoryDataset dataset) {
+        this.delegate = delegate;
+        this.dataset = dataset;
+        this.versions = TableVersionsImpl.getInstance();
+        this.transactionManager = new DirectTransactionManager();
+    }
+
+    public OrderRepositoryInMemoryImpl(OrderRepository delegate, InMemoryDataset dataset,
+                                       TableVersions versions, TransactionManager transactionManager) {
+        this.delegate = delegate;
+        this.dataset = dataset;
+        this.versions = versions;
+        this.transactionManager = transactionManager;
+    }
+
+    @Override
+    public Optional<OrderEntity> findById(Long id) {
+        if (!dataset.isLoaded()) {
+            return delegate.findById(id);
+        }
+        var stored = dataset.findOrder(id);
+        return stored == null ? Optional.empty() : Optional.of(withQualification(stored));
+    }
+
+    @Override
+    public List<OrderEntity> findAllById(Collection<Long> ids) {
+        if (!dataset.isLoaded()) {
+            return delegate.findAllById(ids);
+        }
+        List<OrderEntity> orders = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            var stored = dataset.findOrder(id);
+            if (stored != null) {
+                orders.add(withQualification(stored));
+            }
+        }
+        return orders;
+    }
+
+    @Override
+    public List<OrderEntity> findAll() {
+        if (!dataset.isLoaded()) {
+            return delegate.findAll();
+        }
+        List<OrderEntity> orders = new ArrayList<>(dataset.getOrders().size());
+        dataset.getOrders().forEachValue(stored -> orders.add(InMemoryDataset.copyOf(stored, null)));
+        return orders;
+    }
+
+    @Override
+    public List<OrderEntity> findPage(Long afterId, int limit) {
+        if (!dataset.isLoaded()) {
+            return delegate.findPage(afterId, limit);
+        }
+        var page = dataset.getOrders().pageAfter(afterId == null ? 0L : afterId, limit);
+        page.replaceAll(stored -> InMemoryDataset.copyOf(stored, null));
+        return page;
+    }
+
+    @Override
+    public void forEach(Consumer<? super OrderEntity> action) {
+        if (!dataset.isLoaded()) {
+            delegate.forEach(action);
+            return;
+        }
+        dataset.getOrders().forEachValue(stored -> action.accept(InMemoryDataset.copyOf(stored, null)));
+    }
+
+    @Override
+    public List<OrderEntity> findAllSummaries() {
+        if (!dataset.isLoaded()) {
+            return delegate.findAllSummaries();
+        }
+        List<OrderEntity> orders = new ArrayList<>(dataset.getOrders().size());
+        dataset.getOrders().forEachValue(stored -> orders.add(summaryOf(stored)));
+        return orders;
+    }
+
+    @Override
+    public List<OrderEntity> findSummaryPage(Long afterId, int limit) {
+        if (!dataset.isLoaded()) {
+            return delegate.findSummaryPage(afterId, limit);
+        }
+        var page = dataset.getOrders().pageAfter(afterId == null ? 0L : afterId, limit);
+        page.replaceAll(OrderRepositoryInMemoryImpl::summaryOf);
+        return page;
+    }
+
+    @Override
+    public void forEachSummary(Consumer<? super OrderEntity> action) {
+        if (!dataset.isLoaded()) {
+            delegate.forEachSummary(action);
+            return;
+        }
+        dataset.getOrders().forEachValue(stored -> action.accept(summaryOf(stored)));
+    }
+
+    // Id order stops at the limit; price and term orders sort the matches like the composite indexes do
+    @Override
+    public List<OrderEntity> findFiltered(OrderFilter filter) {
+        if (!dataset.isLoaded()) {
+            return delegate.findFiltered(filter);
+        }
+        List<OrderEntity> matches = new ArrayList<>();
+        boolean byId = filter.getSort() == OrderSort.ID;
+        if (filter.getQualificationId() != null) {
+            var ids = dataset.ordersOf(filter.getQualificationId());
+            for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+                if (byId && matches.size() == filter.getLimit()) break;
+                var stored = dataset.findOrder(id);
+                if (stored != null && matches(stored, filter)) matches.add(stored);
+            }
+        } else {
+            for (OrderEntity stored : dataset.getOrders().valuesAfter(filter.getAfterId())) {
+                if (byId && matches.size() == filter.getLimit()) break;
+                if (matches(stored, filter)) matches.add(stored);
+            }
+        }
+        if (!byId) {
+            matches.sort(filter.getSort() == OrderSort.PRICE ? BY_PRICE : BY_TERM);
+        }
+        List<OrderEntity> orders = new ArrayList<>(Math.min(matches.size(), filter.getLimit()));
+        for (int i = 0; i < matches.size() && i < filter.getLimit(); i++) {
+            orders.add(summaryOf(matches.get(i)));
+        }
+        return orders;
+    }
+
+    @Override
+    public void forEachFiltered(OrderFilter filter, Consumer<? super OrderEntity> action) {
+        if (!dataset.isLoaded()) {
+            delegate.forEachFiltered(filter, action);
+            return;
+        }
+        if (filter.getQualificationId() != null) {
+            var ids = dataset.ordersOf(filter.getQualificationId());
+            for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+                var stored = dataset.findOrder(id);
+                if (stored != null && matches(stored, filter)) action.accept(InMemoryDataset.copyOf(stored, null));
+            }
+        } else {
+            for (OrderEntity stored : dataset.getOrders().valuesAfter(filter.getAfterId())) {
+                if (matches(stored, filter)) action.accept(InMemoryDataset.copyOf(stored, null));
+            }
+        }
+    }
+
+    @Override
+    public OrderEntity save(OrderEntity entity) {
+        return dataset.write(() -> {
+            var saved = delegate.save(entity);
+            transactionManager.afterCommit(() -> {
+                dataset.putOrder(saved);
+                versions.changed(TableVersions.Table.ORDER, saved.getId());
+            });
+            return saved;
+        });
+    }
+
+    @Override
+    public void saveAll(List<OrderEntity> entities) {
+        dataset.write(() -> {
+            delegate.saveAll(entities);
+            transactionManager.afterCommit(() -> {
+                dataset.putOrders(entities);
+                for (OrderEntity entity : entities) {
+                    versions.changed(TableVersions.Table.ORDER, entity.getId());
+                }
+            });
+            return null;
+        });
+    }
+
+    @Override
+    public void update(OrderEntity entity) {
+        dataset.write(entity.getId(), () -> {
+            delegate.update(entity);
+            transactionManager.afterCommit(() -> {
+                if (dataset.findOrder(entity.getId()) != null) {
+                    dataset.putOrder(entity);
+                    versions.changed(TableVersions.Table.ORDER, entity.getId());
+                }
+            });
+            return null;
+        });
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        return dataset.write(id, () -> {
+            boolean deleted = delegate.deleteById(id);
+            transactionManager.afterCommit(() -> {
+                dataset.removeOrder(id);
+                versions.changed(TableVersions.Table.ORDER, id);
+            });
+            return deleted;
+        });
+    }
+
+    private static boolean matches(OrderEntity order, OrderFilter filter) {
+        return order.getId() > filter.getAfterId()
+               && (filter.getMinPrice() == null || order.getOrderPrice().compareTo(filter.getMinPrice()) >= 0)
+               && (filter.getMaxPrice() == null || order.getOrderPrice().compareTo(filter.getMaxPrice()) <= 0)
+               && (filter.getTermFrom() == null || !order.getOrderTerm().isBefore(filter.getTermFrom()))
+               && (filter.getTermTo() == null || !order.getOrderTerm().isAfter(filter.getTermTo()));
+    }
+
+    private OrderEntity withQualification(OrderEntity stored) {
+        var reference = stored.getQualification();
+        var qualification = reference == null ? null : dataset.findQualification(reference.getId());
+        var order = InMemoryDataset.copyOf(stored, qualification == null ? null : InMemoryDataset.copyOf(qualification));
+        if (qualification == null) {
+            order.setQualification(null);
+        }
+        return order;
+    }
+
+    private static OrderEntity summaryOf(OrderEntity stored) {
+        var order = InMemoryDataset.copyOf(stored, null);
+        order.setQualification(null);
+        return order;
+    }
+}
@@ -1,40 +1,70 @@
 package org.example.repository.impl;
 
+import org.example.db.metrics.QueryNames;
 import org.example.exception.RepositoryException;
 import org.example.model.QualificationEntity;
 import org.example.repository.QualificationRelationRepository;
+import org.example.repository.cache.QualificationCache;
+import org.example.repository.cache.impl.QualificationCacheImpl;
 import org.example.repository.mapper.QualificationResultSetMapper;
-import org.example.repository.mapper.impl.QualificationResultSetMapperImpl;
+import org.example.repository.mapper.impl.QualificationResultSetMapperIndexedImpl;
 
 import java.sql.*;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 public class QualificationRelationRepositoryImpl implements QualificationRelationRepository {
     private final QualificationResultSetMapper resultSetMapper;
+    private final QualificationCache cache;
 
-    private static final String FIND_WITH_FOREIGN_KEY = "SELECT * FROM qualification WHERE id=?";
-    private static final String FIND_ALL_WITH_FOREIGN_KEY = "SELECT id, qualificationName FROM qualification " +
-                                                            "RIGHT JOIN (SELECT * FROM freelancer_qualification WHERE freelancerId=?) AS fq " +
-                                                            "ON id = fq.qualificationId";
+    private enum RelationSQL {
+        FIND_WITH_FOREIGN_KEY(QualificationResultSetMapperIndexedImpl.SELECT + " WHERE id=?"),
+        FIND_RELATION_IDS("SELECT qualificationId FROM freelancer_qualification " +
+                          "WHERE freelancerId=? ORDER BY qualificationId"),
+        FIND_ALL_BY_IDS(QualificationResultSetMapperIndexedImpl.SELECT + " WHERE id IN (%s)"),
+        FIND_ALL_BY_RELATION_IDS("SELECT " + QualificationResultSetMapperIndexedImpl.columns("q") + ", fq.freelancerId " +
+                                 "FROM freelancer_qualification AS fq " +
+                                 "JOIN qualification AS q ON q.id = fq.qualificationId " +
+                                 "WHERE fq.freelancerId IN (%s) ORDER BY fq.freelancerId, q.id");
+
+        private final String value;
+
+        RelationSQL(String value) {
+            this.value = value;
+            QueryNames.register(getClass().getSimpleName() + "." + name(), value);
+        }
+
+        private String getValue() {
+            return value;
+        }
+    }
+
+    static {
+        RelationSQL.values();
+    }
 
     public QualificationRelationRepositoryImpl() {
-        this.resultSetMapper = new QualificationResultSetMapperImpl();
+        this.resultSetMapper = new QualificationResultSetMapperIndexedImpl();
+        this.cache = QualificationCacheImpl.getInstance();
     }
 
-    public QualificationRelationRepositoryImpl(QualificationResultSetMapper resultSetMapper) {
+    public QualificationRelationRepositoryImpl(QualificationResultSetMapper resultSetMapper, QualificationCache cache) {
         this.resultSetMapper = resultSetMapper;
+        this.cache = cache;
     }
 
     @Override
     public Optional<QualificationEntity> findByRelationId(Long id, Connection connection) {
-        try (PreparedStatement preparedStatement = connection.prepareStatement(FIND_WITH_FOREIGN_KEY)) {
+        var cached = cache.get(id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        try (PreparedStatement preparedStatement = connection.prepareStatement(RelationSQL.FIND_WITH_FOREIGN_KEY.getValue())) {
             preparedStatement.setLong(1, id);
             ResultSet resultSet = preparedStatement.executeQuery();
             QualificationEntity qualification = null;
             if (resultSet.next()) {
                 qualification = resultSetMapper.map(resultSet);
+                cache.put(qualification);
             }
             return Optional.ofNullable(qualification);
         } catch (SQLException e) {
@@ -44,10 +74,75 @@ public class QualificationRelationRepositoryImpl implements QualificationRelatio
 
     @Override
     public List<QualificationEntity> findAllByRelationId(Long relId, Connection connection) {
-        try (PreparedStatement preparedStatement = connection.prepareStatement(FIND_ALL_WITH_FOREIGN_KEY)) {
+        List<Long> ids = findRelationIds(relId, connection);
+        Map<Long, QualificationEntity> resolved = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            cache.get(id).ifPresentOrElse(q -> resolved.put(id, q), () -> missing.add(id));
+        }
+        if (!missing.isEmpty()) {
+            for (QualificationEntity qualification : findAllByIds(missing, connection)) {
+                cache.put(qualification);
+                resolved.put(qualification.getId(), qualification);
+            }
+        }
+        List<QualificationEntity> qualifications = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            var qualification = resolved.get(id);
+            if (qualification != null) {
+                qualifications.add(qualification);
+            }
+        }
+        return qualifications;
+    }
+
+    // Relation owner id is the column after the qualification columns; owners share one instance per qualification
+    @Override
+    public Map<Long, List<QualificationEntity>> findAllByRelationIds(Collection<Long> relIds, Connection connection) {
+        Map<Long, List<QualificationEntity>> qualifications = new HashMap<>();
+        if (relIds.isEmpty()) {
+            return qualifications;
+        }
+        var sql = RepositoryUtil.expandInLists(RelationSQL.FIND_ALL_BY_RELATION_IDS.getValue(), relIds.size());
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            RepositoryUtil.bindIds(preparedStatement, 1, relIds);
+            ResultSet resultSet = preparedStatement.executeQuery();
+            Map<Long, QualificationEntity> shared = new HashMap<>();
+            while (resultSet.next()) {
+                var mapped = resultSetMapper.map(resultSet);
+                var qualification = shared.computeIfAbsent(mapped.getId(), id -> {
+                    cache.put(mapped);
+                    return mapped;
+                });
+                long owner = resultSet.getLong(QualificationResultSetMapperIndexedImpl.COLUMN_COUNT + 1);
+                qualifications.computeIfAbsent(owner, id -> new ArrayList<>()).add(qualification);
+            }
+            return qualifications;
+        } catch (SQLException e) {
+            throw new RepositoryException(e);
+        }
+    }
+
+    private List<Long> findRelationIds(Long relId, Connection connection) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(RelationSQL.FIND_RELATION_IDS.getValue())) {
             preparedStatement.setLong(1, relId);
             ResultSet resultSet = preparedStatement.executeQuery();
-            List<QualificationEntity> qualifications = new ArrayList<>();
+            List<Long> ids = new ArrayList<>();
+            while (resultSet.next()) {
+                ids.add(resultSet.getLong(1));
+            }
+            return ids;
+        } catch (SQLException e) {
+            throw new RepositoryException(e);
+        }
+    }
+
+    private List<QualificationEntity> findAllByIds(List<Long> ids, Connection connection) {
+        var sql = RepositoryUtil.expandInLists(RelationSQL.FIND_ALL_BY_IDS.getValue(), ids.size());
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            RepositoryUtil.bindIds(preparedStatement, 1, ids);
+            ResultSet resultSet = preparedStatement.executeQuery();
+            List<QualificationEntity> qualifications = new ArrayList<>(ids.size());
             while (resultSet.next()) {
                 qualifications.add(resultSetMapper.map(resultSet));
             }
@@ -56,4 +151,4 @@ public class QualificationRelationRepositoryImpl implements QualificationRelatio
             throw new RepositoryException(e);
         }
     }
-}
\ No newline at end of file
+}
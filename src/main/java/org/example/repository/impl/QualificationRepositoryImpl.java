@@ -2,26 +2,64 @@ package org.example.repository.impl;
 
 import org.example.db.ConnectionManager;
 import org.example.db.impl.ConnectionManagerImpl;
+import org.example.db.metrics.QueryNames;
 import org.example.exception.RepositoryException;
+import org.example.model.FreelancerEntity;
+import org.example.model.OrderEntity;
 import org.example.model.QualificationEntity;
-import org.example.repository.*;
+import org.example.repository.QualificationRepository;
+import org.example.repository.cache.QualificationCache;
+import org.example.repository.cache.TableVersions;
+import org.example.repository.cache.impl.QualificationCacheImpl;
+import org.example.repository.cache.impl.TableVersionsImpl;
 import org.example.repository.mapper.QualificationResultSetMapper;
-import org.example.repository.mapper.impl.QualificationResultSetMapperImpl;
+import org.example.repository.mapper.impl.QualificationResultSetMapperIndexedImpl;
 
 import java.sql.*;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public class QualificationRepositoryImpl implements QualificationRepository {
     private final ConnectionManager manager;
     private final QualificationResultSetMapper resultSetMapper;
-    private final OrderRelationRepository orderRelationRepository;
-    private final FreelancerRelationRepository freelancerRelationRepository;
+    private final QualificationCache cache;
+    private final TableVersions versions;
+
+    private static final String KIND_QUALIFICATION = "Q";
+    private static final String KIND_ORDER = "O";
+    private static final String KIND_FREELANCER = "F";
 
     private enum QualifSQL {
-        FIND_ALL("SELECT * FROM qualification"),
-        FIND_BY_ID("SELECT * FROM qualification WHERE id=?"),
+        FIND_ALL(QualificationResultSetMapperIndexedImpl.SELECT),
+        FIND_PAGE(QualificationResultSetMapperIndexedImpl.SELECT + " WHERE id>? ORDER BY id LIMIT ?"),
+        FIND_BY_ID(QualificationResultSetMapperIndexedImpl.SELECT + " WHERE id=?"),
+        FIND_GRAPH_BY_ID("SELECT 'Q' AS kind, id, qualificationName AS title, NULL AS description, NULL AS email, " +
+                         "NULL AS price, NULL AS term FROM qualification WHERE id=? " +
+                         "UNION ALL " +
+                         "SELECT 'O', id, orderTitle, orderDescription, NULL, orderPrice, orderTerm " +
+                         "FROM qualif_order WHERE qualificationId=? " +
+                         "UNION ALL " +
+                         "SELECT 'F', fr.id, freelancerName, freelancerSecondName, freelancerEmail, NULL, NULL " +
+                         "FROM freelancer AS fr JOIN freelancer_qualification AS fq ON fr.id = fq.freelancerId " +
+                         "WHERE fq.qualificationId=? " +
+                         "ORDER BY kind, id"),
+        FIND_GRAPHS_BY_IDS("SELECT 'Q' AS kind, id AS owner, id, qualificationName AS title, NULL AS description, " +
+                           "NULL AS email, NULL AS price, NULL AS term FROM qualification WHERE id IN (%s) " +
+                           "UNION ALL " +
+                           "SELECT 'O', qualificationId, id, orderTitle, orderDescription, NULL, orderPrice, orderTerm " +
+                           "FROM qualif_order WHERE qualificationId IN (%s) " +
+                           "UNION ALL " +
+                           "SELECT 'F', fq.qualificationId, fr.id, freelancerName, freelancerSecondName, freelancerEmail, " +
+                           "NULL, NULL " +
+                           "FROM freelancer AS fr JOIN freelancer_qualification AS fq ON fr.id = fq.freelancerId " +
+                           "WHERE fq.qualificationId IN (%s) " +
+                           "ORDER BY kind, owner, id"),
         SAVE("INSERT INTO qualification (qualificationName) VALUE (?)"),
         UPDATE("UPDATE qualification SET qualificationName=? WHERE id=?"),
         DELETE("DELETE FROM qualification WHERE id=?");
@@ -30,6 +68,7 @@ public class QualificationRepositoryImpl implements QualificationRepository {
 
         QualifSQL(String value) {
             this.value = value;
+            QueryNames.register(getClass().getSimpleName() + "." + name(), value);
         }
 
         private String getValue() {
@@ -37,44 +76,112 @@ public class QualificationRepositoryImpl implements QualificationRepository {
         }
     }
 
+    static {
+        QualifSQL.values();
+    }
+
     public QualificationRepositoryImpl() {
         this.manager = ConnectionManagerImpl.getInstance();
-        this.resultSetMapper = new QualificationResultSetMapperImpl();
-        this.orderRelationRepository = new OrderRelationRepositoryImpl();
-        this.freelancerRelationRepository = new FreelancerRelationRepositoryImpl();
+        this.resultSetMapper = new QualificationResultSetMapperIndexedImpl();
+        this.cache = QualificationCacheImpl.getInstance();
+        this.versions = TableVersionsImpl.getInstance();
     }
 
     public QualificationRepositoryImpl(ConnectionManager manager, QualificationResultSetMapper mapper,
-                                       OrderRelationRepository orderRelationRepository, FreelancerRelationRepository freelancerRelationRepository) {
+                                       QualificationCache cache, TableVersions versions) {
         this.manager = manager;
         this.resultSetMapper = mapper;
-        this.orderRelationRepository = orderRelationRepository;
-        this.freelancerRelationRepository = freelancerRelationRepository;
+        this.cache = cache;
+        this.versions = versions;
     }
 
     @Override
     public Optional<QualificationEntity> findById(Long id) {
-        Connection connection = null;
-        try {
-            connection = manager.getConnection();
-            connection.setAutoCommit(false);
-            try (PreparedStatement preparedStatement = connection.prepareStatement(QualifSQL.FIND_BY_ID.getValue())) {
-                preparedStatement.setLong(1, id);
-                ResultSet resultSet = preparedStatement.executeQuery();
-                QualificationEntity qualification = null;
-                if (resultSet.next()) {
-                    qualification = resultSetMapper.map(resultSet);
-                    qualification.setOrders(orderRelationRepository.findAllByRelationId(id, connection));
-                    qualification.setFreelancers(freelancerRelationRepository.findAllByRelationId(id, connection));
+        try (var connection = manager.getConnection();
+             var preparedStatement = connection.prepareStatement(QualifSQL.FIND_GRAPH_BY_ID.getValue())) {
+            preparedStatement.setLong(1, id);
+            preparedStatement.setLong(2, id);
+            preparedStatement.setLong(3, id);
+            var resultSet = preparedStatement.executeQuery();
+            QualificationEntity qualification = null;
+            List<OrderEntity> orders = new ArrayList<>();
+            List<FreelancerEntity> freelancers = new ArrayList<>();
+            while (resultSet.next()) {
+                switch (resultSet.getString("kind")) {
+                    case KIND_QUALIFICATION:
+                        qualification = new QualificationEntity();
+                        qualification.setId(resultSet.getLong("id"));
+                        qualification.setQualificationName(resultSet.getString("title"));
+                        break;
+                    case KIND_ORDER:
+                        orders.add(mapOrder(resultSet, id));
+                        break;
+                    case KIND_FREELANCER:
+                        freelancers.add(mapFreelancer(resultSet));
+                        break;
+                    default:
+                        break;
+                }
+            }
+            if (qualification != null) {
+                cache.put(qualification);
+                qualification.setOrders(orders);
+                qualification.setFreelancers(freelancers);
+            }
+            return Optional.ofNullable(qualification);
+        } catch (SQLException e) {
+            throw new RepositoryException(e);
+        }
+    }
+
+    // One UNION query returns the qualifications together with their orders and freelancers
+    @Override
+    public List<QualificationEntity> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        var sql = RepositoryUtil.expandInLists(QualifSQL.FIND_GRAPHS_BY_IDS.getValue(), ids.size());
+        try (var connection = manager.getConnection();
+             var preparedStatement = connection.prepareStatement(sql)) {
+            int index = RepositoryUtil.bindIds(preparedStatement, 1, ids);
+            index = RepositoryUtil.bindIds(preparedStatement, index, ids);
+            RepositoryUtil.bindIds(preparedStatement, index, ids);
+            var resultSet = preparedStatement.executeQuery();
+            Map<Long, QualificationEntity> found = new HashMap<>();
+            Map<Long, List<OrderEntity>> orders = new HashMap<>();
+            Map<Long, List<FreelancerEntity>> freelancers = new HashMap<>();
+            while (resultSet.next()) {
+                long owner = resultSet.getLong("owner");
+                switch (resultSet.getString("kind")) {
+                    case KIND_QUALIFICATION:
+                        var qualification = new QualificationEntity();
+                        qualification.setId(resultSet.getLong("id"));
+                        qualification.setQualificationName(resultSet.getString("title"));
+                        found.put(owner, qualification);
+                        break;
+                    case KIND_ORDER:
+                        orders.computeIfAbsent(owner, id -> new ArrayList<>()).add(mapOrder(resultSet, owner));
+                        break;
+                    case KIND_FREELANCER:
+                        freelancers.computeIfAbsent(owner, id -> new ArrayList<>()).add(mapFreelancer(resultSet));
+                        break;
+                    default:
+                        break;
                 }
-                connection.commit();
-                return Optional.ofNullable(qualification);
             }
+            List<QualificationEntity> qualifications = new ArrayList<>(found.size());
+            for (Long id : ids) {
+                var qualification = found.get(id);
+                if (qualification != null) {
+                    cache.put(qualification);
+                    qualification.setOrders(orders.getOrDefault(id, new ArrayList<>()));
+                    qualification.setFreelancers(freelancers.getOrDefault(id, new ArrayList<>()));
+                    qualifications.add(qualification);
+                }
+            }
+            return qualifications;
         } catch (SQLException e) {
-            RepositoryUtil.connectionRollback(connection);
             throw new RepositoryException(e);
-        } finally {
-            RepositoryUtil.connectionClose(connection);
         }
     }
 
@@ -93,6 +200,36 @@ public class QualificationRepositoryImpl implements QualificationRepository {
         }
     }
 
+    @Override
+    public List<QualificationEntity> findPage(Long afterId, int limit) {
+        try (Connection connection = manager.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(QualifSQL.FIND_PAGE.getValue())) {
+            preparedStatement.setLong(1, afterId == null ? 0L : afterId);
+            preparedStatement.setInt(2, limit);
+            ResultSet resultSet = preparedStatement.executeQuery();
+            List<QualificationEntity> page = new ArrayList<>(limit);
+            while (resultSet.next()) {
+                page.add(resultSetMapper.map(resultSet));
+            }
+            return page;
+        } catch (SQLException e) {
+            throw new RepositoryException(e);
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<? super QualificationEntity> action) {
+        try (Connection connection = manager.getConnection();
+             PreparedStatement preparedStatement = RepositoryUtil.prepareStreaming(connection, QualifSQL.FIND_ALL.getValue())) {
+            ResultSet resultSet = preparedStatement.executeQuery();
+            while (resultSet.next()) {
+                action.accept(resultSetMapper.map(resultSet));
+            }
+        } catch (SQLException e) {
+            throw new RepositoryException(e);
+        }
+    }
+
     @Override
     public QualificationEntity save(QualificationEntity entity) {
         try (var connection = manager.getConnection();
@@ -101,7 +238,10 @@ public class QualificationRepositoryImpl implements QualificationRepository {
             preparedStatement.executeUpdate();
             var keys = preparedStatement.getGeneratedKeys();
             if (keys.next()) {
-                entity.setId(keys.getObject(1, Long.class));
+                Long id = keys.getObject(1, Long.class);
+                entity.setId(id);
+                cache.put(entity);
+                RepositoryUtil.afterCommit(manager, () -> versions.changed(TableVersions.Table.QUALIFICATION, id));
             }
             return entity;
         } catch (SQLException e) {
@@ -115,7 +255,13 @@ public class QualificationRepositoryImpl implements QualificationRepository {
              var preparedStatement = connection.prepareStatement(QualifSQL.UPDATE.getValue())) {
             preparedStatement.setString(1, entity.getQualificationName());
             preparedStatement.setLong(2, entity.getId());
-            preparedStatement.executeUpdate();
+            if (preparedStatement.executeUpdate() != 0) {
+                cache.put(entity);
+                long id = entity.getId();
+                RepositoryUtil.afterCommit(manager, () -> versions.changed(TableVersions.Table.QUALIFICATION, id));
+            } else {
+                cache.invalidate(entity.getId());
+            }
         } catch (SQLException e) {
             throw new RepositoryException(e);
         }
@@ -126,9 +272,40 @@ public class QualificationRepositoryImpl implements QualificationRepository {
         try (var connection = manager.getConnection();
              var preparedStatement = connection.prepareStatement(QualifSQL.DELETE.getValue())) {
             preparedStatement.setLong(1, id);
-            return preparedStatement.executeUpdate() != 0;
+            boolean deleted = preparedStatement.executeUpdate() != 0;
+            cache.invalidate(id);
+            if (deleted) {
+                // the delete cascades to the qualification's orders and relations
+                RepositoryUtil.afterCommit(manager, () -> {
+                    versions.changed(TableVersions.Table.QUALIFICATION, id);
+                    versions.changed(TableVersions.Table.ORDER);
+                });
+            }
+            return deleted;
         } catch (SQLException e) {
             throw new RepositoryException(e);
         }
     }
-}
\ No newline at end of file
+
+    private static OrderEntity mapOrder(ResultSet resultSet, Long qualificationId) throws SQLException {
+        var order = new OrderEntity();
+        order.setId(resultSet.getLong("id"));
+        order.setOrderTitle(resultSet.getString("title"));
+        order.setOrderDescription(resultSet.getString("description"));
+        order.setOrderPrice(resultSet.getBigDecimal("price"));
+        order.setOrderTerm(resultSet.getObject("term", LocalDate.class));
+        var qualification = new QualificationEntity();
+        qualification.setId(qualificationId);
+        order.setQualification(qualification);
+        return order;
+    }
+
+    private static FreelancerEntity mapFreelancer(ResultSet resultSet) throws SQLException {
+        var freelancer = new FreelancerEntity();
+        freelancer.setId(resultSet.getLong("id"));
+        freelancer.setFreelancerName(resultSet.getString("title"));
+        freelancer.setFreelancerSecondName(resultSet.getString("description"));
+        freelancer.setFreelancerEmail(resultSet.getString("email"));
+        return freelancer;
+    }
+}
@@ -0,0 +1,154 @@
+package org.example.repository.impl;
+
+import org.example.db.TransactionManager;
+import org.example.db.impl.DirectTransactionManager;
+import org.example.model.FreelancerEntity;
+import org.example.model.OrderEntity;
+import org.example.model.QualificationEntity;
+import org.example.repository.QualificationRepository;
+import org.example.repository.cache.TableVersions;
+import org.example.repository.cache.impl.TableVersionsImpl;
+import org.example.repository.memory.InMemoryDataset;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// Reads come from the dataset once it is loaded; writes go to the JDBC repository first and then to memory.
+// The delegate moves the table version before memory has a write, so it is moved again once memory has it.
+// Memory only takes a write after its unit of work committed, so a rollback cannot leave it ahead of the database.
+public class QualificationRepositoryInMemoryImpl implements QualificationRepository {
+    private final QualificationRepository delegate;
+    private final InMemoryDataset dataset;
+    private final TableVersions versions;
+    private final TransactionManager transactionManager;
+
+    public QualificationRepositoryInMemoryImpl(QualificationRepository delegate, InMemoryDataset dataset) {
+        this.delegate = delegate;
+        this.dataset = dataset;
+        this.versions = TableVersionsImpl.getInstance();
+        this.transactionManager = new DirectTransactionManager();
+    }
+
+    public QualificationRepositoryInMemoryImpl(QualificationRepository delegate, InMemoryDataset dataset,
+                                               TableVersions versions, TransactionManager transactionManager) {
+        this.delegate = delegate;
+        this.dataset = dataset;
+        this.versions = versions;
+        this.transactionManager = transactionManager;
+    }
+
+    @Override
+    public Optional<QualificationEntity> findById(Long id) {
+        if (!dataset.isLoaded()) {
+            return delegate.findById(id);
+        }
+        var stored = dataset.findQualification(id);
+        return stored == null ? Optional.empty() : Optional.of(withGraph(stored));
+    }
+
+    @Override
+    public List<QualificationEntity> findAllById(Collection<Long> ids) {
+        if (!dataset.isLoaded()) {
+            return delegate.findAllById(ids);
+        }
+        List<QualificationEntity> qualifications = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            var stored = dataset.findQualification(id);
+            if (stored != null) {
+                qualifications.add(withGraph(stored));
+            }
+        }
+        return qualifications;
+    }
+
+    @Override
+    public List<QualificationEntity> findAll() {
+        if (!dataset.isLoaded()) {
+            return delegate.findAll();
+        }
+        List<QualificationEntity> qualifications = new ArrayList<>(dataset.getQualifications().size());
+        dataset.getQualifications().forEachValue(stored -> qualifications.add(InMemoryDataset.copyOf(stored)));
+        return qualifications;
+    }
+
+    @Override
+    public List<QualificationEntity> findPage(Long afterId, int limit) {
+        if (!dataset.isLoaded()) {
+            return delegate.findPage(afterId, limit);
+        }
+        var page = dataset.getQualifications().pageAfter(afterId == null ? 0L : afterId, limit);
+        page.replaceAll(InMemoryDataset::copyOf);
+        return page;
+    }
+
+    @Override
+    public void forEach(Consumer<? super QualificationEntity> action) {
+        if (!dataset.isLoaded()) {
+            delegate.forEach(action);
+            return;
+        }
+        dataset.getQualifications().forEachValue(stored -> action.accept(InMemoryDataset.copyOf(stored)));
+    }
+
+    @Override
+    public QualificationEntity save(QualificationEntity entity) {
+        return dataset.write(() -> {
+            var saved = delegate.save(entity);
+            transactionManager.afterCommit(() -> {
+                dataset.putQualification(saved);
+                versions.changed(TableVersions.Table.QUALIFICATION, saved.getId());
+            });
+            return saved;
+        });
+    }
+
+    @Override
+    public void update(QualificationEntity entity) {
+        dataset.write(entity.getId(), () -> {
+            delegate.update(entity);
+            transactionManager.afterCommit(() -> {
+                if (dataset.findQualification(entity.getId()) != null) {
+                    dataset.putQualification(entity);
+                    versions.changed(TableVersions.Table.QUALIFICATION, entity.getId());
+                }
+            });
+            return null;
+        });
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        return dataset.writeExclusive(() -> {
+            boolean deleted = delegate.deleteById(id);
+            transactionManager.afterCommit(() -> {
+                dataset.removeQualification(id);
+                versions.changed(TableVersions.Table.QUALIFICATION, id);
+                versions.changed(TableVersions.Table.ORDER);
+            });
+            return deleted;
+        });
+    }
+
+    // Same shape as the UNION graph query: orders carry the qualification id, freelancers no qualifications
+    private QualificationEntity withGraph(QualificationEntity stored) {
+        var qualification = InMemoryDataset.copyOf(stored);
+        var orderIds = dataset.ordersOf(stored.getId());
+        List<OrderEntity> orders = new ArrayList<>(orderIds.cardinality());
+        orderIds.stream().forEach(id -> {
+            var order = dataset.findOrder(id);
+            if (order != null) orders.add(InMemoryDataset.copyOf(order, null));
+        });
+        var freelancerIds = dataset.getRelations().freelancersOf(stored.getId());
+        List<FreelancerEntity> freelancers = new ArrayList<>(freelancerIds.cardinality());
+        freelancerIds.stream().forEach(id -> {
+            var freelancer = dataset.findFreelancer(id);
+            if (freelancer != null) freelancers.add(InMemoryDataset.copyOf(freelancer));
+        });
+        qualification.setOrders(orders);
+        qualification.setFreelancers(freelancers);
+        return qualification;
+    }
+}
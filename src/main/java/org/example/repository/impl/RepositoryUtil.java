@@ -1,11 +1,21 @@
 package org.example.repository.impl;
 
+import org.example.context.ApplicationProperties;
+import org.example.db.ConnectionManager;
+import org.example.db.TransactionManager;
 import org.example.exception.RepositoryException;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
 
 class RepositoryUtil {
+    private static final int STREAM_FETCH_SIZE = ApplicationProperties.getInt("stream.fetchSize", 0);
+    private static final String SQL_STATE_INTEGRITY_VIOLATION = "23000";
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
 
     private RepositoryUtil() {
     }
@@ -29,4 +39,36 @@ class RepositoryUtil {
             }
         }
     }
+
+    // Inside a unit of work the repository's own commit is deferred to its owner, and so is the action
+    static void afterCommit(ConnectionManager manager, Runnable action) {
+        if (manager instanceof TransactionManager) {
+            ((TransactionManager) manager).afterCommit(action);
+        } else {
+            action.run();
+        }
+    }
+
+    static PreparedStatement prepareStreaming(Connection connection, String sql) throws SQLException {
+        var preparedStatement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        preparedStatement.setFetchSize(STREAM_FETCH_SIZE > 0 ? STREAM_FETCH_SIZE : Integer.MIN_VALUE);
+        return preparedStatement;
+    }
+
+    // Every %s slot in the template becomes an IN-list of size placeholders
+    static String expandInLists(String sqlTemplate, int size) {
+        return sqlTemplate.replace("%s", String.join(", ", Collections.nCopies(size, "?")));
+    }
+
+    static int bindIds(PreparedStatement preparedStatement, int firstIndex, Collection<Long> ids) throws SQLException {
+        int index = firstIndex;
+        for (Long id : ids) {
+            preparedStatement.setLong(index++, id);
+        }
+        return index;
+    }
+
+    static boolean isDuplicateKey(SQLException e) {
+        return SQL_STATE_INTEGRITY_VIOLATION.equals(e.getSQLState()) && e.getErrorCode() == MYSQL_DUPLICATE_ENTRY;
+    }
 }
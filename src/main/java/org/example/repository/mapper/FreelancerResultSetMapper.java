@@ -1,6 +1,8 @@
 package org.example.repository.mapper;
 
 import org.example.model.FreelancerEntity;
+import org.example.repository.mapper.annotation.ResultSetMapping;
 
-public interface FreelancerResultSetMapper extends DefaultResultSetMapper<FreelancerEntity>{
+@ResultSetMapping(table = "freelancer")
+public interface FreelancerResultSetMapper extends DefaultResultSetMapper<FreelancerEntity> {
 }
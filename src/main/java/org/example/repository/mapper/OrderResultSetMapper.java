@@ -1,6 +1,10 @@
 package org.example.repository.mapper;
 
 import org.example.model.OrderEntity;
+import org.example.repository.mapper.annotation.ForeignKey;
+import org.example.repository.mapper.annotation.ResultSetMapping;
 
+@ResultSetMapping(table = "qualif_order",
+        foreignKeys = @ForeignKey(column = "qualificationId", property = "qualification"))
 public interface OrderResultSetMapper extends DefaultResultSetMapper<OrderEntity> {
 }
@@ -0,0 +1,9 @@
+package org.example.repository.mapper;
+
+import org.example.model.OrderEntity;
+import org.example.repository.mapper.annotation.ResultSetMapping;
+
+// List projection: everything OrderSimpleDto shows, without the qualification reference.
+@ResultSetMapping(table = "qualif_order", ignore = "qualification")
+public interface OrderSummaryResultSetMapper extends DefaultResultSetMapper<OrderEntity> {
+}
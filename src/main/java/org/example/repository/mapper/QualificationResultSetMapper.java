@@ -1,6 +1,8 @@
 package org.example.repository.mapper;
 
 import org.example.model.QualificationEntity;
+import org.example.repository.mapper.annotation.ResultSetMapping;
 
+@ResultSetMapping(table = "qualification")
 public interface QualificationResultSetMapper extends DefaultResultSetMapper<QualificationEntity> {
 }
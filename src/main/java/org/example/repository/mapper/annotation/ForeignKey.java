@@ -0,0 +1,14 @@
+package org.example.repository.mapper.annotation;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Maps a reference property to an id column; the referenced entity is created with only its id set.
+@Retention(RetentionPolicy.SOURCE)
+@Target({})
+public @interface ForeignKey {
+    String column();
+
+    String property();
+}
@@ -0,0 +1,17 @@
+package org.example.repository.mapper.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Marks a DefaultResultSetMapper interface; <Interface>IndexedImpl is generated next to the hand-written mappers.
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface ResultSetMapping {
+    String table();
+
+    ForeignKey[] foreignKeys() default {};
+
+    String[] ignore() default {};
+}
@@ -0,0 +1,217 @@
+package org.example.repository.mapper.processor;
+
+import org.example.repository.mapper.annotation.ForeignKey;
+import org.example.repository.mapper.annotation.ResultSetMapping;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@SupportedAnnotationTypes("org.example.repository.mapper.annotation.ResultSetMapping")
+public class ResultSetMappingProcessor extends AbstractProcessor {
+    private static final String MAPPER_INTERFACE = "org.example.repository.mapper.DefaultResultSetMapper";
+    private static final String IMPL_PACKAGE_SUFFIX = ".impl";
+    private static final String IMPL_SUFFIX = "IndexedImpl";
+
+    // Wrapper types go through getObject so that SQL NULL stays null instead of becoming 0 or false
+    private static final Map<String, String> GETTERS = Map.of(
+            "java.lang.Long", "resultSet.getObject(%s, java.lang.Long.class)",
+            "long", "resultSet.getLong(%s)",
+            "java.lang.Integer", "resultSet.getObject(%s, java.lang.Integer.class)",
+            "int", "resultSet.getInt(%s)",
+            "java.lang.Boolean", "resultSet.getObject(%s, java.lang.Boolean.class)",
+            "boolean", "resultSet.getBoolean(%s)",
+            "java.lang.String", "resultSet.getString(%s)",
+            "java.math.BigDecimal", "resultSet.getBigDecimal(%s)",
+            "java.time.LocalDate", "resultSet.getObject(%s, java.time.LocalDate.class)",
+            "java.time.LocalDateTime", "resultSet.getObject(%s, java.time.LocalDateTime.class)");
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(ResultSetMapping.class)) {
+            if (element.getKind() != ElementKind.INTERFACE) {
+                error(element, "@ResultSetMapping is only supported on interfaces");
+                continue;
+            }
+            try {
+                generate((TypeElement) element);
+            } catch (IOException e) {
+                error(element, "Cannot write mapper: " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement mapper) throws IOException {
+        var mapping = mapper.getAnnotation(ResultSetMapping.class);
+        var entity = findEntityType(mapper);
+        if (entity == null) {
+            error(mapper, "@ResultSetMapping interface must extend " + MAPPER_INTERFACE + "<E>");
+            return;
+        }
+        var columns = collectColumns(mapper, entity, mapping);
+        if (columns == null) {
+            return;
+        }
+        var packageName = processingEnv.getElementUtils().getPackageOf(mapper).getQualifiedName() + IMPL_PACKAGE_SUFFIX;
+        var className = mapper.getSimpleName() + IMPL_SUFFIX;
+        var file = processingEnv.getFiler().createSourceFile(packageName + "." + className, mapper);
+        try (var out = new PrintWriter(file.openWriter())) {
+            write(out, packageName, className, mapper, entity, mapping.table(), columns);
+        }
+    }
+
+    private TypeElement findEntityType(TypeElement mapper) {
+        for (TypeMirror superInterface : mapper.getInterfaces()) {
+            var declared = (DeclaredType) superInterface;
+            var name = ((TypeElement) declared.asElement()).getQualifiedName().toString();
+            if (name.equals(MAPPER_INTERFACE) && declared.getTypeArguments().size() == 1) {
+                return (TypeElement) processingEnv.getTypeUtils().asElement(declared.getTypeArguments().get(0));
+            }
+        }
+        return null;
+    }
+
+    // Fields in declaration order give the column order; collections and unmapped references are left out.
+    private List<Column> collectColumns(TypeElement mapper, TypeElement entity, ResultSetMapping mapping) {
+        var foreignKeys = Arrays.stream(mapping.foreignKeys())
+                .collect(Collectors.toMap(ForeignKey::property, ForeignKey::column));
+        var ignored = Set.of(mapping.ignore());
+        var setters = ElementFilter.methodsIn(entity.getEnclosedElements()).stream()
+                .filter(m -> m.getSimpleName().toString().startsWith("set") && m.getParameters().size() == 1)
+                .map(m -> m.getSimpleName().toString())
+                .collect(Collectors.toSet());
+        List<Column> columns = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(entity.getEnclosedElements())) {
+            var property = field.getSimpleName().toString();
+            if (field.getModifiers().contains(Modifier.STATIC) || ignored.contains(property)) {
+                continue;
+            }
+            var setter = "set" + Character.toUpperCase(property.charAt(0)) + property.substring(1);
+            if (!setters.contains(setter)) {
+                continue;
+            }
+            var type = field.asType();
+            var getter = GETTERS.get(typeName(type));
+            if (foreignKeys.containsKey(property)) {
+                if (type.getKind() != TypeKind.DECLARED) {
+                    error(mapper, "Foreign key property " + property + " must be an entity");
+                    return null;
+                }
+                columns.add(new Column(foreignKeys.remove(property), setter, typeName(type)));
+            } else if (getter != null) {
+                columns.add(new Column(property, setter, null, getter));
+            }
+        }
+        if (!foreignKeys.isEmpty()) {
+            error(mapper, "Unknown foreign key properties " + foreignKeys.keySet() + " on " + entity.getSimpleName());
+            return null;
+        }
+        return columns;
+    }
+
+    private void write(PrintWriter out, String packageName, String className, TypeElement mapper,
+                       TypeElement entity, String table, List<Column> columns) {
+        var columnList = columns.stream().map(c -> c.name).collect(Collectors.joining(", "));
+        out.println("package " + packageName + ";");
+        out.println();
+        out.println("import " + mapper.getQualifiedName() + ";");
+        out.println("import " + entity.getQualifiedName() + ";");
+        out.println();
+        out.println("import java.sql.ResultSet;");
+        out.println("import java.sql.SQLException;");
+        out.println();
+        out.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+        out.println("public final class " + className + " implements " + mapper.getSimpleName() + " {");
+        out.println("    public static final String TABLE = \"" + table + "\";");
+        out.println("    public static final String COLUMNS = \"" + columnList + "\";");
+        out.println("    public static final String SELECT = \"SELECT \" + COLUMNS + \" FROM \" + TABLE;");
+        out.println("    public static final int COLUMN_COUNT = " + columns.size() + ";");
+        out.println();
+        out.println("    private final int offset;");
+        out.println();
+        out.println("    public " + className + "() {");
+        out.println("        this(0);");
+        out.println("    }");
+        out.println();
+        out.println("    // offset is the number of columns selected before this entity's columns");
+        out.println("    public " + className + "(int offset) {");
+        out.println("        this.offset = offset;");
+        out.println("    }");
+        out.println();
+        out.println("    public static String columns(String alias) {");
+        out.println("        return " + columns.stream()
+                .map(c -> "alias + \"." + c.name + "\"")
+                .collect(Collectors.joining(" + \", \" + ")) + ";");
+        out.println("    }");
+        out.println();
+        out.println("    @Override");
+        out.println("    public " + entity.getSimpleName() + " map(ResultSet resultSet) throws SQLException {");
+        out.println("        " + entity.getSimpleName() + " entity = new " + entity.getSimpleName() + "();");
+        for (int i = 0; i < columns.size(); i++) {
+            var column = columns.get(i);
+            var index = "offset + " + (i + 1);
+            if (column.reference != null) {
+                // A NULL foreign key leaves the reference unset rather than pointing at id 0
+                var id = "referenceId" + (i + 1);
+                var local = "reference" + (i + 1);
+                out.println("        var " + id + " = resultSet.getObject(" + index + ", java.lang.Long.class);");
+                out.println("        if (" + id + " != null) {");
+                out.println("            var " + local + " = new " + column.reference + "();");
+                out.println("            " + local + ".setId(" + id + ");");
+                out.println("            entity." + column.setter + "(" + local + ");");
+                out.println("        }");
+            } else {
+                out.println("        entity." + column.setter + "(" + String.format(column.getter, index) + ");");
+            }
+        }
+        out.println("        return entity;");
+        out.println("    }");
+        out.println("}");
+    }
+
+    private static String typeName(TypeMirror type) {
+        if (type.getKind() == TypeKind.DECLARED) {
+            return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+        }
+        return type.toString();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private static final class Column {
+        private final String name;
+        private final String setter;
+        private final String reference;
+        private final String getter;
+
+        private Column(String name, String setter, String reference) {
+            this(name, setter, reference, null);
+        }
+
+        private Column(String name, String setter, String reference, String getter) {
+            this.name = name;
+            this.setter = setter;
+            this.reference = reference;
+            this.getter = getter;
+        }
+    }
+}
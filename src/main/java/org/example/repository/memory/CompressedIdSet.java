@@ -0,0 +1,232 @@
+package org.example.repository.memory;
+
+import java.util.Arrays;
+
+// Immutable sorted set of positive ids stored as varint deltas. Every BLOCK-th id is written in full and
+// indexed, so lookups and pages decode at most one block before reaching the cursor.
+public final class CompressedIdSet {
+    private static final int BLOCK = 64;
+    public static final CompressedIdSet EMPTY = new Builder().build();
+
+    private final byte[] data;
+    private final int size;
+    private final long[] blockFirst;
+    private final int[] blockOffset;
+
+    private CompressedIdSet(byte[] data, int size, long[] blockFirst, int[] blockOffset) {
+        this.data = data;
+        this.size = size;
+        this.blockFirst = blockFirst;
+        this.blockOffset = blockOffset;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int byteSize() {
+        return data.length;
+    }
+
+    public boolean contains(long id) {
+        int block = blockOf(id);
+        if (block < 0) {
+            return false;
+        }
+        var cursor = new Cursor(block);
+        while (cursor.hasNext()) {
+            long value = cursor.next();
+            if (value >= id) {
+                return value == id;
+            }
+        }
+        return false;
+    }
+
+    // Up to limit ids greater than afterId, ascending
+    public long[] page(long afterId, int limit) {
+        var page = new long[Math.min(limit, size)];
+        int count = 0;
+        int block = Math.max(0, blockOf(afterId));
+        if (size > 0) {
+            var cursor = new Cursor(block);
+            while (count < page.length && cursor.hasNext()) {
+                long value = cursor.next();
+                if (value > afterId) {
+                    page[count++] = value;
+                }
+            }
+        }
+        return count == page.length ? page : Arrays.copyOf(page, count);
+    }
+
+    public long[] toArray() {
+        return page(0, size);
+    }
+
+    public CompressedIdSet with(long id) {
+        if (contains(id)) {
+            return this;
+        }
+        var builder = new Builder();
+        boolean added = false;
+        for (var cursor = new Cursor(0); cursor.hasNext(); ) {
+            long value = cursor.next();
+            if (!added && id < value) {
+                builder.add(id);
+                added = true;
+            }
+            builder.add(value);
+        }
+        if (!added) {
+            builder.add(id);
+        }
+        return builder.build();
+    }
+
+    // Merges ascending ids in one pass; ids already present are skipped. Ids past the current maximum, the usual
+    // case for freshly inserted rows, are appended to a copy of the encoded bytes without decoding them.
+    public CompressedIdSet withAll(long[] ids) {
+        if (ids.length == 0) {
+            return this;
+        }
+        boolean append = size > 0 && ids[0] > last();
+        var builder = append ? new Builder(this) : new Builder();
+        var cursor = new Cursor(append ? blockOffset.length : 0);
+        boolean hasCurrent = cursor.hasNext();
+        long current = hasCurrent ? cursor.next() : 0;
+        int next = 0;
+        while (hasCurrent || next < ids.length) {
+            long value;
+            if (hasCurrent && (next == ids.length || current <= ids[next])) {
+                value = current;
+                hasCurrent = cursor.hasNext();
+                current = hasCurrent ? cursor.next() : 0;
+            } else {
+                value = ids[next++];
+            }
+            if (builder.size == 0 || value != builder.previous) {
+                builder.add(value);
+            }
+        }
+        return builder.size == size ? this : builder.build();
+    }
+
+    public CompressedIdSet without(long id) {
+        if (!contains(id)) {
+            return this;
+        }
+        var builder = new Builder();
+        for (var cursor = new Cursor(0); cursor.hasNext(); ) {
+            long value = cursor.next();
+            if (value != id) {
+                builder.add(value);
+            }
+        }
+        return builder.build();
+    }
+
+    private long last() {
+        var cursor = new Cursor(blockOffset.length - 1);
+        long value = 0;
+        while (cursor.hasNext()) {
+            value = cursor.next();
+        }
+        return value;
+    }
+
+    // Last block whose first id is not greater than id, -1 when id precedes every block
+    private int blockOf(long id) {
+        int index = Arrays.binarySearch(blockFirst, id);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private final class Cursor {
+        private int position;
+        private int index;
+        private long previous;
+
+        private Cursor(int block) {
+            this.position = block < blockOffset.length ? blockOffset[block] : data.length;
+            this.index = block * BLOCK;
+        }
+
+        private boolean hasNext() {
+            return index < size;
+        }
+
+        private long next() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            previous = index++ % BLOCK == 0 ? value : previous + value;
+            return previous;
+        }
+    }
+
+    public static final class Builder {
+        private byte[] data = new byte[16];
+        private int length;
+        private int size;
+        private long[] blockFirst = new long[4];
+        private int[] blockOffset = new int[4];
+        private long previous;
+
+        public Builder() {
+        }
+
+        // Continues after the last id of set
+        private Builder(CompressedIdSet set) {
+            int blocks = set.blockOffset.length;
+            this.data = Arrays.copyOf(set.data, set.data.length + Math.max(16, set.data.length / 2));
+            this.length = set.data.length;
+            this.size = set.size;
+            this.blockFirst = Arrays.copyOf(set.blockFirst, Math.max(4, blocks * 2));
+            this.blockOffset = Arrays.copyOf(set.blockOffset, Math.max(4, blocks * 2));
+            this.previous = set.last();
+        }
+
+        public Builder add(long id) {
+            if (id <= 0 || (size > 0 && id <= previous)) {
+                throw new IllegalArgumentException("Ids must be positive and strictly increasing: " + id);
+            }
+            int block = size / BLOCK;
+            long encoded = id - previous;
+            if (size % BLOCK == 0) {
+                if (block == blockFirst.length) {
+                    blockFirst = Arrays.copyOf(blockFirst, block * 2);
+                    blockOffset = Arrays.copyOf(blockOffset, block * 2);
+                }
+                blockFirst[block] = id;
+                blockOffset[block] = length;
+                encoded = id;
+            }
+            writeVarint(encoded);
+            previous = id;
+            size++;
+            return this;
+        }
+
+        public CompressedIdSet build() {
+            int blocks = (size + BLOCK - 1) / BLOCK;
+            return new CompressedIdSet(Arrays.copyOf(data, length), size,
+                    Arrays.copyOf(blockFirst, blocks), Arrays.copyOf(blockOffset, blocks));
+        }
+
+        private void writeVarint(long value) {
+            if (length + 10 > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, length + 10));
+            }
+            while ((value & ~0x7FL) != 0) {
+                data[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            data[length++] = (byte) value;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package org.example.repository.memory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// Copy-on-write map over sorted primitive keys: readers binary-search an immutable snapshot without locking,
+// writers copy the arrays. Suits read-mostly data where pages in key order are the common query.
+public class ConcurrentLongMap<V> {
+    private static final long[] NO_KEYS = new long[0];
+    private static final Object[] NO_VALUES = new Object[0];
+
+    public interface EntryConsumer<V> {
+        void accept(long key, V value);
+    }
+
+    private volatile Snapshot snapshot = new Snapshot(NO_KEYS, NO_VALUES);
+
+    private static final class Snapshot {
+        private final long[] keys;
+        private final Object[] values;
+
+        private Snapshot(long[] keys, Object[] values) {
+            this.keys = keys;
+            this.values = values;
+        }
+    }
+
+    public V get(long key) {
+        var current = snapshot;
+        int index = Arrays.binarySearch(current.keys, key);
+        return index < 0 ? null : value(current, index);
+    }
+
+    public boolean containsKey(long key) {
+        return Arrays.binarySearch(snapshot.keys, key) >= 0;
+    }
+
+    public int size() {
+        return snapshot.keys.length;
+    }
+
+    public synchronized V put(long key, V value) {
+        var current = snapshot;
+        int index = Arrays.binarySearch(current.keys, key);
+        if (index >= 0) {
+            var values = current.values.clone();
+            values[index] = value;
+            snapshot = new Snapshot(current.keys, values);
+            return value(current, index);
+        }
+        int insertAt = -index - 1;
+        int size = current.keys.length;
+        var keys = new long[size + 1];
+        var values = new Object[size + 1];
+        System.arraycopy(current.keys, 0, keys, 0, insertAt);
+        System.arraycopy(current.values, 0, values, 0, insertAt);
+        keys[insertAt] = key;
+        values[insertAt] = value;
+        System.arraycopy(current.keys, insertAt, keys, insertAt + 1, size - insertAt);
+        System.arraycopy(current.values, insertAt, values, insertAt + 1, size - insertAt);
+        snapshot = new Snapshot(keys, values);
+        return null;
+    }
+
+    public synchronized V remove(long key) {
+        var current = snapshot;
+        int index = Arrays.binarySearch(current.keys, key);
+        if (index < 0) {
+            return null;
+        }
+        int size = current.keys.length;
+        var keys = new long[size - 1];
+        var values = new Object[size - 1];
+        System.arraycopy(current.keys, 0, keys, 0, index);
+        System.arraycopy(current.values, 0, values, 0, index);
+        System.arraycopy(current.keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(current.values, index + 1, values, index, size - index - 1);
+        snapshot = new Snapshot(keys, values);
+        return value(current, index);
+    }
+
+    // Inserts and replaces a batch with one merge into the sorted arrays instead of one copy per entry
+    public synchronized void putAll(Map<Long, ? extends V> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        var added = new long[entries.size()];
+        int n = 0;
+        for (Long key : entries.keySet()) {
+            added[n++] = key;
+        }
+        Arrays.sort(added);
+        var current = snapshot;
+        var keys = new long[current.keys.length + added.length];
+        var values = new Object[keys.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < current.keys.length || j < added.length) {
+            if (j == added.length || i < current.keys.length && current.keys[i] < added[j]) {
+                keys[size] = current.keys[i];
+                values[size++] = current.values[i++];
+            } else {
+                if (i < current.keys.length && current.keys[i] == added[j]) {
+                    i++;
+                }
+                keys[size] = added[j];
+                values[size++] = entries.get(added[j++]);
+            }
+        }
+        snapshot = size == keys.length
+                ? new Snapshot(keys, values)
+                : new Snapshot(Arrays.copyOf(keys, size), Arrays.copyOf(values, size));
+    }
+
+    // Bulk load in one copy instead of one per entry
+    public synchronized void replaceAll(Map<Long, ? extends V> entries) {
+        var keys = new long[entries.size()];
+        int i = 0;
+        for (Long key : entries.keySet()) {
+            keys[i++] = key;
+        }
+        Arrays.sort(keys);
+        var values = new Object[keys.length];
+        for (i = 0; i < keys.length; i++) {
+            values[i] = entries.get(keys[i]);
+        }
+        snapshot = new Snapshot(keys, values);
+    }
+
+    public synchronized void clear() {
+        snapshot = new Snapshot(NO_KEYS, NO_VALUES);
+    }
+
+    // Values with keys greater than afterKey, in key order
+    public List<V> pageAfter(long afterKey, int limit) {
+        var values = valuesAfter(afterKey);
+        return new ArrayList<>(values.subList(0, Math.min(values.size(), limit)));
+    }
+
+    // Read-only view of one snapshot; later writes do not show through
+    @SuppressWarnings("unchecked")
+    public List<V> valuesAfter(long afterKey) {
+        var current = snapshot;
+        int from = Arrays.binarySearch(current.keys, afterKey);
+        from = from >= 0 ? from + 1 : -from - 1;
+        var values = (List<V>) Collections.unmodifiableList(Arrays.asList(current.values));
+        return values.subList(from, values.size());
+    }
+
+    public void forEachValue(Consumer<? super V> action) {
+        var current = snapshot;
+        for (int i = 0; i < current.values.length; i++) {
+            action.accept(value(current, i));
+        }
+    }
+
+    public void forEach(EntryConsumer<? super V> action) {
+        var current = snapshot;
+        for (int i = 0; i < current.keys.length; i++) {
+            action.accept(current.keys[i], value(current, i));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(Snapshot current, int index) {
+        return (V) current.values[index];
+    }
+}
@@ -0,0 +1,339 @@
+package org.example.repository.memory;
+
+import org.example.context.ApplicationProperties;
+import org.example.model.FreelancerEntity;
+import org.example.model.OrderEntity;
+import org.example.model.QualificationEntity;
+import org.example.repository.FreelancerRepository;
+import org.example.repository.OrderRepository;
+import org.example.repository.QualificationRepository;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+// Whole dataset held in memory for the in-memory repository engine. Stored entities are private copies:
+// readers get fresh instances and writers replace entries, so nothing handed out aliases the store.
+public class InMemoryDataset {
+    private static final int DEFAULT_LOAD_BATCH = 1000;
+    private static final int ROW_LOCKS = 64;
+
+    private final ConcurrentLongMap<FreelancerEntity> freelancers = new ConcurrentLongMap<>();
+    private final ConcurrentLongMap<OrderEntity> orders = new ConcurrentLongMap<>();
+    private final ConcurrentLongMap<QualificationEntity> qualifications = new ConcurrentLongMap<>();
+    private final ConcurrentLongMap<BitSet> ordersByQualification = new ConcurrentLongMap<>();
+    private final Map<String, Long> freelancerIdsByEmail = new ConcurrentHashMap<>();
+    private final RelationIndex relations = new RelationIndex();
+    private final ReentrantReadWriteLock writes = new ReentrantReadWriteLock();
+    private final Object[] rowLocks = new Object[ROW_LOCKS];
+    private final int loadBatch;
+    private volatile boolean loaded;
+
+    public InMemoryDataset() {
+        this(ApplicationProperties.getInt("repository.memory.loadBatch", DEFAULT_LOAD_BATCH));
+    }
+
+    public InMemoryDataset(int loadBatch) {
+        if (loadBatch <= 0) {
+            throw new IllegalArgumentException("loadBatch must be positive: " + loadBatch);
+        }
+        this.loadBatch = loadBatch;
+        for (int i = 0; i < ROW_LOCKS; i++) {
+            rowLocks[i] = new Object();
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // Writes are serialized with the load, so a mutation is either read by the load or applied after it
+    public synchronized void load(FreelancerRepository freelancerRepository, OrderRepository orderRepository,
+                                  QualificationRepository qualificationRepository) {
+        Map<Long, QualificationEntity> loadedQualifications = new HashMap<>();
+        qualificationRepository.forEach(q -> loadedQualifications.put(q.getId(), copyOf(q)));
+
+        Map<Long, OrderEntity> loadedOrders = new HashMap<>();
+        Map<Long, BitSet> loadedOrdersByQualification = new HashMap<>();
+        orderRepository.forEach(o -> {
+            var order = copyOf(o, null);
+            loadedOrders.put(order.getId(), order);
+            var qualificationId = qualificationIdOf(order);
+            if (qualificationId != null) {
+                loadedOrdersByQualification.computeIfAbsent(qualificationId, id -> new BitSet())
+                        .set(RelationIndex.bit(order.getId()));
+            }
+        });
+
+        Map<Long, FreelancerEntity> loadedFreelancers = new HashMap<>();
+        Map<Long, BitSet> loadedRelations = new HashMap<>();
+        long afterId = 0;
+        List<FreelancerEntity> page;
+        do {
+            page = freelancerRepository.findPageWithQualifications(afterId, loadBatch);
+            for (FreelancerEntity freelancer : page) {
+                loadedFreelancers.put(freelancer.getId(), copyOf(freelancer));
+                loadedRelations.put(freelancer.getId(), toBits(freelancer.getQualifications()));
+                afterId = freelancer.getId();
+            }
+        } while (page.size() == loadBatch);
+
+        qualifications.replaceAll(loadedQualifications);
+        orders.replaceAll(loadedOrders);
+        ordersByQualification.replaceAll(loadedOrdersByQualification);
+        freelancers.replaceAll(loadedFreelancers);
+        relations.replaceAll(loadedRelations);
+        freelancerIdsByEmail.clear();
+        loadedFreelancers.values().forEach(f -> freelancerIdsByEmail.put(normalize(f.getFreelancerEmail()), f.getId()));
+        loaded = true;
+    }
+
+    // Database first, memory second. The dataset lock is only taken by the memory step, so writers do not wait
+    // out each other's round trips; the load still sees every write either in the database or after it.
+    // For inserts: their rows are new, so no other write can reorder with them.
+    public <T> T write(Supplier<T> mutation) {
+        writes.readLock().lock();
+        try {
+            return mutation.get();
+        } finally {
+            writes.readLock().unlock();
+        }
+    }
+
+    // For updates and deletes: writes of the same row run one at a time, so memory applies them in commit order
+    public <T> T write(long id, Supplier<T> mutation) {
+        writes.readLock().lock();
+        try {
+            synchronized (rowLocks[Long.hashCode(id) & (ROW_LOCKS - 1)]) {
+                return mutation.get();
+            }
+        } finally {
+            writes.readLock().unlock();
+        }
+    }
+
+    // For deletes that cascade to other rows: no other write runs until memory has dropped them too
+    public <T> T writeExclusive(Supplier<T> mutation) {
+        writes.writeLock().lock();
+        try {
+            return mutation.get();
+        } finally {
+            writes.writeLock().unlock();
+        }
+    }
+
+    public synchronized void putFreelancer(FreelancerEntity entity) {
+        var previous = freelancers.put(entity.getId(), copyOf(entity));
+        if (previous != null) {
+            freelancerIdsByEmail.remove(normalize(previous.getFreelancerEmail()), previous.getId());
+        }
+        freelancerIdsByEmail.put(normalize(entity.getFreelancerEmail()), entity.getId());
+        relations.set(entity.getId(), toBits(entity.getQualifications()));
+    }
+
+    public synchronized void putFreelancers(List<FreelancerEntity> entities) {
+        Map<Long, FreelancerEntity> copies = new HashMap<>();
+        Map<Long, BitSet> qualificationBits = new HashMap<>();
+        for (FreelancerEntity entity : entities) {
+            var previous = freelancers.get(entity.getId());
+            if (previous != null) {
+                freelancerIdsByEmail.remove(normalize(previous.getFreelancerEmail()), previous.getId());
+            }
+            copies.put(entity.getId(), copyOf(entity));
+            freelancerIdsByEmail.put(normalize(entity.getFreelancerEmail()), entity.getId());
+            qualificationBits.put(entity.getId(), toBits(entity.getQualifications()));
+        }
+        freelancers.putAll(copies);
+        relations.setAll(qualificationBits);
+    }
+
+    public synchronized void removeFreelancer(long id) {
+        var previous = freelancers.remove(id);
+        if (previous != null) {
+            freelancerIdsByEmail.remove(normalize(previous.getFreelancerEmail()), id);
+        }
+        relations.removeFreelancer(id);
+    }
+
+    public synchronized void putOrder(OrderEntity entity) {
+        var previous = orders.put(entity.getId(), copyOf(entity, null));
+        int orderBit = RelationIndex.bit(entity.getId());
+        if (previous != null) {
+            updateOrderBits(qualificationIdOf(previous), orderBit, false);
+        }
+        updateOrderBits(qualificationIdOf(entity), orderBit, true);
+    }
+
+    public synchronized void putOrders(List<OrderEntity> entities) {
+        Map<Long, OrderEntity> copies = new HashMap<>();
+        Map<Long, BitSet> pending = new HashMap<>();
+        for (OrderEntity entity : entities) {
+            var previous = orders.get(entity.getId());
+            int orderBit = RelationIndex.bit(entity.getId());
+            if (previous != null && qualificationIdOf(previous) != null) {
+                pendingOrders(pending, qualificationIdOf(previous)).clear(orderBit);
+            }
+            if (qualificationIdOf(entity) != null) {
+                pendingOrders(pending, qualificationIdOf(entity)).set(orderBit);
+            }
+            copies.put(entity.getId(), copyOf(entity, null));
+        }
+        orders.putAll(copies);
+        pending.entrySet().removeIf(entry -> {
+            if (!entry.getValue().isEmpty()) return false;
+            ordersByQualification.remove(entry.getKey());
+            return true;
+        });
+        ordersByQualification.putAll(pending);
+    }
+
+    public synchronized void removeOrder(long id) {
+        var previous = orders.remove(id);
+        if (previous != null) {
+            updateOrderBits(qualificationIdOf(previous), RelationIndex.bit(id), false);
+        }
+    }
+
+    public synchronized void putQualification(QualificationEntity entity) {
+        qualifications.put(entity.getId(), copyOf(entity));
+    }
+
+    // Mirrors ON DELETE CASCADE of qualif_order and freelancer_qualification
+    public synchronized void removeQualification(long id) {
+        qualifications.remove(id);
+        var cascaded = ordersByQualification.remove(id);
+        if (cascaded != null) {
+            cascaded.stream().forEach(orders::remove);
+        }
+        relations.removeQualification(id);
+    }
+
+    public FreelancerEntity findFreelancer(long id) {
+        return freelancers.get(id);
+    }
+
+    public ConcurrentLongMap<FreelancerEntity> getFreelancers() {
+        return freelancers;
+    }
+
+    public OrderEntity findOrder(long id) {
+        return orders.get(id);
+    }
+
+    public ConcurrentLongMap<OrderEntity> getOrders() {
+        return orders;
+    }
+
+    public BitSet ordersOf(long qualificationId) {
+        var ids = ordersByQualification.get(qualificationId);
+        return ids == null ? new BitSet() : ids;
+    }
+
+    public QualificationEntity findQualification(long id) {
+        return qualifications.get(id);
+    }
+
+    public ConcurrentLongMap<QualificationEntity> getQualifications() {
+        return qualifications;
+    }
+
+    public RelationIndex getRelations() {
+        return relations;
+    }
+
+    public boolean containsEmail(String email) {
+        return email != null && freelancerIdsByEmail.containsKey(normalize(email));
+    }
+
+    // Freelancer fields only; qualifications are attached on request through qualificationsOf
+    public static FreelancerEntity copyOf(FreelancerEntity source) {
+        var copy = new FreelancerEntity();
+        copy.setId(source.getId());
+        copy.setFreelancerName(source.getFreelancerName());
+        copy.setFreelancerSecondName(source.getFreelancerSecondName());
+        copy.setFreelancerEmail(source.getFreelancerEmail());
+        return copy;
+    }
+
+    // The qualification reference carries its name only when one is given, as the joined JDBC queries do
+    public static OrderEntity copyOf(OrderEntity source, QualificationEntity qualification) {
+        var copy = new OrderEntity();
+        copy.setId(source.getId());
+        copy.setOrderTitle(source.getOrderTitle());
+        copy.setOrderDescription(source.getOrderDescription());
+        copy.setOrderPrice(source.getOrderPrice());
+        copy.setOrderTerm(source.getOrderTerm());
+        if (qualification != null) {
+            copy.setQualification(qualification);
+        } else if (source.getQualification() != null) {
+            var reference = new QualificationEntity();
+            reference.setId(source.getQualification().getId());
+            copy.setQualification(reference);
+        }
+        return copy;
+    }
+
+    public static QualificationEntity copyOf(QualificationEntity source) {
+        var copy = new QualificationEntity();
+        copy.setId(source.getId());
+        copy.setQualificationName(source.getQualificationName());
+        return copy;
+    }
+
+    // Freelancers reading the same qualification within one call share its instance
+    public List<QualificationEntity> qualificationsOf(long freelancerId, Map<Long, QualificationEntity> shared) {
+        var bits = relations.qualificationsOf(freelancerId);
+        List<QualificationEntity> result = new ArrayList<>(bits.cardinality());
+        bits.stream().forEach(id -> {
+            var qualification = shared.computeIfAbsent((long) id, key -> {
+                var stored = qualifications.get(key);
+                return stored == null ? null : copyOf(stored);
+            });
+            if (qualification != null) {
+                result.add(qualification);
+            }
+        });
+        return result;
+    }
+
+    private BitSet pendingOrders(Map<Long, BitSet> pending, long qualificationId) {
+        return pending.computeIfAbsent(qualificationId, id -> (BitSet) ordersOf(id).clone());
+    }
+
+    private void updateOrderBits(Long qualificationId, int orderBit, boolean present) {
+        if (qualificationId == null) {
+            return;
+        }
+        var ids = (BitSet) ordersOf(qualificationId).clone();
+        ids.set(orderBit, present);
+        if (ids.isEmpty()) {
+            ordersByQualification.remove(qualificationId);
+        } else {
+            ordersByQualification.put(qualificationId, ids);
+        }
+    }
+
+    private static Long qualificationIdOf(OrderEntity order) {
+        return order.getQualification() == null ? null : order.getQualification().getId();
+    }
+
+    private static BitSet toBits(List<QualificationEntity> qualifications) {
+        var bits = new BitSet();
+        if (qualifications != null) {
+            for (QualificationEntity qualification : qualifications) {
+                bits.set(RelationIndex.bit(qualification.getId()));
+            }
+        }
+        return bits;
+    }
+
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,121 @@
+package org.example.repository.memory;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+// freelancer_qualification in both directions as bit sets; a published BitSet is never modified, writers replace it.
+public class RelationIndex {
+    private static final BitSet EMPTY = new BitSet();
+
+    private final ConcurrentLongMap<BitSet> qualificationsByFreelancer = new ConcurrentLongMap<>();
+    private final ConcurrentLongMap<BitSet> freelancersByQualification = new ConcurrentLongMap<>();
+
+    public BitSet qualificationsOf(long freelancerId) {
+        var qualifications = qualificationsByFreelancer.get(freelancerId);
+        return qualifications == null ? EMPTY : qualifications;
+    }
+
+    public BitSet freelancersOf(long qualificationId) {
+        var freelancers = freelancersByQualification.get(qualificationId);
+        return freelancers == null ? EMPTY : freelancers;
+    }
+
+    public synchronized void set(long freelancerId, BitSet qualifications) {
+        var previous = qualificationsOf(freelancerId);
+        var removed = (BitSet) previous.clone();
+        removed.andNot(qualifications);
+        var added = (BitSet) qualifications.clone();
+        added.andNot(previous);
+        int freelancerBit = bit(freelancerId);
+        removed.stream().forEach(id -> updateFreelancers(id, freelancerBit, false));
+        added.stream().forEach(id -> updateFreelancers(id, freelancerBit, true));
+        if (qualifications.isEmpty()) {
+            qualificationsByFreelancer.remove(freelancerId);
+        } else {
+            qualificationsByFreelancer.put(freelancerId, (BitSet) qualifications.clone());
+        }
+    }
+
+    // set for a batch of freelancers, with one copy of each map and of each touched qualification's set
+    public synchronized void setAll(Map<Long, BitSet> qualificationsByFreelancerId) {
+        Map<Long, BitSet> freelancers = new HashMap<>();
+        Map<Long, BitSet> qualifications = new HashMap<>();
+        for (var entry : qualificationsByFreelancerId.entrySet()) {
+            long freelancerId = entry.getKey();
+            var next = entry.getValue();
+            var previous = qualificationsOf(freelancerId);
+            var removed = (BitSet) previous.clone();
+            removed.andNot(next);
+            var added = (BitSet) next.clone();
+            added.andNot(previous);
+            int freelancerBit = bit(freelancerId);
+            removed.stream().forEach(id -> pendingFreelancers(freelancers, id).clear(freelancerBit));
+            added.stream().forEach(id -> pendingFreelancers(freelancers, id).set(freelancerBit));
+            if (!next.isEmpty()) {
+                qualifications.put(freelancerId, (BitSet) next.clone());
+            } else if (!previous.isEmpty()) {
+                qualificationsByFreelancer.remove(freelancerId);
+            }
+        }
+        qualificationsByFreelancer.putAll(qualifications);
+        freelancers.entrySet().removeIf(entry -> {
+            if (!entry.getValue().isEmpty()) return false;
+            freelancersByQualification.remove(entry.getKey());
+            return true;
+        });
+        freelancersByQualification.putAll(freelancers);
+    }
+
+    public synchronized void removeFreelancer(long freelancerId) {
+        set(freelancerId, EMPTY);
+    }
+
+    public synchronized void removeQualification(long qualificationId) {
+        var freelancers = freelancersByQualification.remove(qualificationId);
+        if (freelancers == null) {
+            return;
+        }
+        int qualificationBit = bit(qualificationId);
+        freelancers.stream().forEach(id -> {
+            var qualifications = (BitSet) qualificationsOf(id).clone();
+            qualifications.clear(qualificationBit);
+            if (qualifications.isEmpty()) {
+                qualificationsByFreelancer.remove(id);
+            } else {
+                qualificationsByFreelancer.put(id, qualifications);
+            }
+        });
+    }
+
+    public synchronized void replaceAll(Map<Long, BitSet> relations) {
+        Map<Long, BitSet> forward = new HashMap<>();
+        Map<Long, BitSet> reverse = new HashMap<>();
+        relations.forEach((freelancerId, qualifications) -> {
+            if (qualifications.isEmpty()) return;
+            forward.put(freelancerId, (BitSet) qualifications.clone());
+            int freelancerBit = bit(freelancerId);
+            qualifications.stream().forEach(id -> reverse.computeIfAbsent((long) id, k -> new BitSet()).set(freelancerBit));
+        });
+        qualificationsByFreelancer.replaceAll(forward);
+        freelancersByQualification.replaceAll(reverse);
+    }
+
+    private void updateFreelancers(int qualificationId, int freelancerBit, boolean present) {
+        var freelancers = (BitSet) freelancersOf(qualificationId).clone();
+        freelancers.set(freelancerBit, present);
+        if (freelancers.isEmpty()) {
+            freelancersByQualification.remove(qualificationId);
+        } else {
+            freelancersByQualification.put(qualificationId, freelancers);
+        }
+    }
+
+    private BitSet pendingFreelancers(Map<Long, BitSet> pending, int qualificationId) {
+        return pending.computeIfAbsent((long) qualificationId, id -> (BitSet) freelancersOf(id).clone());
+    }
+
+    static int bit(long id) {
+        return Math.toIntExact(id);
+    }
+}
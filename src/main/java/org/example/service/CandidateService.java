@@ -0,0 +1,9 @@
+package org.example.service;
+
+import org.example.service.dto.FreelancerSimpleDto;
+
+import java.util.List;
+
+public interface CandidateService {
+    List<FreelancerSimpleDto> findCandidates(Long orderId, Long afterId, int limit);
+}
@@ -1,17 +1,31 @@
 package org.example.service;
 
 import org.example.service.dto.FreelancerDto;
+import org.example.service.dto.FreelancerImportResultDto;
 import org.example.service.dto.FreelancerSimpleDto;
 
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface FreelancerService {
     FreelancerDto save(FreelancerDto dto);
 
+    FreelancerImportResultDto importAll(Iterator<FreelancerDto> dtos);
+
     FreelancerDto findById(Long id);
 
+    List<FreelancerDto> findAllById(Collection<Long> ids);
+
     List<FreelancerSimpleDto> findAll();
 
+    List<FreelancerSimpleDto> findPage(Long afterId, int limit);
+
+    List<FreelancerDto> findPageWithQualifications(Long afterId, int limit);
+
+    void forEach(Consumer<? super FreelancerSimpleDto> action);
+
     boolean update(FreelancerDto dto);
 
     boolean delete(Long id);
@@ -1,17 +1,36 @@
 package org.example.service;
 
+import org.example.model.OrderFilter;
+import org.example.service.dto.OrderBulkResultDto;
 import org.example.service.dto.OrderDto;
 import org.example.service.dto.OrderSimpleDto;
 
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface OrderService {
     OrderDto save(OrderDto dto);
 
+    // Saves in chunks, one transaction each, and stops at the first unreadable or invalid record;
+    // the records before it are saved
+    OrderBulkResultDto saveAll(Iterator<OrderDto> dtos);
+
     OrderDto findById(Long id);
 
+    List<OrderDto> findAllById(Collection<Long> ids);
+
     List<OrderSimpleDto> findAll();
 
+    List<OrderSimpleDto> findPage(Long afterId, int limit);
+
+    void forEach(Consumer<? super OrderSimpleDto> action);
+
+    List<OrderSimpleDto> findFiltered(OrderFilter filter);
+
+    void forEachFiltered(OrderFilter filter, Consumer<? super OrderDto> action);
+
     boolean update(OrderDto dto);
 
     boolean delete(Long id);
@@ -3,7 +3,9 @@ package org.example.service;
 import org.example.service.dto.QualificationDto;
 import org.example.service.dto.QualificationSimpleDto;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 
 public interface QualificationService {
@@ -11,8 +13,14 @@ public interface QualificationService {
 
     QualificationDto findById(Long id);
 
+    List<QualificationDto> findAllById(Collection<Long> ids);
+
     List<QualificationSimpleDto> findAll();
 
+    List<QualificationSimpleDto> findPage(Long afterId, int limit);
+
+    void forEach(Consumer<? super QualificationSimpleDto> action);
+
     boolean update(QualificationSimpleDto dto);
 
     boolean delete(Long id);
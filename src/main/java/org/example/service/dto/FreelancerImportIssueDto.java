@@ -0,0 +1,64 @@
+package org.example.service.dto;
+
+import java.util.Objects;
+
+public class FreelancerImportIssueDto {
+    private int index;
+    private FreelancerImportOutcome outcome;
+    private String reason;
+
+    public FreelancerImportIssueDto() {
+    }
+
+    public FreelancerImportIssueDto(int index, FreelancerImportOutcome outcome, String reason) {
+        this.index = index;
+        this.outcome = outcome;
+        this.reason = reason;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public FreelancerImportOutcome getOutcome() {
+        return outcome;
+    }
+
+    public void setOutcome(FreelancerImportOutcome outcome) {
+        this.outcome = outcome;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FreelancerImportIssueDto that = (FreelancerImportIssueDto) o;
+        return index == that.index && outcome == that.outcome && Objects.equals(reason, that.reason);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, outcome, reason);
+    }
+
+    @Override
+    public String toString() {
+        return "FreelancerImportIssueDto{" +
+                "index=" + index +
+                ", outcome=" + outcome +
+                ", reason='" + reason + '\'' +
+                '}';
+    }
+}
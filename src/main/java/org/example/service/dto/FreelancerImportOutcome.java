@@ -0,0 +1,7 @@
+package org.example.service.dto;
+
+public enum FreelancerImportOutcome {
+    DUPLICATE_EMAIL,
+    INVALID,
+    FAILED
+}
@@ -0,0 +1,101 @@
+package org.example.service.dto;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+// ids holds one entry per input record, 0 where the record was not created; issues says why. failedIndex is set
+// when storing failed and the import stopped: ids then ends there and the records from it on were not read or kept.
+public class FreelancerImportResultDto {
+    private int created;
+    private int duplicates;
+    private int rejected;
+    private long[] ids;
+    private List<FreelancerImportIssueDto> issues;
+    private Integer failedIndex;
+
+    public FreelancerImportResultDto() {
+    }
+
+    public FreelancerImportResultDto(int created, int duplicates, int rejected, long[] ids,
+                                     List<FreelancerImportIssueDto> issues) {
+        this.created = created;
+        this.duplicates = duplicates;
+        this.rejected = rejected;
+        this.ids = ids;
+        this.issues = issues;
+    }
+
+    public FreelancerImportResultDto(int created, int duplicates, int rejected, long[] ids,
+                                     List<FreelancerImportIssueDto> issues, Integer failedIndex) {
+        this.created = created;
+        this.duplicates = duplicates;
+        this.rejected = rejected;
+        this.ids = ids;
+        this.issues = issues;
+        this.failedIndex = failedIndex;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getDuplicates() {
+        return duplicates;
+    }
+
+    public void setDuplicates(int duplicates) {
+        this.duplicates = duplicates;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public long[] getIds() {
+        return ids;
+    }
+
+    public void setIds(long[] ids) {
+        this.ids = ids;
+    }
+
+    public List<FreelancerImportIssueDto> getIssues() {
+        return issues;
+    }
+
+    public void setIssues(List<FreelancerImportIssueDto> issues) {
+        this.issues = issues;
+    }
+
+    public Integer getFailedIndex() {
+        return failedIndex;
+    }
+
+    public void setFailedIndex(Integer failedIndex) {
+        this.failedIndex = failedIndex;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FreelancerImportResultDto that = (FreelancerImportResultDto) o;
+        return created == that.created && duplicates == that.duplicates && rejected == that.rejected
+               && Arrays.equals(ids, that.ids) && Objects.equals(issues, that.issues)
+               && Objects.equals(failedIndex, that.failedIndex);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hash(created, duplicates, rejected, issues, failedIndex) + Arrays.hashCode(ids);
+    }
+}
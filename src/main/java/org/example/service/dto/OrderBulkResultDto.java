@@ -0,0 +1,74 @@
+package org.example.service.dto;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public class OrderBulkResultDto {
+    private long[] ids;
+    private Integer failedIndex;
+    private String error;
+    private boolean retryable;
+
+    public OrderBulkResultDto() {
+    }
+
+    public OrderBulkResultDto(long[] ids, Integer failedIndex, String error) {
+        this.ids = ids;
+        this.failedIndex = failedIndex;
+        this.error = error;
+    }
+
+    // retryable: the failed record was not rejected, storing it failed, so resending from failedIndex can succeed
+    public OrderBulkResultDto(long[] ids, Integer failedIndex, String error, boolean retryable) {
+        this.ids = ids;
+        this.failedIndex = failedIndex;
+        this.error = error;
+        this.retryable = retryable;
+    }
+
+    public long[] getIds() {
+        return ids;
+    }
+
+    public void setIds(long[] ids) {
+        this.ids = ids;
+    }
+
+    public Integer getFailedIndex() {
+        return failedIndex;
+    }
+
+    public void setFailedIndex(Integer failedIndex) {
+        this.failedIndex = failedIndex;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
+    }
+
+    public void setRetryable(boolean retryable) {
+        this.retryable = retryable;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OrderBulkResultDto that = (OrderBulkResultDto) o;
+        return retryable == that.retryable && Arrays.equals(ids, that.ids)
+               && Objects.equals(failedIndex, that.failedIndex) && Objects.equals(error, that.error);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hash(failedIndex, error, retryable) + Arrays.hashCode(ids);
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.service.impl;
+
+import org.example.repository.FreelancerRepository;
+import org.example.repository.OrderRepository;
+import org.example.repository.cache.CandidateIndex;
+import org.example.repository.cache.impl.CandidateIndexImpl;
+import org.example.repository.impl.FreelancerRepositoryImpl;
+import org.example.repository.impl.OrderRepositoryImpl;
+import org.example.service.CandidateService;
+import org.example.service.dto.FreelancerSimpleDto;
+import org.example.service.mapper.FreelancerMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+// Freelancers holding the order's qualification, in id order. The candidate index answers which ids;
+// until it has been built the join runs in the database instead.
+public class CandidateServiceImpl implements CandidateService {
+    private final OrderRepository orderRepository;
+    private final FreelancerRepository freelancerRepository;
+    private final CandidateIndex candidateIndex;
+    private final FreelancerMapper mapper;
+
+    public CandidateServiceImpl() {
+        this.orderRepository = new OrderRepositoryImpl();
+        this.freelancerRepository = new FreelancerRepositoryImpl();
+        this.candidateIndex = CandidateIndexImpl.getInstance();
+        this.mapper = FreelancerMapper.INSTANCE;
+    }
+
+    public CandidateServiceImpl(OrderRepository orderRepository, FreelancerRepository freelancerRepository,
+                                CandidateIndex candidateIndex, FreelancerMapper mapper) {
+        this.orderRepository = orderRepository;
+        this.freelancerRepository = freelancerRepository;
+        this.candidateIndex = candidateIndex;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public List<FreelancerSimpleDto> findCandidates(Long orderId, Long afterId, int limit) {
+        if (orderId == null) return null;
+        var order = orderRepository.findById(orderId);
+        if (order.isEmpty()) return null;
+        var qualification = order.get().getQualification();
+        if (qualification == null) return List.of();
+        long qualificationId = qualification.getId();
+        if (!candidateIndex.isReady()) {
+            return freelancerRepository.findPageByQualification(qualificationId, afterId, limit).stream()
+                    .map(mapper::toSimpleDto).collect(toList());
+        }
+        long[] candidates = candidateIndex.findCandidates(qualificationId, afterId == null ? 0L : afterId, limit);
+        if (candidates.length == 0) return List.of();
+        List<Long> ids = new ArrayList<>(candidates.length);
+        for (long id : candidates) {
+            ids.add(id);
+        }
+        return freelancerRepository.findAllSimpleById(ids).stream().map(mapper::toSimpleDto).collect(toList());
+    }
+}
@@ -1,42 +1,240 @@
 package org.example.service.impl;
 
+import org.example.context.ApplicationProperties;
+import org.example.db.TransactionManager;
+import org.example.db.TransactionMode;
+import org.example.db.impl.DirectTransactionManager;
+import org.example.exception.RepositoryException;
 import org.example.model.FreelancerEntity;
 import org.example.repository.FreelancerRepository;
 import org.example.repository.impl.FreelancerRepositoryImpl;
 import org.example.service.FreelancerService;
 import org.example.service.dto.FreelancerDto;
+import org.example.service.dto.FreelancerImportIssueDto;
+import org.example.service.dto.FreelancerImportOutcome;
+import org.example.service.dto.FreelancerImportResultDto;
 import org.example.service.dto.FreelancerSimpleDto;
 import org.example.service.mapper.FreelancerMapper;
+import org.example.service.dto.QualificationSimpleDto;
+import org.example.service.mapper.SharedInstanceContext;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
+import static java.lang.System.Logger.Level.WARNING;
 import static java.util.stream.Collectors.*;
 
 public class FreelancerServiceImpl implements FreelancerService {
+    private static final System.Logger LOGGER = System.getLogger(FreelancerServiceImpl.class.getName());
+    private static final int COLUMN_LENGTH = 45;
+
     private final FreelancerRepository repository;
     private final FreelancerMapper mapper;
+    private final TransactionManager transactionManager;
+    private final int importChunkSize;
+    private final SingleFlight<Long, FreelancerDto> lookups = new SingleFlight<>();
 
     public FreelancerServiceImpl() {
         this.repository = new FreelancerRepositoryImpl();
         this.mapper = FreelancerMapper.INSTANCE;
+        this.transactionManager = new DirectTransactionManager();
+        this.importChunkSize = ApplicationProperties.getInt("freelancers.import.chunkSize", 1000);
     }
 
     public FreelancerServiceImpl(FreelancerRepository repository, FreelancerMapper mapper) {
         this.repository = repository;
         this.mapper = mapper;
+        this.transactionManager = new DirectTransactionManager();
+        this.importChunkSize = ApplicationProperties.getInt("freelancers.import.chunkSize", 1000);
+    }
+
+    public FreelancerServiceImpl(FreelancerRepository repository, FreelancerMapper mapper,
+                                 TransactionManager transactionManager) {
+        this(repository, mapper, transactionManager, ApplicationProperties.getInt("freelancers.import.chunkSize", 1000));
+    }
+
+    public FreelancerServiceImpl(FreelancerRepository repository, FreelancerMapper mapper,
+                                 TransactionManager transactionManager, int importChunkSize) {
+        if (importChunkSize <= 0) {
+            throw new IllegalArgumentException("importChunkSize must be positive: " + importChunkSize);
+        }
+        this.repository = repository;
+        this.mapper = mapper;
+        this.transactionManager = transactionManager;
+        this.importChunkSize = importChunkSize;
     }
 
     @Override
     public FreelancerDto save(FreelancerDto dto) {
-        return dto != null && !repository.containsFreelancerByEmail(dto.getFreelancerEmail())
-                ? mapper.toDto(repository.save(mapper.toEntity(dto)))
-                : dto;
+        if (dto == null) return null;
+        return repository.saveIfEmailAbsent(mapper.toEntity(dto)).map(mapper::toDto).orElse(dto);
+    }
+
+    // Records are imported chunk by chunk: one IN query for the known emails, then one batch per table.
+    // Import stops at the first unreadable record; every other record gets its own outcome.
+    @Override
+    public FreelancerImportResultDto importAll(Iterator<FreelancerDto> dtos) {
+        List<FreelancerDto> chunk = new ArrayList<>(importChunkSize);
+        List<FreelancerImportIssueDto> issues = new ArrayList<>();
+        long[] ids = new long[16];
+        int count = 0;
+        while (true) {
+            FreelancerDto dto;
+            try {
+                if (!dtos.hasNext()) break;
+                dto = dtos.next();
+            } catch (RuntimeException e) {
+                issues.add(new FreelancerImportIssueDto(count + chunk.size(), FreelancerImportOutcome.INVALID,
+                        "Unreadable record: " + e.getMessage()));
+                break;
+            }
+            chunk.add(dto);
+            if (chunk.size() == importChunkSize) {
+                try {
+                    ids = importChunk(chunk, count, ids, issues);
+                } catch (RepositoryException e) {
+                    return notImported(ids, count, issues, e);
+                }
+                count += chunk.size();
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            try {
+                ids = importChunk(chunk, count, ids, issues);
+            } catch (RepositoryException e) {
+                return notImported(ids, count, issues, e);
+            }
+            count += chunk.size();
+        }
+        return importResult(ids, count, issues, null);
+    }
+
+    // The email lookup of a chunk failed before any of its records were saved: the chunks before it stand, the
+    // import stops there and failedIndex tells where to resume
+    private static FreelancerImportResultDto notImported(long[] ids, int count, List<FreelancerImportIssueDto> issues,
+                                                         RepositoryException e) {
+        LOGGER.log(WARNING, "Freelancer import chunk from record " + count + " was not imported", e);
+        issues.removeIf(issue -> issue.getIndex() >= count);
+        issues.add(new FreelancerImportIssueDto(count, FreelancerImportOutcome.FAILED,
+                "Records from this index on were not imported, the storage failed"));
+        return importResult(ids, count, issues, count);
+    }
+
+    private static FreelancerImportResultDto importResult(long[] ids, int count, List<FreelancerImportIssueDto> issues,
+                                                          Integer failedIndex) {
+        issues.sort(Comparator.comparingInt(FreelancerImportIssueDto::getIndex));
+        int created = 0;
+        for (int i = 0; i < count; i++) {
+            if (ids[i] != 0) created++;
+        }
+        int duplicates = 0;
+        for (FreelancerImportIssueDto issue : issues) {
+            if (issue.getOutcome() == FreelancerImportOutcome.DUPLICATE_EMAIL) duplicates++;
+        }
+        return new FreelancerImportResultDto(created, duplicates, issues.size() - duplicates,
+                Arrays.copyOf(ids, count), issues, failedIndex);
+    }
+
+    private long[] importChunk(List<FreelancerDto> chunk, int firstIndex, long[] ids,
+                               List<FreelancerImportIssueDto> issues) {
+        if (firstIndex + chunk.size() > ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(ids.length * 2, firstIndex + chunk.size()));
+        }
+        Map<String, Integer> firstByEmail = new LinkedHashMap<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            var error = validate(chunk.get(i));
+            if (error != null) {
+                issues.add(new FreelancerImportIssueDto(firstIndex + i, FreelancerImportOutcome.INVALID, error));
+            } else if (firstByEmail.putIfAbsent(emailKey(chunk.get(i)), i) != null) {
+                issues.add(new FreelancerImportIssueDto(firstIndex + i, FreelancerImportOutcome.DUPLICATE_EMAIL,
+                        "Email repeated in the import"));
+            }
+        }
+        Set<String> existing = repository.findExistingEmails(firstByEmail.keySet());
+        List<FreelancerEntity> entities = new ArrayList<>(firstByEmail.size());
+        List<Integer> positions = new ArrayList<>(firstByEmail.size());
+        for (var first : firstByEmail.entrySet()) {
+            int index = firstIndex + first.getValue();
+            if (existing.contains(first.getKey())) {
+                issues.add(new FreelancerImportIssueDto(index, FreelancerImportOutcome.DUPLICATE_EMAIL,
+                        "Email already registered"));
+            } else {
+                entities.add(mapper.toEntity(chunk.get(first.getValue())));
+                positions.add(index);
+            }
+        }
+        try {
+            repository.saveAll(entities);
+            for (int i = 0; i < entities.size(); i++) {
+                ids[positions.get(i)] = entities.get(i).getId();
+            }
+        } catch (RepositoryException e) {
+            // An email registered since the lookup or an unknown qualification fails the whole batch;
+            // the single-row path then tells which records were at fault
+            for (int i = 0; i < entities.size(); i++) {
+                saveOne(entities.get(i), positions.get(i), ids, issues);
+            }
+        }
+        return ids;
+    }
+
+    private void saveOne(FreelancerEntity entity, int index, long[] ids, List<FreelancerImportIssueDto> issues) {
+        try {
+            var saved = repository.saveIfEmailAbsent(entity);
+            if (saved.isPresent()) {
+                ids[index] = saved.get().getId();
+            } else {
+                issues.add(new FreelancerImportIssueDto(index, FreelancerImportOutcome.DUPLICATE_EMAIL,
+                        "Email already registered"));
+            }
+        } catch (RepositoryException e) {
+            issues.add(new FreelancerImportIssueDto(index, FreelancerImportOutcome.FAILED, e.getMessage()));
+        }
+    }
+
+    private static String emailKey(FreelancerDto dto) {
+        return dto.getFreelancerEmail().toLowerCase(Locale.ROOT);
+    }
+
+    // Mirrors the freelancer column constraints, so a bad record is reported instead of failing its batch
+    static String validate(FreelancerDto dto) {
+        if (dto == null) return "Record is null";
+        var error = validateColumn("freelancerName", dto.getFreelancerName());
+        if (error == null) error = validateColumn("freelancerSecondName", dto.getFreelancerSecondName());
+        if (error == null) error = validateColumn("freelancerEmail", dto.getFreelancerEmail());
+        if (error != null) return error;
+        if (dto.getQualifications() != null) {
+            for (QualificationSimpleDto qualification : dto.getQualifications()) {
+                if (qualification == null || qualification.getId() == null) return "qualifications[].id is required";
+            }
+        }
+        return null;
+    }
+
+    private static String validateColumn(String name, String value) {
+        if (value == null || value.isBlank()) return name + " is required";
+        if (value.length() > COLUMN_LENGTH) return name + " is longer than " + COLUMN_LENGTH;
+        return null;
     }
 
     @Override
     public FreelancerDto findById(Long id) {
         if (id == null) return null;
+        return lookups.execute(id, () -> loadById(id));
+    }
+
+    private FreelancerDto loadById(Long id) {
         Optional<FreelancerEntity> maybeEntity = repository.findById(id);
         FreelancerDto dto = null;
         if (maybeEntity.isPresent()) {
@@ -45,15 +243,38 @@ public class FreelancerServiceImpl implements FreelancerService {
         return dto;
     }
 
+    @Override
+    public List<FreelancerDto> findAllById(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) return List.of();
+        return repository.findAllById(ids).stream().map(mapper::toDto).collect(toList());
+    }
+
     @Override
     public List<FreelancerSimpleDto> findAll() {
         return repository.findAll().stream().map(mapper::toSimpleDto).collect(toList());
     }
 
+    @Override
+    public List<FreelancerSimpleDto> findPage(Long afterId, int limit) {
+        return repository.findPage(afterId, limit).stream().map(mapper::toSimpleDto).collect(toList());
+    }
+
+    @Override
+    public List<FreelancerDto> findPageWithQualifications(Long afterId, int limit) {
+        return mapper.toDtos(repository.findPageWithQualifications(afterId, limit), new SharedInstanceContext());
+    }
+
+    @Override
+    public void forEach(Consumer<? super FreelancerSimpleDto> action) {
+        repository.forEach(entity -> action.accept(mapper.toSimpleDto(entity)));
+    }
+
     @Override
     public boolean update(FreelancerDto dto) {
         if (dto != null && dto.getId() != null) {
-            repository.update(mapper.toEntity(dto));
+            var entity = mapper.toEntity(dto);
+            transactionManager.runInTransaction(TransactionMode.READ_WRITE, () -> repository.update(entity));
+            lookups.forget(dto.getId());
             return true;
         }
         return false;
@@ -61,6 +282,9 @@ public class FreelancerServiceImpl implements FreelancerService {
 
     @Override
     public boolean delete(Long id) {
-        return id != null && repository.deleteById(id);
+        if (id == null) return false;
+        boolean deleted = repository.deleteById(id);
+        lookups.forget(id);
+        return deleted;
     }
 }
\ No newline at end of file
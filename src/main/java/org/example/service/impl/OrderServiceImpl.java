@@ -1,30 +1,57 @@
 package org.example.service.impl;
 
+import org.example.context.ApplicationProperties;
+import org.example.exception.RepositoryException;
 import org.example.model.OrderEntity;
+import org.example.model.OrderFilter;
 import org.example.repository.OrderRepository;
 import org.example.repository.impl.OrderRepositoryImpl;
 import org.example.service.OrderService;
+import org.example.service.dto.OrderBulkResultDto;
 import org.example.service.dto.OrderDto;
 import org.example.service.dto.OrderSimpleDto;
 import org.example.service.mapper.OrderMapper;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import static java.lang.System.Logger.Level.WARNING;
 import static java.util.stream.Collectors.toList;
 
 public class OrderServiceImpl implements OrderService {
+    private static final System.Logger LOGGER = System.getLogger(OrderServiceImpl.class.getName());
+    private static final int TITLE_LENGTH = 65;
+    private static final int DESCRIPTION_LENGTH = 100;
+    private static final BigDecimal MAX_PRICE = new BigDecimal("99999999.99");
+
     private final OrderRepository repository;
     private final OrderMapper mapper;
+    private final int bulkChunkSize;
+    private final SingleFlight<Long, OrderDto> lookups = new SingleFlight<>();
 
     public OrderServiceImpl() {
         this.repository = new OrderRepositoryImpl();
         this.mapper = OrderMapper.INSTANCE;
+        this.bulkChunkSize = ApplicationProperties.getInt("orders.bulk.chunkSize", 500);
     }
 
     public OrderServiceImpl(OrderRepository repository, OrderMapper mapper) {
+        this(repository, mapper, ApplicationProperties.getInt("orders.bulk.chunkSize", 500));
+    }
+
+    public OrderServiceImpl(OrderRepository repository, OrderMapper mapper, int bulkChunkSize) {
+        if (bulkChunkSize <= 0) {
+            throw new IllegalArgumentException("bulkChunkSize must be positive: " + bulkChunkSize);
+        }
         this.repository = repository;
         this.mapper = mapper;
+        this.bulkChunkSize = bulkChunkSize;
     }
 
     @Override
@@ -32,9 +59,110 @@ public class OrderServiceImpl implements OrderService {
         return dto != null ? mapper.toDto(repository.save(mapper.toEntity(dto))) : null;
     }
 
+    // Only one chunk of records is held at a time; ids are kept as a long[] in input order. Each chunk is its own
+    // transaction, so when one fails the records before it stay saved and the result says where to resume.
+    @Override
+    public OrderBulkResultDto saveAll(Iterator<OrderDto> dtos) {
+        List<OrderEntity> chunk = new ArrayList<>(bulkChunkSize);
+        var saved = new SavedIds();
+        int index = 0;
+        String error = null;
+        while (true) {
+            OrderDto dto;
+            try {
+                if (!dtos.hasNext()) break;
+                dto = dtos.next();
+            } catch (RuntimeException e) {
+                error = "Unreadable record: " + e.getMessage();
+                break;
+            }
+            error = validate(dto);
+            if (error != null) break;
+            chunk.add(mapper.toEntity(dto));
+            index++;
+            if (chunk.size() == bulkChunkSize) {
+                var failed = saveChunk(chunk, saved);
+                if (failed != null) return failed;
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            var failed = saveChunk(chunk, saved);
+            if (failed != null) return failed;
+        }
+        return new OrderBulkResultDto(saved.toArray(), error == null ? null : index, error);
+    }
+
+    // The result to stop with when the chunk could not be stored, null once all of it is saved
+    private OrderBulkResultDto saveChunk(List<OrderEntity> chunk, SavedIds saved) {
+        try {
+            repository.saveAll(chunk);
+        } catch (RepositoryException e) {
+            if (!e.isIntegrityViolation()) {
+                return notSaved(saved, e);
+            }
+            // A record such as one with an unknown qualification.id fails the whole batch;
+            // the single-row path then tells which record it was
+            return saveOneByOne(chunk, saved);
+        }
+        for (OrderEntity entity : chunk) {
+            saved.add(entity.getId());
+        }
+        return null;
+    }
+
+    private OrderBulkResultDto saveOneByOne(List<OrderEntity> chunk, SavedIds saved) {
+        for (OrderEntity entity : chunk) {
+            try {
+                saved.add(repository.save(entity).getId());
+            } catch (RepositoryException e) {
+                return e.isIntegrityViolation() ? rejected(saved, e) : notSaved(saved, e);
+            }
+        }
+        return null;
+    }
+
+    private static OrderBulkResultDto notSaved(SavedIds saved, RepositoryException e) {
+        LOGGER.log(WARNING, "Bulk order chunk from record " + saved.count + " was not saved", e);
+        return new OrderBulkResultDto(saved.toArray(), saved.count,
+                "Records from index " + saved.count + " were not saved, the storage failed", true);
+    }
+
+    // Sending the record again cannot succeed, so this is the client's error and not worth a retry
+    private static OrderBulkResultDto rejected(SavedIds saved, RepositoryException e) {
+        return new OrderBulkResultDto(saved.toArray(), saved.count,
+                "Record was rejected by a storage constraint, check qualification.id: " + e.getCause().getMessage(),
+                false);
+    }
+
+    // Mirrors the qualif_order column constraints, so a bad record is reported instead of failing its chunk
+    static String validate(OrderDto dto) {
+        if (dto == null) return "Record is null";
+        if (dto.getOrderTitle() == null || dto.getOrderTitle().isBlank()) return "orderTitle is required";
+        if (dto.getOrderTitle().length() > TITLE_LENGTH) return "orderTitle is longer than " + TITLE_LENGTH;
+        if (dto.getOrderDescription() == null) return "orderDescription is required";
+        if (dto.getOrderDescription().length() > DESCRIPTION_LENGTH) {
+            return "orderDescription is longer than " + DESCRIPTION_LENGTH;
+        }
+        var price = dto.getOrderPrice();
+        if (price == null) return "orderPrice is required";
+        if (price.signum() < 0 || price.compareTo(MAX_PRICE) > 0 || price.stripTrailingZeros().scale() > 2) {
+            return "orderPrice must be between 0 and " + MAX_PRICE + " with at most 2 decimals";
+        }
+        if (dto.getOrderTerm() == null) return "orderTerm is required";
+        if (dto.getQualification() == null || dto.getQualification().getId() == null) {
+            return "qualification.id is required";
+        }
+        return null;
+    }
+
     @Override
     public OrderDto findById(Long id) {
         if (id == null) return null;
+        return lookups.execute(id, () -> loadById(id));
+    }
+
+    private OrderDto loadById(Long id) {
         Optional<OrderEntity> maybeEntity = repository.findById(id);
         OrderDto dto = null;
         if (maybeEntity.isPresent()) {
@@ -43,15 +171,42 @@ public class OrderServiceImpl implements OrderService {
         return dto;
     }
 
+    @Override
+    public List<OrderDto> findAllById(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) return List.of();
+        return repository.findAllById(ids).stream().map(mapper::toDto).collect(toList());
+    }
+
     @Override
     public List<OrderSimpleDto> findAll() {
-        return repository.findAll().stream().map(mapper::toSimpleDto).collect(toList());
+        return repository.findAllSummaries().stream().map(mapper::toSimpleDto).collect(toList());
+    }
+
+    @Override
+    public List<OrderSimpleDto> findPage(Long afterId, int limit) {
+        return repository.findSummaryPage(afterId, limit).stream().map(mapper::toSimpleDto).collect(toList());
+    }
+
+    @Override
+    public void forEach(Consumer<? super OrderSimpleDto> action) {
+        repository.forEachSummary(entity -> action.accept(mapper.toSimpleDto(entity)));
+    }
+
+    @Override
+    public List<OrderSimpleDto> findFiltered(OrderFilter filter) {
+        return repository.findFiltered(filter).stream().map(mapper::toSimpleDto).collect(toList());
+    }
+
+    @Override
+    public void forEachFiltered(OrderFilter filter, Consumer<? super OrderDto> action) {
+        repository.forEachFiltered(filter, entity -> action.accept(mapper.toDto(entity)));
     }
 
     @Override
     public boolean update(OrderDto dto) {
         if (dto != null && dto.getId() != null) {
             repository.update(mapper.toEntity(dto));
+            lookups.forget(dto.getId());
             return true;
         }
         return false;
@@ -59,6 +214,25 @@ public class OrderServiceImpl implements OrderService {
 
     @Override
     public boolean delete(Long id) {
-        return id != null && repository.deleteById(id);
+        if (id == null) return false;
+        boolean deleted = repository.deleteById(id);
+        lookups.forget(id);
+        return deleted;
+    }
+
+    private static final class SavedIds {
+        private long[] ids = new long[16];
+        private int count;
+
+        private void add(long id) {
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+            }
+            ids[count++] = id;
+        }
+
+        private long[] toArray() {
+            return Arrays.copyOf(ids, count);
+        }
     }
-}
\ No newline at end of file
+}
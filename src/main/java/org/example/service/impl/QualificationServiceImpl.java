@@ -8,14 +8,17 @@ import org.example.service.dto.QualificationDto;
 import org.example.service.dto.QualificationSimpleDto;
 import org.example.service.mapper.QualificationMapper;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static java.util.stream.Collectors.toList;
 
 public class QualificationServiceImpl implements QualificationService {
     private final QualificationRepository repository;
     private final QualificationMapper mapper;
+    private final SingleFlight<Long, QualificationDto> lookups = new SingleFlight<>();
 
     public QualificationServiceImpl() {
         this(new QualificationRepositoryImpl(), QualificationMapper.INSTANCE);
@@ -34,6 +37,10 @@ public class QualificationServiceImpl implements QualificationService {
     @Override
     public QualificationDto findById(Long id) {
         if (id == null) return null;
+        return lookups.execute(id, () -> loadById(id));
+    }
+
+    private QualificationDto loadById(Long id) {
         Optional<QualificationEntity> maybeEntity = repository.findById(id);
         QualificationDto dto = null;
         if (maybeEntity.isPresent()) {
@@ -42,15 +49,32 @@ public class QualificationServiceImpl implements QualificationService {
         return dto;
     }
 
+    @Override
+    public List<QualificationDto> findAllById(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) return List.of();
+        return repository.findAllById(ids).stream().map(mapper::toDto).collect(toList());
+    }
+
     @Override
     public List<QualificationSimpleDto> findAll() {
         return repository.findAll().stream().map(mapper::toSimpleDto).collect(toList());
     }
 
+    @Override
+    public List<QualificationSimpleDto> findPage(Long afterId, int limit) {
+        return repository.findPage(afterId, limit).stream().map(mapper::toSimpleDto).collect(toList());
+    }
+
+    @Override
+    public void forEach(Consumer<? super QualificationSimpleDto> action) {
+        repository.forEach(entity -> action.accept(mapper.toSimpleDto(entity)));
+    }
+
     @Override
     public boolean update(QualificationSimpleDto dto) {
         if (dto != null && dto.getId() != null) {
             repository.update(mapper.toEntity(dto));
+            lookups.forget(dto.getId());
             return true;
         }
         return false;
@@ -58,6 +82,8 @@ public class QualificationServiceImpl implements QualificationService {
 
     @Override
     public boolean delete(Long id) {
-        return repository.deleteById(id);
+        boolean deleted = repository.deleteById(id);
+        if (id != null) lookups.forget(id);
+        return deleted;
     }
 }
\ No newline at end of file
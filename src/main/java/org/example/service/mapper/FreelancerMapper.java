@@ -3,10 +3,15 @@ package org.example.service.mapper;
 import org.example.model.FreelancerEntity;
 import org.example.service.dto.FreelancerDto;
 import org.example.service.dto.FreelancerSimpleDto;
+import org.mapstruct.Context;
+import org.mapstruct.IterableMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 import org.mapstruct.factory.Mappers;
 
+import java.util.List;
+
 @Mapper
 public interface FreelancerMapper {
 
@@ -18,5 +23,11 @@ public interface FreelancerMapper {
 
     FreelancerDto toDto(FreelancerEntity entity);
 
+    @Named("shared")
+    FreelancerDto toDto(FreelancerEntity entity, @Context SharedInstanceContext context);
+
+    @IterableMapping(qualifiedByName = "shared")
+    List<FreelancerDto> toDtos(List<FreelancerEntity> entities, @Context SharedInstanceContext context);
+
     FreelancerSimpleDto toSimpleDto(FreelancerEntity entity);
 }
@@ -0,0 +1,25 @@
+package org.example.service.mapper;
+
+import org.example.model.QualificationEntity;
+import org.example.service.dto.QualificationSimpleDto;
+import org.mapstruct.BeforeMapping;
+import org.mapstruct.MappingTarget;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+// MapStruct context: a qualification shared by several freelancers is mapped to one shared DTO.
+// Typed to the element mapping, so the lists around it are not looked up.
+public class SharedInstanceContext {
+    private final Map<QualificationEntity, QualificationSimpleDto> mapped = new IdentityHashMap<>();
+
+    @BeforeMapping
+    public QualificationSimpleDto getMappedInstance(QualificationEntity source) {
+        return mapped.get(source);
+    }
+
+    @BeforeMapping
+    public void storeMappedInstance(QualificationEntity source, @MappingTarget QualificationSimpleDto target) {
+        mapped.put(source, target);
+    }
+}
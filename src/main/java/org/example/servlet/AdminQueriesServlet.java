@@ -0,0 +1,82 @@
+package org.example.servlet;
+
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.context.ApplicationContext;
+import org.example.context.ApplicationProperties;
+import org.example.db.metrics.QueryMetrics;
+import org.example.db.metrics.QueryStatsSnapshot;
+import org.example.servlet.handler.ExceptionHandler;
+import org.example.servlet.handler.impl.ExceptionHandlerImpl;
+import org.example.servlet.mapper.impl.JsonEngine;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+// Statement text and timings tell a lot about the schema, so the endpoint answers 404 until admin.token is set
+// and then only to requests carrying "Authorization: Bearer <admin.token>".
+@WebServlet(name = "AdminQueriesServlet", value = "/admin/queries")
+public class AdminQueriesServlet extends HttpServlet {
+    private final QueryMetrics metrics;
+    private final ExceptionHandler exceptionHandler;
+    private final byte[] token;
+
+    private static final String CONTENT_JSON = "application/json";
+    private static final String HEADER_AUTHORIZATION = "Authorization";
+    private static final String HEADER_WWW_AUTHENTICATE = "WWW-Authenticate";
+    private static final String BEARER = "Bearer ";
+
+    public AdminQueriesServlet() {
+        this.metrics = ApplicationContext.getInstance().getQueryMetrics();
+        this.exceptionHandler = new ExceptionHandlerImpl();
+        this.token = tokenBytes(ApplicationProperties.getString("admin.token", ""));
+    }
+
+    public AdminQueriesServlet(QueryMetrics metrics, ExceptionHandler exceptionHandler, String token) {
+        this.metrics = metrics;
+        this.exceptionHandler = exceptionHandler;
+        this.token = tokenBytes(token);
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+        if (!authorized(req, resp)) return;
+        try {
+            resp.setContentType(CONTENT_JSON);
+            resp.setStatus(HttpServletResponse.SC_OK);
+            JsonEngine.listWriterFor(QueryStatsSnapshot.class).writeValue(resp.getOutputStream(), metrics.snapshot());
+        } catch (IOException e) {
+            exceptionHandler.handleException(e, resp);
+        }
+    }
+
+    @Override
+    protected void doDelete(HttpServletRequest req, HttpServletResponse resp) {
+        if (!authorized(req, resp)) return;
+        metrics.reset();
+        resp.setStatus(HttpServletResponse.SC_NO_CONTENT);
+    }
+
+    private boolean authorized(HttpServletRequest req, HttpServletResponse resp) {
+        if (token == null) {
+            resp.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return false;
+        }
+        String authorization = req.getHeader(HEADER_AUTHORIZATION);
+        // Compared in constant time, so the response time does not give the token away byte by byte
+        if (authorization == null || !authorization.startsWith(BEARER) || !MessageDigest.isEqual(token,
+                authorization.substring(BEARER.length()).trim().getBytes(StandardCharsets.UTF_8))) {
+            resp.setHeader(HEADER_WWW_AUTHENTICATE, "Bearer");
+            resp.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            return false;
+        }
+        return true;
+    }
+
+    private static byte[] tokenBytes(String token) {
+        return token == null || token.isBlank() ? null : token.trim().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.servlet;
+
+import org.example.exception.PayloadTooLargeException;
+
+import java.util.Iterator;
+
+// The records parsed from a request body, remembering whether reading stopped at the body limit. The parser
+// reports that like a malformed record, but it is the request that is too large, not the record that is wrong.
+final class BodyRecords<T> implements Iterator<T> {
+    private final Iterator<T> records;
+    private boolean tooLarge;
+
+    BodyRecords(Iterator<T> records) {
+        this.records = records;
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            return records.hasNext();
+        } catch (RuntimeException e) {
+            throw noteLimit(e);
+        }
+    }
+
+    @Override
+    public T next() {
+        try {
+            return records.next();
+        } catch (RuntimeException e) {
+            throw noteLimit(e);
+        }
+    }
+
+    boolean isTooLarge() {
+        return tooLarge;
+    }
+
+    private RuntimeException noteLimit(RuntimeException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PayloadTooLargeException) {
+                tooLarge = true;
+                break;
+            }
+        }
+        return e;
+    }
+}
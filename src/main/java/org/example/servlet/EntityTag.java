@@ -0,0 +1,60 @@
+package org.example.servlet;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.repository.cache.TableVersions;
+
+import java.util.Collection;
+
+// Strong validators built from table versions. They are read before the data they describe, so a tag that
+// still matches means nothing the response depends on changed and the 304 needs neither a query nor a body.
+final class EntityTag {
+    private static final String HEADER_ETAG = "ETag";
+    private static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+    private static final String WEAK_PREFIX = "W/";
+
+    private EntityTag() {
+    }
+
+    static String of(TableVersions versions, long... parts) {
+        var tag = new StringBuilder().append('"').append(Long.toString(versions.getEpoch(), 36));
+        for (long part : parts) {
+            tag.append('-').append(Long.toString(part, 36));
+        }
+        return tag.append('"').toString();
+    }
+
+    // Any change to one of the entities gives it a version above every version seen before, so the highest
+    // version moves whenever the set changes
+    static long latest(TableVersions versions, TableVersions.Table table, Collection<Long> ids) {
+        long latest = 0;
+        for (Long id : ids) {
+            latest = Math.max(latest, versions.get(table, id));
+        }
+        return latest;
+    }
+
+    // If-None-Match compares weakly: W/"x" matches "x"
+    static boolean notModified(HttpServletRequest req, HttpServletResponse resp, String tag) {
+        String header = req.getHeader(HEADER_IF_NONE_MATCH);
+        if (header == null) {
+            return false;
+        }
+        for (String candidate : header.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.startsWith(WEAK_PREFIX)) {
+                candidate = candidate.substring(WEAK_PREFIX.length());
+            }
+            if (candidate.equals(tag)) {
+                resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                resp.setHeader(HEADER_ETAG, tag);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static void set(HttpServletResponse resp, String tag) {
+        resp.setHeader(HEADER_ETAG, tag);
+    }
+}
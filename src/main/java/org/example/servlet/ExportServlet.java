@@ -0,0 +1,181 @@
+package org.example.servlet;
+
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.context.ApplicationContext;
+import org.example.context.ApplicationProperties;
+import org.example.exception.RepositoryException;
+import org.example.service.FreelancerService;
+import org.example.service.OrderService;
+import org.example.service.dto.FreelancerSimpleDto;
+import org.example.service.dto.OrderDto;
+import org.example.servlet.executor.RequestExecutor;
+import org.example.servlet.executor.impl.DirectRequestExecutor;
+import org.example.servlet.handler.ExceptionHandler;
+import org.example.servlet.handler.impl.ExceptionHandlerImpl;
+import org.example.servlet.mapper.ExportWriter;
+import org.example.servlet.mapper.FreelancerJsonMapper;
+import org.example.servlet.mapper.OrderJsonMapper;
+import org.example.servlet.mapper.impl.CsvExportWriter;
+import org.example.servlet.mapper.impl.FreelancerJsonMapperImpl;
+import org.example.servlet.mapper.impl.OrderJsonMapperImpl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+// GET /export/orders and /export/freelancers: the whole table, or the orders matching the filter parameters,
+// as CSV or NDJSON (?format=ndjson), gzip-compressed when the client accepts it. Rows go from a forward-only
+// cursor straight to the response, which the container sends chunked since its length is unknown.
+// Not async: an export outlives the request timeout of the async executor, so the write timeout bounds it instead.
+@WebServlet(name = "ExportServlet", value = "/export/*")
+public class ExportServlet extends HttpServlet {
+    private final OrderService orderService;
+    private final FreelancerService freelancerService;
+    private final OrderJsonMapper orderJsonMapper;
+    private final FreelancerJsonMapper freelancerJsonMapper;
+    private final ExceptionHandler exceptionHandler;
+    private final RequestExecutor requestExecutor;
+    private final long writeTimeoutMillis;
+
+    private static final String PATH_ORDERS = "/orders";
+    private static final String PATH_FREELANCERS = "/freelancers";
+    private static final String PARAMETER_FORMAT = "format";
+    private static final String FORMAT_CSV = "csv";
+    private static final String FORMAT_NDJSON = "ndjson";
+    private static final String CONTENT_CSV = "text/csv;charset=UTF-8";
+    private static final String CONTENT_NDJSON = "application/x-ndjson";
+    private static final String HEADER_ACCEPT_ENCODING = "Accept-Encoding";
+    private static final String HEADER_CONTENT_ENCODING = "Content-Encoding";
+    private static final String HEADER_CONTENT_DISPOSITION = "Content-Disposition";
+    private static final String HEADER_VARY = "Vary";
+    private static final String GZIP = "gzip";
+    private static final int GZIP_BUFFER_SIZE = 8192;
+    private static final String[] ORDER_COLUMNS =
+            {"id", "orderTitle", "orderDescription", "orderPrice", "orderTerm", "qualificationId"};
+    private static final String[] FREELANCER_COLUMNS =
+            {"id", "freelancerName", "freelancerSecondName", "freelancerEmail"};
+
+    public ExportServlet() {
+        var context = ApplicationContext.getInstance();
+        this.orderService = context.getOrderService();
+        this.freelancerService = context.getFreelancerService();
+        this.orderJsonMapper = new OrderJsonMapperImpl();
+        this.freelancerJsonMapper = new FreelancerJsonMapperImpl();
+        this.exceptionHandler = new ExceptionHandlerImpl();
+        this.requestExecutor = new DirectRequestExecutor();
+        this.writeTimeoutMillis = ApplicationProperties.getLong("export.writeTimeoutMillis", 30_000);
+    }
+
+    public ExportServlet(OrderService orderService, FreelancerService freelancerService, OrderJsonMapper orderJsonMapper,
+                         FreelancerJsonMapper freelancerJsonMapper, ExceptionHandler exceptionHandler,
+                         long writeTimeoutMillis) {
+        this.orderService = orderService;
+        this.freelancerService = freelancerService;
+        this.orderJsonMapper = orderJsonMapper;
+        this.freelancerJsonMapper = freelancerJsonMapper;
+        this.exceptionHandler = exceptionHandler;
+        this.requestExecutor = new DirectRequestExecutor();
+        this.writeTimeoutMillis = writeTimeoutMillis;
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+        requestExecutor.execute(req, resp, this::handleGet);
+    }
+
+    private void handleGet(HttpServletRequest req, HttpServletResponse resp) {
+        try {
+            String path = req.getPathInfo();
+            boolean orders = PATH_ORDERS.equals(path);
+            if (!orders && !PATH_FREELANCERS.equals(path)) {
+                resp.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            boolean csv = isCsv(req.getParameter(PARAMETER_FORMAT));
+            var filter = orders ? OrderFilterRequest.forExport(req) : null;
+            boolean gzip = acceptsGzip(req.getHeader(HEADER_ACCEPT_ENCODING));
+
+            resp.setStatus(HttpServletResponse.SC_OK);
+            resp.setContentType(csv ? CONTENT_CSV : CONTENT_NDJSON);
+            resp.setHeader(HEADER_CONTENT_DISPOSITION, "attachment; filename=\"" + path.substring(1) + "." +
+                                                       (csv ? FORMAT_CSV : FORMAT_NDJSON) + (gzip ? ".gz" : "") + "\"");
+            resp.setHeader(HEADER_VARY, HEADER_ACCEPT_ENCODING);
+            if (gzip) {
+                resp.setHeader(HEADER_CONTENT_ENCODING, GZIP);
+            }
+            var stream = new WriteTimeoutOutputStream(resp.getOutputStream(), writeTimeoutMillis);
+            OutputStream out = gzip ? new GZIPOutputStream(stream, GZIP_BUFFER_SIZE) : stream;
+            try {
+                if (orders) {
+                    ExportWriter<OrderDto> writer = csv
+                            ? new CsvExportWriter<>(out, ORDER_COLUMNS, ExportServlet::orderRow)
+                            : orderJsonMapper.openNdjson(out);
+                    ServletUtil.streamExport(writer, action -> orderService.forEachFiltered(filter, action));
+                } else {
+                    ExportWriter<FreelancerSimpleDto> writer = csv
+                            ? new CsvExportWriter<>(out, FREELANCER_COLUMNS, ExportServlet::freelancerRow)
+                            : freelancerJsonMapper.openNdjson(out);
+                    ServletUtil.streamExport(writer, freelancerService::forEach);
+                }
+            } catch (IOException | RuntimeException e) {
+                stream.abort();
+                throw e;
+            }
+        } catch (NumberFormatException | IOException e) {
+            exceptionHandler.handleException(e, resp);
+        } catch (RepositoryException e) {
+            // Once rows are out the status cannot change any more: escaping the servlet makes the container drop
+            // the connection, so the client sees a broken transfer instead of a short file that ends cleanly
+            if (resp.isCommitted()) {
+                throw e;
+            }
+            resp.reset();
+            exceptionHandler.handleException(e, resp);
+        }
+    }
+
+    private static boolean isCsv(String format) {
+        if (format == null || FORMAT_CSV.equalsIgnoreCase(format)) return true;
+        if (FORMAT_NDJSON.equalsIgnoreCase(format)) return false;
+        throw new NumberFormatException("Unknown export format " + format);
+    }
+
+    // "gzip", "gzip;q=0.8" and "*" accept it; "gzip;q=0" refuses it
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        for (String coding : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (!name.equals(GZIP) && !name.equals("*")) continue;
+            boolean refused = false;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        refused = Double.parseDouble(parameter.substring(2)) == 0;
+                    } catch (NumberFormatException e) {
+                        refused = true;
+                    }
+                }
+            }
+            return !refused;
+        }
+        return false;
+    }
+
+    private static Object[] orderRow(OrderDto dto) {
+        var price = dto.getOrderPrice();
+        var qualification = dto.getQualification();
+        return new Object[]{dto.getId(), dto.getOrderTitle(), dto.getOrderDescription(),
+                price == null ? null : price.toPlainString(), dto.getOrderTerm(),
+                qualification == null ? null : qualification.getId()};
+    }
+
+    private static Object[] freelancerRow(FreelancerSimpleDto dto) {
+        return new Object[]{dto.getId(), dto.getFreelancerName(), dto.getFreelancerSecondName(), dto.getFreelancerEmail()};
+    }
+}
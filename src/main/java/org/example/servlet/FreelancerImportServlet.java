@@ -0,0 +1,70 @@
+package org.example.servlet;
+
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.context.ApplicationContext;
+import org.example.context.ApplicationProperties;
+import org.example.service.FreelancerService;
+import org.example.service.dto.FreelancerImportResultDto;
+import org.example.servlet.executor.RequestExecutor;
+import org.example.servlet.executor.impl.DirectRequestExecutor;
+import org.example.servlet.handler.ExceptionHandler;
+import org.example.servlet.handler.impl.ExceptionHandlerImpl;
+import org.example.servlet.mapper.FreelancerJsonMapper;
+import org.example.servlet.mapper.impl.FreelancerJsonMapperImpl;
+
+import java.io.IOException;
+
+// POST /freelancers/import: a JSON array or NDJSON of freelancers with their qualifications. 200 with
+// an outcome for every record: its id, or why it was skipped as a duplicate email or rejected. When storing
+// failed part way, 500 with the outcomes up to failedIndex; 413 when the body outgrew the limit part way.
+@WebServlet(asyncSupported = true, name = "FreelancerImportServlet", value = "/freelancers/import")
+public class FreelancerImportServlet extends HttpServlet {
+    private final FreelancerService service;
+    private final FreelancerJsonMapper jsonMapper;
+    private final ExceptionHandler exceptionHandler;
+    private final RequestExecutor requestExecutor;
+
+    private static final String CONTENT_JSON = "application/json";
+    private static final long MAX_BODY_BYTES = ApplicationProperties.getLong("freelancers.import.maxBodyBytes", 268_435_456);
+
+    public FreelancerImportServlet() {
+        var context = ApplicationContext.getInstance();
+        this.service = context.getFreelancerService();
+        this.jsonMapper = new FreelancerJsonMapperImpl();
+        this.exceptionHandler = new ExceptionHandlerImpl();
+        this.requestExecutor = context.getRequestExecutor();
+    }
+
+    public FreelancerImportServlet(FreelancerService service, FreelancerJsonMapper jsonMapper,
+                                   ExceptionHandler exceptionHandler) {
+        this.service = service;
+        this.jsonMapper = jsonMapper;
+        this.exceptionHandler = exceptionHandler;
+        this.requestExecutor = new DirectRequestExecutor();
+    }
+
+    @Override
+    protected void doPost(HttpServletRequest req, HttpServletResponse resp) {
+        requestExecutor.execute(req, resp, this::handlePost);
+    }
+
+    private void handlePost(HttpServletRequest req, HttpServletResponse resp) {
+        try {
+            var dtos = new BodyRecords<>(jsonMapper.readDtos(ServletUtil.getJsonBody(req, MAX_BODY_BYTES)));
+            var result = service.importAll(dtos);
+            resp.setContentType(CONTENT_JSON);
+            resp.setStatus(status(result, dtos.isTooLarge()));
+            jsonMapper.writeJson(result, resp.getOutputStream());
+        } catch (IOException e) {
+            exceptionHandler.handleException(e, resp);
+        }
+    }
+
+    private static int status(FreelancerImportResultDto result, boolean tooLarge) {
+        if (result.getFailedIndex() != null) return HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        return tooLarge ? HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE : HttpServletResponse.SC_OK;
+    }
+}
@@ -4,8 +4,11 @@ import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.example.context.ApplicationContext;
+import org.example.repository.cache.TableVersions;
+import org.example.repository.cache.TableVersions.Table;
 import org.example.service.FreelancerService;
-import org.example.service.impl.FreelancerServiceImpl;
+import org.example.servlet.executor.RequestExecutor;
 import org.example.servlet.handler.ExceptionHandler;
 import org.example.servlet.handler.impl.ExceptionHandlerImpl;
 import org.example.servlet.mapper.FreelancerJsonMapper;
@@ -13,68 +16,141 @@ import org.example.servlet.mapper.impl.FreelancerJsonMapperImpl;
 
 import java.io.IOException;
 
-@WebServlet(name = "FreelancerServlet", value = "/freelancers")
+@WebServlet(asyncSupported = true, name = "FreelancerServlet", value = "/freelancers")
 public class FreelancerServlet extends HttpServlet {
     private final FreelancerService service;
     private final FreelancerJsonMapper jsonMapper;
 
     private final ExceptionHandler exceptionHandler;
+    private final RequestExecutor requestExecutor;
+    private final TableVersions versions;
 
     private static final String CONTENT_JSON = "application/json";
     private static final String PARAMETER_ID = "id";
+    private static final String PARAMETER_STREAM = "stream";
+    private static final String PARAMETER_INCLUDE = "include";
+    private static final String INCLUDE_QUALIFICATIONS = "qualifications";
 
     public FreelancerServlet() {
-        this.service = new FreelancerServiceImpl();
+        var context = ApplicationContext.getInstance();
+        this.service = context.getFreelancerService();
         this.jsonMapper = new FreelancerJsonMapperImpl();
         this.exceptionHandler = new ExceptionHandlerImpl();
+        this.requestExecutor = context.getRequestExecutor();
+        this.versions = context.getTableVersions();
     }
 
-    public FreelancerServlet(FreelancerService service, FreelancerJsonMapper jsonMapper, ExceptionHandler exceptionHandler) {
+    public FreelancerServlet(FreelancerService service, FreelancerJsonMapper jsonMapper,
+                             ExceptionHandler exceptionHandler, RequestExecutor requestExecutor,
+                             TableVersions versions) {
         this.service = service;
         this.jsonMapper = jsonMapper;
         this.exceptionHandler = exceptionHandler;
+        this.requestExecutor = requestExecutor;
+        this.versions = versions;
     }
 
     @Override
     protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+        requestExecutor.execute(req, resp, this::handleGet);
+    }
+
+    @Override
+    protected void doPost(HttpServletRequest req, HttpServletResponse resp) {
+        requestExecutor.execute(req, resp, this::handlePost);
+    }
+
+    @Override
+    protected void doPut(HttpServletRequest req, HttpServletResponse resp) {
+        requestExecutor.execute(req, resp, this::handlePut);
+    }
+
+    @Override
+    protected void doDelete(HttpServletRequest req, HttpServletResponse resp) {
+        requestExecutor.execute(req, resp, this::handleDelete);
+    }
+
+    // Relations move with their freelancer's version; qualification names come from the qualification table
+    private void handleGet(HttpServletRequest req, HttpServletResponse resp) {
         try {
             String param = req.getParameter(PARAMETER_ID);
-            String jsonResponse;
-            if (param != null) {
+            if (param != null && param.indexOf(ServletUtil.ID_SEPARATOR) >= 0) {
+                var ids = ServletUtil.parseIds(param);
+                String tag = EntityTag.of(versions, EntityTag.latest(versions, Table.FREELANCER, ids),
+                        versions.get(Table.QUALIFICATION));
+                if (EntityTag.notModified(req, resp, tag)) return;
+                var dtos = service.findAllById(ids);
+                EntityTag.set(resp, tag);
+                resp.setContentType(CONTENT_JSON);
+                resp.setStatus(HttpServletResponse.SC_OK);
+                jsonMapper.writeDtoListJson(dtos, resp.getOutputStream());
+            } else if (param != null) {
                 Long id = Long.parseLong(param);
+                String tag = EntityTag.of(versions, versions.get(Table.FREELANCER, id), versions.get(Table.QUALIFICATION));
+                if (EntityTag.notModified(req, resp, tag)) return;
                 var resultDto = service.findById(id);
                 if (resultDto == null) {
                     resp.setStatus(HttpServletResponse.SC_NOT_FOUND);
                     return;
                 }
-                jsonResponse = jsonMapper.toJson(resultDto);
+                EntityTag.set(resp, tag);
+                resp.setContentType(CONTENT_JSON);
+                resp.setStatus(HttpServletResponse.SC_OK);
+                jsonMapper.writeJson(resultDto, resp.getOutputStream());
+            } else if (Boolean.parseBoolean(req.getParameter(PARAMETER_STREAM))) {
+                String tag = EntityTag.of(versions, versions.get(Table.FREELANCER));
+                if (EntityTag.notModified(req, resp, tag)) return;
+                EntityTag.set(resp, tag);
+                resp.setContentType(CONTENT_JSON);
+                resp.setStatus(HttpServletResponse.SC_OK);
+                ServletUtil.streamJsonArray(jsonMapper.openJsonArray(resp.getOutputStream()), service::forEach);
+            } else if (req.getParameter(PARAMETER_INCLUDE) != null) {
+                if (!INCLUDE_QUALIFICATIONS.equals(req.getParameter(PARAMETER_INCLUDE))) {
+                    throw new NumberFormatException("Unsupported include: " + req.getParameter(PARAMETER_INCLUDE));
+                }
+                var page = PageRequest.from(req);
+                String tag = EntityTag.of(versions, versions.get(Table.FREELANCER), versions.get(Table.QUALIFICATION));
+                if (EntityTag.notModified(req, resp, tag)) return;
+                var dtos = service.findPageWithQualifications(page.getAfterId(), page.getLimit());
+                if (dtos.isEmpty()) {
+                    resp.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                    return;
+                }
+                page.addNextLink(req, resp, dtos.size(), dtos.get(dtos.size() - 1).getId());
+                EntityTag.set(resp, tag);
+                resp.setContentType(CONTENT_JSON);
+                resp.setStatus(HttpServletResponse.SC_OK);
+                jsonMapper.writeDtoListJson(dtos, resp.getOutputStream());
             } else {
-                var dtos = service.findAll();
+                var page = PageRequest.from(req);
+                String tag = EntityTag.of(versions, versions.get(Table.FREELANCER));
+                if (EntityTag.notModified(req, resp, tag)) return;
+                var dtos = service.findPage(page.getAfterId(), page.getLimit());
                 if (dtos.isEmpty()) {
                     resp.setStatus(HttpServletResponse.SC_NOT_FOUND);
                     return;
                 }
-                jsonResponse = jsonMapper.toJson(dtos);
+                page.addNextLink(req, resp, dtos.size(), dtos.get(dtos.size() - 1).getId());
+                EntityTag.set(resp, tag);
+                resp.setContentType(CONTENT_JSON);
+                resp.setStatus(HttpServletResponse.SC_OK);
+                jsonMapper.writeJson(dtos, resp.getOutputStream());
             }
-            resp.setContentType(CONTENT_JSON);
-            resp.setStatus(HttpServletResponse.SC_OK);
-            ServletUtil.sendJsonResponse(jsonResponse, resp);
         } catch (NumberFormatException | IOException e) {
             exceptionHandler.handleException(e, resp);
         }
     }
 
-    @Override
-    protected void doPost(HttpServletRequest req, HttpServletResponse resp) {
+    private void handlePost(HttpServletRequest req, HttpServletResponse resp) {
         try {
-            String jsonBody = ServletUtil.getJsonBody(req);
-            var bodyDto = jsonMapper.toDto(jsonBody);
+            var body = ServletUtil.getJsonBody(req);
+            var bodyDto = jsonMapper.toDto(body);
             var resultDto = service.save(bodyDto);
             if (resultDto != null && resultDto.getId() != null) {
-                String jsonResp = jsonMapper.toJson(resultDto);
                 resp.setContentType(CONTENT_JSON);
                 resp.setStatus(HttpServletResponse.SC_CREATED);
-                ServletUtil.sendJsonResponse(jsonResp, resp);
+                jsonMapper.writeJson(resultDto, resp.getOutputStream());
+                return;
             }
             resp.setStatus(HttpServletResponse.SC_BAD_REQUEST);
         } catch (IOException e) {
@@ -82,11 +158,10 @@ public class FreelancerServlet extends HttpServlet {
         }
     }
 
-    @Override
-    protected void doPut(HttpServletRequest req, HttpServletResponse resp) {
+    private void handlePut(HttpServletRequest req, HttpServletResponse resp) {
         try {
-            String jsonBody = ServletUtil.getJsonBody(req);
-            var updatedDto = jsonMapper.toDto(jsonBody);
+            var body = ServletUtil.getJsonBody(req);
+            var updatedDto = jsonMapper.toDto(body);
             if (updatedDto.getId() != null && service.update(updatedDto)) {
                 resp.setStatus(HttpServletResponse.SC_OK);
                 return;
@@ -97,8 +172,7 @@ public class FreelancerServlet extends HttpServlet {
         }
     }
 
-    @Override
-    protected void doDelete(HttpServletRequest req, HttpServletResponse resp) {
+    private void handleDelete(HttpServletRequest req, HttpServletResponse resp) {
         try {
             Long id = Long.parseLong(req.getParameter(PARAMETER_ID));
             if (service.delete(id)) {
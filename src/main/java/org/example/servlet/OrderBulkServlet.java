@@ -0,0 +1,70 @@
+package org.example.servlet;
+
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.context.ApplicationContext;
+import org.example.context.ApplicationProperties;
+import org.example.service.OrderService;
+import org.example.service.dto.OrderBulkResultDto;
+import org.example.servlet.executor.RequestExecutor;
+import org.example.servlet.executor.impl.DirectRequestExecutor;
+import org.example.servlet.handler.ExceptionHandler;
+import org.example.servlet.handler.impl.ExceptionHandlerImpl;
+import org.example.servlet.mapper.OrderJsonMapper;
+import org.example.servlet.mapper.impl.OrderJsonMapperImpl;
+
+import java.io.IOException;
+
+// POST /orders/bulk: a JSON array or NDJSON of orders, parsed while it arrives. 201 with the ids in input order;
+// otherwise the ids saved before the first record that was not, and that record's index: 400 for a bad record,
+// 413 when the body outgrew the limit part way, 500 when storing a chunk failed.
+@WebServlet(asyncSupported = true, name = "OrderBulkServlet", value = "/orders/bulk")
+public class OrderBulkServlet extends HttpServlet {
+    private final OrderService service;
+    private final OrderJsonMapper jsonMapper;
+    private final ExceptionHandler exceptionHandler;
+    private final RequestExecutor requestExecutor;
+
+    private static final String CONTENT_JSON = "application/json";
+    private static final long MAX_BODY_BYTES = ApplicationProperties.getLong("orders.bulk.maxBodyBytes", 268_435_456);
+
+    public OrderBulkServlet() {
+        var context = ApplicationContext.getInstance();
+        this.service = context.getOrderService();
+        this.jsonMapper = new OrderJsonMapperImpl();
+        this.exceptionHandler = new ExceptionHandlerImpl();
+        this.requestExecutor = context.getRequestExecutor();
+    }
+
+    public OrderBulkServlet(OrderService service, OrderJsonMapper jsonMapper, ExceptionHandler exceptionHandler) {
+        this.service = service;
+        this.jsonMapper = jsonMapper;
+        this.exceptionHandler = exceptionHandler;
+        this.requestExecutor = new DirectRequestExecutor();
+    }
+
+    @Override
+    protected void doPost(HttpServletRequest req, HttpServletResponse resp) {
+        requestExecutor.execute(req, resp, this::handlePost);
+    }
+
+    private void handlePost(HttpServletRequest req, HttpServletResponse resp) {
+        try {
+            var dtos = new BodyRecords<>(jsonMapper.readDtos(ServletUtil.getJsonBody(req, MAX_BODY_BYTES)));
+            var result = service.saveAll(dtos);
+            resp.setContentType(CONTENT_JSON);
+            resp.setStatus(status(result, dtos.isTooLarge()));
+            jsonMapper.writeJson(result, resp.getOutputStream());
+        } catch (IOException e) {
+            exceptionHandler.handleException(e, resp);
+        }
+    }
+
+    private static int status(OrderBulkResultDto result, boolean tooLarge) {
+        if (result.getFailedIndex() == null) return HttpServletResponse.SC_CREATED;
+        if (tooLarge) return HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE;
+        return result.isRetryable() ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : HttpServletResponse.SC_BAD_REQUEST;
+    }
+}
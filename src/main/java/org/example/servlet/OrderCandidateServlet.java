@@ -0,0 +1,75 @@
+package org.example.servlet;
+
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.context.ApplicationContext;
+import org.example.service.CandidateService;
+import org.example.servlet.executor.RequestExecutor;
+import org.example.servlet.executor.impl.DirectRequestExecutor;
+import org.example.servlet.handler.ExceptionHandler;
+import org.example.servlet.handler.impl.ExceptionHandlerImpl;
+import org.example.servlet.mapper.FreelancerJsonMapper;
+import org.example.servlet.mapper.impl.FreelancerJsonMapperImpl;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+// GET /orders/{id}/candidates: freelancers qualified for the order, paged with after/limit
+@WebServlet(asyncSupported = true, name = "OrderCandidateServlet", value = "/orders/*")
+public class OrderCandidateServlet extends HttpServlet {
+    private final CandidateService service;
+    private final FreelancerJsonMapper jsonMapper;
+    private final ExceptionHandler exceptionHandler;
+    private final RequestExecutor requestExecutor;
+
+    private static final String CONTENT_JSON = "application/json";
+    private static final Pattern CANDIDATES_PATH = Pattern.compile("/([^/]+)/candidates/?");
+
+    public OrderCandidateServlet() {
+        var context = ApplicationContext.getInstance();
+        this.service = context.getCandidateService();
+        this.jsonMapper = new FreelancerJsonMapperImpl();
+        this.exceptionHandler = new ExceptionHandlerImpl();
+        this.requestExecutor = context.getRequestExecutor();
+    }
+
+    public OrderCandidateServlet(CandidateService service, FreelancerJsonMapper jsonMapper,
+                                 ExceptionHandler exceptionHandler) {
+        this.service = service;
+        this.jsonMapper = jsonMapper;
+        this.exceptionHandler = exceptionHandler;
+        this.requestExecutor = new DirectRequestExecutor();
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+        requestExecutor.execute(req, resp, this::handleGet);
+    }
+
+    private void handleGet(HttpServletRequest req, HttpServletResponse resp) {
+        try {
+            var path = req.getPathInfo() == null ? null : CANDIDATES_PATH.matcher(req.getPathInfo());
+            if (path == null || !path.matches()) {
+                resp.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            Long orderId = Long.parseLong(path.group(1));
+            var page = PageRequest.from(req);
+            var dtos = service.findCandidates(orderId, page.getAfterId(), page.getLimit());
+            if (dtos == null) {
+                resp.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            if (!dtos.isEmpty()) {
+                page.addNextLink(req, resp, dtos.size(), dtos.get(dtos.size() - 1).getId());
+            }
+            resp.setContentType(CONTENT_JSON);
+            resp.setStatus(HttpServletResponse.SC_OK);
+            jsonMapper.writeJson(dtos, resp.getOutputStream());
+        } catch (NumberFormatException | IOException e) {
+            exceptionHandler.handleException(e, resp);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.servlet;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.example.model.OrderFilter;
+import org.example.model.OrderSort;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+public final class OrderFilterRequest {
+    private static final String PARAMETER_QUALIFICATION = "qualificationId";
+    private static final String PARAMETER_MIN_PRICE = "minPrice";
+    private static final String PARAMETER_MAX_PRICE = "maxPrice";
+    private static final String PARAMETER_TERM_FROM = "termFrom";
+    private static final String PARAMETER_TERM_TO = "termTo";
+    private static final String PARAMETER_SORT = "sort";
+    private static final String[] PARAMETERS = {PARAMETER_QUALIFICATION, PARAMETER_MIN_PRICE, PARAMETER_MAX_PRICE,
+            PARAMETER_TERM_FROM, PARAMETER_TERM_TO, PARAMETER_SORT};
+
+    private OrderFilterRequest() {
+    }
+
+    public static boolean isPresent(HttpServletRequest req) {
+        for (String parameter : PARAMETERS) {
+            if (req.getParameter(parameter) != null) return true;
+        }
+        return false;
+    }
+
+    // Malformed values surface as NumberFormatException so the exception handler answers 400
+    public static OrderFilter from(HttpServletRequest req, PageRequest page) {
+        return parse(req, page.getAfterId(), page.getLimit());
+    }
+
+    // Exports stream in id order without a limit, so only the predicates are taken from the request
+    public static OrderFilter forExport(HttpServletRequest req) {
+        var filter = parse(req, 0L, Integer.MAX_VALUE);
+        if (filter.getSort() != OrderSort.ID) {
+            throw new NumberFormatException("Exports are sorted by id");
+        }
+        return filter;
+    }
+
+    private static OrderFilter parse(HttpServletRequest req, long afterId, int limit) {
+        String qualification = req.getParameter(PARAMETER_QUALIFICATION);
+        var minPrice = parsePrice(req.getParameter(PARAMETER_MIN_PRICE));
+        var maxPrice = parsePrice(req.getParameter(PARAMETER_MAX_PRICE));
+        var termFrom = parseDate(req.getParameter(PARAMETER_TERM_FROM));
+        var termTo = parseDate(req.getParameter(PARAMETER_TERM_TO));
+        var sort = parseSort(req.getParameter(PARAMETER_SORT));
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0
+            || termFrom != null && termTo != null && termFrom.isAfter(termTo)) {
+            throw new NumberFormatException("Empty price or term range");
+        }
+        if (afterId != 0 && sort != OrderSort.ID) {
+            throw new NumberFormatException("Cursor paging is only supported when sorting by id");
+        }
+        return new OrderFilter(qualification == null ? null : Long.parseLong(qualification),
+                minPrice, maxPrice, termFrom, termTo, sort, afterId, limit);
+    }
+
+    private static BigDecimal parsePrice(String value) {
+        return value == null ? null : new BigDecimal(value);
+    }
+
+    private static LocalDate parseDate(String value) {
+        try {
+            return value == null ? null : LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new NumberFormatException(e.getMessage());
+        }
+    }
+
+    private static OrderSort parseSort(String value) {
+        try {
+            return value == null ? OrderSort.ID : OrderSort.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new NumberFormatException("Unknown sort " + value);
+        }
+    }
+}
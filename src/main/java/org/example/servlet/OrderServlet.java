@@ -4,8 +4,10 @@ import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.example.context.ApplicationContext;
+import org.example.model.OrderSort;
 import org.example.service.OrderService;
-import org.example.service.impl.OrderServiceImpl;
+import org.example.servlet.executor.RequestExecutor;
 import org.example.servlet.handler.ExceptionHandler;
 import org.example.servlet.handler.impl.ExceptionHandlerImpl;
 import org.example.servlet.mapper.OrderJsonMapper;
@@ -13,68 +15,117 @@ import org.example.servlet.mapper.impl.OrderJsonMapperImpl;
 
 import java.io.IOException;
 
-@WebServlet(name = "OrderServlet", value = "/orders")
+@WebServlet(asyncSupported = true, name = "OrderServlet", value = "/orders")
 public class OrderServlet extends HttpServlet {
     private final OrderService service;
     private final OrderJsonMapper jsonMapper;
     private final ExceptionHandler exceptionHandler;
+    private final RequestExecutor requestExecutor;
 
 
     private static final String CONTENT_JSON = "application/json";
     private static final String PARAMETER_ID = "id";
+    private static final String PARAMETER_STREAM = "stream";
 
     public OrderServlet() {
-        this.service = new OrderServiceImpl();
+        var context = ApplicationContext.getInstance();
+        this.service = context.getOrderService();
         this.jsonMapper = new OrderJsonMapperImpl();
         this.exceptionHandler = new ExceptionHandlerImpl();
+        this.requestExecutor = context.getRequestExecutor();
     }
 
-    public OrderServlet(OrderService service, OrderJsonMapper jsonMapper, ExceptionHandler exceptionHandler) {
+    public OrderServlet(OrderService service, OrderJsonMapper jsonMapper,
+                        ExceptionHandler exceptionHandler, RequestExecutor requestExecutor) {
         this.service = service;
         this.jsonMapper = jsonMapper;
         this.exceptionHandler = exceptionHandler;
+        this.requestExecutor = requestExecutor;
     }
 
     @Override
     protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+        requestExecutor.execute(req, resp, this::handleGet);
+    }
+
+    @Override
+    protected void doPost(HttpServletRequest req, HttpServletResponse resp) {
+        requestExecutor.execute(req, resp, this::handlePost);
+    }
+
+    @Override
+    protected void doPut(HttpServletRequest req, HttpServletResponse resp) {
+        requestExecutor.execute(req, resp, this::handlePut);
+    }
+
+    @Override
+    protected void doDelete(HttpServletRequest req, HttpServletResponse resp) {
+        requestExecutor.execute(req, resp, this::handleDelete);
+    }
+
+    private void handleGet(HttpServletRequest req, HttpServletResponse resp) {
         try {
             String param = req.getParameter(PARAMETER_ID);
-            String jsonResponse;
-            if (param != null) {
+            if (param != null && param.indexOf(ServletUtil.ID_SEPARATOR) >= 0) {
+                var dtos = service.findAllById(ServletUtil.parseIds(param));
+                resp.setContentType(CONTENT_JSON);
+                resp.setStatus(HttpServletResponse.SC_OK);
+                jsonMapper.writeDtoListJson(dtos, resp.getOutputStream());
+            } else if (param != null) {
                 Long id = Long.parseLong(param);
                 var resultDto = service.findById(id);
                 if (resultDto == null) {
                     resp.setStatus(HttpServletResponse.SC_NOT_FOUND);
                     return;
                 }
-                jsonResponse = jsonMapper.toJson(resultDto);
+                resp.setContentType(CONTENT_JSON);
+                resp.setStatus(HttpServletResponse.SC_OK);
+                jsonMapper.writeJson(resultDto, resp.getOutputStream());
+            } else if (Boolean.parseBoolean(req.getParameter(PARAMETER_STREAM))) {
+                resp.setContentType(CONTENT_JSON);
+                resp.setStatus(HttpServletResponse.SC_OK);
+                ServletUtil.streamJsonArray(jsonMapper.openJsonArray(resp.getOutputStream()), service::forEach);
+            } else if (OrderFilterRequest.isPresent(req)) {
+                var page = PageRequest.from(req);
+                var filter = OrderFilterRequest.from(req, page);
+                var dtos = service.findFiltered(filter);
+                if (dtos.isEmpty()) {
+                    resp.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                    return;
+                }
+                if (filter.getSort() == OrderSort.ID) {
+                    page.addNextLink(req, resp, dtos.size(), dtos.get(dtos.size() - 1).getId());
+                }
+                resp.setContentType(CONTENT_JSON);
+                resp.setStatus(HttpServletResponse.SC_OK);
+                jsonMapper.writeJson(dtos, resp.getOutputStream());
             } else {
-                var dtos = service.findAll();
+                var page = PageRequest.from(req);
+                var dtos = service.findPage(page.getAfterId(), page.getLimit());
                 if (dtos.isEmpty()) {
                     resp.setStatus(HttpServletResponse.SC_NOT_FOUND);
                     return;
                 }
-                jsonResponse = jsonMapper.toJson(dtos);
+                page.addNextLink(req, resp, dtos.size(), dtos.get(dtos.size() - 1).getId());
+                resp.setContentType(CONTENT_JSON);
+                resp.setStatus(HttpServletResponse.SC_OK);
+                jsonMapper.writeJson(dtos, resp.getOutputStream());
             }
-            resp.setContentType(CONTENT_JSON);
-            resp.setStatus(HttpServletResponse.SC_OK);
-            ServletUtil.sendJsonResponse(jsonResponse, resp);
         } catch (NumberFormatException | IOException e) {
             exceptionHandler.handleException(e, resp);
         }
     }
 
-    @Override
-    protected void doPost(HttpServletRequest req, HttpServletResponse resp) {
+    private void handlePost(HttpServletRequest req, HttpServletResponse resp) {
         try {
-            String jsonBody = ServletUtil.getJsonBody(req);
-            var bodyDto = jsonMapper.toDto(jsonBody);
+            var body = ServletUtil.getJsonBody(req);
+            var bodyDto = jsonMapper.toDto(body);
             var resultDto = service.save(bodyDto);
             if (resultDto != null && resultDto.getId() != null) {
-                String jsonResp = jsonMapper.toJson(resultDto);
                 resp.setContentType(CONTENT_JSON);
                 resp.setStatus(HttpServletResponse.SC_CREATED);
-                ServletUtil.sendJsonResponse(jsonResp, resp);
+                jsonMapper.writeJson(resultDto, resp.getOutputStream());
+                return;
             }
             resp.setStatus(HttpServletResponse.SC_BAD_REQUEST);
         } catch (IOException e) {
@@ -82,11 +133,10 @@ public class OrderServlet extends HttpServlet {
         }
     }
 
-    @Override
-    protected void doPut(HttpServletRequest req, HttpServletResponse resp) {
+    private void handlePut(HttpServletRequest req, HttpServletResponse resp) {
         try {
-            String jsonBody = ServletUtil.getJsonBody(req);
-            var updatedDto = jsonMapper.toDto(jsonBody);
+            var body = ServletUtil.getJsonBody(req);
+            var updatedDto = jsonMapper.toDto(body);
             if (service.update(updatedDto)) {
                 resp.setStatus(HttpServletResponse.SC_OK);
                 return;
@@ -97,8 +147,7 @@ public class OrderServlet extends HttpServlet {
         }
     }
 
-    @Override
-    protected void doDelete(HttpServletRequest req, HttpServletResponse resp) {
+    private void handleDelete(HttpServletRequest req, HttpServletResponse resp) {
         try {
             Long id = Long.parseLong(req.getParameter(PARAMETER_ID));
             if (service.delete(id)) {
@@ -0,0 +1,59 @@
+package org.example.servlet;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.context.ApplicationProperties;
+
+public final class PageRequest {
+    private static final String PARAMETER_AFTER = "after";
+    private static final String PARAMETER_LIMIT = "limit";
+    private static final String HEADER_LINK = "Link";
+    private static final int DEFAULT_LIMIT = ApplicationProperties.getInt("pagination.defaultLimit", 50);
+    private static final int MAX_LIMIT = ApplicationProperties.getInt("pagination.maxLimit", 500);
+
+    private final long afterId;
+    private final int limit;
+
+    private PageRequest(long afterId, int limit) {
+        this.afterId = afterId;
+        this.limit = limit;
+    }
+
+    public static PageRequest from(HttpServletRequest req) {
+        String after = req.getParameter(PARAMETER_AFTER);
+        String limit = req.getParameter(PARAMETER_LIMIT);
+        long afterId = after == null ? 0L : Long.parseLong(after);
+        int size = limit == null ? DEFAULT_LIMIT : Integer.parseInt(limit);
+        if (afterId < 0 || size <= 0) {
+            throw new NumberFormatException("Negative cursor or non-positive limit");
+        }
+        return new PageRequest(afterId, Math.min(size, MAX_LIMIT));
+    }
+
+    public long getAfterId() {
+        return afterId;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void addNextLink(HttpServletRequest req, HttpServletResponse resp, int pageSize, Long lastId) {
+        if (pageSize < limit || lastId == null) return;
+        String link = "<" + req.getRequestURI() + "?" + otherParameters(req.getQueryString()) +
+                      PARAMETER_AFTER + "=" + lastId + "&" + PARAMETER_LIMIT + "=" + limit + ">; rel=\"next\"";
+        resp.setHeader(HEADER_LINK, link);
+    }
+
+    // filters stay in the next link; only the cursor and the page size are replaced
+    private static String otherParameters(String queryString) {
+        if (queryString == null || queryString.isEmpty()) return "";
+        var kept = new StringBuilder();
+        for (String parameter : queryString.split("&")) {
+            if (parameter.isEmpty() || parameter.startsWith(PARAMETER_AFTER + "=")
+                || parameter.startsWith(PARAMETER_LIMIT + "=")) continue;
+            kept.append(parameter).append('&');
+        }
+        return kept.toString();
+    }
+}
@@ -1,27 +1,82 @@
 package org.example.servlet;
 
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
+import org.example.context.ApplicationProperties;
+import org.example.exception.PayloadTooLargeException;
+import org.example.servlet.mapper.ExportWriter;
+import org.example.servlet.mapper.JsonArrayWriter;
 
 import java.io.IOException;
-
-import static java.util.stream.Collectors.joining;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public class ServletUtil {
+    static final char ID_SEPARATOR = ',';
+    private static final int MAX_IDS = ApplicationProperties.getInt("lookup.maxIds", 100);
+    private static final long MAX_BODY_BYTES = ApplicationProperties.getLong("request.maxBodyBytes", 1_048_576);
+
     private ServletUtil() {
     }
 
-    static String getJsonBody(HttpServletRequest req) throws IOException {
-        String jsonBody;
-        try (var reader = req.getReader()) {
-            jsonBody = reader.lines().collect(joining());
-            return jsonBody;
+    // "3,1,3" -> [3, 1]: request order is kept and repeated ids are fetched once
+    static Set<Long> parseIds(String param) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (String id : param.split(String.valueOf(ID_SEPARATOR))) {
+            ids.add(Long.parseLong(id.trim()));
+        }
+        if (ids.size() > MAX_IDS) {
+            throw new NumberFormatException("At most " + MAX_IDS + " ids per request");
+        }
+        return ids;
+    }
+
+    // Raw body bytes for the JSON mappers to parse in place; a declared length over the limit is refused
+    // before anything is read, an undeclared one when the limit is crossed
+    static InputStream getJsonBody(HttpServletRequest req) throws IOException {
+        return getJsonBody(req, MAX_BODY_BYTES);
+    }
+
+    static InputStream getJsonBody(HttpServletRequest req, long maxBytes) throws IOException {
+        if (req.getContentLengthLong() > maxBytes) {
+            throw new PayloadTooLargeException(maxBytes);
+        }
+        return new BoundedInputStream(req.getInputStream(), maxBytes);
+    }
+
+    // Closing writes the closing bracket, so it only happens once the source is exhausted: a failure part way
+    // leaves the array unterminated and propagates, and the client cannot take the rows so far for the full list
+    static <T> void streamJsonArray(JsonArrayWriter<T> writer, Consumer<Consumer<T>> source) throws IOException {
+        try {
+            source.accept(element -> {
+                try {
+                    writer.write(element);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
+        writer.close();
     }
 
-    static void sendJsonResponse(String json, HttpServletResponse resp) throws IOException {
-        try(var out = resp.getWriter()) {
-            out.println(json);
+    // Same contract as streamJsonArray: closing flushes the last rows and finishes the gzip trailer, so a failed
+    // export is never closed into a file that looks complete
+    static <T> void streamExport(ExportWriter<T> writer, Consumer<Consumer<T>> source) throws IOException {
+        try {
+            source.accept(record -> {
+                try {
+                    writer.write(record);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
+        writer.close();
     }
-}
\ No newline at end of file
+}
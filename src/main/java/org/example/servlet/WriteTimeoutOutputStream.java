@@ -0,0 +1,106 @@
+package org.example.servlet;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// Fails the export when one write blocks for longer than the timeout. The watchdog closes the response
+// stream under a write that overran it, which unblocks the writer; the write then fails with the timeout, the
+// cursor loop ends and its connection goes back to the pool instead of waiting on the client.
+final class WriteTimeoutOutputStream extends OutputStream {
+    private static final ScheduledExecutorService WATCHDOG = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        var thread = new Thread(runnable, "export-write-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final OutputStream out;
+    private final long timeoutMillis;
+    private final ScheduledFuture<?> check;
+    private volatile long writeStarted;
+    private volatile boolean writing;
+    private volatile boolean timedOut;
+
+    WriteTimeoutOutputStream(OutputStream out, long timeoutMillis) {
+        this.out = out;
+        this.timeoutMillis = timeoutMillis;
+        long period = Math.max(1, timeoutMillis / 4);
+        this.check = WATCHDOG.scheduleAtFixedRate(this::checkOverrun, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        begin();
+        try {
+            out.write(b);
+        } finally {
+            end();
+        }
+    }
+
+    @Override
+    public void write(byte[] buffer, int offset, int length) throws IOException {
+        begin();
+        try {
+            out.write(buffer, offset, length);
+        } finally {
+            end();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        begin();
+        try {
+            out.flush();
+        } finally {
+            end();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        check.cancel(false);
+        if (!timedOut) {
+            out.close();
+        }
+    }
+
+    // Stops the watchdog of a failed export without closing the response, which would end it like a complete one
+    void abort() {
+        check.cancel(false);
+    }
+
+    private void begin() throws InterruptedIOException {
+        failIfTimedOut();
+        writeStarted = System.nanoTime();
+        writing = true;
+    }
+
+    private void end() throws InterruptedIOException {
+        writing = false;
+        failIfTimedOut();
+    }
+
+    private void failIfTimedOut() throws InterruptedIOException {
+        if (timedOut) {
+            throw new InterruptedIOException("Client did not accept the export within " + timeoutMillis + " ms");
+        }
+    }
+
+    private void checkOverrun() {
+        if (writing && !timedOut && System.nanoTime() - writeStarted > TimeUnit.MILLISECONDS.toNanos(timeoutMillis)) {
+            timedOut = true;
+            check.cancel(false);
+            try {
+                out.close();
+            } catch (IOException e) {
+                // the writer sees the timeout either way
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.servlet.executor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.time.Duration;
+
+public interface RequestExecutor {
+    void execute(HttpServletRequest req, HttpServletResponse resp, RequestHandler handler);
+
+    void shutdown(Duration timeout);
+}
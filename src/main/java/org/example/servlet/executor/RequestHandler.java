@@ -0,0 +1,9 @@
+package org.example.servlet.executor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@FunctionalInterface
+public interface RequestHandler {
+    void handle(HttpServletRequest req, HttpServletResponse resp);
+}
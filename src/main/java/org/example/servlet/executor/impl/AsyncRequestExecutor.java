@@ -0,0 +1,158 @@
+package org.example.servlet.executor.impl;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.servlet.executor.RequestExecutor;
+import org.example.servlet.executor.RequestHandler;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.lang.System.Logger.Level.WARNING;
+
+public class AsyncRequestExecutor implements RequestExecutor {
+    private static final System.Logger LOGGER = System.getLogger(AsyncRequestExecutor.class.getName());
+    private static final String HEADER_RETRY_AFTER = "Retry-After";
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final ExecutorService executor;
+    private final Semaphore admission;
+    private final long timeoutMillis;
+    private final PinningMonitor pinningMonitor;
+
+    public AsyncRequestExecutor(ExecutorService executor, int maxConcurrent, long timeoutMillis) {
+        this(executor, maxConcurrent, timeoutMillis, null);
+    }
+
+    public AsyncRequestExecutor(ExecutorService executor, int maxConcurrent, long timeoutMillis,
+                                PinningMonitor pinningMonitor) {
+        this.executor = executor;
+        this.admission = new Semaphore(maxConcurrent);
+        this.timeoutMillis = timeoutMillis;
+        this.pinningMonitor = pinningMonitor;
+    }
+
+    @Override
+    public void execute(HttpServletRequest req, HttpServletResponse resp, RequestHandler handler) {
+        if (!req.isAsyncSupported()) {
+            handler.handle(req, resp);
+            return;
+        }
+        if (!admission.tryAcquire()) {
+            reject(resp);
+            return;
+        }
+        AsyncContext asyncContext = req.startAsync(req, resp);
+        asyncContext.setTimeout(timeoutMillis);
+        // Whoever sets it first, the worker or the timeout, writes the outcome and completes the request
+        var finished = new AtomicBoolean();
+        asyncContext.addListener(new TimeoutListener(resp, finished));
+        var guarded = new TimeoutGuardedResponse(resp, finished);
+        try {
+            executor.execute(() -> run(asyncContext, req, guarded, handler, finished));
+        } catch (RejectedExecutionException e) {
+            admission.release();
+            if (finished.compareAndSet(false, true)) {
+                reject(resp);
+                complete(asyncContext);
+            }
+        }
+    }
+
+    public int getAvailablePermits() {
+        return admission.availablePermits();
+    }
+
+    public PinningMonitor getPinningMonitor() {
+        return pinningMonitor;
+    }
+
+    @Override
+    public void shutdown(Duration timeout) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        } finally {
+            if (pinningMonitor != null) {
+                pinningMonitor.close();
+            }
+        }
+    }
+
+    // The permit is held until the handler returns, even past a timeout: the work still holds its connection
+    private void run(AsyncContext asyncContext, HttpServletRequest req, HttpServletResponse resp,
+                     RequestHandler handler, AtomicBoolean finished) {
+        try {
+            handler.handle(req, resp);
+        } catch (RuntimeException e) {
+            LOGGER.log(WARNING, "Async request failed", e);
+            if (!resp.isCommitted()) {
+                resp.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
+        } finally {
+            admission.release();
+            if (finished.compareAndSet(false, true)) {
+                complete(asyncContext);
+            }
+        }
+    }
+
+    private static void reject(HttpServletResponse resp) {
+        resp.setHeader(HEADER_RETRY_AFTER, RETRY_AFTER_SECONDS);
+        resp.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+    }
+
+    private static final class TimeoutListener implements AsyncListener {
+        private final HttpServletResponse resp;
+        private final AtomicBoolean finished;
+
+        private TimeoutListener(HttpServletResponse resp, AtomicBoolean finished) {
+            this.resp = resp;
+            this.finished = finished;
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            if (finished.compareAndSet(false, true)) {
+                LOGGER.log(WARNING, "Async request timed out, the handler is still running");
+                if (!resp.isCommitted()) {
+                    reject(resp);
+                }
+                complete(event.getAsyncContext());
+            }
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            finished.set(true);
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+
+    private static void complete(AsyncContext asyncContext) {
+        try {
+            asyncContext.complete();
+        } catch (IllegalStateException e) {
+            LOGGER.log(WARNING, "Async request already completed, probably timed out", e);
+        }
+    }
+}
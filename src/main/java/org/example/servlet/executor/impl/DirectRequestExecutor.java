@@ -0,0 +1,20 @@
+package org.example.servlet.executor.impl;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.servlet.executor.RequestExecutor;
+import org.example.servlet.executor.RequestHandler;
+
+import java.time.Duration;
+
+public class DirectRequestExecutor implements RequestExecutor {
+
+    @Override
+    public void execute(HttpServletRequest req, HttpServletResponse resp, RequestHandler handler) {
+        handler.handle(req, resp);
+    }
+
+    @Override
+    public void shutdown(Duration timeout) {
+    }
+}
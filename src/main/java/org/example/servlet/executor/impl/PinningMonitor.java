@@ -0,0 +1,69 @@
+package org.example.servlet.executor.impl;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import static java.lang.System.Logger.Level.WARNING;
+
+public class PinningMonitor implements AutoCloseable {
+    private static final System.Logger LOGGER = System.getLogger(PinningMonitor.class.getName());
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final List<String> JDBC_PACKAGES = List.of("com.mysql.", "com.zaxxer.hikari.", "java.sql.");
+    private static final int LOGGED_FRAMES = 8;
+
+    private final RecordingStream stream;
+    private final LongAdder pinned = new LongAdder();
+    private final LongAdder jdbcPinned = new LongAdder();
+
+    public PinningMonitor(Duration threshold) {
+        this.stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+    }
+
+    public long getPinnedCount() {
+        return pinned.sum();
+    }
+
+    public long getJdbcPinnedCount() {
+        return jdbcPinned.sum();
+    }
+
+    void onPinned(RecordedEvent event) {
+        pinned.increment();
+        var frames = event.getStackTrace() == null ? List.<RecordedFrame>of() : event.getStackTrace().getFrames();
+        if (isJdbcPath(frames)) {
+            jdbcPinned.increment();
+        }
+        LOGGER.log(WARNING, "Carrier thread pinned for {0} ms at {1}", event.getDuration().toMillis(),
+                frames.stream().limit(LOGGED_FRAMES).map(PinningMonitor::describe).collect(Collectors.joining(" <- ")));
+    }
+
+    static boolean isJdbcPath(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            var type = frame.getMethod().getType().getName();
+            for (String jdbcPackage : JDBC_PACKAGES) {
+                if (type.startsWith(jdbcPackage)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+}
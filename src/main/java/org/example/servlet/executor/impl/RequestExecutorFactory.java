@@ -0,0 +1,77 @@
+package org.example.servlet.executor.impl;
+
+import com.zaxxer.hikari.HikariConfig;
+import org.example.context.ApplicationProperties;
+import org.example.db.PropertiesUtil;
+import org.example.servlet.executor.RequestExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.System.Logger.Level.INFO;
+import static java.lang.System.Logger.Level.WARNING;
+
+public final class RequestExecutorFactory {
+    private static final System.Logger LOGGER = System.getLogger(RequestExecutorFactory.class.getName());
+    private static final int ADMITTED_PER_CONNECTION = 4;
+    private static final String THREAD_NAME_PREFIX = "request-worker-";
+
+    private RequestExecutorFactory() {
+    }
+
+    public static RequestExecutor create() {
+        if (!ApplicationProperties.getBoolean("servlet.async.enabled", false)) {
+            return new DirectRequestExecutor();
+        }
+        int maxConcurrent = ApplicationProperties.getInt("servlet.async.maxConcurrent", 0);
+        if (maxConcurrent <= 0) {
+            maxConcurrent = ADMITTED_PER_CONNECTION * poolSize();
+        }
+        long timeoutMillis = ApplicationProperties.getLong("servlet.async.timeoutMillis", 30_000);
+        var virtualThreads = newVirtualThreadExecutor();
+        if (virtualThreads == null) {
+            LOGGER.log(INFO, "Virtual threads unavailable, async requests run on {0} platform threads", maxConcurrent);
+            return new AsyncRequestExecutor(newPlatformThreadExecutor(maxConcurrent), maxConcurrent, timeoutMillis);
+        }
+        PinningMonitor pinningMonitor = null;
+        if (ApplicationProperties.getBoolean("servlet.async.pinningCheck", true)) {
+            pinningMonitor = newPinningMonitor(
+                    Duration.ofMillis(ApplicationProperties.getLong("servlet.async.pinningThresholdMillis", 20)));
+        }
+        return new AsyncRequestExecutor(virtualThreads, maxConcurrent, timeoutMillis, pinningMonitor);
+    }
+
+    // Resolved the way the pool resolves it, so driver settings such as dataSource.maxPoolSize are not mistaken for it
+    static int poolSize() {
+        return new HikariConfig(PropertiesUtil.getProperties()).getMaximumPoolSize();
+    }
+
+    static ExecutorService newVirtualThreadExecutor() {
+        try {
+            var factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    static ExecutorService newPlatformThreadExecutor(int threads) {
+        var counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, task -> {
+            var thread = new Thread(task, THREAD_NAME_PREFIX + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static PinningMonitor newPinningMonitor(Duration threshold) {
+        try {
+            return new PinningMonitor(threshold);
+        } catch (RuntimeException e) {
+            LOGGER.log(WARNING, "Pinning check disabled, JFR streaming unavailable", e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package org.example.servlet.executor.impl;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// The response a worker sees. Once the request is finished on the container side (timed out) the real response
+// may already serve another request, so status and headers are dropped and writes fail.
+final class TimeoutGuardedResponse extends HttpServletResponseWrapper {
+    private final AtomicBoolean finished;
+
+    TimeoutGuardedResponse(HttpServletResponse response, AtomicBoolean finished) {
+        super(response);
+        this.finished = finished;
+    }
+
+    @Override
+    public boolean isCommitted() {
+        return finished.get() || super.isCommitted();
+    }
+
+    @Override
+    public void setStatus(int sc) {
+        if (!finished.get()) {
+            super.setStatus(sc);
+        }
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        if (!finished.get()) {
+            super.setHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if (!finished.get()) {
+            super.addHeader(name, value);
+        }
+    }
+
+    @Override
+    public void setContentType(String type) {
+        if (!finished.get()) {
+            super.setContentType(type);
+        }
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        checkOpen();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        checkOpen();
+        super.sendError(sc);
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        checkOpen();
+        return super.getWriter();
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        checkOpen();
+        var out = super.getOutputStream();
+        return new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return !finished.get() && out.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                out.setWriteListener(writeListener);
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                checkOpen();
+                out.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                checkOpen();
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                checkOpen();
+                out.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                if (!finished.get()) {
+                    out.close();
+                }
+            }
+        };
+    }
+
+    private void checkOpen() throws IOException {
+        if (finished.get()) {
+            throw new IOException("Request timed out, the response is closed");
+        }
+    }
+}
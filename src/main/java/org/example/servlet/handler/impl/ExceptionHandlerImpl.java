@@ -1,6 +1,7 @@
 package org.example.servlet.handler.impl;
 
 import jakarta.servlet.http.HttpServletResponse;
+import org.example.exception.PayloadTooLargeException;
 import org.example.servlet.handler.ExceptionHandler;
 
 public class ExceptionHandlerImpl implements ExceptionHandler {
@@ -9,6 +10,8 @@ public class ExceptionHandlerImpl implements ExceptionHandler {
     public void handleException(Exception exception, HttpServletResponse resp) {
         if (exception instanceof NumberFormatException) {
             resp.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+        } else if (exception instanceof PayloadTooLargeException) {
+            resp.setStatus(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
         } else {
             resp.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
         }
@@ -0,0 +1,29 @@
+package org.example.servlet.listener;
+
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+import jakarta.servlet.annotation.WebListener;
+import org.example.context.ApplicationContext;
+import org.example.context.ApplicationProperties;
+
+import java.time.Duration;
+
+@WebListener
+public class ApplicationContextListener implements ServletContextListener {
+    private static final String DRAIN_TIMEOUT_PROPERTY = "pool.drainTimeoutMillis";
+    private static final long DEFAULT_DRAIN_TIMEOUT_MILLIS = 10_000;
+
+    @Override
+    public void contextInitialized(ServletContextEvent sce) {
+        var context = ApplicationContext.getInstance();
+        context.start();
+        sce.getServletContext().setAttribute(ApplicationContext.class.getName(), context);
+    }
+
+    @Override
+    public void contextDestroyed(ServletContextEvent sce) {
+        sce.getServletContext().removeAttribute(ApplicationContext.class.getName());
+        long drainTimeout = ApplicationProperties.getLong(DRAIN_TIMEOUT_PROPERTY, DEFAULT_DRAIN_TIMEOUT_MILLIS);
+        ApplicationContext.destroy(Duration.ofMillis(drainTimeout));
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.servlet.mapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface ExportWriter<T> extends Closeable {
+    void write(T record) throws IOException;
+}
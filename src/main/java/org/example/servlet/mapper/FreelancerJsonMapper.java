@@ -1,8 +1,13 @@
 package org.example.servlet.mapper;
 
 import org.example.service.dto.FreelancerDto;
+import org.example.service.dto.FreelancerImportResultDto;
 import org.example.service.dto.FreelancerSimpleDto;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
 
 public interface FreelancerJsonMapper {
@@ -12,7 +17,23 @@ public interface FreelancerJsonMapper {
 
     String toJson(List<FreelancerSimpleDto> list);
 
-    FreelancerDto toDto(String json);
+    void writeJson(FreelancerDto dto, OutputStream out) throws IOException;
 
-    FreelancerSimpleDto toSimpleDto(String json);
+    void writeJson(FreelancerSimpleDto dto, OutputStream out) throws IOException;
+
+    void writeJson(List<FreelancerSimpleDto> list, OutputStream out) throws IOException;
+
+    void writeDtoListJson(List<FreelancerDto> list, OutputStream out) throws IOException;
+
+    JsonArrayWriter<FreelancerSimpleDto> openJsonArray(OutputStream out) throws IOException;
+
+    ExportWriter<FreelancerSimpleDto> openNdjson(OutputStream out) throws IOException;
+
+    FreelancerDto toDto(InputStream in) throws IOException;
+
+    FreelancerSimpleDto toSimpleDto(InputStream in) throws IOException;
+
+    Iterator<FreelancerDto> readDtos(InputStream in) throws IOException;
+
+    void writeJson(FreelancerImportResultDto result, OutputStream out) throws IOException;
 }
@@ -0,0 +1,8 @@
+package org.example.servlet.mapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface JsonArrayWriter<T> extends Closeable {
+    void write(T element) throws IOException;
+}
@@ -1,8 +1,13 @@
 package org.example.servlet.mapper;
 
+import org.example.service.dto.OrderBulkResultDto;
 import org.example.service.dto.OrderDto;
 import org.example.service.dto.OrderSimpleDto;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
 
 
@@ -13,7 +18,24 @@ public interface OrderJsonMapper {
 
     String toJson(List<OrderSimpleDto> list);
 
-    OrderSimpleDto toSimpleDto(String json);
+    void writeJson(OrderDto dto, OutputStream out) throws IOException;
 
-    OrderDto toDto(String json);
+    void writeJson(OrderSimpleDto dto, OutputStream out) throws IOException;
+
+    void writeJson(List<OrderSimpleDto> list, OutputStream out) throws IOException;
+
+    void writeDtoListJson(List<OrderDto> list, OutputStream out) throws IOException;
+
+    JsonArrayWriter<OrderSimpleDto> openJsonArray(OutputStream out) throws IOException;
+
+    ExportWriter<OrderDto> openNdjson(OutputStream out) throws IOException;
+
+    OrderDto toDto(InputStream in) throws IOException;
+
+    OrderSimpleDto toSimpleDto(InputStream in) throws IOException;
+
+    // A JSON array or whitespace-separated values (NDJSON), read one element at a time
+    Iterator<OrderDto> readDtos(InputStream in) throws IOException;
+
+    void writeJson(OrderBulkResultDto result, OutputStream out) throws IOException;
 }
@@ -3,6 +3,9 @@ package org.example.servlet.mapper;
 import org.example.service.dto.QualificationDto;
 import org.example.service.dto.QualificationSimpleDto;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface QualificationJsonMapper {
@@ -12,7 +15,17 @@ public interface QualificationJsonMapper {
 
     String toJson(List<QualificationSimpleDto> list);
 
-    QualificationSimpleDto toSimpleDto(String json);
+    void writeJson(QualificationDto dto, OutputStream out) throws IOException;
 
-    QualificationDto toDto(String json);
+    void writeJson(QualificationSimpleDto dto, OutputStream out) throws IOException;
+
+    void writeJson(List<QualificationSimpleDto> list, OutputStream out) throws IOException;
+
+    void writeDtoListJson(List<QualificationDto> list, OutputStream out) throws IOException;
+
+    JsonArrayWriter<QualificationSimpleDto> openJsonArray(OutputStream out) throws IOException;
+
+    QualificationDto toDto(InputStream in) throws IOException;
+
+    QualificationSimpleDto toSimpleDto(InputStream in) throws IOException;
 }
@@ -0,0 +1,65 @@
+package org.example.servlet.mapper.impl;
+
+import org.example.servlet.mapper.ExportWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+// RFC 4180: CRLF line ends, fields with a separator, quote or line break are quoted, null is an empty field
+public final class CsvExportWriter<T> implements ExportWriter<T> {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Writer out;
+    private final Function<? super T, Object[]> row;
+
+    public CsvExportWriter(OutputStream out, String[] header, Function<? super T, Object[]> row) throws IOException {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.row = row;
+        writeRow(header);
+    }
+
+    @Override
+    public void write(T record) throws IOException {
+        writeRow(row.apply(record));
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void writeRow(Object[] fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) out.write(',');
+            if (fields[i] != null) writeField(fields[i].toString());
+        }
+        out.write("\r\n");
+    }
+
+    private void writeField(String value) throws IOException {
+        if (!needsQuotes(value)) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') out.write('"');
+            out.write(c);
+        }
+        out.write('"');
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') return true;
+        }
+        return false;
+    }
+}
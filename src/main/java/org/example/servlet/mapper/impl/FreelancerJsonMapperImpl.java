@@ -1,46 +1,34 @@
 package org.example.servlet.mapper.impl;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import org.example.service.dto.FreelancerDto;
+import org.example.service.dto.FreelancerImportResultDto;
 import org.example.service.dto.FreelancerSimpleDto;
+import org.example.servlet.mapper.ExportWriter;
+import org.example.servlet.mapper.JsonArrayWriter;
 import org.example.servlet.mapper.FreelancerJsonMapper;
 
-import java.text.SimpleDateFormat;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
 
 public final class FreelancerJsonMapperImpl implements FreelancerJsonMapper {
-    private final ObjectMapper mapper;
-    private static final String DATE_PATTERN = "yyyy-MM-dd";
-
-    static {
-        try {
-            Class.forName("com.fasterxml.jackson.datatype.jsr310.JavaTimeModule");
-        } catch (ClassNotFoundException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    public FreelancerJsonMapperImpl() {
-        this.mapper = new ObjectMapper();
-        this.mapper.registerModule(new JavaTimeModule());
-        this.mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        this.mapper.setDateFormat(new SimpleDateFormat(DATE_PATTERN));
-    }
-
-    public FreelancerJsonMapperImpl(ObjectMapper mapper) {
-        this.mapper = mapper;
-        this.mapper.registerModule(new JavaTimeModule());
-        this.mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        this.mapper.setDateFormat(new SimpleDateFormat(DATE_PATTERN));
-    }
+    private static final ObjectWriter DTO_WRITER = JsonEngine.writerFor(FreelancerDto.class);
+    private static final ObjectWriter SIMPLE_DTO_WRITER = JsonEngine.writerFor(FreelancerSimpleDto.class);
+    private static final ObjectWriter LIST_WRITER = JsonEngine.listWriterFor(FreelancerSimpleDto.class);
+    private static final ObjectWriter DTO_LIST_WRITER = JsonEngine.listWriterFor(FreelancerDto.class);
+    private static final ObjectWriter IMPORT_RESULT_WRITER = JsonEngine.writerFor(FreelancerImportResultDto.class);
+    private static final ObjectReader DTO_READER = JsonEngine.readerFor(FreelancerDto.class);
+    private static final ObjectReader SIMPLE_DTO_READER = JsonEngine.readerFor(FreelancerSimpleDto.class);
 
     @Override
     public String toJson(FreelancerDto dto) {
         try {
-            return mapper.writeValueAsString(dto);
+            return DTO_WRITER.writeValueAsString(dto);
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
@@ -49,7 +37,7 @@ public final class FreelancerJsonMapperImpl implements FreelancerJsonMapper {
     @Override
     public String toJson(FreelancerSimpleDto dto) {
         try {
-            return mapper.writeValueAsString(dto);
+            return SIMPLE_DTO_WRITER.writeValueAsString(dto);
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
@@ -58,27 +46,59 @@ public final class FreelancerJsonMapperImpl implements FreelancerJsonMapper {
     @Override
     public String toJson(List<FreelancerSimpleDto> list) {
         try {
-            return mapper.writeValueAsString(list);
+            return LIST_WRITER.writeValueAsString(list);
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
     }
 
     @Override
-    public FreelancerDto toDto(String json) {
-        try {
-            return mapper.readValue(json, FreelancerDto.class);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
-        }
+    public void writeJson(FreelancerDto dto, OutputStream out) throws IOException {
+        DTO_WRITER.writeValue(out, dto);
     }
 
     @Override
-    public FreelancerSimpleDto toSimpleDto(String json) {
-        try {
-            return mapper.readValue(json, FreelancerSimpleDto.class);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
-        }
+    public void writeJson(FreelancerSimpleDto dto, OutputStream out) throws IOException {
+        SIMPLE_DTO_WRITER.writeValue(out, dto);
+    }
+
+    @Override
+    public void writeJson(List<FreelancerSimpleDto> list, OutputStream out) throws IOException {
+        LIST_WRITER.writeValue(out, list);
+    }
+
+    @Override
+    public void writeDtoListJson(List<FreelancerDto> list, OutputStream out) throws IOException {
+        DTO_LIST_WRITER.writeValue(out, list);
+    }
+
+    @Override
+    public JsonArrayWriter<FreelancerSimpleDto> openJsonArray(OutputStream out) throws IOException {
+        return new JsonArrayWriterImpl<>(SIMPLE_DTO_WRITER, out);
+    }
+
+    @Override
+    public ExportWriter<FreelancerSimpleDto> openNdjson(OutputStream out) throws IOException {
+        return new NdjsonExportWriter<>(SIMPLE_DTO_WRITER, out);
+    }
+
+    @Override
+    public FreelancerDto toDto(InputStream in) throws IOException {
+        return DTO_READER.readValue(in);
+    }
+
+    @Override
+    public FreelancerSimpleDto toSimpleDto(InputStream in) throws IOException {
+        return SIMPLE_DTO_READER.readValue(in);
+    }
+
+    @Override
+    public Iterator<FreelancerDto> readDtos(InputStream in) throws IOException {
+        return DTO_READER.readValues(in);
+    }
+
+    @Override
+    public void writeJson(FreelancerImportResultDto result, OutputStream out) throws IOException {
+        IMPORT_RESULT_WRITER.writeValue(out, result);
     }
 }
@@ -0,0 +1,33 @@
+package org.example.servlet.mapper.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.example.servlet.mapper.JsonArrayWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public final class JsonArrayWriterImpl<T> implements JsonArrayWriter<T> {
+    private final ObjectWriter writer;
+    private final JsonGenerator generator;
+
+    public JsonArrayWriterImpl(ObjectWriter writer, OutputStream out) throws IOException {
+        this.writer = writer;
+        this.generator = JsonEngine.createGenerator(out);
+        this.generator.writeStartArray();
+    }
+
+    @Override
+    public void write(T element) throws IOException {
+        writer.writeValue(generator, element);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            generator.writeEndArray();
+        } finally {
+            generator.close();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.servlet.mapper.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.example.servlet.mapper.ExportWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+// One JSON object per line; the generator's buffer is the only per-export state
+public final class NdjsonExportWriter<T> implements ExportWriter<T> {
+    private final ObjectWriter writer;
+    private final JsonGenerator generator;
+
+    public NdjsonExportWriter(ObjectWriter writer, OutputStream out) throws IOException {
+        this.writer = writer;
+        this.generator = JsonEngine.createGenerator(out);
+        this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void write(T record) throws IOException {
+        writer.writeValue(generator, record);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -1,47 +1,34 @@
 package org.example.servlet.mapper.impl;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.example.service.dto.OrderBulkResultDto;
 import org.example.service.dto.OrderDto;
 import org.example.service.dto.OrderSimpleDto;
+import org.example.servlet.mapper.ExportWriter;
+import org.example.servlet.mapper.JsonArrayWriter;
 import org.example.servlet.mapper.OrderJsonMapper;
 
-import java.text.SimpleDateFormat;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
 
 public final class OrderJsonMapperImpl implements OrderJsonMapper {
-    private final ObjectMapper mapper;
-
-    private static final String DATE_PATTERN = "yyyy-MM-dd";
-
-    static {
-        try {
-            Class.forName("com.fasterxml.jackson.datatype.jsr310.JavaTimeModule");
-        } catch (ClassNotFoundException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    public OrderJsonMapperImpl() {
-        this.mapper = new ObjectMapper();
-        this.mapper.registerModule(new JavaTimeModule());
-        this.mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        this.mapper.setDateFormat(new SimpleDateFormat(DATE_PATTERN));
-    }
-
-    public OrderJsonMapperImpl(ObjectMapper mapper) {
-        this.mapper = mapper;
-        this.mapper.registerModule(new JavaTimeModule());
-        this.mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        this.mapper.setDateFormat(new SimpleDateFormat(DATE_PATTERN));
-    }
+    private static final ObjectWriter DTO_WRITER = JsonEngine.writerFor(OrderDto.class);
+    private static final ObjectWriter SIMPLE_DTO_WRITER = JsonEngine.writerFor(OrderSimpleDto.class);
+    private static final ObjectWriter LIST_WRITER = JsonEngine.listWriterFor(OrderSimpleDto.class);
+    private static final ObjectWriter DTO_LIST_WRITER = JsonEngine.listWriterFor(OrderDto.class);
+    private static final ObjectReader DTO_READER = JsonEngine.readerFor(OrderDto.class);
+    private static final ObjectReader SIMPLE_DTO_READER = JsonEngine.readerFor(OrderSimpleDto.class);
+    private static final ObjectWriter BULK_RESULT_WRITER = JsonEngine.writerFor(OrderBulkResultDto.class);
 
     @Override
     public String toJson(OrderDto dto) {
         try {
-            return mapper.writeValueAsString(dto);
+            return DTO_WRITER.writeValueAsString(dto);
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
@@ -50,7 +37,7 @@ public final class OrderJsonMapperImpl implements OrderJsonMapper {
     @Override
     public String toJson(OrderSimpleDto dto) {
         try {
-            return mapper.writeValueAsString(dto);
+            return SIMPLE_DTO_WRITER.writeValueAsString(dto);
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
@@ -59,27 +46,59 @@ public final class OrderJsonMapperImpl implements OrderJsonMapper {
     @Override
     public String toJson(List<OrderSimpleDto> list) {
         try {
-            return mapper.writeValueAsString(list);
+            return LIST_WRITER.writeValueAsString(list);
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
     }
 
     @Override
-    public OrderSimpleDto toSimpleDto(String json) {
-        try {
-            return mapper.readValue(json, OrderSimpleDto.class);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
-        }
+    public void writeJson(OrderDto dto, OutputStream out) throws IOException {
+        DTO_WRITER.writeValue(out, dto);
     }
 
     @Override
-    public OrderDto toDto(String json) {
-        try {
-            return mapper.readValue(json, OrderDto.class);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
-        }
+    public void writeJson(OrderSimpleDto dto, OutputStream out) throws IOException {
+        SIMPLE_DTO_WRITER.writeValue(out, dto);
+    }
+
+    @Override
+    public void writeJson(List<OrderSimpleDto> list, OutputStream out) throws IOException {
+        LIST_WRITER.writeValue(out, list);
+    }
+
+    @Override
+    public void writeDtoListJson(List<OrderDto> list, OutputStream out) throws IOException {
+        DTO_LIST_WRITER.writeValue(out, list);
+    }
+
+    @Override
+    public JsonArrayWriter<OrderSimpleDto> openJsonArray(OutputStream out) throws IOException {
+        return new JsonArrayWriterImpl<>(SIMPLE_DTO_WRITER, out);
+    }
+
+    @Override
+    public ExportWriter<OrderDto> openNdjson(OutputStream out) throws IOException {
+        return new NdjsonExportWriter<>(DTO_WRITER, out);
+    }
+
+    @Override
+    public OrderDto toDto(InputStream in) throws IOException {
+        return DTO_READER.readValue(in);
+    }
+
+    @Override
+    public OrderSimpleDto toSimpleDto(InputStream in) throws IOException {
+        return SIMPLE_DTO_READER.readValue(in);
+    }
+
+    @Override
+    public Iterator<OrderDto> readDtos(InputStream in) throws IOException {
+        return DTO_READER.readValues(in);
+    }
+
+    @Override
+    public void writeJson(OrderBulkResultDto result, OutputStream out) throws IOException {
+        BULK_RESULT_WRITER.writeValue(out, result);
     }
 }
@@ -1,84 +1,85 @@
 package org.example.servlet.mapper.impl;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import org.example.service.dto.QualificationDto;
 import org.example.service.dto.QualificationSimpleDto;
+import org.example.servlet.mapper.JsonArrayWriter;
 import org.example.servlet.mapper.QualificationJsonMapper;
 
-import java.text.SimpleDateFormat;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 
 public final class QualificationJsonMapperImpl implements QualificationJsonMapper {
-    private final ObjectMapper mapper;
-    private static final String DATE_PATTERN = "yyyy-MM-dd";
+    private static final ObjectWriter DTO_WRITER = JsonEngine.writerFor(QualificationDto.class);
+    private static final ObjectWriter SIMPLE_DTO_WRITER = JsonEngine.writerFor(QualificationSimpleDto.class);
+    private static final ObjectWriter LIST_WRITER = JsonEngine.listWriterFor(QualificationSimpleDto.class);
+    private static final ObjectWriter DTO_LIST_WRITER = JsonEngine.listWriterFor(QualificationDto.class);
+    private static final ObjectReader DTO_READER = JsonEngine.readerFor(QualificationDto.class);
+    private static final ObjectReader SIMPLE_DTO_READER = JsonEngine.readerFor(QualificationSimpleDto.class);
 
-
-    static {
+    @Override
+    public String toJson(QualificationDto dto) {
         try {
-            Class.forName("com.fasterxml.jackson.datatype.jsr310.JavaTimeModule");
-        } catch (ClassNotFoundException e) {
+            return DTO_WRITER.writeValueAsString(dto);
+        } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
     }
-    public QualificationJsonMapperImpl() {
-        this.mapper = new ObjectMapper();
-        this.mapper.registerModule(new JavaTimeModule());
-        this.mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        this.mapper.setDateFormat(new SimpleDateFormat(DATE_PATTERN));
-    }
-
-    public QualificationJsonMapperImpl(ObjectMapper mapper) {
-        this.mapper = mapper;
-        this.mapper.registerModule(new JavaTimeModule());
-        this.mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        this.mapper.setDateFormat(new SimpleDateFormat(DATE_PATTERN));
-    }
 
     @Override
     public String toJson(QualificationSimpleDto dto) {
         try {
-            return mapper.writeValueAsString(dto);
+            return SIMPLE_DTO_WRITER.writeValueAsString(dto);
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
     }
 
     @Override
-    public String toJson(QualificationDto dto) {
+    public String toJson(List<QualificationSimpleDto> list) {
         try {
-            return mapper.writeValueAsString(dto);
+            return LIST_WRITER.writeValueAsString(list);
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
     }
 
     @Override
-    public String toJson(List<QualificationSimpleDto> list) {
-        try {
-            return mapper.writeValueAsString(list);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
-        }
+    public void writeJson(QualificationDto dto, OutputStream out) throws IOException {
+        DTO_WRITER.writeValue(out, dto);
     }
 
     @Override
-    public QualificationSimpleDto toSimpleDto(String json) {
-        try {
-            return mapper.readValue(json, QualificationSimpleDto.class);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
-        }
+    public void writeJson(QualificationSimpleDto dto, OutputStream out) throws IOException {
+        SIMPLE_DTO_WRITER.writeValue(out, dto);
     }
 
     @Override
-    public QualificationDto toDto(String json) {
-        try {
-            return mapper.readValue(json, QualificationDto.class);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
-        }
+    public void writeJson(List<QualificationSimpleDto> list, OutputStream out) throws IOException {
+        LIST_WRITER.writeValue(out, list);
+    }
+
+    @Override
+    public void writeDtoListJson(List<QualificationDto> list, OutputStream out) throws IOException {
+        DTO_LIST_WRITER.writeValue(out, list);
+    }
+
+    @Override
+    public JsonArrayWriter<QualificationSimpleDto> openJsonArray(OutputStream out) throws IOException {
+        return new JsonArrayWriterImpl<>(SIMPLE_DTO_WRITER, out);
+    }
+
+    @Override
+    public QualificationDto toDto(InputStream in) throws IOException {
+        return DTO_READER.readValue(in);
+    }
+
+    @Override
+    public QualificationSimpleDto toSimpleDto(InputStream in) throws IOException {
+        return SIMPLE_DTO_READER.readValue(in);
     }
 }
@@ -1,3 +1,5 @@
+-- Development reset: drops, recreates and seeds the database. Indexes and later schema changes live in the
+-- versioned scripts under db/migration, which the application applies on startup.
 DROP DATABASE IF EXISTS freelance;
 CREATE DATABASE freelance;
 
@@ -0,0 +1,44 @@
+-- Baseline schema; IF NOT EXISTS keeps it a no-op on databases created by db-migration.sql
+
+CREATE TABLE IF NOT EXISTS freelancer
+(
+    id                   BIGINT      NOT NULL AUTO_INCREMENT,
+    freelancerName       VARCHAR(45) NOT NULL,
+    freelancerSecondName VARCHAR(45) NOT NULL,
+    freelancerEmail      VARCHAR(45) NOT NULL UNIQUE,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS qualification
+(
+    id                BIGINT      NOT NULL AUTO_INCREMENT,
+    qualificationName VARCHAR(45) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS freelancer_qualification
+(
+    freelancerId    BIGINT,
+    qualificationId BIGINT,
+    PRIMARY KEY (freelancerId, qualificationId),
+    CONSTRAINT Freelancer_Has_Qualifications FOREIGN KEY (freelancerId)
+        REFERENCES freelancer (id)
+        ON DELETE CASCADE ON UPDATE CASCADE,
+    CONSTRAINT Qualification_Has_Freelancers FOREIGN KEY (qualificationId)
+        REFERENCES qualification (id)
+        ON DELETE CASCADE ON UPDATE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS qualif_order
+(
+    id               BIGINT         NOT NULL AUTO_INCREMENT,
+    orderTitle       VARCHAR(65)    NOT NULL,
+    orderDescription VARCHAR(100)   NOT NULL,
+    orderPrice       DECIMAL(10, 2) NOT NULL,
+    orderTerm        DATE           NOT NULL,
+    qualificationId  BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT Qualification_Has_Orders FOREIGN KEY (qualificationId)
+        REFERENCES qualification (id)
+        ON DELETE CASCADE ON UPDATE CASCADE
+);
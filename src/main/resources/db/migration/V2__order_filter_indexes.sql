@@ -0,0 +1,6 @@
+-- Order filters: equality on qualificationId first, then the range/sort column; id keeps the sort stable.
+-- idx_order_qualification_price also serves the qualificationId lookups of the qualification graph.
+CREATE INDEX idx_order_qualification_price ON qualif_order (qualificationId, orderPrice, id);
+CREATE INDEX idx_order_qualification_term ON qualif_order (qualificationId, orderTerm, id);
+CREATE INDEX idx_order_price ON qualif_order (orderPrice, id);
+CREATE INDEX idx_order_term ON qualif_order (orderTerm, id);
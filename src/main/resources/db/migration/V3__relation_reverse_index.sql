@@ -0,0 +1,4 @@
+-- Reverse lookup freelancers-by-qualification: candidate pages, qualification graphs and the ordered relation
+-- scan read (qualificationId, freelancerId) straight from this index. It replaces the single-column index
+-- MySQL created for Qualification_Has_Freelancers.
+CREATE INDEX idx_relation_qualification_freelancer ON freelancer_qualification (qualificationId, freelancerId);
@@ -0,0 +1,63 @@
+package org.example.context;
+
+import org.example.db.impl.ConnectionManagerImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ApplicationContextTest {
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(1);
+
+    @BeforeEach
+    void beforeEach() {
+        ApplicationContext.destroy(Duration.ZERO);
+    }
+
+    @AfterEach
+    void afterEach() {
+        ApplicationContext.destroy(Duration.ZERO);
+    }
+
+    @Test
+    void getInstanceSharesOneConnectionManager() {
+        var managerMock = mock(ConnectionManagerImpl.class);
+
+        try (MockedStatic<ConnectionManagerImpl> mockedStatic = mockStatic(ConnectionManagerImpl.class)) {
+            mockedStatic.when(ConnectionManagerImpl::getInstance).thenReturn(managerMock);
+
+            var first = ApplicationContext.getInstance();
+            var second = ApplicationContext.getInstance();
+
+            assertAll(
+                    () -> assertSame(first, second),
+                    () -> assertSame(managerMock, first.getConnectionManager()),
+                    () -> assertNotNull(first.getQualificationCache()),
+                    () -> assertNotNull(first.getFreelancerService()),
+                    () -> assertNotNull(first.getOrderService()),
+                    () -> assertNotNull(first.getQualificationService())
+            );
+            mockedStatic.verify(ConnectionManagerImpl::getInstance, times(1));
+        }
+    }
+
+    @Test
+    void destroyDrainsPoolAndResetsContext() {
+        var managerMock = mock(ConnectionManagerImpl.class);
+
+        try (MockedStatic<ConnectionManagerImpl> mockedStatic = mockStatic(ConnectionManagerImpl.class)) {
+            mockedStatic.when(ConnectionManagerImpl::getInstance).thenReturn(managerMock);
+            var first = ApplicationContext.getInstance();
+
+            ApplicationContext.destroy(DRAIN_TIMEOUT);
+
+            verify(managerMock, times(1)).destroy(DRAIN_TIMEOUT);
+            assertNotSame(first, ApplicationContext.getInstance());
+        }
+    }
+}
@@ -2,6 +2,9 @@ package org.example.db.impl;
 
 import org.example.db.ConnectionManager;
 import org.example.db.PropertiesUtil;
+import org.example.repository.impl.FreelancerRepositoryImpl;
+import org.example.repository.impl.OrderRepositoryImpl;
+import org.example.repository.impl.QualificationRepositoryImpl;
 import org.junit.jupiter.api.*;
 import org.mockito.MockedStatic;
 import org.testcontainers.containers.MySQLContainer;
@@ -45,4 +48,30 @@ class ConnectionManagerImplTest {
             }
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    void getInstanceSharesOnePoolBetweenRepositories() {
+        int createdPools = ConnectionManagerImpl.getCreatedPools();
+
+        new FreelancerRepositoryImpl();
+        new OrderRepositoryImpl();
+        new QualificationRepositoryImpl();
+
+        assertAll(
+                () -> assertSame(connectionManager, ConnectionManagerImpl.getInstance()),
+                () -> assertEquals(createdPools, ConnectionManagerImpl.getCreatedPools())
+        );
+    }
+
+    @Test
+    void activeConnectionsReleasedAfterClose() throws Exception {
+        try (var conn = connectionManager.getConnection()) {
+            assertEquals(1, connectionManager.getActiveConnections());
+        }
+
+        assertAll(
+                () -> assertEquals(0, connectionManager.getActiveConnections()),
+                () -> assertTrue(connectionManager.getTotalConnections() > 0)
+        );
+    }
+}
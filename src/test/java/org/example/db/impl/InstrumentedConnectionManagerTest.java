@@ -0,0 +1,186 @@
+package org.example.db.impl;
+
+import org.example.db.ConnectionManager;
+import org.example.db.metrics.QueryMetrics;
+import org.example.db.metrics.QueryStatsSnapshot;
+import org.example.exception.RepositoryException;
+import org.example.model.FreelancerEntity;
+import org.example.model.OrderEntity;
+import org.example.model.QualificationEntity;
+import org.example.repository.QualificationRelationRepository;
+import org.example.repository.cache.CandidateIndex;
+import org.example.repository.cache.EmailBloomFilter;
+import org.example.repository.cache.TableVersions;
+import org.example.repository.impl.FreelancerRepositoryImpl;
+import org.example.repository.impl.OrderRepositoryImpl;
+import org.example.repository.mapper.FreelancerResultSetMapper;
+import org.example.repository.mapper.OrderResultSetMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class InstrumentedConnectionManagerTest {
+    private static final long SLOW_THRESHOLD_MILLIS = 60_000;
+
+    private ConnectionManager delegate;
+    private Connection connection;
+    private PreparedStatement statement;
+    private QueryMetrics metrics;
+    private InstrumentedConnectionManager manager;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        delegate = mock(ConnectionManager.class);
+        connection = mock(Connection.class);
+        statement = mock(PreparedStatement.class);
+        when(delegate.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        metrics = new QueryMetrics(SLOW_THRESHOLD_MILLIS);
+        manager = new InstrumentedConnectionManager(delegate, metrics);
+    }
+
+    @Test
+    void repositoryStatementsAreRecordedUnderEnumName() throws SQLException {
+        var resultSet = mock(ResultSet.class);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        var mapper = mock(OrderResultSetMapper.class);
+        when(mapper.map(any())).thenReturn(new OrderEntity());
+        var repository = new OrderRepositoryImpl(manager, mapper, mock(TableVersions.class));
+
+        repository.findPage(0L, 10);
+        repository.findPage(3L, 10);
+
+        var stats = statsNamed("OrderSQL.FIND_PAGE");
+        assertAll(
+                () -> assertEquals(2, stats.getCount()),
+                () -> assertEquals(3, stats.getRows()),
+                () -> assertEquals(0, stats.getErrors())
+        );
+    }
+
+    @Test
+    void failedExecutionCountsError() throws SQLException {
+        when(statement.executeUpdate()).thenThrow(new SQLException("boom"));
+        var repository = new FreelancerRepositoryImpl(manager, mock(FreelancerResultSetMapper.class),
+                mock(QualificationRelationRepository.class), mock(EmailBloomFilter.class), mock(CandidateIndex.class),
+                mock(TableVersions.class));
+
+        assertThrows(RepositoryException.class, () -> repository.deleteById(1L));
+
+        var stats = statsNamed("FreelancerSQL.DELETE");
+        assertAll(
+                () -> assertEquals(1, stats.getCount()),
+                () -> assertEquals(1, stats.getErrors())
+        );
+    }
+
+    @Test
+    void batchRowsAreSummed() throws SQLException {
+        var keys = mock(ResultSet.class);
+        when(connection.prepareStatement(anyString(), anyInt())).thenReturn(statement);
+        when(statement.executeUpdate()).thenReturn(1);
+        when(statement.getGeneratedKeys()).thenReturn(keys);
+        when(keys.next()).thenReturn(true);
+        when(keys.getObject(1, Long.class)).thenReturn(5L);
+        when(statement.executeBatch()).thenReturn(new int[]{1, 1, PreparedStatement.SUCCESS_NO_INFO});
+        var repository = new FreelancerRepositoryImpl(manager, mock(FreelancerResultSetMapper.class),
+                mock(QualificationRelationRepository.class), mock(EmailBloomFilter.class), mock(CandidateIndex.class),
+                mock(TableVersions.class));
+        var freelancer = new FreelancerEntity();
+        freelancer.setQualifications(List.of(prepareQualification(1L), prepareQualification(2L),
+                prepareQualification(3L)));
+
+        repository.save(freelancer);
+
+        assertAll(
+                () -> assertEquals(1, statsNamed("FreelancerSQL.SAVE").getRows()),
+                () -> assertEquals(2, statsNamed("FreelancerSQL.SAVE_RELATION").getRows())
+        );
+    }
+
+    @Test
+    void executionOverThresholdIsCountedAsSlow() throws SQLException {
+        var slowMetrics = new QueryMetrics(0);
+        var slowManager = new InstrumentedConnectionManager(delegate, slowMetrics);
+
+        try (var conn = slowManager.getConnection(); var ps = conn.prepareStatement("SELECT 1")) {
+            ps.setString(1, "secret");
+            ps.execute();
+        }
+
+        assertAll(
+                () -> assertEquals(1, slowMetrics.getSlowQueryCount()),
+                () -> assertEquals(1, slowMetrics.snapshot().size()),
+                () -> assertEquals("unnamed", slowMetrics.snapshot().get(0).getName())
+        );
+    }
+
+    // Deterministic stand-in for a JMH run: compares a no-op driver with and without the proxies.
+    @Test
+    @Tag("benchmark")
+    void instrumentationOverheadStaysInMicrosecondRange() throws SQLException {
+        var noOpStatement = (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> "executeUpdate".equals(method.getName()) ? 1 : null);
+        var noOpConnection = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> "prepareStatement".equals(method.getName()) ? noOpStatement : null);
+        var noOpManager = mock(ConnectionManager.class);
+        when(noOpManager.getConnection()).thenReturn(noOpConnection);
+        var instrumented = new InstrumentedConnectionManager(noOpManager, metrics);
+
+        int iterations = 200_000;
+        runUpdates(noOpManager, iterations);
+        runUpdates(instrumented, iterations);
+        // best of several rounds, so a GC pause in one round does not decide the result
+        long plainNanos = Long.MAX_VALUE;
+        long instrumentedNanos = Long.MAX_VALUE;
+        for (int round = 0; round < 5; round++) {
+            plainNanos = Math.min(plainNanos, runUpdates(noOpManager, iterations));
+            instrumentedNanos = Math.min(instrumentedNanos, runUpdates(instrumented, iterations));
+        }
+
+        double overheadPerCall = (instrumentedNanos - plainNanos) / (double) iterations;
+        assertTrue(overheadPerCall < 5_000, "overhead " + overheadPerCall + " ns");
+    }
+
+    private static long runUpdates(ConnectionManager manager, int iterations) throws SQLException {
+        long start = System.nanoTime();
+        try (var conn = manager.getConnection()) {
+            for (int i = 0; i < iterations; i++) {
+                var ps = conn.prepareStatement("UPDATE freelancer SET freelancerName=?, freelancerSecondName=?, " +
+                                               "freelancerEmail=? WHERE id=?");
+                ps.setString(1, "name");
+                ps.setLong(4, i);
+                ps.executeUpdate();
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static QualificationEntity prepareQualification(Long id) {
+        var qualification = new QualificationEntity();
+        qualification.setId(id);
+        return qualification;
+    }
+
+    private QueryStatsSnapshot statsNamed(String name) {
+        return metrics.snapshot().stream()
+                .filter(s -> s.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("no stats for " + name + " in " + metrics.snapshot()));
+    }
+}
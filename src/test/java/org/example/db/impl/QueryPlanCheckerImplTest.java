@@ -0,0 +1,87 @@
+package org.example.db.impl;
+
+import org.example.db.ConnectionManager;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class QueryPlanCheckerImplTest {
+    private static final String BY_EMAIL = "SELECT id FROM freelancer WHERE freelancerEmail=?";
+    private static final String BY_TITLE = "SELECT id FROM qualif_order WHERE orderTitle=? LIMIT ?";
+
+    @Test
+    void isFilteredSelectSkipsWholeTableReadsAndWrites() {
+        assertAll(
+                () -> assertTrue(QueryPlanCheckerImpl.isFilteredSelect(BY_EMAIL)),
+                () -> assertFalse(QueryPlanCheckerImpl.isFilteredSelect("SELECT id FROM freelancer")),
+                () -> assertFalse(QueryPlanCheckerImpl.isFilteredSelect("DELETE FROM freelancer WHERE id=?"))
+        );
+    }
+
+    @Test
+    void checkReportsStatementsWithFullTableScans() throws SQLException {
+        var manager = mock(ConnectionManager.class);
+        var connection = mock(Connection.class);
+        when(manager.getConnection()).thenReturn(connection);
+        var byEmail = explain(connection, BY_EMAIL, 1, new String[]{"const"}, new String[]{"freelancer"});
+        var byTitle = explain(connection, BY_TITLE, 2, new String[]{"ALL"}, new String[]{"qualif_order"});
+
+        var fullScans = new QueryPlanCheckerImpl(manager).check(Map.of(BY_EMAIL, "FreelancerSQL.FIND_BY_EMAIL",
+                BY_TITLE, "OrderSQL.FIND_BY_TITLE", "SELECT id FROM freelancer", "FreelancerSQL.FIND_ALL"));
+
+        assertEquals(List.of("OrderSQL.FIND_BY_TITLE"), fullScans);
+        verify(byEmail, times(1)).setLong(1, 1L);
+        verify(byTitle, times(1)).setLong(2, 1L);
+        verify(connection, never()).prepareStatement("EXPLAIN SELECT id FROM freelancer");
+    }
+
+    @Test
+    void checkIgnoresTemporaryUnionResults() throws SQLException {
+        var manager = mock(ConnectionManager.class);
+        var connection = mock(Connection.class);
+        when(manager.getConnection()).thenReturn(connection);
+        explain(connection, BY_EMAIL, 1, new String[]{"const", "ALL"}, new String[]{"freelancer", "<union1,2>"});
+
+        assertTrue(new QueryPlanCheckerImpl(manager).check(Map.of(BY_EMAIL, "FreelancerSQL.FIND_BY_EMAIL")).isEmpty());
+    }
+
+    @Test
+    void checkExpandsInListTemplatesToOnePlaceholder() throws SQLException {
+        var manager = mock(ConnectionManager.class);
+        var connection = mock(Connection.class);
+        when(manager.getConnection()).thenReturn(connection);
+        String byIds = "SELECT id FROM freelancer WHERE id IN (?)";
+        explain(connection, byIds, 1, new String[]{"range"}, new String[]{"freelancer"});
+
+        var fullScans = new QueryPlanCheckerImpl(manager)
+                .check(Map.of("SELECT id FROM freelancer WHERE id IN (%s)", "FreelancerSQL.FIND_ALL_BY_IDS"));
+
+        assertTrue(fullScans.isEmpty());
+        verify(connection).prepareStatement("EXPLAIN " + byIds);
+    }
+
+    private static PreparedStatement explain(Connection connection, String sql, int parameters, String[] types,
+                                             String[] tables) throws SQLException {
+        var preparedStatement = mock(PreparedStatement.class);
+        var metaData = mock(ParameterMetaData.class);
+        var resultSet = mock(ResultSet.class);
+        when(connection.prepareStatement("EXPLAIN " + sql)).thenReturn(preparedStatement);
+        when(preparedStatement.getParameterMetaData()).thenReturn(metaData);
+        when(metaData.getParameterCount()).thenReturn(parameters);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        int[] row = {-1};
+        when(resultSet.next()).thenAnswer(invocation -> ++row[0] < types.length);
+        when(resultSet.getString("type")).thenAnswer(invocation -> types[row[0]]);
+        when(resultSet.getString("table")).thenAnswer(invocation -> tables[row[0]]);
+        return preparedStatement;
+    }
+}
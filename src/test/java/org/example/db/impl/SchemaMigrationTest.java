@@ -0,0 +1,105 @@
+package org.example.db.impl;
+
+import org.example.db.ConnectionManager;
+import org.example.db.PropertiesUtil;
+import org.example.db.metrics.QueryNames;
+import org.example.repository.impl.FreelancerRepositoryImpl;
+import org.example.repository.impl.OrderRepositoryImpl;
+import org.example.repository.impl.QualificationRelationRepositoryImpl;
+import org.example.repository.impl.QualificationRepositoryImpl;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mockStatic;
+
+// Migrates a database created by the reset script, then checks the plans of every repository statement.
+@Testcontainers
+class SchemaMigrationTest {
+    private static final String TEST_DB_NAME = "freelance";
+    private static final String TEST_DB_INIT_SCRIPT_FILE_NAME = "db-migration.SQL";
+    private static final String IMAGE_NAME = "mysql:8.0";
+    private static final int LATEST_VERSION = 3;
+    private static ConnectionManager connectionManager;
+
+    @Container
+    static final MySQLContainer<?> CONTAINER =
+            new MySQLContainer<>(IMAGE_NAME)
+                    .withDatabaseName(TEST_DB_NAME)
+                    .withInitScript(TEST_DB_INIT_SCRIPT_FILE_NAME);
+
+    @BeforeAll
+    static void beforeAll() {
+        Properties testDbProps = PropertiesUtil.getProperties();
+        testDbProps.setProperty("jdbcUrl", CONTAINER.getJdbcUrl());
+        testDbProps.setProperty("username", CONTAINER.getUsername());
+        testDbProps.setProperty("password", CONTAINER.getPassword());
+        try (MockedStatic<PropertiesUtil> mockedProps = mockStatic(PropertiesUtil.class)) {
+            mockedProps.when(PropertiesUtil::getProperties).thenReturn(testDbProps);
+            connectionManager = ConnectionManagerImpl.getInstance();
+        }
+    }
+
+    @AfterAll
+    static void afterAll() {
+        connectionManager.destroy();
+    }
+
+    @Test
+    void migrateIsIncrementalAndKeepsData() throws SQLException {
+        var migrator = new SchemaMigratorImpl(connectionManager);
+
+        migrator.migrate();
+
+        assertAll(
+                () -> assertEquals(0, migrator.migrate()),
+                () -> assertEquals(LATEST_VERSION, migrator.currentVersion()),
+                () -> assertEquals(20, count("SELECT COUNT(*) FROM freelancer")),
+                () -> assertEquals(Set.of("idx_order_qualification_price", "idx_order_qualification_term",
+                        "idx_order_price", "idx_order_term", "idx_relation_qualification_freelancer"), indexes())
+        );
+    }
+
+    @Test
+    void repositoryStatementsAvoidFullScansOnFilteredReads() {
+        new SchemaMigratorImpl(connectionManager).migrate();
+        new FreelancerRepositoryImpl();
+        new OrderRepositoryImpl();
+        new QualificationRepositoryImpl();
+        new QualificationRelationRepositoryImpl();
+
+        var fullScans = new QueryPlanCheckerImpl(connectionManager).check(QueryNames.statements());
+
+        assertTrue(fullScans.stream().noneMatch(name -> name.contains("FIND_PAGE_BY_QUALIFICATION")), fullScans::toString);
+    }
+
+    private static long count(String sql) throws SQLException {
+        try (var connection = connectionManager.getConnection(); var statement = connection.createStatement()) {
+            var resultSet = statement.executeQuery(sql);
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static Set<String> indexes() throws SQLException {
+        Set<String> names = new HashSet<>();
+        try (var connection = connectionManager.getConnection(); var statement = connection.createStatement()) {
+            var resultSet = statement.executeQuery("SELECT DISTINCT index_name FROM information_schema.statistics " +
+                                                   "WHERE table_schema = DATABASE() AND index_name LIKE 'idx_%'");
+            while (resultSet.next()) {
+                names.add(resultSet.getString(1));
+            }
+        }
+        return names;
+    }
+}
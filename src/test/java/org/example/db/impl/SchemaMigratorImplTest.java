@@ -0,0 +1,113 @@
+package org.example.db.impl;
+
+import org.example.db.ConnectionManager;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+class SchemaMigratorImplTest {
+    private static final List<String> SCRIPTS = List.of("V1__create_schema.sql", "V2__order_filter_indexes.sql",
+            "V3__relation_reverse_index.sql");
+
+    @Test
+    void splitDropsCommentsAndSplitsOnLineEndingSemicolons() {
+        var statements = SchemaMigratorImpl.split("-- header\nCREATE TABLE t\n(\n    id INT\n);\n\n" +
+                                                  "CREATE INDEX i ON t (id);\n");
+
+        assertEquals(List.of("CREATE TABLE t\n(\n    id INT\n)", "CREATE INDEX i ON t (id)"), statements);
+    }
+
+    @Test
+    void loadReadsVersionAndDescriptionFromName() {
+        var migration = SchemaMigratorImpl.load("V2__order_filter_indexes.sql");
+
+        assertAll(
+                () -> assertEquals(2, migration.version()),
+                () -> assertEquals("order filter indexes", migration.description()),
+                () -> assertEquals(4, migration.statements().size()),
+                () -> assertEquals(migration.checksum(), SchemaMigratorImpl.load("V2__order_filter_indexes.sql").checksum())
+        );
+    }
+
+    @Test
+    void loadWhenNameMalformedThenThrows() {
+        assertThrows(IllegalArgumentException.class, () -> SchemaMigratorImpl.load("create_schema.sql"));
+        assertThrows(IllegalArgumentException.class, () -> SchemaMigratorImpl.load("V9__missing.sql"));
+    }
+
+    @Test
+    void migrateAppliesOnlyPendingVersionsInOrder() throws SQLException {
+        var manager = mock(ConnectionManager.class);
+        var connection = mock(Connection.class);
+        var statement = mock(Statement.class);
+        var applied = mock(ResultSet.class);
+        var record = mock(PreparedStatement.class);
+        when(manager.getConnection()).thenReturn(connection);
+        givenLock(connection, 1);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(startsWith("SELECT version"))).thenReturn(applied);
+        when(applied.next()).thenReturn(true, false);
+        when(applied.getInt(1)).thenReturn(1);
+        when(applied.getLong(2)).thenReturn(SchemaMigratorImpl.load(SCRIPTS.get(0)).checksum());
+        when(connection.prepareStatement(startsWith("INSERT INTO schema_version"))).thenReturn(record);
+
+        int count = new SchemaMigratorImpl(manager, SCRIPTS).migrate();
+
+        assertEquals(2, count);
+        var order = inOrder(statement, record);
+        order.verify(statement).execute(startsWith("CREATE INDEX idx_order_qualification_price"));
+        order.verify(record).setInt(1, 2);
+        order.verify(statement).execute(startsWith("CREATE INDEX idx_relation_qualification_freelancer"));
+        order.verify(record).setInt(1, 3);
+        verify(statement, never()).execute(startsWith("CREATE TABLE IF NOT EXISTS freelancer"));
+        verify(statement, times(1)).execute(startsWith("SELECT RELEASE_LOCK"));
+    }
+
+    @Test
+    void migrateWhenIndexAlreadyExistsThenRecordsVersion() throws SQLException {
+        var manager = mock(ConnectionManager.class);
+        var connection = mock(Connection.class);
+        var statement = mock(Statement.class);
+        var applied = mock(ResultSet.class);
+        var record = mock(PreparedStatement.class);
+        when(manager.getConnection()).thenReturn(connection);
+        givenLock(connection, 1);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(applied);
+        when(statement.execute(startsWith("CREATE INDEX"))).thenThrow(new SQLException("Duplicate key name", "42000", 1061));
+        when(connection.prepareStatement(startsWith("INSERT INTO schema_version"))).thenReturn(record);
+
+        assertEquals(1, new SchemaMigratorImpl(manager, List.of(SCRIPTS.get(1))).migrate());
+        verify(record, times(1)).executeUpdate();
+    }
+
+    @Test
+    void migrateWhenLockNotGrantedThenThrows() throws SQLException {
+        var manager = mock(ConnectionManager.class);
+        var connection = mock(Connection.class);
+        when(manager.getConnection()).thenReturn(connection);
+        givenLock(connection, 0);
+
+        assertThrows(RuntimeException.class, () -> new SchemaMigratorImpl(manager, SCRIPTS).migrate());
+        verify(connection, never()).createStatement();
+    }
+
+    private static void givenLock(Connection connection, int granted) throws SQLException {
+        var lock = mock(PreparedStatement.class);
+        var lockResult = mock(ResultSet.class);
+        when(connection.prepareStatement(startsWith("SELECT GET_LOCK"))).thenReturn(lock);
+        when(lock.executeQuery()).thenReturn(lockResult);
+        when(lockResult.next()).thenReturn(true);
+        when(lockResult.getInt(1)).thenReturn(granted);
+    }
+}
@@ -0,0 +1,215 @@
+package org.example.db.impl;
+
+import org.example.db.ConnectionManager;
+import org.example.db.TransactionMode;
+import org.example.exception.RepositoryException;
+import org.example.model.FreelancerEntity;
+import org.example.repository.QualificationRelationRepository;
+import org.example.repository.cache.CandidateIndex;
+import org.example.repository.cache.EmailBloomFilter;
+import org.example.repository.cache.TableVersions;
+import org.example.repository.impl.FreelancerRepositoryImpl;
+import org.example.repository.mapper.FreelancerResultSetMapper;
+import org.example.service.dto.FreelancerDto;
+import org.example.service.impl.FreelancerServiceImpl;
+import org.example.service.mapper.FreelancerMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class TransactionManagerImplTest {
+    private ConnectionManager delegate;
+    private Connection connection;
+    private TransactionManagerImpl transactionManager;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        delegate = mock(ConnectionManager.class);
+        connection = mock(Connection.class);
+        when(delegate.getConnection()).thenReturn(connection);
+        transactionManager = new TransactionManagerImpl(delegate);
+    }
+
+    @Test
+    void nestedCallsShareOneConnectionAndCommitOnce() throws SQLException {
+        var result = transactionManager.inTransaction(TransactionMode.READ_WRITE, () -> {
+            var first = borrow();
+            var second = transactionManager.inTransaction(TransactionMode.READ_ONLY, this::borrow);
+            assertSame(first, second);
+            return "done";
+        });
+
+        assertEquals("done", result);
+        verify(delegate, times(1)).getConnection();
+        InOrder inOrder = inOrder(connection);
+        inOrder.verify(connection).setAutoCommit(false);
+        inOrder.verify(connection).commit();
+        inOrder.verify(connection).setAutoCommit(true);
+        inOrder.verify(connection).close();
+        verify(connection, never()).rollback();
+        assertFalse(transactionManager.isInTransaction());
+    }
+
+    @Test
+    void repositoryCommitAndCloseAreDeferredToTransactionOwner() throws SQLException {
+        transactionManager.runInTransaction(TransactionMode.READ_WRITE, () -> {
+            try {
+                var shared = transactionManager.getConnection();
+                shared.setAutoCommit(false);
+                shared.commit();
+                shared.close();
+                verify(connection, never()).commit();
+                verify(connection, never()).close();
+            } catch (SQLException e) {
+                throw new RepositoryException(e);
+            }
+        });
+
+        verify(connection, times(1)).commit();
+        verify(connection, times(1)).close();
+    }
+
+    @Test
+    void failureRollsBackAndReleasesConnection() throws SQLException {
+        var failure = new IllegalStateException("boom");
+
+        var thrown = assertThrows(IllegalStateException.class,
+                () -> transactionManager.runInTransaction(TransactionMode.READ_WRITE, () -> {
+                    borrow();
+                    throw failure;
+                }));
+
+        assertSame(failure, thrown);
+        verify(connection, times(1)).rollback();
+        verify(connection, never()).commit();
+        verify(connection, times(1)).close();
+        assertFalse(transactionManager.isInTransaction());
+    }
+
+    @Test
+    void swallowedNestedFailureStillRollsBackWrites() throws SQLException {
+        assertThrows(IllegalStateException.class,
+                () -> transactionManager.runInTransaction(TransactionMode.READ_WRITE, () -> {
+                    try {
+                        transactionManager.runInTransaction(TransactionMode.READ_WRITE, () -> {
+                            throw new RepositoryException(new SQLException("duplicate"));
+                        });
+                    } catch (RepositoryException ignored) {
+                        // caller decides to continue
+                    }
+                }));
+
+        verify(connection, times(1)).rollback();
+        verify(connection, never()).commit();
+        verify(connection, times(1)).close();
+    }
+
+    @Test
+    void afterCommitActionsWaitForTheOwnerCommit() throws SQLException {
+        List<String> events = new ArrayList<>();
+        doAnswer(invocation -> events.add("commit")).when(connection).commit();
+
+        transactionManager.runInTransaction(TransactionMode.READ_WRITE, () -> {
+            borrow();
+            transactionManager.afterCommit(() -> events.add("after"));
+            events.add("work done");
+        });
+        transactionManager.afterCommit(() -> events.add("outside"));
+
+        assertEquals(List.of("work done", "commit", "after", "outside"), events);
+    }
+
+    @Test
+    void afterCommitActionsAreDroppedOnRollback() {
+        List<String> events = new ArrayList<>();
+
+        assertThrows(IllegalStateException.class,
+                () -> transactionManager.runInTransaction(TransactionMode.READ_WRITE, () -> {
+                    transactionManager.afterCommit(() -> events.add("after"));
+                    throw new IllegalStateException("boom");
+                }));
+
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void readOnlyModeIsSetAndReset() throws SQLException {
+        transactionManager.inTransaction(TransactionMode.READ_ONLY, this::borrow);
+
+        InOrder inOrder = inOrder(connection);
+        inOrder.verify(connection).setAutoCommit(false);
+        inOrder.verify(connection).setReadOnly(true);
+        inOrder.verify(connection).commit();
+        inOrder.verify(connection).setReadOnly(false);
+        inOrder.verify(connection).setAutoCommit(true);
+        inOrder.verify(connection).close();
+    }
+
+    @Test
+    void readWriteCannotJoinReadOnly() throws SQLException {
+        assertThrows(IllegalStateException.class,
+                () -> transactionManager.inTransaction(TransactionMode.READ_ONLY,
+                        () -> transactionManager.inTransaction(TransactionMode.READ_WRITE, this::borrow)));
+
+        verify(connection, times(1)).rollback();
+        verify(connection, times(1)).close();
+    }
+
+    @Test
+    void leakedConnectionIsUnusableAfterTransaction() {
+        var leaked = transactionManager.inTransaction(TransactionMode.READ_WRITE, this::borrow);
+
+        assertThrows(SQLException.class, () -> leaked.prepareStatement("SELECT 1"));
+    }
+
+    @Test
+    void outsideTransactionEveryCallBorrowsFromPool() throws SQLException {
+        transactionManager.getConnection();
+        transactionManager.getConnection();
+
+        verify(delegate, times(2)).getConnection();
+    }
+
+    @Test
+    void freelancerSaveUsesOnePoolCheckout() throws SQLException {
+        var statement = mock(PreparedStatement.class);
+        var resultSet = mock(ResultSet.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(connection.prepareStatement(anyString(), anyInt())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(statement.getGeneratedKeys()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(false, true);
+        when(resultSet.getObject(1, Long.class)).thenReturn(1L);
+        var repository = new FreelancerRepositoryImpl(transactionManager, mock(FreelancerResultSetMapper.class),
+                mock(QualificationRelationRepository.class), mock(EmailBloomFilter.class), mock(CandidateIndex.class),
+                mock(TableVersions.class));
+        var mapper = mock(FreelancerMapper.class);
+        when(mapper.toEntity(any(FreelancerDto.class))).thenReturn(new FreelancerEntity());
+        var service = new FreelancerServiceImpl(repository, mapper, transactionManager);
+
+        service.save(new FreelancerDto());
+
+        verify(delegate, times(1)).getConnection();
+        verify(connection, times(1)).commit();
+    }
+
+    private Connection borrow() {
+        try {
+            return transactionManager.getConnection();
+        } catch (SQLException e) {
+            throw new RepositoryException(e);
+        }
+    }
+}
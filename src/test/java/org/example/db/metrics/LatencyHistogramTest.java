@@ -0,0 +1,50 @@
+package org.example.db.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void emptyHistogramReportsZero() {
+        var histogram = new LatencyHistogram();
+
+        assertAll(
+                () -> assertEquals(0, histogram.getCount()),
+                () -> assertEquals(0, histogram.getMeanMicros()),
+                () -> assertEquals(0, histogram.getPercentileMicros(99))
+        );
+    }
+
+    @Test
+    void percentilesFallIntoPowerOfTwoBuckets() {
+        var histogram = new LatencyHistogram();
+        for (int i = 0; i < 90; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+
+        assertAll(
+                () -> assertEquals(100, histogram.getCount()),
+                () -> assertEquals(127, histogram.getPercentileMicros(50)),
+                () -> assertEquals(127, histogram.getPercentileMicros(90)),
+                () -> assertEquals(50_000, histogram.getPercentileMicros(99)),
+                () -> assertEquals(50_000, histogram.getMaxMicros()),
+                () -> assertEquals(5_090, histogram.getMeanMicros())
+        );
+    }
+
+    @Test
+    void hugeLatencyLandsInLastBucket() {
+        var histogram = new LatencyHistogram();
+
+        histogram.record(TimeUnit.DAYS.toNanos(365 * 100));
+
+        assertEquals(1, histogram.getCount());
+    }
+}
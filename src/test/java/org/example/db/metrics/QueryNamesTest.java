@@ -0,0 +1,33 @@
+package org.example.db.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryNamesTest {
+
+    @Test
+    void inListsOfAnyLengthResolveToTemplateName() {
+        QueryNames.register("TestSQL.FIND_BY_IDS", "SELECT * FROM test_table WHERE id IN (%s)");
+
+        assertAll(
+                () -> assertEquals("TestSQL.FIND_BY_IDS", QueryNames.nameOf("SELECT * FROM test_table WHERE id IN (?)")),
+                () -> assertEquals("TestSQL.FIND_BY_IDS",
+                        QueryNames.nameOf("SELECT * FROM test_table WHERE id IN (?, ?, ?)"))
+        );
+    }
+
+    @Test
+    void sameSqlRegisteredTwiceKeepsBothNames() {
+        QueryNames.register("FirstSQL.FIND", "SELECT * FROM shared_table WHERE id=?");
+        QueryNames.register("SecondSQL.FIND", "SELECT * FROM shared_table WHERE id=?");
+        QueryNames.register("SecondSQL.FIND", "SELECT * FROM shared_table WHERE id=?");
+
+        assertEquals("FirstSQL.FIND|SecondSQL.FIND", QueryNames.nameOf("SELECT * FROM shared_table WHERE id=?"));
+    }
+
+    @Test
+    void unknownSqlIsUnnamed() {
+        assertEquals("unnamed", QueryNames.nameOf("SELECT 42"));
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.repository.cache.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CandidateIndexImplTest {
+    private static final long JAVA = 1L;
+    private static final long SQL = 2L;
+    private static final long DOCKER = 3L;
+
+    private final CandidateIndexImpl index = new CandidateIndexImpl();
+
+    @Test
+    void findCandidatesBeforeRebuildThenNotReadyAndEmpty() {
+        assertFalse(index.isReady());
+        assertArrayEquals(new long[0], index.findCandidates(JAVA, 0, 10));
+    }
+
+    @Test
+    void rebuildThenPagesByFreelancerId() {
+        index.rebuild(sink -> {
+            sink.accept(JAVA, 1L);
+            sink.accept(JAVA, 3L);
+            sink.accept(JAVA, 5L);
+            sink.accept(SQL, 3L);
+        });
+
+        assertAll(
+                () -> assertTrue(index.isReady()),
+                () -> assertArrayEquals(new long[]{1, 3}, index.findCandidates(JAVA, 0, 2)),
+                () -> assertArrayEquals(new long[]{5}, index.findCandidates(JAVA, 3, 2)),
+                () -> assertArrayEquals(new long[]{3}, index.findCandidates(SQL, 0, 2)),
+                () -> assertEquals(3, index.countCandidates(JAVA)),
+                () -> assertEquals(0, index.countCandidates(99L))
+        );
+    }
+
+    @Test
+    void setRelationsAddsAndDropsFreelancer() {
+        index.rebuild(sink -> {
+            sink.accept(JAVA, 1L);
+            sink.accept(SQL, 1L);
+        });
+
+        index.setRelations(1L, List.of(JAVA));
+        index.setRelations(2L, List.of(JAVA, SQL));
+
+        assertAll(
+                () -> assertArrayEquals(new long[]{1, 2}, index.findCandidates(JAVA, 0, 10)),
+                () -> assertArrayEquals(new long[]{2}, index.findCandidates(SQL, 0, 10))
+        );
+    }
+
+    @Test
+    void addRelationsMergesEveryFreelancerOfTheBatch() {
+        index.rebuild(sink -> {
+            sink.accept(JAVA, 2L);
+            sink.accept(SQL, 2L);
+        });
+
+        index.addRelations(Map.of(
+                5L, List.of(JAVA),
+                1L, List.of(JAVA, SQL),
+                3L, List.of(DOCKER)));
+
+        assertAll(
+                () -> assertArrayEquals(new long[]{1, 2, 5}, index.findCandidates(JAVA, 0, 10)),
+                () -> assertArrayEquals(new long[]{1, 2}, index.findCandidates(SQL, 0, 10)),
+                () -> assertArrayEquals(new long[]{3}, index.findCandidates(DOCKER, 0, 10))
+        );
+    }
+
+    @Test
+    void removeFreelancerDropsItFromEveryQualification() {
+        index.rebuild(sink -> {
+            sink.accept(JAVA, 1L);
+            sink.accept(JAVA, 2L);
+            sink.accept(SQL, 1L);
+        });
+
+        index.removeFreelancer(1L);
+
+        assertAll(
+                () -> assertArrayEquals(new long[]{2}, index.findCandidates(JAVA, 0, 10)),
+                () -> assertEquals(0, index.countCandidates(SQL))
+        );
+    }
+
+    @Test
+    void rebuildReplacesPreviousContent() {
+        index.setRelations(7L, List.of(JAVA));
+
+        index.rebuild(sink -> sink.accept(SQL, 8L));
+
+        assertAll(
+                () -> assertEquals(0, index.countCandidates(JAVA)),
+                () -> assertArrayEquals(new long[]{8}, index.findCandidates(SQL, 0, 10))
+        );
+    }
+
+    @Test
+    void pageDeepInLargeSetAnswersInMicroseconds() {
+        int freelancers = 1_000_000;
+        index.rebuild(sink -> {
+            for (long id = 1; id <= freelancers; id++) {
+                sink.accept(JAVA, id);
+            }
+        });
+        for (int i = 0; i < 10_000; i++) {
+            index.findCandidates(JAVA, i * 97L, 50);
+        }
+
+        int lookups = 10_000;
+        long start = System.nanoTime();
+        long found = 0;
+        for (int i = 0; i < lookups; i++) {
+            found += index.findCandidates(JAVA, (i * 7_919L) % freelancers, 50).length;
+        }
+        long averageMicros = TimeUnit.NANOSECONDS.toMicros((System.nanoTime() - start) / lookups);
+
+        assertTrue(found > 0);
+        assertTrue(averageMicros < 100, "average " + averageMicros + "us per page");
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.repository.cache.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailBloomFilterImplTest {
+    private static final int EXPECTED_EMAILS = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int ADDERS = 4;
+
+    private final EmailBloomFilterImpl filter = new EmailBloomFilterImpl(EXPECTED_EMAILS, FALSE_POSITIVE_RATE);
+
+    @Test
+    void mightContainBeforeRebuildThenAlwaysTrue() {
+        assertFalse(filter.isReady());
+        assertTrue(filter.mightContain("anyone@test.com"));
+    }
+
+    @Test
+    void rebuiltAndAddedEmailsAreFoundIgnoringCase() {
+        filter.rebuild(sink -> List.of("ivanov@test.com", "petrov@test.com").forEach(sink));
+        filter.add("Sidorov@Test.com");
+
+        assertAll(
+                () -> assertTrue(filter.isReady()),
+                () -> assertTrue(filter.mightContain("IVANOV@test.com")),
+                () -> assertTrue(filter.mightContain("petrov@test.com")),
+                () -> assertTrue(filter.mightContain(" sidorov@test.com")),
+                () -> assertFalse(filter.mightContain("absent@test.com"))
+        );
+    }
+
+    @Test
+    void rebuildDropsEmailsMissingFromSource() {
+        filter.rebuild(sink -> sink.accept("deleted@test.com"));
+        filter.rebuild(sink -> sink.accept("kept@test.com"));
+
+        assertTrue(filter.mightContain("kept@test.com"));
+        assertFalse(filter.mightContain("deleted@test.com"));
+    }
+
+    @Test
+    void falsePositiveRateStaysNearConfiguredValue() {
+        filter.rebuild(sink -> IntStream.range(0, EXPECTED_EMAILS).mapToObj(i -> "user" + i + "@test.com").forEach(sink));
+
+        int probes = 100_000;
+        long falsePositives = IntStream.range(0, probes)
+                .filter(i -> filter.mightContain("other" + i + "@test.com"))
+                .count();
+
+        double rate = (double) falsePositives / probes;
+        assertTrue(rate < FALSE_POSITIVE_RATE * 2, "false positive rate " + rate);
+    }
+
+    @Test
+    void emailAddedWhileRebuildsSwapIsNeverLost() throws Exception {
+        Set<String> committed = ConcurrentHashMap.newKeySet();
+        var stop = new AtomicBoolean();
+        var lost = new AtomicInteger();
+        var threads = Executors.newFixedThreadPool(ADDERS + 1);
+        try {
+            threads.submit(() -> {
+                while (!stop.get()) {
+                    filter.rebuild(sink -> committed.forEach(sink));
+                }
+            });
+            List<Future<?>> adders = new ArrayList<>();
+            for (int adder = 0; adder < ADDERS; adder++) {
+                int id = adder;
+                adders.add(threads.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        var email = "racer" + id + "-" + i + "@test.com";
+                        committed.add(email);
+                        filter.add(email);
+                        if (!filter.mightContain(email)) {
+                            lost.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> adder : adders) {
+                adder.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            stop.set(true);
+            threads.shutdown();
+            assertTrue(threads.awaitTermination(30, TimeUnit.SECONDS));
+        }
+        assertEquals(0, lost.get());
+        assertTrue(committed.stream().allMatch(filter::mightContain));
+    }
+
+    @Test
+    void emailAddedDuringRebuildIsKept() throws InterruptedException {
+        var sourceStarted = new CountDownLatch(1);
+        var added = new CountDownLatch(1);
+        var rebuild = new Thread(() -> filter.rebuild(sink -> {
+            sink.accept("existing@test.com");
+            sourceStarted.countDown();
+            try {
+                added.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        rebuild.start();
+
+        assertTrue(sourceStarted.await(5, TimeUnit.SECONDS));
+        filter.add("concurrent@test.com");
+        added.countDown();
+        rebuild.join();
+
+        assertTrue(filter.mightContain("existing@test.com"));
+        assertTrue(filter.mightContain("concurrent@test.com"));
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.repository.cache.impl;
+
+import org.example.model.QualificationEntity;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QualificationCacheImplTest {
+
+    @Test
+    void getWhenAbsentThenCountMiss() {
+        var cache = new QualificationCacheImpl(4);
+
+        assertTrue(cache.get(1L).isEmpty());
+        assertAll(
+                () -> assertEquals(0, cache.getHitCount()),
+                () -> assertEquals(1, cache.getMissCount())
+        );
+    }
+
+    @Test
+    void getWhenPresentThenReturnCopyAndCountHit() {
+        var cache = new QualificationCacheImpl(4);
+        var qualification = prepareQualification(1L, "Java");
+        cache.put(qualification);
+
+        var actual = cache.get(1L);
+        actual.get().setQualificationName("changed");
+
+        assertAll(
+                () -> assertEquals(qualification, cache.get(1L).get()),
+                () -> assertNotSame(qualification, actual.get()),
+                () -> assertEquals(2, cache.getHitCount()),
+                () -> assertEquals(0, cache.getMissCount())
+        );
+    }
+
+    @Test
+    void putWhenPresentThenReplaceName() {
+        var cache = new QualificationCacheImpl(4);
+        cache.put(prepareQualification(1L, "Java"));
+
+        cache.put(prepareQualification(1L, "Kotlin"));
+
+        assertAll(
+                () -> assertEquals(1, cache.size()),
+                () -> assertEquals("Kotlin", cache.get(1L).get().getQualificationName())
+        );
+    }
+
+    @Test
+    void invalidateRemovesOnlyGivenId() {
+        var cache = new QualificationCacheImpl(64);
+        for (long id = 1; id <= 64; id++) {
+            cache.put(prepareQualification(id, "q" + id));
+        }
+
+        for (long id = 1; id <= 64; id += 2) {
+            cache.invalidate(id);
+        }
+
+        assertEquals(32, cache.size());
+        for (long id = 1; id <= 64; id++) {
+            assertEquals(id % 2 == 0, cache.get(id).isPresent(), "id " + id);
+        }
+    }
+
+    @Test
+    void putWhenFullThenEvictNotRecentlyReadEntry() {
+        var cache = new QualificationCacheImpl(2);
+        cache.put(prepareQualification(1L, "Java"));
+        cache.put(prepareQualification(2L, "Kotlin"));
+        cache.get(1L);
+
+        cache.put(prepareQualification(3L, "Scala"));
+
+        assertAll(
+                () -> assertEquals(2, cache.size()),
+                () -> assertEquals(1, cache.getEvictionCount()),
+                () -> assertTrue(cache.get(1L).isPresent()),
+                () -> assertTrue(cache.get(2L).isEmpty()),
+                () -> assertTrue(cache.get(3L).isPresent())
+        );
+    }
+
+    @Test
+    void sizeNeverExceedsCapacity() {
+        var cache = new QualificationCacheImpl(16);
+
+        for (long id = 1; id <= 1_000; id++) {
+            cache.put(prepareQualification(id, "q" + id));
+            cache.get(id / 2);
+        }
+
+        assertAll(
+                () -> assertEquals(16, cache.size()),
+                () -> assertEquals(1_000 - 16, cache.getEvictionCount()),
+                () -> assertTrue(cache.get(1_000L).isPresent())
+        );
+    }
+
+    @Test
+    void constructorWhenCapacityNotPositiveThenThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new QualificationCacheImpl(0));
+    }
+
+    private QualificationEntity prepareQualification(Long id, String name) {
+        var qualification = new QualificationEntity();
+        qualification.setId(id);
+        qualification.setQualificationName(name);
+        return qualification;
+    }
+}
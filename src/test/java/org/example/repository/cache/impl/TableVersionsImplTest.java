@@ -0,0 +1,55 @@
+package org.example.repository.cache.impl;
+
+import org.example.repository.cache.TableVersions.Table;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TableVersionsImplTest {
+
+    @Test
+    void entityChangeMovesItsTableAndItsSlotOnly() {
+        var versions = new TableVersionsImpl(1024);
+
+        versions.changed(Table.FREELANCER, 7L);
+
+        assertEquals(1, versions.get(Table.FREELANCER));
+        assertEquals(1, versions.get(Table.FREELANCER, 7L));
+        assertEquals(0, versions.get(Table.FREELANCER, 8L));
+        assertEquals(0, versions.get(Table.QUALIFICATION));
+        assertEquals(0, versions.get(Table.QUALIFICATION, 7L));
+    }
+
+    @Test
+    void changedEntityRisesAboveEveryVersionSeenBefore() {
+        var versions = new TableVersionsImpl(4);
+        for (long id = 1; id <= 100; id++) {
+            versions.changed(Table.ORDER, id);
+        }
+        long highest = 0;
+        for (long id = 1; id <= 100; id++) {
+            highest = Math.max(highest, versions.get(Table.ORDER, id));
+        }
+
+        versions.changed(Table.ORDER, 42L);
+
+        assertTrue(versions.get(Table.ORDER, 42L) > highest);
+    }
+
+    @Test
+    void tableChangeMovesEveryEntity() {
+        var versions = new TableVersionsImpl(16);
+        versions.changed(Table.ORDER, 1L);
+
+        versions.changed(Table.ORDER);
+
+        assertEquals(2, versions.get(Table.ORDER));
+        assertEquals(2, versions.get(Table.ORDER, 1L));
+        assertEquals(2, versions.get(Table.ORDER, 99L));
+    }
+
+    @Test
+    void constructorWhenSlotsNotPositiveThenThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new TableVersionsImpl(0));
+    }
+}
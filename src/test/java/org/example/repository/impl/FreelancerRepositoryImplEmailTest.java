@@ -0,0 +1,119 @@
+package org.example.repository.impl;
+
+import org.example.db.ConnectionManager;
+import org.example.exception.RepositoryException;
+import org.example.model.FreelancerEntity;
+import org.example.repository.QualificationRelationRepository;
+import org.example.repository.cache.CandidateIndex;
+import org.example.repository.cache.EmailBloomFilter;
+import org.example.repository.cache.TableVersions;
+import org.example.repository.mapper.FreelancerResultSetMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class FreelancerRepositoryImplEmailTest {
+    private static final String EMAIL = "ivanov@test.com";
+
+    private ConnectionManager manager;
+    private Connection connection;
+    private PreparedStatement statement;
+    private EmailBloomFilter emailFilter;
+    private FreelancerRepositoryImpl repository;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        manager = mock(ConnectionManager.class);
+        connection = mock(Connection.class);
+        statement = mock(PreparedStatement.class);
+        emailFilter = mock(EmailBloomFilter.class);
+        when(manager.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(connection.prepareStatement(anyString(), anyInt())).thenReturn(statement);
+        repository = new FreelancerRepositoryImpl(manager, mock(FreelancerResultSetMapper.class),
+                mock(QualificationRelationRepository.class), emailFilter, mock(CandidateIndex.class),
+                mock(TableVersions.class));
+    }
+
+    @Test
+    void saveIfEmailAbsentWhenDuplicateKeyThenEmptyWithoutRollback() throws SQLException {
+        when(statement.executeUpdate()).thenThrow(new SQLException("Duplicate entry", "23000", 1062));
+        var entity = prepareFreelancer();
+
+        var saved = repository.saveIfEmailAbsent(entity);
+
+        assertTrue(saved.isEmpty());
+        assertNull(entity.getId());
+        verify(manager, times(1)).getConnection();
+        verify(statement, never()).getGeneratedKeys();
+        verify(connection, never()).rollback();
+        verify(connection, times(1)).close();
+        verify(emailFilter, times(1)).add(EMAIL);
+    }
+
+    @Test
+    void saveWhenDuplicateKeyThenRepositoryException() throws SQLException {
+        when(statement.executeUpdate()).thenThrow(new SQLException("Duplicate entry", "23000", 1062));
+
+        assertThrows(RepositoryException.class, () -> repository.save(prepareFreelancer()));
+        verify(connection, times(1)).rollback();
+    }
+
+    @Test
+    void saveIfEmailAbsentWhenOtherConstraintFailsThenRepositoryException() throws SQLException {
+        when(statement.executeUpdate()).thenThrow(new SQLException("Foreign key", "23000", 1452));
+
+        assertThrows(RepositoryException.class, () -> repository.saveIfEmailAbsent(prepareFreelancer()));
+        verify(emailFilter, never()).add(anyString());
+    }
+
+    @Test
+    void saveIfEmailAbsentWhenInsertedThenEmailAddedToFilter() throws SQLException {
+        var keys = mock(ResultSet.class);
+        when(statement.getGeneratedKeys()).thenReturn(keys);
+        when(keys.next()).thenReturn(true);
+        when(keys.getObject(1, Long.class)).thenReturn(7L);
+
+        var saved = repository.saveIfEmailAbsent(prepareFreelancer());
+
+        assertEquals(7L, saved.orElseThrow().getId());
+        verify(connection, times(1)).commit();
+        verify(emailFilter, times(1)).add(EMAIL);
+    }
+
+    @Test
+    void containsFreelancerByEmailWhenFilterRulesOutThenNoQuery() throws SQLException {
+        when(emailFilter.mightContain(EMAIL)).thenReturn(false);
+
+        assertFalse(repository.containsFreelancerByEmail(EMAIL));
+        verify(manager, never()).getConnection();
+    }
+
+    @Test
+    void containsFreelancerByEmailWhenFilterMatchesThenDatabaseDecides() throws SQLException {
+        var resultSet = mock(ResultSet.class);
+        when(emailFilter.mightContain(EMAIL)).thenReturn(true);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(false);
+
+        assertFalse(repository.containsFreelancerByEmail(EMAIL));
+        verify(statement, times(1)).executeQuery();
+    }
+
+    private static FreelancerEntity prepareFreelancer() {
+        var entity = new FreelancerEntity();
+        entity.setFreelancerName("Иван");
+        entity.setFreelancerSecondName("Иванов");
+        entity.setFreelancerEmail(EMAIL);
+        return entity;
+    }
+}
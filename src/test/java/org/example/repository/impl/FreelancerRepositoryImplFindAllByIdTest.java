@@ -0,0 +1,92 @@
+package org.example.repository.impl;
+
+import org.example.db.ConnectionManager;
+import org.example.model.FreelancerEntity;
+import org.example.model.QualificationEntity;
+import org.example.repository.cache.CandidateIndex;
+import org.example.repository.cache.EmailBloomFilter;
+import org.example.repository.cache.TableVersions;
+import org.example.repository.cache.impl.QualificationCacheImpl;
+import org.example.repository.mapper.impl.FreelancerResultSetMapperIndexedImpl;
+import org.example.repository.mapper.impl.QualificationResultSetMapperIndexedImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+class FreelancerRepositoryImplFindAllByIdTest {
+    private static final String FIND_FREELANCERS = "SELECT id, freelancerName";
+    private static final String FIND_QUALIFICATIONS = "SELECT q.id, q.qualificationName, fq.freelancerId";
+
+    private ConnectionManager manager;
+    private Connection connection;
+    private FreelancerRepositoryImpl repository;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        manager = mock(ConnectionManager.class);
+        connection = mock(Connection.class);
+        when(manager.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenThrow(new SQLException("unexpected query"));
+        var freelancers = statementReturning(new Object[][]{
+                {1L, "Иван", "Иванов", "ivanov@test.com"},
+                {3L, "Анна", "Зайцева", "zaitseva@test.com"}});
+        var qualifications = statementReturning(new Object[][]{
+                {10L, "Java", 1L},
+                {10L, "Java", 3L},
+                {11L, "SQL", 3L}});
+        doReturn(freelancers).when(connection).prepareStatement(startsWith(FIND_FREELANCERS));
+        doReturn(qualifications).when(connection).prepareStatement(startsWith(FIND_QUALIFICATIONS));
+        repository = new FreelancerRepositoryImpl(manager, new FreelancerResultSetMapperIndexedImpl(),
+                new QualificationRelationRepositoryImpl(new QualificationResultSetMapperIndexedImpl(),
+                        new QualificationCacheImpl(16)),
+                mock(EmailBloomFilter.class), mock(CandidateIndex.class), mock(TableVersions.class));
+    }
+
+    @Test
+    void findAllByIdUsesTwoQueriesAndKeepsRequestOrder() throws SQLException {
+        var freelancers = repository.findAllById(List.of(3L, 2L, 1L));
+
+        assertAll(
+                () -> assertEquals(List.of(3L, 1L), freelancers.stream().map(FreelancerEntity::getId).toList()),
+                () -> assertEquals(List.of(10L, 11L), idsOf(freelancers.get(0).getQualifications())),
+                () -> assertEquals(List.of(10L), idsOf(freelancers.get(1).getQualifications()))
+        );
+        verify(manager, times(1)).getConnection();
+        verify(connection, times(2)).prepareStatement(anyString());
+        verify(connection, times(1)).commit();
+    }
+
+    @Test
+    void findAllByIdWhenEmptyThenNoQuery() throws SQLException {
+        assertTrue(repository.findAllById(List.of()).isEmpty());
+        verify(manager, never()).getConnection();
+    }
+
+    private static List<Long> idsOf(List<QualificationEntity> qualifications) {
+        return qualifications.stream().map(QualificationEntity::getId).toList();
+    }
+
+    private static PreparedStatement statementReturning(Object[][] rows) throws SQLException {
+        var statement = mock(PreparedStatement.class);
+        var resultSet = mock(ResultSet.class);
+        var cursor = new int[]{-1};
+        when(resultSet.next()).thenAnswer(invocation -> ++cursor[0] < rows.length);
+        when(resultSet.getLong(anyInt())).thenAnswer(invocation -> rows[cursor[0]][invocation.<Integer>getArgument(0) - 1]);
+        when(resultSet.getObject(anyInt(), eq(Long.class)))
+                .thenAnswer(invocation -> rows[cursor[0]][invocation.<Integer>getArgument(0) - 1]);
+        when(resultSet.getString(anyInt())).thenAnswer(invocation -> rows[cursor[0]][invocation.<Integer>getArgument(0) - 1]);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        return statement;
+    }
+}
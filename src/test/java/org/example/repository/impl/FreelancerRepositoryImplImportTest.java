@@ -0,0 +1,146 @@
+package org.example.repository.impl;
+
+import org.example.db.ConnectionManager;
+import org.example.exception.RepositoryException;
+import org.example.model.FreelancerEntity;
+import org.example.model.QualificationEntity;
+import org.example.repository.QualificationRelationRepository;
+import org.example.repository.cache.CandidateIndex;
+import org.example.repository.cache.EmailBloomFilter;
+import org.example.repository.cache.TableVersions;
+import org.example.repository.mapper.FreelancerResultSetMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class FreelancerRepositoryImplImportTest {
+    private static final String EXISTING_EMAILS = "SELECT freelancerEmail FROM freelancer WHERE freelancerEmail IN ";
+
+    private Connection connection;
+    private PreparedStatement statement;
+    private PreparedStatement relationStatement;
+    private ResultSet resultSet;
+    private EmailBloomFilter emailFilter;
+    private CandidateIndex candidateIndex;
+    private FreelancerRepositoryImpl repository;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        var manager = mock(ConnectionManager.class);
+        connection = mock(Connection.class);
+        statement = mock(PreparedStatement.class);
+        relationStatement = mock(PreparedStatement.class);
+        resultSet = mock(ResultSet.class);
+        emailFilter = mock(EmailBloomFilter.class);
+        candidateIndex = mock(CandidateIndex.class);
+        when(manager.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(connection.prepareStatement(anyString(), eq(Statement.RETURN_GENERATED_KEYS))).thenReturn(statement);
+        when(connection.prepareStatement(startsWith("INSERT INTO freelancer_qualification"))).thenReturn(relationStatement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(statement.getGeneratedKeys()).thenReturn(resultSet);
+        repository = new FreelancerRepositoryImpl(manager, mock(FreelancerResultSetMapper.class),
+                mock(QualificationRelationRepository.class), emailFilter, candidateIndex, mock(TableVersions.class));
+    }
+
+    @Test
+    void findExistingEmailsQueriesOnlyWhatTheFilterMightContain() throws SQLException {
+        when(emailFilter.mightContain(anyString())).thenAnswer(invocation -> !"new@test.com".equals(invocation.getArgument(0)));
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getString(1)).thenReturn("Known@test.com");
+
+        var existing = repository.findExistingEmails(List.of("known@test.com", "new@test.com", "other@test.com"));
+
+        assertEquals(Set.of("known@test.com"), existing);
+        verify(connection, times(1)).prepareStatement(EXISTING_EMAILS + "(?, ?)");
+        verify(statement).setString(1, "known@test.com");
+        verify(statement).setString(2, "other@test.com");
+    }
+
+    @Test
+    void findExistingEmailsWhenFilterRulesAllOutThenNoQuery() throws SQLException {
+        when(emailFilter.mightContain(anyString())).thenReturn(false);
+
+        assertTrue(repository.findExistingEmails(List.of("new@test.com")).isEmpty());
+
+        verifyNoInteractions(connection);
+    }
+
+    @Test
+    void findExistingEmailsSplitsLongInLists() throws SQLException {
+        when(emailFilter.mightContain(anyString())).thenReturn(true);
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            emails.add("user" + i + "@test.com");
+        }
+
+        repository.findExistingEmails(emails);
+
+        verify(statement, times(3)).executeQuery();
+        verify(statement).setString(1000, "user999@test.com");
+        verify(statement).setString(500, "user2499@test.com");
+    }
+
+    @Test
+    void saveAllBatchesFreelancersThenRelationsInOneTransaction() throws SQLException {
+        var first = freelancer("a@test.com", 1L, 2L);
+        var second = freelancer("b@test.com");
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getObject(1, Long.class)).thenReturn(31L, 32L);
+
+        repository.saveAll(List.of(first, second));
+
+        verify(statement, times(2)).addBatch();
+        verify(statement, times(1)).executeBatch();
+        verify(relationStatement, times(2)).addBatch();
+        verify(relationStatement, times(1)).executeBatch();
+        verify(relationStatement, times(2)).setLong(1, 31L);
+        verify(connection, times(1)).commit();
+        verify(emailFilter).add("a@test.com");
+        verify(emailFilter).add("b@test.com");
+        verify(candidateIndex).addRelations(Map.of(31L, Set.of(1L, 2L)));
+        verify(candidateIndex, never()).setRelations(anyLong(), any());
+        assertEquals(32L, second.getId());
+    }
+
+    @Test
+    void saveAllWhenRelationBatchFailsThenRollsBackAndKeepsCachesUntouched() throws SQLException {
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getObject(1, Long.class)).thenReturn(31L);
+        when(relationStatement.executeBatch()).thenThrow(new SQLException("Cannot add or update a child row"));
+
+        assertThrows(RepositoryException.class, () -> repository.saveAll(List.of(freelancer("a@test.com", 99L))));
+
+        verify(connection, times(1)).rollback();
+        verify(connection, never()).commit();
+        verifyNoInteractions(emailFilter, candidateIndex);
+    }
+
+    private static FreelancerEntity freelancer(String email, Long... qualificationIds) {
+        var entity = new FreelancerEntity();
+        entity.setFreelancerName("Ivan");
+        entity.setFreelancerSecondName("Ivanov");
+        entity.setFreelancerEmail(email);
+        List<QualificationEntity> qualifications = new ArrayList<>();
+        for (Long id : qualificationIds) {
+            var qualification = new QualificationEntity();
+            qualification.setId(id);
+            qualifications.add(qualification);
+        }
+        entity.setQualifications(qualifications);
+        return entity;
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.repository.impl;
+
+import org.example.db.ConnectionManager;
+import org.example.model.FreelancerEntity;
+import org.example.repository.cache.CandidateIndex;
+import org.example.repository.cache.EmailBloomFilter;
+import org.example.repository.cache.TableVersions;
+import org.example.repository.cache.impl.QualificationCacheImpl;
+import org.example.repository.mapper.impl.FreelancerResultSetMapperIndexedImpl;
+import org.example.repository.mapper.impl.QualificationResultSetMapperIndexedImpl;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+class FreelancerRepositoryImplPageWithQualificationsTest {
+    private static final String FIND_FREELANCERS = "SELECT id, freelancerName";
+    private static final String FIND_QUALIFICATIONS = "SELECT q.id, q.qualificationName, fq.freelancerId";
+
+    @Test
+    void queryCountDoesNotGrowWithPageSize() throws SQLException {
+        for (int pageSize : new int[]{1, 50}) {
+            var manager = mock(ConnectionManager.class);
+            var connection = givenPage(manager, pageSize);
+
+            var page = repository(manager).findPageWithQualifications(0L, pageSize);
+
+            assertEquals(pageSize, page.size());
+            verify(manager, times(1)).getConnection();
+            verify(connection, times(2)).prepareStatement(anyString());
+            verify(connection, times(1)).commit();
+        }
+    }
+
+    @Test
+    void freelancersShareQualificationInstances() throws SQLException {
+        var manager = mock(ConnectionManager.class);
+        givenPage(manager, 3);
+
+        var page = repository(manager).findPageWithQualifications(0L, 3);
+
+        assertAll(
+                () -> assertEquals(List.of(1L, 2L, 3L), page.stream().map(FreelancerEntity::getId).toList()),
+                () -> assertEquals(2, page.get(0).getQualifications().size()),
+                () -> assertSame(page.get(0).getQualifications().get(0), page.get(1).getQualifications().get(0)),
+                () -> assertSame(page.get(1).getQualifications().get(1), page.get(2).getQualifications().get(1))
+        );
+    }
+
+    @Test
+    void emptyPageSkipsRelationQuery() throws SQLException {
+        var manager = mock(ConnectionManager.class);
+        var connection = givenPage(manager, 0);
+
+        assertTrue(repository(manager).findPageWithQualifications(0L, 10).isEmpty());
+        verify(connection, times(1)).prepareStatement(anyString());
+    }
+
+    // Every freelancer holds the same two qualifications
+    private static Connection givenPage(ConnectionManager manager, int pageSize) throws SQLException {
+        var connection = mock(Connection.class);
+        when(manager.getConnection()).thenReturn(connection);
+        var freelancers = new Object[pageSize][];
+        var qualifications = new Object[pageSize * 2][];
+        for (int i = 0; i < pageSize; i++) {
+            long id = i + 1;
+            freelancers[i] = new Object[]{id, "name" + id, "surname" + id, "user" + id + "@test.com"};
+            qualifications[2 * i] = new Object[]{10L, "Java", id};
+            qualifications[2 * i + 1] = new Object[]{11L, "SQL", id};
+        }
+        var freelancerStatement = statementReturning(freelancers);
+        var qualificationStatement = statementReturning(qualifications);
+        doReturn(freelancerStatement).when(connection).prepareStatement(startsWith(FIND_FREELANCERS));
+        doReturn(qualificationStatement).when(connection).prepareStatement(startsWith(FIND_QUALIFICATIONS));
+        return connection;
+    }
+
+    private static FreelancerRepositoryImpl repository(ConnectionManager manager) {
+        return new FreelancerRepositoryImpl(manager, new FreelancerResultSetMapperIndexedImpl(),
+                new QualificationRelationRepositoryImpl(new QualificationResultSetMapperIndexedImpl(),
+                        new QualificationCacheImpl(16)),
+                mock(EmailBloomFilter.class), mock(CandidateIndex.class), mock(TableVersions.class));
+    }
+
+    private static PreparedStatement statementReturning(Object[][] rows) throws SQLException {
+        var statement = mock(PreparedStatement.class);
+        var resultSet = mock(ResultSet.class);
+        var cursor = new int[]{-1};
+        when(resultSet.next()).thenAnswer(invocation -> ++cursor[0] < rows.length);
+        when(resultSet.getLong(anyInt())).thenAnswer(invocation -> rows[cursor[0]][invocation.<Integer>getArgument(0) - 1]);
+        when(resultSet.getObject(anyInt(), eq(Long.class)))
+                .thenAnswer(invocation -> rows[cursor[0]][invocation.<Integer>getArgument(0) - 1]);
+        when(resultSet.getString(anyInt())).thenAnswer(invocation -> rows[cursor[0]][invocation.<Integer>getArgument(0) - 1]);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        return statement;
+    }
+}
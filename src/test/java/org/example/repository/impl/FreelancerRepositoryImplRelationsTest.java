@@ -0,0 +1,146 @@
+package org.example.repository.impl;
+
+import org.example.db.ConnectionManager;
+import org.example.db.TransactionManager;
+import org.example.model.FreelancerEntity;
+import org.example.model.QualificationEntity;
+import org.example.repository.QualificationRelationRepository;
+import org.example.repository.cache.CandidateIndex;
+import org.example.repository.cache.EmailBloomFilter;
+import org.example.repository.cache.TableVersions;
+import org.example.repository.mapper.FreelancerResultSetMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class FreelancerRepositoryImplRelationsTest {
+    private static final int QUALIFICATIONS = 200;
+    private static final String SAVE_RELATION = "INSERT INTO freelancer_qualification";
+    private static final String DELETE_RELATION = "DELETE FROM freelancer_qualification";
+    private static final String FIND_RELATION_IDS = "SELECT qualificationId FROM freelancer_qualification";
+
+    private final Map<String, PreparedStatement> statements = new HashMap<>();
+    private final List<Long> storedRelationIds = new ArrayList<>();
+    private FreelancerRepositoryImpl repository;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        var manager = mock(ConnectionManager.class);
+        var connection = mock(Connection.class);
+        when(manager.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> statementFor(invocation.getArgument(0)));
+        when(connection.prepareStatement(anyString(), anyInt())).thenAnswer(invocation -> statementFor(invocation.getArgument(0)));
+        repository = new FreelancerRepositoryImpl(manager, mock(FreelancerResultSetMapper.class),
+                mock(QualificationRelationRepository.class), mock(EmailBloomFilter.class), mock(CandidateIndex.class),
+                mock(TableVersions.class));
+    }
+
+    @Test
+    void saveWritesAllRelationsInOneBatch() throws SQLException {
+        repository.save(prepareFreelancer(1, QUALIFICATIONS));
+
+        var insert = statements.get(SAVE_RELATION);
+        verify(insert, times(QUALIFICATIONS)).addBatch();
+        verify(insert, times(1)).executeBatch();
+        verify(insert, never()).executeUpdate();
+    }
+
+    @Test
+    void updateWithUnchangedRelationsDoesNotTouchRelationRows() throws SQLException {
+        LongStream.rangeClosed(1, QUALIFICATIONS).forEach(storedRelationIds::add);
+
+        repository.update(prepareFreelancer(1, QUALIFICATIONS));
+
+        verify(statements.get(FIND_RELATION_IDS), times(1)).executeQuery();
+        assertAll(
+                () -> assertFalse(statements.containsKey(SAVE_RELATION)),
+                () -> assertFalse(statements.containsKey(DELETE_RELATION))
+        );
+    }
+
+    @Test
+    void updateWritesOnlyTheDifference() throws SQLException {
+        LongStream.rangeClosed(1, QUALIFICATIONS).forEach(storedRelationIds::add);
+
+        repository.update(prepareFreelancer(3, QUALIFICATIONS + 2));
+
+        var insert = statements.get(SAVE_RELATION);
+        var delete = statements.get(DELETE_RELATION);
+        verify(insert, times(2)).addBatch();
+        verify(insert, times(1)).executeBatch();
+        verify(delete, times(2)).addBatch();
+        verify(delete, times(1)).executeBatch();
+    }
+
+    @Test
+    void updateInsideATransactionTellsTheCachesOnlyOnCommit() throws SQLException {
+        var manager = mock(ConnectionManager.class, withSettings().extraInterfaces(TransactionManager.class));
+        var connection = mock(Connection.class);
+        when(manager.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> statementFor(invocation.getArgument(0)));
+        var emailFilter = mock(EmailBloomFilter.class);
+        var candidateIndex = mock(CandidateIndex.class);
+        var transactional = new FreelancerRepositoryImpl(manager, mock(FreelancerResultSetMapper.class),
+                mock(QualificationRelationRepository.class), emailFilter, candidateIndex, mock(TableVersions.class));
+
+        transactional.update(prepareFreelancer(1, 2));
+
+        var action = ArgumentCaptor.forClass(Runnable.class);
+        verify((TransactionManager) manager).afterCommit(action.capture());
+        verifyNoInteractions(emailFilter, candidateIndex);
+        action.getValue().run();
+        verify(emailFilter).add("ivanov@test.com");
+        verify(candidateIndex).setRelations(1L, Set.of(1L, 2L));
+    }
+
+    private PreparedStatement statementFor(String sql) throws SQLException {
+        String key = sql.startsWith(SAVE_RELATION) ? SAVE_RELATION
+                : sql.startsWith(DELETE_RELATION) ? DELETE_RELATION
+                : sql.startsWith(FIND_RELATION_IDS) ? FIND_RELATION_IDS
+                : sql;
+        if (statements.containsKey(key)) return statements.get(key);
+        var statement = mock(PreparedStatement.class);
+        var resultSet = mock(ResultSet.class);
+        if (key.equals(FIND_RELATION_IDS)) {
+            var cursor = new int[]{-1};
+            when(resultSet.next()).thenAnswer(invocation -> ++cursor[0] < storedRelationIds.size());
+            when(resultSet.getLong(1)).thenAnswer(invocation -> storedRelationIds.get(cursor[0]));
+        } else {
+            when(resultSet.next()).thenReturn(true, false);
+            when(resultSet.getObject(1, Long.class)).thenReturn(1L);
+        }
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(statement.getGeneratedKeys()).thenReturn(resultSet);
+        statements.put(key, statement);
+        return statement;
+    }
+
+    private static FreelancerEntity prepareFreelancer(long firstQualificationId, long lastQualificationId) {
+        var entity = new FreelancerEntity();
+        entity.setId(1L);
+        entity.setFreelancerName("Иван");
+        entity.setFreelancerSecondName("Иванов");
+        entity.setFreelancerEmail("ivanov@test.com");
+        List<QualificationEntity> qualifications = new ArrayList<>();
+        for (long id = firstQualificationId; id <= lastQualificationId; id++) {
+            var qualification = new QualificationEntity();
+            qualification.setId(id);
+            qualifications.add(qualification);
+        }
+        entity.setQualifications(qualifications);
+        return entity;
+    }
+}
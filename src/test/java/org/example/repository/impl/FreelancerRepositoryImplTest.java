@@ -6,6 +6,9 @@ import org.example.db.impl.ConnectionManagerImpl;
 import org.example.model.FreelancerEntity;
 import org.example.model.QualificationEntity;
 import org.example.repository.FreelancerRepository;
+import org.example.repository.cache.impl.CandidateIndexImpl;
+import org.example.repository.cache.impl.EmailBloomFilterImpl;
+import org.example.repository.cache.impl.TableVersionsImpl;
 import org.example.repository.impl.FreelancerRepositoryImpl;
 import org.example.repository.impl.QualificationRelationRepositoryImpl;
 import org.example.repository.mapper.impl.FreelancerResultSetMapperImpl;
@@ -18,6 +21,9 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mockStatic;
@@ -46,7 +52,8 @@ class FreelancerRepositoryImplTest {
             mockedProps.when(PropertiesUtil::getProperties).thenReturn(testDbProps);
             connectionManager = ConnectionManagerImpl.getInstance();
         }
-        repository = new FreelancerRepositoryImpl(connectionManager, new FreelancerResultSetMapperImpl(), new QualificationRelationRepositoryImpl());
+        repository = new FreelancerRepositoryImpl(connectionManager, new FreelancerResultSetMapperImpl(), new QualificationRelationRepositoryImpl(),
+                EmailBloomFilterImpl.getInstance(), CandidateIndexImpl.getInstance(), TableVersionsImpl.getInstance());
     }
 
     @AfterAll
@@ -87,6 +94,27 @@ class FreelancerRepositoryImplTest {
         );
     }
 
+    @Test
+    void findAllByIdKeepsRequestOrderAndSkipsMissing() {
+        var freelancers = repository.findAllById(List.of(3L, 25L, 1L));
+
+        assertAll(
+                () -> assertEquals(List.of(3L, 1L), freelancers.stream().map(FreelancerEntity::getId).toList()),
+                () -> assertEquals(repository.findById(3L).get().getQualifications(), freelancers.get(0).getQualifications()),
+                () -> assertEquals(repository.findById(1L).get().getQualifications(), freelancers.get(1).getQualifications())
+        );
+    }
+
+    @Test
+    void findAllSimpleByIdKeepsRequestOrderWithoutQualifications() {
+        var freelancers = repository.findAllSimpleById(List.of(3L, 25L, 1L));
+
+        assertAll(
+                () -> assertEquals(List.of(3L, 1L), freelancers.stream().map(FreelancerEntity::getId).toList()),
+                () -> assertNull(freelancers.get(0).getQualifications())
+        );
+    }
+
     @Test
     void findAll() {
         int expectedSize = 20;
@@ -96,6 +124,31 @@ class FreelancerRepositoryImplTest {
         assertEquals(expectedSize, all.size());
     }
 
+    @Test
+    void findPageReturnsRowsAfterCursorInIdOrder() {
+        long afterId = 4L;
+        int limit = 3;
+
+        var page = repository.findPage(afterId, limit);
+
+        assertAll(
+                () -> assertEquals(limit, page.size()),
+                () -> assertTrue(page.get(0).getId() > afterId),
+                () -> assertTrue(page.get(0).getId() < page.get(1).getId()),
+                () -> assertTrue(page.get(1).getId() < page.get(2).getId())
+        );
+    }
+
+    @Test
+    void forEachStreamsEveryRow() {
+        int expectedSize = repository.findAll().size();
+        var counter = new AtomicInteger();
+
+        repository.forEach(entity -> counter.incrementAndGet());
+
+        assertEquals(expectedSize, counter.get());
+    }
+
     @Test
     void save() {
         var expected = prepareNewFreelancer();
@@ -108,6 +161,19 @@ class FreelancerRepositoryImplTest {
         );
     }
 
+    @Test
+    void saveIfEmailAbsentWhenEmailTakenThenEmpty() {
+        var duplicate = prepareNewFreelancer();
+        duplicate.setFreelancerEmail("zaitseva@test.com");
+
+        var saved = repository.saveIfEmailAbsent(duplicate);
+
+        assertAll(
+                () -> assertTrue(saved.isEmpty()),
+                () -> assertNull(duplicate.getId())
+        );
+    }
+
 
     @SuppressWarnings("OptionalGetWithoutIsPresent")
     @Test
@@ -127,6 +193,24 @@ class FreelancerRepositoryImplTest {
         );
     }
 
+    @SuppressWarnings("OptionalGetWithoutIsPresent")
+    @Test
+    void updateWhenRelationsChangedThenOnlyDifferenceApplied() {
+        var freelancer = repository.findById(2L).get();
+        var kept = new QualificationEntity();
+        kept.setId(4L);
+        var added = new QualificationEntity();
+        added.setId(6L);
+        freelancer.setQualifications(List.of(kept, added));
+
+        repository.update(freelancer);
+
+        var actualIds = repository.findById(2L).get().getQualifications().stream()
+                .map(QualificationEntity::getId)
+                .collect(Collectors.toSet());
+        assertEquals(Set.of(4L, 6L), actualIds);
+    }
+
     @Test
     void deleteById() {
         var toDelete = prepareExistedFreelancer();
@@ -0,0 +1,172 @@
+package org.example.repository.impl;
+
+import org.example.db.ConnectionManager;
+import org.example.db.TransactionMode;
+import org.example.db.impl.TransactionManagerImpl;
+import org.example.model.FreelancerEntity;
+import org.example.model.QualificationEntity;
+import org.example.repository.cache.impl.TableVersionsImpl;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.example.repository.impl.InMemoryFixture.freelancer;
+import static org.example.repository.impl.InMemoryFixture.qualification;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FreelancerRepositoryInMemoryImplTest {
+
+    @Test
+    void beforeLoadReadsGoToTheDatabase() {
+        var fixture = new InMemoryFixture();
+        var repository = new FreelancerRepositoryInMemoryImpl(fixture.freelancers, fixture.dataset);
+        when(fixture.freelancers.findById(1L)).thenReturn(Optional.empty());
+
+        assertTrue(repository.findById(1L).isEmpty());
+        verify(fixture.freelancers, times(1)).findById(1L);
+    }
+
+    @Test
+    void loadPagesThroughEveryFreelancer() {
+        var fixture = new InMemoryFixture();
+
+        fixture.dataset.load(fixture.freelancers, fixture.orders, fixture.qualifications);
+
+        verify(fixture.freelancers, times(2)).findPageWithQualifications(anyLong(), eq(2));
+        assertEquals(3, fixture.dataset.getFreelancers().size());
+    }
+
+    @Test
+    void afterLoadReadsDoNotTouchTheDatabase() {
+        var fixture = new InMemoryFixture().load();
+        var repository = new FreelancerRepositoryInMemoryImpl(fixture.freelancers, fixture.dataset);
+
+        var first = repository.findById(1L).orElseThrow();
+        var page = repository.findPageWithQualifications(0L, 10);
+
+        assertAll(
+                () -> assertEquals(List.of(1L, 2L), idsOf(first.getQualifications())),
+                () -> assertEquals("Java", first.getQualifications().get(0).getQualificationName()),
+                () -> assertEquals(List.of(2L, 3L), repository.findPage(1L, 10).stream().map(FreelancerEntity::getId).toList()),
+                () -> assertNull(repository.findAll().get(0).getQualifications()),
+                () -> assertEquals(List.of(3L, 1L), repository.findAllById(List.of(3L, 4L, 1L)).stream()
+                        .map(FreelancerEntity::getId).toList()),
+                () -> assertNull(repository.findAllSimpleById(List.of(3L, 4L, 1L)).get(1).getQualifications()),
+                () -> assertSame(page.get(0).getQualifications().get(1), page.get(1).getQualifications().get(0)),
+                () -> assertTrue(repository.containsFreelancerByEmail("IVANOV@test.com")),
+                () -> assertFalse(repository.containsFreelancerByEmail("unknown@test.com"))
+        );
+        verifyNoInteractions(fixture.freelancers);
+    }
+
+    @Test
+    void returnedEntitiesDoNotAliasTheStore() {
+        var fixture = new InMemoryFixture().load();
+        var repository = new FreelancerRepositoryInMemoryImpl(fixture.freelancers, fixture.dataset);
+
+        repository.findById(1L).orElseThrow().setFreelancerName("changed");
+        repository.findById(1L).orElseThrow().getQualifications().clear();
+
+        var reread = repository.findById(1L).orElseThrow();
+        assertEquals("name1", reread.getFreelancerName());
+        assertEquals(2, reread.getQualifications().size());
+    }
+
+    @Test
+    void writesGoThroughToTheDatabaseThenMemory() {
+        var fixture = new InMemoryFixture().load();
+        var repository = new FreelancerRepositoryInMemoryImpl(fixture.freelancers, fixture.dataset);
+        var created = freelancer(4L, "new@test.com", qualification(1L, "Java"));
+        when(fixture.freelancers.save(any())).thenReturn(created);
+        var updated = freelancer(2L, "petrov@test.com", qualification(1L, "Java"));
+        when(fixture.freelancers.deleteById(3L)).thenReturn(true);
+
+        repository.save(freelancer(0L, "new@test.com"));
+        repository.update(updated);
+        assertTrue(repository.deleteById(3L));
+
+        verify(fixture.freelancers, times(1)).update(updated);
+        assertAll(
+                () -> assertTrue(repository.containsFreelancerByEmail("new@test.com")),
+                () -> assertEquals(List.of(1L), idsOf(repository.findById(2L).orElseThrow().getQualifications())),
+                () -> assertTrue(repository.findById(3L).isEmpty()),
+                () -> assertFalse(repository.containsFreelancerByEmail("sidorov@test.com")),
+                () -> assertEquals(List.of(1L, 2L, 4L), fixture.dataset.getRelations().freelancersOf(1).stream()
+                        .asLongStream().boxed().toList())
+        );
+    }
+
+    @Test
+    void importWritesGoThroughAndKnownEmailsComeFromMemory() {
+        var fixture = new InMemoryFixture().load();
+        var repository = new FreelancerRepositoryInMemoryImpl(fixture.freelancers, fixture.dataset);
+        var created = freelancer(0L, "new@test.com", qualification(2L, "SQL"));
+        doAnswer(invocation -> {
+            created.setId(5L);
+            return null;
+        }).when(fixture.freelancers).saveAll(anyList());
+
+        var existing = repository.findExistingEmails(List.of("Ivanov@test.com", "new@test.com"));
+        repository.saveAll(List.of(created));
+
+        verify(fixture.freelancers, never()).findExistingEmails(any());
+        assertAll(
+                () -> assertEquals(Set.of("ivanov@test.com"), existing),
+                () -> assertTrue(repository.containsFreelancerByEmail("new@test.com")),
+                () -> assertEquals(List.of(2L), idsOf(repository.findById(5L).orElseThrow().getQualifications()))
+        );
+    }
+
+    @Test
+    void failedDatabaseWriteLeavesMemoryUntouched() {
+        var fixture = new InMemoryFixture().load();
+        var repository = new FreelancerRepositoryInMemoryImpl(fixture.freelancers, fixture.dataset);
+        var updated = freelancer(2L, "changed@test.com");
+        doThrow(new IllegalStateException("rollback")).when(fixture.freelancers).update(updated);
+
+        assertThrows(IllegalStateException.class, () -> repository.update(updated));
+
+        assertEquals("petrov@test.com", repository.findById(2L).orElseThrow().getFreelancerEmail());
+    }
+
+    @Test
+    void writesReachMemoryOnlyOnceTheirUnitOfWorkCommits() throws SQLException {
+        var fixture = new InMemoryFixture().load();
+        var connectionManager = mock(ConnectionManager.class);
+        when(connectionManager.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        var transactionManager = new TransactionManagerImpl(connectionManager);
+        var repository = new FreelancerRepositoryInMemoryImpl(fixture.freelancers, fixture.dataset,
+                new TableVersionsImpl(16), transactionManager);
+        var rolledBack = freelancer(2L, "rolled-back@test.com");
+        var committed = freelancer(2L, "committed@test.com");
+
+        assertThrows(IllegalStateException.class, () ->
+                transactionManager.runInTransaction(TransactionMode.READ_WRITE, () -> {
+                    repository.update(rolledBack);
+                    assertEquals("petrov@test.com", repository.findById(2L).orElseThrow().getFreelancerEmail());
+                    throw new IllegalStateException("rollback");
+                }));
+        assertEquals("petrov@test.com", repository.findById(2L).orElseThrow().getFreelancerEmail());
+
+        transactionManager.runInTransaction(TransactionMode.READ_WRITE, () -> repository.update(committed));
+        assertEquals("committed@test.com", repository.findById(2L).orElseThrow().getFreelancerEmail());
+    }
+
+    @Test
+    void saveIfEmailAbsentRejectsKnownEmailWithoutQuery() {
+        var fixture = new InMemoryFixture().load();
+        var repository = new FreelancerRepositoryInMemoryImpl(fixture.freelancers, fixture.dataset);
+
+        assertTrue(repository.saveIfEmailAbsent(freelancer(0L, "ivanov@test.com")).isEmpty());
+        verifyNoInteractions(fixture.freelancers);
+    }
+
+    private static List<Long> idsOf(List<QualificationEntity> qualifications) {
+        return qualifications.stream().map(QualificationEntity::getId).toList();
+    }
+}
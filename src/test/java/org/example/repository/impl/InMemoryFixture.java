@@ -0,0 +1,99 @@
+package org.example.repository.impl;
+
+import org.example.model.FreelancerEntity;
+import org.example.model.OrderEntity;
+import org.example.model.QualificationEntity;
+import org.example.repository.FreelancerRepository;
+import org.example.repository.OrderRepository;
+import org.example.repository.QualificationRepository;
+import org.example.repository.memory.InMemoryDataset;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+// JDBC repositories mocked with a small dataset: qualifications Java(1) and SQL(2),
+// freelancers 1 (Java, SQL), 2 (SQL) and 3 (none), ORDERS orders spread over both qualifications.
+class InMemoryFixture {
+    static final int ORDERS = 200;
+
+    final FreelancerRepository freelancers = mock(FreelancerRepository.class);
+    final OrderRepository orders = mock(OrderRepository.class);
+    final QualificationRepository qualifications = mock(QualificationRepository.class);
+    final InMemoryDataset dataset = new InMemoryDataset(2);
+
+    @SuppressWarnings("unchecked")
+    InMemoryFixture() {
+        var java = qualification(1L, "Java");
+        var sql = qualification(2L, "SQL");
+        doAnswer(invocation -> {
+            List.of(java, sql).forEach(invocation.<Consumer<QualificationEntity>>getArgument(0));
+            return null;
+        }).when(qualifications).forEach(any());
+        doAnswer(invocation -> {
+            allOrders().forEach(invocation.<Consumer<OrderEntity>>getArgument(0));
+            return null;
+        }).when(orders).forEach(any());
+        var all = List.of(freelancer(1L, "ivanov@test.com", java, sql), freelancer(2L, "petrov@test.com", sql),
+                freelancer(3L, "sidorov@test.com"));
+        when(freelancers.findPageWithQualifications(anyLong(), anyInt())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            return all.stream().filter(f -> f.getId() > afterId).limit(limit).collect(Collectors.toList());
+        });
+    }
+
+    InMemoryFixture load() {
+        dataset.load(freelancers, orders, qualifications);
+        Mockito.<Object>clearInvocations(freelancers, orders, qualifications);
+        return this;
+    }
+
+    static List<OrderEntity> allOrders() {
+        List<OrderEntity> orders = new ArrayList<>();
+        for (long id = 1; id <= ORDERS; id++) {
+            orders.add(order(id, BigDecimal.valueOf(id * 37 % 100), LocalDate.of(2024, 1, 1).plusDays(id * 11 % 60),
+                    id % 3 == 0 ? 1L : 2L));
+        }
+        return orders;
+    }
+
+    static OrderEntity order(long id, BigDecimal price, LocalDate term, long qualificationId) {
+        var order = new OrderEntity();
+        order.setId(id);
+        order.setOrderTitle("Order " + id);
+        order.setOrderDescription("Description " + id);
+        order.setOrderPrice(price);
+        order.setOrderTerm(term);
+        var reference = new QualificationEntity();
+        reference.setId(qualificationId);
+        order.setQualification(reference);
+        return order;
+    }
+
+    static QualificationEntity qualification(long id, String name) {
+        var qualification = new QualificationEntity();
+        qualification.setId(id);
+        qualification.setQualificationName(name);
+        return qualification;
+    }
+
+    static FreelancerEntity freelancer(long id, String email, QualificationEntity... qualifications) {
+        var freelancer = new FreelancerEntity();
+        freelancer.setId(id);
+        freelancer.setFreelancerName("name" + id);
+        freelancer.setFreelancerSecondName("surname" + id);
+        freelancer.setFreelancerEmail(email);
+        freelancer.setQualifications(new ArrayList<>(List.of(qualifications)));
+        return freelancer;
+    }
+}
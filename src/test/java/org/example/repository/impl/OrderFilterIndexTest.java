@@ -0,0 +1,104 @@
+package org.example.repository.impl;
+
+import org.example.db.ConnectionManager;
+import org.example.db.PropertiesUtil;
+import org.example.db.impl.ConnectionManagerImpl;
+import org.example.db.impl.SchemaMigratorImpl;
+import org.example.model.OrderFilter;
+import org.example.model.OrderSort;
+import org.example.repository.cache.impl.TableVersionsImpl;
+import org.example.repository.mapper.impl.OrderResultSetMapperImpl;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mockStatic;
+
+// Seeds a few million orders and checks that every supported filter shape is answered from an index.
+@Testcontainers
+class OrderFilterIndexTest {
+    private static final String TEST_DB_NAME = "freelance";
+    private static final String TEST_DB_INIT_SCRIPT_FILE_NAME = "db-migration.SQL";
+    private static final String IMAGE_NAME = "mysql:8.0";
+    private static final int SEEDED_ORDERS = 2_000_000;
+    private static final Set<String> FILTER_INDEXES = Set.of("idx_order_qualification_price",
+            "idx_order_qualification_term", "idx_order_price", "idx_order_term", "PRIMARY");
+    private static ConnectionManager connectionManager;
+    private static OrderRepositoryImpl repository;
+
+    @Container
+    static final MySQLContainer<?> CONTAINER =
+            new MySQLContainer<>(IMAGE_NAME)
+                    .withDatabaseName(TEST_DB_NAME)
+                    .withInitScript(TEST_DB_INIT_SCRIPT_FILE_NAME);
+
+    @BeforeAll
+    static void beforeAll() throws SQLException {
+        Properties testDbProps = PropertiesUtil.getProperties();
+        testDbProps.setProperty("jdbcUrl", CONTAINER.getJdbcUrl());
+        testDbProps.setProperty("username", CONTAINER.getUsername());
+        testDbProps.setProperty("password", CONTAINER.getPassword());
+        try (MockedStatic<PropertiesUtil> mockedProps = mockStatic(PropertiesUtil.class)) {
+            mockedProps.when(PropertiesUtil::getProperties).thenReturn(testDbProps);
+            connectionManager = ConnectionManagerImpl.getInstance();
+        }
+        new SchemaMigratorImpl(connectionManager).migrate();
+        repository = new OrderRepositoryImpl(connectionManager, new OrderResultSetMapperImpl(), TableVersionsImpl.getInstance());
+        try (var connection = connectionManager.getConnection(); var statement = connection.createStatement()) {
+            statement.execute("SET SESSION cte_max_recursion_depth = " + SEEDED_ORDERS);
+            statement.execute("INSERT INTO qualif_order (orderTitle, orderDescription, orderPrice, orderTerm, qualificationId) " +
+                              "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < " + SEEDED_ORDERS + ") " +
+                              "SELECT CONCAT('Order ', n), 'Seeded order', n % 10000 + 0.5, " +
+                              "DATE_ADD('2024-01-01', INTERVAL n % 730 DAY), n % 7 + 1 FROM seq");
+            statement.execute("ANALYZE TABLE qualif_order");
+        }
+    }
+
+    @AfterAll
+    static void afterAll() {
+        connectionManager.destroy();
+    }
+
+    @Test
+    @Tag("benchmark")
+    void everyFilterShapeUsesAnIndex() throws SQLException {
+        var filters = List.of(
+                new OrderFilter(3L, null, null, null, null, OrderSort.ID, 0L, 50),
+                new OrderFilter(3L, new BigDecimal("100"), new BigDecimal("200"), null, null, OrderSort.PRICE, 0L, 50),
+                new OrderFilter(3L, null, null, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31), OrderSort.TERM, 0L, 50),
+                new OrderFilter(null, new BigDecimal("100"), new BigDecimal("101"), null, null, OrderSort.PRICE, 0L, 50),
+                new OrderFilter(null, null, null, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 2), OrderSort.TERM, 0L, 50),
+                new OrderFilter(null, null, null, null, null, OrderSort.PRICE, 0L, 50),
+                new OrderFilter(null, null, null, null, null, OrderSort.ID, 1_000_000L, 50));
+
+        for (OrderFilter filter : filters) {
+            String key = explainKey(filter);
+            var orders = repository.findFiltered(filter);
+            assertFalse(orders.isEmpty());
+            assertTrue(FILTER_INDEXES.contains(key), filter + " used " + key);
+        }
+    }
+
+    private static String explainKey(OrderFilter filter) throws SQLException {
+        try (var connection = connectionManager.getConnection();
+             var statement = connection.prepareStatement("EXPLAIN " + OrderRepositoryImpl.filterSql(filter))) {
+            OrderRepositoryImpl.bindFilter(statement, filter);
+            var resultSet = statement.executeQuery();
+            assertTrue(resultSet.next());
+            return resultSet.getString("key");
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.repository.impl;
+
+import org.example.db.ConnectionManager;
+import org.example.model.OrderFilter;
+import org.example.model.OrderSort;
+import org.example.repository.cache.TableVersions;
+import org.example.repository.mapper.OrderResultSetMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class OrderRepositoryImplFilterTest {
+    private static final String SELECT = "SELECT id, orderTitle, orderDescription, orderPrice, orderTerm FROM qualif_order";
+
+    private Connection connection;
+    private PreparedStatement statement;
+    private OrderRepositoryImpl repository;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        var manager = mock(ConnectionManager.class);
+        connection = mock(Connection.class);
+        statement = mock(PreparedStatement.class);
+        var resultSet = mock(ResultSet.class);
+        when(manager.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        repository = new OrderRepositoryImpl(manager, mock(OrderResultSetMapper.class), mock(TableVersions.class));
+    }
+
+    @Test
+    void findFilteredBindsPredicatesInIndexOrder() throws SQLException {
+        var filter = new OrderFilter(2L, new BigDecimal("100"), new BigDecimal("500"),
+                null, LocalDate.of(2024, 6, 1), OrderSort.PRICE, 0L, 20);
+
+        repository.findFiltered(filter);
+
+        verify(connection).prepareStatement(SELECT + " WHERE qualificationId=? AND orderPrice>=? AND orderPrice<=? " +
+                                            "AND orderTerm<=? ORDER BY orderPrice, id LIMIT ?");
+        verify(statement).setLong(1, 2L);
+        verify(statement).setBigDecimal(2, new BigDecimal("100"));
+        verify(statement).setBigDecimal(3, new BigDecimal("500"));
+        verify(statement).setDate(4, Date.valueOf(LocalDate.of(2024, 6, 1)));
+        verify(statement).setInt(5, 20);
+    }
+
+    @Test
+    void findFilteredWithoutPredicatesOrdersByIdAfterCursor() throws SQLException {
+        repository.findFiltered(new OrderFilter(null, null, null, null, null, OrderSort.ID, 40L, 10));
+
+        verify(connection).prepareStatement(SELECT + " WHERE id>? ORDER BY id LIMIT ?");
+        verify(statement).setLong(1, 40L);
+        verify(statement).setInt(2, 10);
+    }
+
+    @Test
+    void filtersOfSameShapeReuseOneSqlString() throws SQLException {
+        repository.findFiltered(new OrderFilter(1L, null, null, LocalDate.of(2024, 1, 1), null, OrderSort.TERM, 0L, 5));
+        repository.findFiltered(new OrderFilter(9L, null, null, LocalDate.of(2025, 1, 1), null, OrderSort.TERM, 0L, 50));
+        repository.findFiltered(new OrderFilter(9L, null, null, null, null, OrderSort.TERM, 0L, 50));
+
+        var sql = ArgumentCaptor.forClass(String.class);
+        verify(connection, times(3)).prepareStatement(sql.capture());
+        assertSame(sql.getAllValues().get(0), sql.getAllValues().get(1));
+        assertNotEquals(sql.getAllValues().get(0), sql.getAllValues().get(2));
+    }
+
+    @Test
+    void forEachFilteredStreamsEveryMatchWithoutLimit() throws SQLException {
+        when(connection.prepareStatement(anyString(), eq(ResultSet.TYPE_FORWARD_ONLY), eq(ResultSet.CONCUR_READ_ONLY)))
+                .thenReturn(statement);
+        var filter = new OrderFilter(3L, null, null, LocalDate.of(2024, 1, 1), null, OrderSort.PRICE, 0L, 10);
+
+        repository.forEachFiltered(filter, order -> { });
+
+        verify(connection).prepareStatement("SELECT id, orderTitle, orderDescription, orderPrice, orderTerm, " +
+                                            "qualificationId FROM qualif_order WHERE qualificationId=? AND orderTerm>=? " +
+                                            "ORDER BY id", ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        verify(statement).setFetchSize(Integer.MIN_VALUE);
+        verify(statement).setLong(1, 3L);
+        verify(statement).setDate(2, Date.valueOf(LocalDate.of(2024, 1, 1)));
+        verify(statement, never()).setInt(anyInt(), anyInt());
+    }
+
+    @Test
+    void cursorWithNonIdSortIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new OrderFilter(null, null, null, null, null, OrderSort.PRICE, 10L, 10));
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.repository.impl;
+
+import org.example.db.ConnectionManager;
+import org.example.exception.RepositoryException;
+import org.example.model.OrderEntity;
+import org.example.model.QualificationEntity;
+import org.example.repository.cache.TableVersions;
+import org.example.repository.cache.impl.TableVersionsImpl;
+import org.example.repository.mapper.OrderResultSetMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class OrderRepositoryImplSaveAllTest {
+    private ConnectionManager manager;
+    private Connection connection;
+    private PreparedStatement statement;
+    private ResultSet keys;
+    private OrderRepositoryImpl repository;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        manager = mock(ConnectionManager.class);
+        connection = mock(Connection.class);
+        statement = mock(PreparedStatement.class);
+        keys = mock(ResultSet.class);
+        when(manager.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString(), eq(Statement.RETURN_GENERATED_KEYS))).thenReturn(statement);
+        when(statement.getGeneratedKeys()).thenReturn(keys);
+        repository = new OrderRepositoryImpl(manager, mock(OrderResultSetMapper.class), mock(TableVersions.class));
+    }
+
+    @Test
+    void saveAllBatchesOneInsertAndAssignsKeysInOrder() throws SQLException {
+        var first = order("first");
+        var second = order("second");
+        when(keys.next()).thenReturn(true, true, false);
+        when(keys.getObject(1, Long.class)).thenReturn(11L, 12L);
+
+        repository.saveAll(List.of(first, second));
+
+        verify(connection, times(1)).prepareStatement(anyString(), eq(Statement.RETURN_GENERATED_KEYS));
+        verify(statement, times(2)).addBatch();
+        verify(statement, times(1)).executeBatch();
+        verify(connection, times(1)).commit();
+        assertEquals(11L, first.getId());
+        assertEquals(12L, second.getId());
+    }
+
+    @Test
+    void saveAllMovesTheVersionOfEverySavedOrderAfterCommit() throws SQLException {
+        var versions = new TableVersionsImpl(1024);
+        var versioned = new OrderRepositoryImpl(manager, mock(OrderResultSetMapper.class), versions);
+        doAnswer(invocation -> {
+            assertEquals(0, versions.get(TableVersions.Table.ORDER));
+            return null;
+        }).when(connection).commit();
+        when(keys.next()).thenReturn(true, true, false);
+        when(keys.getObject(1, Long.class)).thenReturn(11L, 12L);
+
+        versioned.saveAll(List.of(order("first"), order("second")));
+
+        assertEquals(2, versions.get(TableVersions.Table.ORDER));
+        assertTrue(versions.get(TableVersions.Table.ORDER, 11L) > 0);
+        assertTrue(versions.get(TableVersions.Table.ORDER, 12L) > 0);
+    }
+
+    @Test
+    void saveAllWhenBatchFailsThenRollsBack() throws SQLException {
+        when(statement.executeBatch()).thenThrow(new SQLException("Cannot add or update a child row"));
+
+        assertThrows(RepositoryException.class, () -> repository.saveAll(List.of(order("first"))));
+
+        verify(connection, times(1)).rollback();
+        verify(connection, never()).commit();
+        verify(connection, times(1)).close();
+    }
+
+    @Test
+    void saveAllWhenKeysMissingThenRollsBack() throws SQLException {
+        when(keys.next()).thenReturn(true, false);
+        when(keys.getObject(1, Long.class)).thenReturn(11L);
+
+        assertThrows(RepositoryException.class, () -> repository.saveAll(List.of(order("first"), order("second"))));
+
+        verify(connection, times(1)).rollback();
+    }
+
+    @Test
+    void saveAllWhenEmptyThenNoConnection() throws SQLException {
+        repository.saveAll(List.of());
+
+        verifyNoInteractions(connection);
+    }
+
+    private static OrderEntity order(String title) {
+        var qualification = new QualificationEntity();
+        qualification.setId(1L);
+        var order = new OrderEntity();
+        order.setOrderTitle(title);
+        order.setOrderDescription("description");
+        order.setOrderPrice(new BigDecimal("10.00"));
+        order.setOrderTerm(LocalDate.of(2024, 3, 1));
+        order.setQualification(qualification);
+        return order;
+    }
+}
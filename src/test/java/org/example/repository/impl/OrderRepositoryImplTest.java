@@ -6,8 +6,8 @@ import org.example.db.impl.ConnectionManagerImpl;
 import org.example.model.OrderEntity;
 import org.example.model.QualificationEntity;
 import org.example.repository.OrderRepository;
+import org.example.repository.cache.impl.TableVersionsImpl;
 import org.example.repository.impl.OrderRepositoryImpl;
-import org.example.repository.impl.QualificationRelationRepositoryImpl;
 import org.example.repository.mapper.impl.OrderResultSetMapperImpl;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -19,7 +19,9 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mockStatic;
@@ -48,7 +50,7 @@ class OrderRepositoryImplTest {
             mockedProps.when(PropertiesUtil::getProperties).thenReturn(testDbProps);
             connectionManager = ConnectionManagerImpl.getInstance();
         }
-        repository = new OrderRepositoryImpl(connectionManager, new OrderResultSetMapperImpl(), new QualificationRelationRepositoryImpl());
+        repository = new OrderRepositoryImpl(connectionManager, new OrderResultSetMapperImpl(), TableVersionsImpl.getInstance());
     }
 
     @AfterAll
@@ -69,6 +71,17 @@ class OrderRepositoryImplTest {
         );
     }
 
+    @SuppressWarnings("OptionalGetWithoutIsPresent")
+    @Test
+    void findByIdLoadsQualificationInSameQuery() {
+        var actual = repository.findById(6L).get();
+
+        assertAll(
+                () -> assertEquals(2L, actual.getQualification().getId()),
+                () -> assertEquals("Мобильная разработка", actual.getQualification().getQualificationName())
+        );
+    }
+
     @Test
     void findByIdWhenAbsent() {
         Long givenId = 700L;
@@ -78,6 +91,15 @@ class OrderRepositoryImplTest {
         assertTrue(actual.isEmpty());
     }
 
+    @Test
+    void findAllByIdKeepsRequestOrderAndSkipsMissing() {
+        var found = repository.findAllById(List.of(2L, 700L, 1L));
+
+        assertAll(
+                () -> assertEquals(List.of(2L, 1L), found.stream().map(OrderEntity::getId).toList())
+        );
+    }
+
     @Test
     void findAll() {
         int expectedSize = 35;
@@ -87,6 +109,44 @@ class OrderRepositoryImplTest {
         assertEquals(expectedSize, all.size());
     }
 
+    @Test
+    void findPageReturnsRowsAfterCursorInIdOrder() {
+        long afterId = 4L;
+        int limit = 3;
+
+        var page = repository.findPage(afterId, limit);
+
+        assertAll(
+                () -> assertEquals(limit, page.size()),
+                () -> assertTrue(page.get(0).getId() > afterId),
+                () -> assertTrue(page.get(0).getId() < page.get(1).getId()),
+                () -> assertTrue(page.get(1).getId() < page.get(2).getId())
+        );
+    }
+
+    @Test
+    void summariesMatchFullRowsWithoutQualification() {
+        var full = repository.findAll();
+
+        var summaries = repository.findAllSummaries();
+
+        assertAll(
+                () -> assertEquals(full, summaries),
+                () -> assertTrue(summaries.stream().allMatch(order -> order.getQualification() == null)),
+                () -> assertEquals(repository.findPage(4L, 3), repository.findSummaryPage(4L, 3))
+        );
+    }
+
+    @Test
+    void forEachStreamsEveryRow() {
+        int expectedSize = repository.findAll().size();
+        var counter = new AtomicInteger();
+
+        repository.forEach(entity -> counter.incrementAndGet());
+
+        assertEquals(expectedSize, counter.get());
+    }
+
     @Test
     void save() {
         var expected = prepareNewOrder();
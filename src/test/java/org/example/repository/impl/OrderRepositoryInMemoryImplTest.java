@@ -0,0 +1,192 @@
+package org.example.repository.impl;
+
+import org.example.db.impl.DirectTransactionManager;
+import org.example.model.OrderEntity;
+import org.example.model.OrderFilter;
+import org.example.model.OrderSort;
+import org.example.repository.cache.TableVersions;
+import org.example.repository.cache.impl.TableVersionsImpl;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.example.repository.impl.InMemoryFixture.order;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OrderRepositoryInMemoryImplTest {
+
+    @Test
+    void readsMatchTheJdbcShapes() {
+        var fixture = new InMemoryFixture().load();
+        var repository = new OrderRepositoryInMemoryImpl(fixture.orders, fixture.dataset);
+
+        var order = repository.findById(3L).orElseThrow();
+
+        assertAll(
+                () -> assertEquals("Java", order.getQualification().getQualificationName()),
+                () -> assertNull(repository.findPage(0L, 1).get(0).getQualification().getQualificationName()),
+                () -> assertNull(repository.findSummaryPage(0L, 1).get(0).getQualification()),
+                () -> assertEquals(List.of(11L, 12L), repository.findSummaryPage(10L, 2).stream()
+                        .map(OrderEntity::getId).toList()),
+                () -> assertEquals(InMemoryFixture.ORDERS, repository.findAllSummaries().size())
+        );
+        verifyNoInteractions(fixture.orders);
+    }
+
+    @Test
+    void findFilteredMatchesBruteForce() {
+        var fixture = new InMemoryFixture().load();
+        var repository = new OrderRepositoryInMemoryImpl(fixture.orders, fixture.dataset);
+        var filters = List.of(
+                new OrderFilter(1L, null, null, null, null, OrderSort.ID, 0L, 10),
+                new OrderFilter(1L, null, null, null, null, OrderSort.ID, 30L, 10),
+                new OrderFilter(2L, new BigDecimal("20"), new BigDecimal("60"), null, null, OrderSort.PRICE, 0L, 15),
+                new OrderFilter(1L, null, null, LocalDate.of(2024, 1, 10), LocalDate.of(2024, 2, 1), OrderSort.TERM, 0L, 15),
+                new OrderFilter(null, new BigDecimal("50"), null, null, null, OrderSort.PRICE, 0L, 500),
+                new OrderFilter(null, null, null, null, LocalDate.of(2024, 1, 20), OrderSort.TERM, 0L, 7),
+                new OrderFilter(null, null, null, null, null, OrderSort.ID, 150L, 100));
+
+        for (OrderFilter filter : filters) {
+            assertEquals(bruteForce(filter), repository.findFiltered(filter).stream().map(OrderEntity::getId).toList(),
+                    filter.toString());
+        }
+        verifyNoInteractions(fixture.orders);
+    }
+
+    @Test
+    void forEachFilteredVisitsEveryMatchInIdOrder() {
+        var fixture = new InMemoryFixture().load();
+        var repository = new OrderRepositoryInMemoryImpl(fixture.orders, fixture.dataset);
+        var filters = List.of(
+                new OrderFilter(null, null, null, null, null, OrderSort.ID, 0L, Integer.MAX_VALUE),
+                new OrderFilter(2L, null, null, LocalDate.of(2024, 3, 1), null, OrderSort.ID, 0L, Integer.MAX_VALUE),
+                new OrderFilter(null, new BigDecimal("200"), null, null, LocalDate.of(2024, 9, 1), OrderSort.ID, 0L,
+                        Integer.MAX_VALUE));
+
+        for (OrderFilter filter : filters) {
+            List<OrderEntity> visited = new ArrayList<>();
+            repository.forEachFiltered(filter, visited::add);
+            assertEquals(bruteForce(filter), visited.stream().map(OrderEntity::getId).toList(), filter.toString());
+            assertTrue(visited.stream().allMatch(o -> o.getQualification() != null
+                                                      && o.getQualification().getQualificationName() == null));
+        }
+        verifyNoInteractions(fixture.orders);
+    }
+
+    @Test
+    void writesKeepTheQualificationIndexCurrent() {
+        var fixture = new InMemoryFixture().load();
+        var repository = new OrderRepositoryInMemoryImpl(fixture.orders, fixture.dataset);
+        var moved = order(3L, BigDecimal.ONE, LocalDate.of(2024, 1, 1), 2L);
+        var created = order(500L, BigDecimal.TEN, LocalDate.of(2024, 1, 1), 1L);
+        when(fixture.orders.save(any())).thenReturn(created);
+        when(fixture.orders.deleteById(6L)).thenReturn(true);
+
+        repository.update(moved);
+        repository.save(order(0L, BigDecimal.TEN, LocalDate.of(2024, 1, 1), 1L));
+        repository.deleteById(6L);
+
+        var java = repository.findFiltered(new OrderFilter(1L, null, null, null, null, OrderSort.ID, 0L, 1000));
+        var ids = java.stream().map(OrderEntity::getId).toList();
+        assertAll(
+                () -> assertFalse(ids.contains(3L)),
+                () -> assertFalse(ids.contains(6L)),
+                () -> assertTrue(ids.contains(500L)),
+                () -> assertEquals("SQL", repository.findById(3L).orElseThrow().getQualification().getQualificationName())
+        );
+    }
+
+    @Test
+    void saveAllIndexesEveryInsertedOrder() {
+        var fixture = new InMemoryFixture().load();
+        var repository = new OrderRepositoryInMemoryImpl(fixture.orders, fixture.dataset);
+        var first = order(0L, BigDecimal.ONE, LocalDate.of(2024, 1, 1), 2L);
+        var second = order(0L, BigDecimal.TEN, LocalDate.of(2024, 1, 1), 2L);
+        doAnswer(invocation -> {
+            first.setId(600L);
+            second.setId(601L);
+            return null;
+        }).when(fixture.orders).saveAll(anyList());
+
+        repository.saveAll(List.of(first, second));
+
+        var ids = repository.findFiltered(new OrderFilter(2L, null, null, null, null, OrderSort.ID, 599L, 10))
+                .stream().map(OrderEntity::getId).toList();
+        assertEquals(List.of(600L, 601L), ids);
+    }
+
+    @Test
+    void writesMoveTheVersionAgainOnceMemoryHasThem() {
+        var fixture = new InMemoryFixture().load();
+        var versions = new TableVersionsImpl(16);
+        var repository = new OrderRepositoryInMemoryImpl(fixture.orders, fixture.dataset, versions,
+                new DirectTransactionManager());
+        var moved = order(3L, BigDecimal.ONE, LocalDate.of(2024, 1, 1), 2L);
+        long[] committed = new long[1];
+        doAnswer(invocation -> {
+            versions.changed(TableVersions.Table.ORDER, 3L);
+            committed[0] = versions.get(TableVersions.Table.ORDER, 3L);
+            return null;
+        }).when(fixture.orders).update(moved);
+
+        repository.update(moved);
+
+        assertTrue(versions.get(TableVersions.Table.ORDER, 3L) > committed[0]);
+        assertEquals(BigDecimal.ONE, fixture.dataset.findOrder(3L).getOrderPrice());
+    }
+
+    @Test
+    void writesOfOtherRowsDoNotWaitForADatabaseCallInFlight() throws Exception {
+        var fixture = new InMemoryFixture().load();
+        var repository = new OrderRepositoryInMemoryImpl(fixture.orders, fixture.dataset);
+        var slow = order(3L, BigDecimal.ONE, LocalDate.of(2024, 1, 1), 2L);
+        var fast = order(4L, BigDecimal.TEN, LocalDate.of(2024, 1, 1), 2L);
+        var inDatabase = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            inDatabase.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return null;
+        }).when(fixture.orders).update(slow);
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var pending = executor.submit(() -> repository.update(slow));
+            assertTrue(inDatabase.await(5, TimeUnit.SECONDS));
+
+            repository.update(fast);
+
+            assertEquals(BigDecimal.TEN, fixture.dataset.findOrder(4L).getOrderPrice());
+            release.countDown();
+            pending.get(5, TimeUnit.SECONDS);
+            assertEquals(BigDecimal.ONE, fixture.dataset.findOrder(3L).getOrderPrice());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<Long> bruteForce(OrderFilter filter) {
+        Predicate<OrderEntity> predicate = o -> o.getId() > filter.getAfterId()
+                && (filter.getQualificationId() == null || o.getQualification().getId().equals(filter.getQualificationId()))
+                && (filter.getMinPrice() == null || o.getOrderPrice().compareTo(filter.getMinPrice()) >= 0)
+                && (filter.getMaxPrice() == null || o.getOrderPrice().compareTo(filter.getMaxPrice()) <= 0)
+                && (filter.getTermFrom() == null || !o.getOrderTerm().isBefore(filter.getTermFrom()))
+                && (filter.getTermTo() == null || !o.getOrderTerm().isAfter(filter.getTermTo()));
+        Comparator<OrderEntity> order = switch (filter.getSort()) {
+            case ID -> Comparator.comparing(OrderEntity::getId);
+            case PRICE -> Comparator.comparing(OrderEntity::getOrderPrice).thenComparing(OrderEntity::getId);
+            case TERM -> Comparator.comparing(OrderEntity::getOrderTerm).thenComparing(OrderEntity::getId);
+        };
+        return InMemoryFixture.allOrders().stream().filter(predicate).sorted(order).limit(filter.getLimit())
+                .map(OrderEntity::getId).toList();
+    }
+}
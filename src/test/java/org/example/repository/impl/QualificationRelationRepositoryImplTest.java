@@ -0,0 +1,80 @@
+package org.example.repository.impl;
+
+import org.example.model.QualificationEntity;
+import org.example.repository.cache.impl.QualificationCacheImpl;
+import org.example.repository.mapper.impl.QualificationResultSetMapperImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+class QualificationRelationRepositoryImplTest {
+    private static final String FIND_RELATION_IDS = "SELECT qualificationId FROM freelancer_qualification";
+    private static final String FIND_QUALIFICATIONS = "SELECT id, qualificationName FROM qualification";
+
+    private Connection connection;
+    private PreparedStatement qualificationStatement;
+    private QualificationCacheImpl cache;
+    private QualificationRelationRepositoryImpl repository;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        connection = mock(Connection.class);
+        var relationStatement = mock(PreparedStatement.class);
+        var relationResultSet = mock(ResultSet.class);
+        when(relationStatement.executeQuery()).thenReturn(relationResultSet);
+        when(relationResultSet.next()).thenReturn(true, true, false, true, true, false);
+        when(relationResultSet.getLong(1)).thenReturn(2L, 1L, 2L, 1L);
+
+        qualificationStatement = mock(PreparedStatement.class);
+        var qualificationResultSet = mock(ResultSet.class);
+        when(qualificationStatement.executeQuery()).thenReturn(qualificationResultSet);
+        when(qualificationResultSet.next()).thenReturn(true, true, false);
+        when(qualificationResultSet.getLong("id")).thenReturn(1L, 2L);
+        when(qualificationResultSet.getString("qualificationName")).thenReturn("Java", "Kotlin");
+
+        when(connection.prepareStatement(anyString())).thenThrow(new SQLException("unexpected query"));
+        doReturn(relationStatement).when(connection).prepareStatement(startsWith(FIND_RELATION_IDS));
+        doReturn(qualificationStatement).when(connection).prepareStatement(startsWith(FIND_QUALIFICATIONS));
+
+        cache = new QualificationCacheImpl(16);
+        repository = new QualificationRelationRepositoryImpl(new QualificationResultSetMapperImpl(), cache);
+    }
+
+    @Test
+    void findAllByRelationIdLoadsMissesOnceThenServesFromCache() throws SQLException {
+        var first = repository.findAllByRelationId(1L, connection);
+        var second = repository.findAllByRelationId(1L, connection);
+
+        assertAll(
+                () -> assertEquals(List.of(2L, 1L), first.stream().map(QualificationEntity::getId).toList()),
+                () -> assertEquals(first, second),
+                () -> assertEquals(2, cache.getMissCount()),
+                () -> assertEquals(2, cache.getHitCount())
+        );
+        verify(connection, times(1)).prepareStatement(startsWith(FIND_QUALIFICATIONS));
+        verify(qualificationStatement, times(1)).executeQuery();
+    }
+
+    @Test
+    void findByRelationIdWhenCachedThenSkipDatabase() throws SQLException {
+        var qualification = new QualificationEntity();
+        qualification.setId(3L);
+        qualification.setQualificationName("Scala");
+        cache.put(qualification);
+
+        var actual = repository.findByRelationId(3L, connection);
+
+        assertEquals(qualification, actual.get());
+        verify(connection, never()).prepareStatement(anyString());
+    }
+}
@@ -5,6 +5,8 @@ import org.example.db.PropertiesUtil;
 import org.example.db.impl.ConnectionManagerImpl;
 import org.example.model.QualificationEntity;
 import org.example.repository.QualificationRepository;
+import org.example.repository.cache.impl.QualificationCacheImpl;
+import org.example.repository.cache.impl.TableVersionsImpl;
 import org.example.repository.impl.*;
 import org.example.repository.mapper.impl.QualificationResultSetMapperImpl;
 import org.junit.jupiter.api.AfterAll;
@@ -15,7 +17,9 @@ import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mockStatic;
@@ -45,10 +49,8 @@ class QualificationRepositoryImplTest {
             mockedProps.when(PropertiesUtil::getProperties).thenReturn(testDbProps);
             connectionManager = ConnectionManagerImpl.getInstance();
         }
-        repository = new QualificationRepositoryImpl(connectionManager,
-                new QualificationResultSetMapperImpl(),
-                new OrderRelationRepositoryImpl(),
-                new FreelancerRelationRepositoryImpl());
+        repository = new QualificationRepositoryImpl(connectionManager, new QualificationResultSetMapperImpl(),
+                QualificationCacheImpl.getInstance(), TableVersionsImpl.getInstance());
     }
 
     @AfterAll
@@ -68,6 +70,21 @@ class QualificationRepositoryImplTest {
         );
     }
 
+    @SuppressWarnings("OptionalGetWithoutIsPresent")
+    @Test
+    void findByIdLoadsOrdersAndFreelancersInOneQuery() {
+        var actual = repository.findById(2L).get();
+
+        assertAll(
+                () -> assertEquals("Мобильная разработка", actual.getQualificationName()),
+                () -> assertEquals(5, actual.getOrders().size()),
+                () -> assertEquals(2L, actual.getOrders().get(0).getQualification().getId()),
+                () -> assertNotNull(actual.getOrders().get(0).getOrderTerm()),
+                () -> assertFalse(actual.getFreelancers().isEmpty()),
+                () -> assertNotNull(actual.getFreelancers().get(0).getFreelancerEmail())
+        );
+    }
+
     @Test
     void findByIdWhenAbsent() {
         Long givenId = 25L;
@@ -77,6 +94,17 @@ class QualificationRepositoryImplTest {
         assertTrue(actual.isEmpty());
     }
 
+    @Test
+    void findAllByIdKeepsRequestOrderAndSkipsMissing() {
+        var found = repository.findAllById(List.of(2L, 700L, 1L));
+
+        assertAll(
+                () -> assertEquals(repository.findById(2L).get().getOrders(), found.get(0).getOrders()),
+                () -> assertEquals(repository.findById(2L).get().getFreelancers(), found.get(0).getFreelancers()),
+                () -> assertEquals(List.of(2L, 1L), found.stream().map(QualificationEntity::getId).toList())
+        );
+    }
+
     @Test
     void findAll() {
         int expectedSize = 7;
@@ -86,6 +114,31 @@ class QualificationRepositoryImplTest {
         assertEquals(expectedSize, all.size());
     }
 
+    @Test
+    void findPageReturnsRowsAfterCursorInIdOrder() {
+        long afterId = 4L;
+        int limit = 3;
+
+        var page = repository.findPage(afterId, limit);
+
+        assertAll(
+                () -> assertEquals(limit, page.size()),
+                () -> assertTrue(page.get(0).getId() > afterId),
+                () -> assertTrue(page.get(0).getId() < page.get(1).getId()),
+                () -> assertTrue(page.get(1).getId() < page.get(2).getId())
+        );
+    }
+
+    @Test
+    void forEachStreamsEveryRow() {
+        int expectedSize = repository.findAll().size();
+        var counter = new AtomicInteger();
+
+        repository.forEach(entity -> counter.incrementAndGet());
+
+        assertEquals(expectedSize, counter.get());
+    }
+
     @Test
     void save() {
         var expected = prepareNewQualification();
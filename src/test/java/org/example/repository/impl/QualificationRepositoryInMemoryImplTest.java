@@ -0,0 +1,64 @@
+package org.example.repository.impl;
+
+import org.example.model.FreelancerEntity;
+import org.example.model.OrderEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.example.repository.impl.InMemoryFixture.qualification;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class QualificationRepositoryInMemoryImplTest {
+
+    @Test
+    void findByIdReturnsOrdersAndFreelancers() {
+        var fixture = new InMemoryFixture().load();
+        var repository = new QualificationRepositoryInMemoryImpl(fixture.qualifications, fixture.dataset);
+
+        var java = repository.findById(1L).orElseThrow();
+
+        assertAll(
+                () -> assertEquals("Java", java.getQualificationName()),
+                () -> assertEquals(InMemoryFixture.ORDERS / 3, java.getOrders().size()),
+                () -> assertTrue(java.getOrders().stream().allMatch(o -> o.getQualification().getId() == 1L)),
+                () -> assertEquals(List.of(1L), java.getFreelancers().stream().map(FreelancerEntity::getId).toList()),
+                () -> assertEquals(List.of("SQL", "Java"), repository.findAllById(List.of(2L, 1L)).stream()
+                        .map(q -> q.getQualificationName()).toList())
+        );
+        verifyNoInteractions(fixture.qualifications);
+    }
+
+    @Test
+    void deleteCascadesToOrdersAndRelations() {
+        var fixture = new InMemoryFixture().load();
+        var repository = new QualificationRepositoryInMemoryImpl(fixture.qualifications, fixture.dataset);
+        var orders = new OrderRepositoryInMemoryImpl(fixture.orders, fixture.dataset);
+        var freelancers = new FreelancerRepositoryInMemoryImpl(fixture.freelancers, fixture.dataset);
+        when(fixture.qualifications.deleteById(2L)).thenReturn(true);
+
+        assertTrue(repository.deleteById(2L));
+
+        assertAll(
+                () -> assertTrue(repository.findById(2L).isEmpty()),
+                () -> assertEquals(InMemoryFixture.ORDERS / 3, orders.findAll().size()),
+                () -> assertTrue(orders.findAll().stream().map(OrderEntity::getQualification)
+                        .allMatch(q -> q.getId() == 1L)),
+                () -> assertEquals(1, freelancers.findById(1L).orElseThrow().getQualifications().size()),
+                () -> assertTrue(freelancers.findById(2L).orElseThrow().getQualifications().isEmpty())
+        );
+    }
+
+    @Test
+    void updateRenamesForEveryReader() {
+        var fixture = new InMemoryFixture().load();
+        var repository = new QualificationRepositoryInMemoryImpl(fixture.qualifications, fixture.dataset);
+        var freelancers = new FreelancerRepositoryInMemoryImpl(fixture.freelancers, fixture.dataset);
+
+        repository.update(qualification(1L, "Kotlin"));
+
+        verify(fixture.qualifications, times(1)).update(any());
+        assertEquals("Kotlin", freelancers.findById(1L).orElseThrow().getQualifications().get(0).getQualificationName());
+    }
+}
@@ -0,0 +1,160 @@
+package org.example.repository.impl;
+
+import org.example.db.ConnectionManager;
+import org.example.db.PropertiesUtil;
+import org.example.db.impl.ConnectionManagerImpl;
+import org.example.model.FreelancerEntity;
+import org.example.repository.FreelancerRepository;
+import org.example.repository.cache.impl.CandidateIndexImpl;
+import org.example.repository.cache.impl.EmailBloomFilterImpl;
+import org.example.repository.cache.impl.QualificationCacheImpl;
+import org.example.repository.cache.impl.TableVersionsImpl;
+import org.example.repository.mapper.impl.FreelancerResultSetMapperIndexedImpl;
+import org.example.repository.mapper.impl.OrderResultSetMapperIndexedImpl;
+import org.example.repository.mapper.impl.QualificationResultSetMapperIndexedImpl;
+import org.example.repository.memory.InMemoryDataset;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mockStatic;
+
+// Stand-in for a JMH run plus a load test: single-thread read latency and multi-thread read throughput
+// of findById on both engines against the same seeded MySQL.
+@Testcontainers
+class RepositoryEngineBenchmarkTest {
+    private static final String TEST_DB_NAME = "freelance";
+    private static final String TEST_DB_INIT_SCRIPT_FILE_NAME = "db-migration.SQL";
+    private static final String IMAGE_NAME = "mysql:8.0";
+    private static final int SEEDED_FREELANCERS = 20_000;
+    private static final int LATENCY_READS = 5_000;
+    private static final int THREADS = 8;
+    private static final long LOAD_MILLIS = 2_000;
+    private static ConnectionManager connectionManager;
+    private static FreelancerRepository jdbc;
+    private static FreelancerRepository memory;
+
+    @Container
+    static final MySQLContainer<?> CONTAINER =
+            new MySQLContainer<>(IMAGE_NAME)
+                    .withDatabaseName(TEST_DB_NAME)
+                    .withInitScript(TEST_DB_INIT_SCRIPT_FILE_NAME);
+
+    @BeforeAll
+    static void beforeAll() throws SQLException {
+        Properties testDbProps = PropertiesUtil.getProperties();
+        testDbProps.setProperty("jdbcUrl", CONTAINER.getJdbcUrl());
+        testDbProps.setProperty("username", CONTAINER.getUsername());
+        testDbProps.setProperty("password", CONTAINER.getPassword());
+        try (MockedStatic<PropertiesUtil> mockedProps = mockStatic(PropertiesUtil.class)) {
+            mockedProps.when(PropertiesUtil::getProperties).thenReturn(testDbProps);
+            connectionManager = ConnectionManagerImpl.getInstance();
+        }
+        try (var connection = connectionManager.getConnection(); var statement = connection.createStatement()) {
+            statement.execute("SET SESSION cte_max_recursion_depth = " + SEEDED_FREELANCERS);
+            statement.execute("INSERT INTO freelancer (freelancerName, freelancerSecondName, freelancerEmail) " +
+                              "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < " +
+                              SEEDED_FREELANCERS + ") SELECT 'Name', 'Surname', CONCAT('seeded', n, '@test.com') FROM seq");
+            statement.execute("INSERT INTO freelancer_qualification (freelancerId, qualificationId) " +
+                              "SELECT id, id % 7 + 1 FROM freelancer WHERE id > 20");
+        }
+        var cache = new QualificationCacheImpl(16);
+        var versions = new TableVersionsImpl();
+        jdbc = new FreelancerRepositoryImpl(connectionManager, new FreelancerResultSetMapperIndexedImpl(),
+                new QualificationRelationRepositoryImpl(new QualificationResultSetMapperIndexedImpl(), cache),
+                new EmailBloomFilterImpl(), CandidateIndexImpl.getInstance(), versions);
+        var orders = new OrderRepositoryImpl(connectionManager, new OrderResultSetMapperIndexedImpl(), versions);
+        var qualifications = new QualificationRepositoryImpl(connectionManager,
+                new QualificationResultSetMapperIndexedImpl(), cache, versions);
+        var dataset = new InMemoryDataset(1000);
+        dataset.load(jdbc, orders, qualifications);
+        memory = new FreelancerRepositoryInMemoryImpl(jdbc, dataset);
+    }
+
+    @AfterAll
+    static void afterAll() {
+        connectionManager.destroy();
+    }
+
+    @Test
+    void enginesReturnTheSameFreelancer() {
+        for (long id : new long[]{1, 21, 500, SEEDED_FREELANCERS}) {
+            var expected = jdbc.findById(id).orElseThrow();
+            var actual = memory.findById(id).orElseThrow();
+            assertEquals(expected, actual);
+            assertEquals(expected.getQualifications(), actual.getQualifications());
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    void memoryEngineReadsFaster() throws Exception {
+        long jdbcLatency = Long.MAX_VALUE;
+        long memoryLatency = Long.MAX_VALUE;
+        for (int round = 0; round < 3; round++) {
+            jdbcLatency = Math.min(jdbcLatency, latency(jdbc));
+            memoryLatency = Math.min(memoryLatency, latency(memory));
+        }
+        double jdbcThroughput = throughput(jdbc);
+        double memoryThroughput = throughput(memory);
+
+        assertTrue(memoryLatency * 10 < jdbcLatency, "memory " + memoryLatency + " ns vs jdbc " + jdbcLatency + " ns");
+        assertTrue(memoryThroughput > 10 * jdbcThroughput,
+                "memory " + memoryThroughput + " req/s vs jdbc " + jdbcThroughput + " req/s");
+    }
+
+    // Mean nanoseconds per findById over random ids
+    private static long latency(FreelancerRepository repository) {
+        var random = ThreadLocalRandom.current();
+        long checksum = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < LATENCY_READS; i++) {
+            checksum += repository.findById(random.nextLong(1, SEEDED_FREELANCERS + 1))
+                    .map(FreelancerEntity::getId).orElse(0L);
+        }
+        long elapsed = System.nanoTime() - start;
+        assertTrue(checksum > 0);
+        return elapsed / LATENCY_READS;
+    }
+
+    private static double throughput(FreelancerRepository repository) throws Exception {
+        var executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(LOAD_MILLIS);
+            List<Callable<Long>> workers = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                workers.add(() -> {
+                    var random = ThreadLocalRandom.current();
+                    long reads = 0;
+                    while (System.nanoTime() < deadline) {
+                        repository.findById(random.nextLong(1, SEEDED_FREELANCERS + 1));
+                        reads++;
+                    }
+                    return reads;
+                });
+            }
+            long total = 0;
+            for (var result : executor.invokeAll(workers)) {
+                total += result.get();
+            }
+            return total / (LOAD_MILLIS / 1000.0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
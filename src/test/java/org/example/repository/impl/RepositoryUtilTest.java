@@ -45,4 +45,13 @@ class RepositoryUtilTest {
 
         assertThrows(RepositoryException.class, () -> RepositoryUtil.connectionClose(connectionMock));
     }
-}
\ No newline at end of file
+
+    @Test
+    void isDuplicateKeyOnlyForDuplicateEntry() {
+        assertAll(
+                () -> assertTrue(RepositoryUtil.isDuplicateKey(new SQLException("Duplicate entry", "23000", 1062))),
+                () -> assertFalse(RepositoryUtil.isDuplicateKey(new SQLException("Foreign key", "23000", 1452))),
+                () -> assertFalse(RepositoryUtil.isDuplicateKey(new SQLException("Fake SQLException")))
+        );
+    }
+}
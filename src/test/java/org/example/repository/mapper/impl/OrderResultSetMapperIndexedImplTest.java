@@ -0,0 +1,80 @@
+package org.example.repository.mapper.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderResultSetMapperIndexedImplTest {
+    @Mock
+    private ResultSet resultSet;
+
+    @Test
+    void selectListsColumnsInMappingOrder() {
+        assertAll(
+                () -> assertEquals("SELECT id, orderTitle, orderDescription, orderPrice, orderTerm, qualificationId " +
+                                   "FROM qualif_order", OrderResultSetMapperIndexedImpl.SELECT),
+                () -> assertEquals("o.id, o.orderTitle, o.orderDescription, o.orderPrice, o.orderTerm, o.qualificationId",
+                        OrderResultSetMapperIndexedImpl.columns("o")),
+                () -> assertEquals(6, OrderResultSetMapperIndexedImpl.COLUMN_COUNT)
+        );
+    }
+
+    @Test
+    void mapReadsColumnsByIndex() throws SQLException {
+        var orderPrice = new BigDecimal("100.00");
+        var orderTerm = LocalDate.of(2024, 12, 31);
+        when(resultSet.getObject(1, Long.class)).thenReturn(1L);
+        when(resultSet.getString(2)).thenReturn("title");
+        when(resultSet.getString(3)).thenReturn("description");
+        when(resultSet.getBigDecimal(4)).thenReturn(orderPrice);
+        when(resultSet.getObject(5, LocalDate.class)).thenReturn(orderTerm);
+        when(resultSet.getObject(6, Long.class)).thenReturn(3L);
+
+        var entity = new OrderResultSetMapperIndexedImpl().map(resultSet);
+
+        assertAll(
+                () -> assertEquals(1L, entity.getId()),
+                () -> assertEquals("title", entity.getOrderTitle()),
+                () -> assertEquals("description", entity.getOrderDescription()),
+                () -> assertEquals(orderPrice, entity.getOrderPrice()),
+                () -> assertEquals(orderTerm, entity.getOrderTerm()),
+                () -> assertEquals(3L, entity.getQualification().getId())
+        );
+    }
+
+    @Test
+    void mapWhenNullsThenKeepsIdAndQualificationNull() throws SQLException {
+        when(resultSet.getString(2)).thenReturn("title");
+
+        var entity = new OrderResultSetMapperIndexedImpl().map(resultSet);
+
+        assertAll(
+                () -> assertNull(entity.getId()),
+                () -> assertNull(entity.getQualification()),
+                () -> assertEquals("title", entity.getOrderTitle())
+        );
+    }
+
+    @Test
+    void mapWithOffsetSkipsLeadingColumns() throws SQLException {
+        when(resultSet.getObject(3, Long.class)).thenReturn(7L);
+        when(resultSet.getString(4)).thenReturn("title");
+
+        var entity = new OrderResultSetMapperIndexedImpl(2).map(resultSet);
+
+        assertAll(
+                () -> assertEquals(7L, entity.getId()),
+                () -> assertEquals("title", entity.getOrderTitle())
+        );
+    }
+}
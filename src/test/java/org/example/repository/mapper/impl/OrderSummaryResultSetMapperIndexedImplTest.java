@@ -0,0 +1,38 @@
+package org.example.repository.mapper.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderSummaryResultSetMapperIndexedImplTest {
+    @Mock
+    private ResultSet resultSet;
+
+    @Test
+    void selectSkipsQualificationColumn() {
+        assertEquals("SELECT id, orderTitle, orderDescription, orderPrice, orderTerm FROM qualif_order",
+                OrderSummaryResultSetMapperIndexedImpl.SELECT);
+    }
+
+    @Test
+    void mapLeavesQualificationUnset() throws SQLException {
+        when(resultSet.getObject(1, Long.class)).thenReturn(1L);
+
+        var entity = new OrderSummaryResultSetMapperIndexedImpl().map(resultSet);
+
+        assertAll(
+                () -> assertEquals(1L, entity.getId()),
+                () -> assertNull(entity.getQualification())
+        );
+        verify(resultSet, never()).getObject(intThat(index -> index > OrderSummaryResultSetMapperIndexedImpl.COLUMN_COUNT),
+                eq(Long.class));
+    }
+}
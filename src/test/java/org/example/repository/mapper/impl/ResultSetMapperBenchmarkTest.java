@@ -0,0 +1,67 @@
+package org.example.repository.mapper.impl;
+
+import org.example.model.FreelancerEntity;
+import org.example.repository.mapper.DefaultResultSetMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Deterministic stand-in for a JMH run: both mappers read the same rows from a driver-like ResultSet
+// that resolves labels with a case-insensitive lookup, as Connector/J does.
+class ResultSetMapperBenchmarkTest {
+    private static final int ROWS = 500_000;
+    private static final String[] COLUMNS = FreelancerResultSetMapperIndexedImpl.COLUMNS.split(", ");
+
+    @Test
+    @Tag("benchmark")
+    void indexedMapperIsFasterThanLabelMapper() throws SQLException {
+        var named = new FreelancerResultSetMapperImpl();
+        var indexed = new FreelancerResultSetMapperIndexedImpl();
+        var resultSet = largeResultSet();
+        assertEquals(mapAll(named, resultSet), mapAll(indexed, resultSet));
+
+        long namedNanos = Long.MAX_VALUE;
+        long indexedNanos = Long.MAX_VALUE;
+        for (int round = 0; round < 5; round++) {
+            namedNanos = Math.min(namedNanos, time(named, resultSet));
+            indexedNanos = Math.min(indexedNanos, time(indexed, resultSet));
+        }
+
+        assertTrue(indexedNanos < namedNanos, "indexed " + indexedNanos + " ns vs label " + namedNanos + " ns");
+    }
+
+    private static long time(DefaultResultSetMapper<FreelancerEntity> mapper, ResultSet resultSet) throws SQLException {
+        long start = System.nanoTime();
+        mapAll(mapper, resultSet);
+        return System.nanoTime() - start;
+    }
+
+    private static long mapAll(DefaultResultSetMapper<FreelancerEntity> mapper, ResultSet resultSet) throws SQLException {
+        long checksum = 0;
+        for (int row = 0; row < ROWS; row++) {
+            var entity = mapper.map(resultSet);
+            checksum += entity.getId() + entity.getFreelancerEmail().length();
+        }
+        return checksum;
+    }
+
+    private static ResultSet largeResultSet() {
+        Map<String, Integer> labels = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = 0; i < COLUMNS.length; i++) {
+            labels.put(COLUMNS[i], i + 1);
+        }
+        Object[] row = {42L, "Иван", "Иванов", "ivanov@test.com"};
+        return (ResultSet) Proxy.newProxyInstance(ResultSetMapperBenchmarkTest.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class}, (proxy, method, args) -> {
+                    int index = args[0] instanceof String ? labels.get((String) args[0]) : (Integer) args[0];
+                    return row[index - 1];
+                });
+    }
+}
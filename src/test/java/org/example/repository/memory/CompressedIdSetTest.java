@@ -0,0 +1,141 @@
+package org.example.repository.memory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedIdSetTest {
+
+    @Test
+    void matchesTreeSetForRandomIds() {
+        var random = new Random(19);
+        var expected = new TreeSet<Long>();
+        for (int i = 0; i < 5_000; i++) {
+            expected.add(1 + (long) random.nextInt(1_000_000));
+        }
+        var builder = new CompressedIdSet.Builder();
+        expected.forEach(builder::add);
+        var set = builder.build();
+
+        assertEquals(expected.size(), set.size());
+        assertArrayEquals(expected.stream().mapToLong(Long::longValue).toArray(), set.toArray());
+        for (int i = 0; i < 1_000; i++) {
+            long probe = 1 + random.nextInt(1_000_000);
+            assertEquals(expected.contains(probe), set.contains(probe), "id " + probe);
+        }
+    }
+
+    @Test
+    void pageStartsAfterCursorAndStopsAtLimit() {
+        var builder = new CompressedIdSet.Builder();
+        for (long id = 10; id <= 1_000; id += 10) {
+            builder.add(id);
+        }
+        var set = builder.build();
+
+        assertAll(
+                () -> assertArrayEquals(new long[]{10, 20, 30}, set.page(0, 3)),
+                () -> assertArrayEquals(new long[]{650, 660}, set.page(645, 2)),
+                () -> assertArrayEquals(new long[]{660, 670}, set.page(650, 2)),
+                () -> assertArrayEquals(new long[]{1_000}, set.page(990, 5)),
+                () -> assertArrayEquals(new long[0], set.page(1_000, 5)),
+                () -> assertArrayEquals(new long[0], CompressedIdSet.EMPTY.page(0, 5))
+        );
+    }
+
+    @Test
+    void withAndWithoutReturnNewSetsAndKeepOriginal() {
+        var set = new CompressedIdSet.Builder().add(2).add(4).add(6).build();
+
+        var added = set.with(5).with(1).with(7);
+        var removed = set.without(4);
+
+        assertAll(
+                () -> assertArrayEquals(new long[]{2, 4, 6}, set.toArray()),
+                () -> assertArrayEquals(new long[]{1, 2, 4, 5, 6, 7}, added.toArray()),
+                () -> assertArrayEquals(new long[]{2, 6}, removed.toArray()),
+                () -> assertSame(set, set.with(4)),
+                () -> assertSame(set, set.without(3))
+        );
+    }
+
+    @Test
+    void withAllMergesSortedIdsAndSkipsPresentOnes() {
+        var set = new CompressedIdSet.Builder().add(2).add(4).add(6).build();
+
+        assertAll(
+                () -> assertArrayEquals(new long[]{1, 2, 3, 4, 6, 9}, set.withAll(new long[]{1, 3, 4, 9}).toArray()),
+                () -> assertArrayEquals(new long[]{5, 7}, CompressedIdSet.EMPTY.withAll(new long[]{5, 7}).toArray()),
+                () -> assertArrayEquals(new long[]{2, 4, 6}, set.toArray()),
+                () -> assertSame(set, set.withAll(new long[]{2, 6})),
+                () -> assertSame(set, set.withAll(new long[0]))
+        );
+    }
+
+    @Test
+    void withAllMatchesRepeatedWithAcrossBlocks() {
+        var random = new Random(11);
+        var set = CompressedIdSet.EMPTY;
+        var expected = new TreeSet<Long>();
+        for (int i = 0; i < 500; i++) {
+            long id = 1 + random.nextInt(5_000);
+            set = set.with(id);
+            expected.add(id);
+        }
+        var added = new TreeSet<Long>();
+        for (int i = 0; i < 700; i++) {
+            added.add(1L + random.nextInt(5_000));
+        }
+        expected.addAll(added);
+
+        var merged = set.withAll(added.stream().mapToLong(Long::longValue).toArray());
+
+        assertArrayEquals(expected.stream().mapToLong(Long::longValue).toArray(), merged.toArray());
+    }
+
+    @Test
+    void withAllAppendsIdsPastTheLastOneAcrossBlocks() {
+        var builder = new CompressedIdSet.Builder();
+        for (long id = 1; id <= 100; id++) {
+            builder.add(id * 3);
+        }
+        var set = builder.build();
+        var appended = new long[100];
+        for (int i = 0; i < appended.length; i++) {
+            appended[i] = 301 + i * 2L;
+        }
+
+        var merged = set.withAll(appended);
+
+        assertAll(
+                () -> assertEquals(200, merged.size()),
+                () -> assertTrue(merged.contains(300) && merged.contains(301) && merged.contains(499)),
+                () -> assertArrayEquals(new long[]{297, 300, 301, 303}, merged.page(294, 4)),
+                () -> assertArrayEquals(set.toArray(), merged.page(0, 100)),
+                () -> assertEquals(100, set.size())
+        );
+    }
+
+    @Test
+    void denseIdsTakeAboutOneBytePerId() {
+        var builder = new CompressedIdSet.Builder();
+        for (long id = 1_000_000; id < 1_100_000; id++) {
+            builder.add(id);
+        }
+        var set = builder.build();
+
+        assertEquals(100_000, set.size());
+        assertTrue(set.byteSize() < 110_000, "bytes " + set.byteSize());
+    }
+
+    @Test
+    void builderWhenIdsNotIncreasingThenThrows() {
+        var builder = new CompressedIdSet.Builder().add(5);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.add(5));
+        assertThrows(IllegalArgumentException.class, () -> new CompressedIdSet.Builder().add(0));
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.repository.memory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentLongMapTest {
+
+    @Test
+    void putGetRemoveKeepKeyOrder() {
+        var map = new ConcurrentLongMap<String>();
+
+        assertNull(map.put(5, "five"));
+        assertNull(map.put(1, "one"));
+        assertNull(map.put(3, "three"));
+        assertEquals("three", map.put(3, "THREE"));
+
+        assertAll(
+                () -> assertEquals(3, map.size()),
+                () -> assertEquals("THREE", map.get(3)),
+                () -> assertNull(map.get(2)),
+                () -> assertEquals(List.of("one", "THREE", "five"), map.pageAfter(0, 10)),
+                () -> assertEquals("one", map.remove(1)),
+                () -> assertNull(map.remove(1)),
+                () -> assertFalse(map.containsKey(1)),
+                () -> assertEquals(List.of("THREE", "five"), map.pageAfter(0, 10))
+        );
+    }
+
+    @Test
+    void pageAfterStartsPastTheCursorWhetherOrNotItExists() {
+        var map = new ConcurrentLongMap<Long>();
+        map.replaceAll(Map.of(10L, 10L, 20L, 20L, 30L, 30L, 40L, 40L));
+
+        assertAll(
+                () -> assertEquals(List.of(30L, 40L), map.pageAfter(20, 5)),
+                () -> assertEquals(List.of(30L), map.pageAfter(25, 1)),
+                () -> assertEquals(List.of(), map.pageAfter(40, 5)),
+                () -> assertEquals(List.of(10L, 20L), map.pageAfter(0, 2))
+        );
+    }
+
+    @Test
+    void valuesAfterIsAStableSnapshot() {
+        var map = new ConcurrentLongMap<String>();
+        map.put(1, "a");
+        map.put(2, "b");
+
+        var view = map.valuesAfter(0);
+        map.put(3, "c");
+        map.remove(1);
+
+        assertEquals(List.of("a", "b"), view);
+        assertThrows(UnsupportedOperationException.class, () -> view.set(0, "x"));
+    }
+
+    @Test
+    void randomOperationsMatchTreeMap() {
+        var random = ThreadLocalRandom.current();
+        var map = new ConcurrentLongMap<Long>();
+        var expected = new TreeMap<Long, Long>();
+        for (int i = 0; i < 5_000; i++) {
+            long key = random.nextLong(500);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, (long) i), map.put(key, (long) i));
+            }
+        }
+        var values = new ArrayList<Long>();
+        map.forEachValue(values::add);
+        assertEquals(new ArrayList<>(expected.values()), values);
+        assertEquals(new ArrayList<>(expected.tailMap(250L, false).values()), map.valuesAfter(250));
+    }
+
+    @Test
+    void putAllMergesLikeOnePutPerEntry() {
+        var random = ThreadLocalRandom.current();
+        var map = new ConcurrentLongMap<Long>();
+        var expected = new TreeMap<Long, Long>();
+        for (int round = 0; round < 50; round++) {
+            var batch = new HashMap<Long, Long>();
+            for (int i = random.nextInt(40); i >= 0; i--) {
+                batch.put(random.nextLong(500), (long) round);
+            }
+            map.putAll(batch);
+            expected.putAll(batch);
+        }
+        map.putAll(Map.of());
+
+        var keys = new ArrayList<Long>();
+        map.forEach((key, value) -> keys.add(key));
+        assertEquals(new ArrayList<>(expected.keySet()), keys);
+        assertEquals(new ArrayList<>(expected.values()), map.valuesAfter(-1));
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.repository.memory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RelationIndexTest {
+
+    @Test
+    void setKeepsBothDirectionsInSync() {
+        var index = new RelationIndex();
+        index.set(1, bits(10, 11));
+        index.set(2, bits(11));
+
+        index.set(1, bits(11, 12));
+
+        assertAll(
+                () -> assertEquals(bits(11, 12), index.qualificationsOf(1)),
+                () -> assertEquals(bits(), index.freelancersOf(10)),
+                () -> assertEquals(bits(1, 2), index.freelancersOf(11)),
+                () -> assertEquals(bits(1), index.freelancersOf(12))
+        );
+    }
+
+    @Test
+    void setAllMatchesOneSetPerFreelancer() {
+        var expected = new RelationIndex();
+        var index = new RelationIndex();
+        for (var initial : new RelationIndex[]{expected, index}) {
+            initial.set(1, bits(10, 11));
+            initial.set(2, bits(11));
+            initial.set(3, bits(12));
+        }
+        expected.set(1, bits(11, 12));
+        expected.set(3, bits());
+        expected.set(4, bits(10));
+
+        index.setAll(Map.of(1L, bits(11, 12), 3L, bits(), 4L, bits(10)));
+
+        for (long freelancer = 1; freelancer <= 4; freelancer++) {
+            assertEquals(expected.qualificationsOf(freelancer), index.qualificationsOf(freelancer));
+        }
+        for (long qualification = 10; qualification <= 12; qualification++) {
+            assertEquals(expected.freelancersOf(qualification), index.freelancersOf(qualification));
+        }
+    }
+
+    @Test
+    void publishedSetsAreNotModifiedByLaterWrites() {
+        var index = new RelationIndex();
+        var argument = bits(10);
+        index.set(1, argument);
+        var published = index.qualificationsOf(1);
+
+        argument.set(11);
+        index.set(1, bits(12));
+
+        assertEquals(bits(10), published);
+    }
+
+    @Test
+    void removeQualificationClearsItFromEveryFreelancer() {
+        var index = new RelationIndex();
+        index.replaceAll(Map.of(1L, bits(10, 11), 2L, bits(10), 3L, bits()));
+
+        index.removeQualification(10);
+
+        assertAll(
+                () -> assertEquals(bits(11), index.qualificationsOf(1)),
+                () -> assertEquals(bits(), index.qualificationsOf(2)),
+                () -> assertEquals(bits(), index.freelancersOf(10)),
+                () -> assertEquals(bits(1), index.freelancersOf(11))
+        );
+    }
+
+    @Test
+    void removeFreelancerClearsReverseSets() {
+        var index = new RelationIndex();
+        index.replaceAll(Map.of(1L, bits(10, 11), 2L, bits(10)));
+
+        index.removeFreelancer(1);
+
+        assertAll(
+                () -> assertEquals(bits(2), index.freelancersOf(10)),
+                () -> assertEquals(bits(), index.freelancersOf(11))
+        );
+    }
+
+    private static BitSet bits(int... ids) {
+        var bits = new BitSet();
+        for (int id : ids) {
+            bits.set(id);
+        }
+        return bits;
+    }
+}
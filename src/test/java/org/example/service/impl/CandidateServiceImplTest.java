@@ -0,0 +1,97 @@
+package org.example.service.impl;
+
+import org.example.model.FreelancerEntity;
+import org.example.model.OrderEntity;
+import org.example.model.QualificationEntity;
+import org.example.repository.FreelancerRepository;
+import org.example.repository.OrderRepository;
+import org.example.repository.cache.CandidateIndex;
+import org.example.service.dto.FreelancerSimpleDto;
+import org.example.service.mapper.FreelancerMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CandidateServiceImplTest {
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private FreelancerRepository freelancerRepository;
+    @Mock
+    private CandidateIndex candidateIndex;
+    @Mock
+    private FreelancerMapper mapper;
+
+    private CandidateServiceImpl service;
+
+    private static final Long ORDER_ID = 1L;
+    private static final long QUALIFICATION_ID = 10L;
+
+    @BeforeEach
+    void setup() {
+        service = new CandidateServiceImpl(orderRepository, freelancerRepository, candidateIndex, mapper);
+    }
+
+    @Test
+    void findCandidatesWhenOrderMissingThenNull() {
+        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.empty());
+
+        assertNull(service.findCandidates(ORDER_ID, 0L, 10));
+        verifyNoInteractions(candidateIndex, freelancerRepository);
+    }
+
+    @Test
+    void findCandidatesWhenIndexReadyThenLoadsIndexedIds() {
+        var freelancer = new FreelancerEntity();
+        var dto = new FreelancerSimpleDto();
+        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(order()));
+        when(candidateIndex.isReady()).thenReturn(true);
+        when(candidateIndex.findCandidates(QUALIFICATION_ID, 5L, 10)).thenReturn(new long[]{7, 9});
+        when(freelancerRepository.findAllSimpleById(List.of(7L, 9L))).thenReturn(List.of(freelancer));
+        when(mapper.toSimpleDto(freelancer)).thenReturn(dto);
+
+        assertEquals(List.of(dto), service.findCandidates(ORDER_ID, 5L, 10));
+        verify(freelancerRepository, never()).findPageByQualification(any(), any(), anyInt());
+    }
+
+    @Test
+    void findCandidatesWhenIndexReadyAndNoIdsThenSkipsRepository() {
+        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(order()));
+        when(candidateIndex.isReady()).thenReturn(true);
+        when(candidateIndex.findCandidates(QUALIFICATION_ID, 0L, 10)).thenReturn(new long[0]);
+
+        assertEquals(List.of(), service.findCandidates(ORDER_ID, null, 10));
+        verifyNoInteractions(freelancerRepository);
+    }
+
+    @Test
+    void findCandidatesWhenIndexNotReadyThenQueriesDatabase() {
+        var freelancer = new FreelancerEntity();
+        var dto = new FreelancerSimpleDto();
+        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(order()));
+        when(candidateIndex.isReady()).thenReturn(false);
+        when(freelancerRepository.findPageByQualification(QUALIFICATION_ID, 5L, 10)).thenReturn(List.of(freelancer));
+        when(mapper.toSimpleDto(freelancer)).thenReturn(dto);
+
+        assertEquals(List.of(dto), service.findCandidates(ORDER_ID, 5L, 10));
+        verify(candidateIndex, never()).findCandidates(anyLong(), anyLong(), anyInt());
+    }
+
+    private static OrderEntity order() {
+        var qualification = new QualificationEntity();
+        qualification.setId(QUALIFICATION_ID);
+        var order = new OrderEntity();
+        order.setId(ORDER_ID);
+        order.setQualification(qualification);
+        return order;
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.service.impl;
+
+import org.example.db.ConnectionManager;
+import org.example.db.PropertiesUtil;
+import org.example.db.impl.ConnectionManagerImpl;
+import org.example.db.impl.DirectTransactionManager;
+import org.example.repository.cache.impl.CandidateIndexImpl;
+import org.example.repository.cache.impl.EmailBloomFilterImpl;
+import org.example.repository.cache.impl.QualificationCacheImpl;
+import org.example.repository.cache.impl.TableVersionsImpl;
+import org.example.repository.impl.FreelancerRepositoryImpl;
+import org.example.repository.impl.QualificationRelationRepositoryImpl;
+import org.example.repository.mapper.impl.FreelancerResultSetMapperIndexedImpl;
+import org.example.repository.mapper.impl.QualificationResultSetMapperIndexedImpl;
+import org.example.service.FreelancerService;
+import org.example.service.dto.FreelancerDto;
+import org.example.service.dto.QualificationSimpleDto;
+import org.example.service.mapper.FreelancerMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mockStatic;
+
+// Stand-in for a JMH run: import throughput at 10k, 100k and 1M records against the per-record save path.
+// Records are generated while the import reads them, as a streamed request body would be parsed.
+@Testcontainers
+class FreelancerImportBenchmarkTest {
+    private static final String TEST_DB_NAME = "freelance";
+    private static final String TEST_DB_INIT_SCRIPT_FILE_NAME = "db-migration.SQL";
+    private static final String IMAGE_NAME = "mysql:8.0";
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    private static final int SINGLE_SAVES = 2_000;
+    private static ConnectionManager connectionManager;
+    private static FreelancerService service;
+
+    @Container
+    static final MySQLContainer<?> CONTAINER =
+            new MySQLContainer<>(IMAGE_NAME)
+                    .withDatabaseName(TEST_DB_NAME)
+                    .withInitScript(TEST_DB_INIT_SCRIPT_FILE_NAME);
+
+    @BeforeAll
+    static void beforeAll() {
+        Properties testDbProps = PropertiesUtil.getProperties();
+        testDbProps.setProperty("jdbcUrl", CONTAINER.getJdbcUrl());
+        testDbProps.setProperty("username", CONTAINER.getUsername());
+        testDbProps.setProperty("password", CONTAINER.getPassword());
+        try (MockedStatic<PropertiesUtil> mockedProps = mockStatic(PropertiesUtil.class)) {
+            mockedProps.when(PropertiesUtil::getProperties).thenReturn(testDbProps);
+            connectionManager = ConnectionManagerImpl.getInstance();
+        }
+        var emailFilter = new EmailBloomFilterImpl(2_000_000, 0.01);
+        var repository = new FreelancerRepositoryImpl(connectionManager, new FreelancerResultSetMapperIndexedImpl(),
+                new QualificationRelationRepositoryImpl(new QualificationResultSetMapperIndexedImpl(),
+                        new QualificationCacheImpl(16)),
+                emailFilter, CandidateIndexImpl.getInstance(), TableVersionsImpl.getInstance());
+        emailFilter.rebuild(repository::forEachEmail);
+        service = new FreelancerServiceImpl(repository, FreelancerMapper.INSTANCE, new DirectTransactionManager(), 1000);
+    }
+
+    @AfterAll
+    static void afterAll() {
+        connectionManager.destroy();
+    }
+
+    @Test
+    @Tag("benchmark")
+    void importIsFasterThanSavingOneByOne() {
+        long start = System.nanoTime();
+        for (int i = 0; i < SINGLE_SAVES; i++) {
+            service.save(dto("single", i));
+        }
+        double singleRate = SINGLE_SAVES / ((System.nanoTime() - start) / 1e9);
+
+        double smallestRate = Double.MAX_VALUE;
+        for (int size : SIZES) {
+            start = System.nanoTime();
+            var result = service.importAll(records("bulk" + size + "-", size));
+            double rate = size / ((System.nanoTime() - start) / 1e9);
+            assertEquals(size, result.getCreated());
+            smallestRate = Math.min(smallestRate, rate);
+        }
+
+        var again = service.importAll(records("bulk" + SIZES[0] + "-", SIZES[0]));
+        assertEquals(SIZES[0], again.getDuplicates());
+        assertTrue(smallestRate > 5 * singleRate, "import " + smallestRate + " rec/s vs save " + singleRate + " rec/s");
+    }
+
+    private static Iterator<FreelancerDto> records(String prefix, int size) {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public FreelancerDto next() {
+                return dto(prefix, next++);
+            }
+        };
+    }
+
+    private static FreelancerDto dto(String prefix, int i) {
+        var dto = new FreelancerDto();
+        dto.setFreelancerName("Name");
+        dto.setFreelancerSecondName("Surname");
+        dto.setFreelancerEmail(prefix + i + "@test.com");
+        dto.setQualifications(List.of(new QualificationSimpleDto((long) (i % 7 + 1), null)));
+        return dto;
+    }
+}
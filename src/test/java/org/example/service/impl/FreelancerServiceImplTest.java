@@ -1,10 +1,17 @@
 package org.example.service.impl;
 
+import org.example.db.TransactionManager;
+import org.example.db.impl.DirectTransactionManager;
+import org.example.exception.RepositoryException;
 import org.example.model.FreelancerEntity;
+import org.example.model.QualificationEntity;
 import org.example.repository.FreelancerRepository;
 import org.example.service.FreelancerService;
 import org.example.service.dto.FreelancerDto;
+import org.example.service.dto.FreelancerImportIssueDto;
+import org.example.service.dto.FreelancerImportOutcome;
 import org.example.service.dto.FreelancerSimpleDto;
+import org.example.service.dto.QualificationSimpleDto;
 import org.example.service.mapper.FreelancerMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,8 +19,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -37,28 +50,30 @@ class FreelancerServiceImplTest {
         var dto = prepareNewDtoWithNullId();
         var entityMock = mock(FreelancerEntity.class);
 
-        when(repository.containsFreelancerByEmail(dto.getFreelancerEmail())).thenReturn(false);
         when(mapper.toEntity(dto)).thenReturn(entityMock);
-        when(repository.save(entityMock)).thenReturn(entityMock);
+        when(repository.saveIfEmailAbsent(entityMock)).thenReturn(Optional.of(entityMock));
         when(mapper.toDto(entityMock)).thenReturn(dto);
 
         service.save(dto);
 
-        verify(repository, times(1)).containsFreelancerByEmail(anyString());
+        verify(repository, never()).containsFreelancerByEmail(anyString());
         verify(mapper, times(1)).toEntity(any(FreelancerDto.class));
-        verify(repository, times(1)).save(any());
+        verify(repository, times(1)).saveIfEmailAbsent(any());
         verify(mapper, times(1)).toDto(any(FreelancerEntity.class));
     }
 
     @Test
     void saveWhenArgumentNotNullAndExistInDB() {
         var dto = prepareNewDtoWithNullId();
+        var entityMock = mock(FreelancerEntity.class);
 
-        when(repository.containsFreelancerByEmail(dto.getFreelancerEmail())).thenReturn(true);
+        when(mapper.toEntity(dto)).thenReturn(entityMock);
+        when(repository.saveIfEmailAbsent(entityMock)).thenReturn(Optional.empty());
 
         var saved = service.save(dto);
 
-        verify(repository, times(1)).containsFreelancerByEmail(anyString());
+        verify(repository, never()).save(any());
+        verify(mapper, never()).toDto(any(FreelancerEntity.class));
         assertNull(saved.getId());
     }
 
@@ -101,6 +116,62 @@ class FreelancerServiceImplTest {
         assertEquals(2, all.size());
     }
 
+    @Test
+    void findPage() {
+        var entity = spy(FreelancerEntity.class);
+        var dto = spy(FreelancerSimpleDto.class);
+
+        when(repository.findPage(10L, 5)).thenReturn(List.of(entity));
+        when(mapper.toSimpleDto(entity)).thenReturn(dto);
+
+        List<FreelancerSimpleDto> page = service.findPage(10L, 5);
+
+        verify(repository, times(1)).findPage(10L, 5);
+        assertEquals(List.of(dto), page);
+    }
+
+    @Test
+    void findPageWithQualificationsSharesQualificationDtos() {
+        var java = new QualificationEntity();
+        java.setId(10L);
+        java.setQualificationName("Java");
+        var first = new FreelancerEntity();
+        first.setId(1L);
+        first.setQualifications(List.of(java));
+        var second = new FreelancerEntity();
+        second.setId(2L);
+        second.setQualifications(List.of(java));
+        var realService = new FreelancerServiceImpl(repository, FreelancerMapper.INSTANCE);
+
+        when(repository.findPageWithQualifications(0L, 2)).thenReturn(List.of(first, second));
+
+        List<FreelancerDto> page = realService.findPageWithQualifications(0L, 2);
+
+        assertAll(
+                () -> assertEquals(List.of(1L, 2L), page.stream().map(FreelancerDto::getId).toList()),
+                () -> assertEquals("Java", page.get(0).getQualifications().get(0).getQualificationName()),
+                () -> assertSame(page.get(0).getQualifications().get(0), page.get(1).getQualifications().get(0))
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void forEachMapsEveryEntity() {
+        var entity = spy(FreelancerEntity.class);
+        var dto = spy(FreelancerSimpleDto.class);
+        List<FreelancerSimpleDto> streamed = new ArrayList<>();
+
+        doAnswer(invocation -> {
+            ((Consumer<FreelancerEntity>) invocation.getArgument(0)).accept(entity);
+            return null;
+        }).when(repository).forEach(any());
+        when(mapper.toSimpleDto(entity)).thenReturn(dto);
+
+        service.forEach(streamed::add);
+
+        assertEquals(List.of(dto), streamed);
+    }
+
     @Test
     void updateWhenDtoAndIdNotNullThenTrue() {
         var dto = new FreelancerDto();
@@ -145,6 +216,16 @@ class FreelancerServiceImplTest {
        assertNull(service.findById(null));
     }
 
+    @Test
+    void findByIdReadsWithoutAUnitOfWork() {
+        var transactionManager = mock(TransactionManager.class);
+        when(repository.findById(2L)).thenReturn(Optional.empty());
+
+        assertNull(new FreelancerServiceImpl(repository, mapper, transactionManager).findById(2L));
+
+        verifyNoInteractions(transactionManager);
+    }
+
     @Test
     void updateWhenDtoNullThenFalse() {
         assertFalse(service.update(null));
@@ -155,6 +236,148 @@ class FreelancerServiceImplTest {
         assertFalse(service.delete(null));
     }
 
+    @Test
+    void importAllResolvesEmailsPerChunkAndReportsEveryRecord() {
+        var chunked = new FreelancerServiceImpl(repository, mapper, new DirectTransactionManager(), 3);
+        List<Integer> lookups = new ArrayList<>();
+        givenImportSavesWithIds(lookups, Set.of("known@test.com"));
+        var blank = importDto("");
+
+        var result = chunked.importAll(List.of(importDto("a@test.com"), importDto("Known@test.com"),
+                importDto("A@test.com"), blank, importDto("b@test.com")).iterator());
+
+        assertAll(
+                () -> assertArrayEquals(new long[]{101, 0, 0, 0, 102}, result.getIds()),
+                () -> assertEquals(2, result.getCreated()),
+                () -> assertEquals(2, result.getDuplicates()),
+                () -> assertEquals(1, result.getRejected()),
+                () -> assertEquals(List.of(1, 2, 3), result.getIssues().stream().map(FreelancerImportIssueDto::getIndex).toList()),
+                () -> assertEquals(FreelancerImportOutcome.INVALID, result.getIssues().get(2).getOutcome()),
+                () -> assertEquals(List.of(2, 1), lookups)
+        );
+        verify(repository, times(2)).saveAll(anyList());
+        verify(repository, never()).saveIfEmailAbsent(any());
+    }
+
+    @Test
+    void importAllWhenBatchFailsThenSavesRecordsOneByOne() {
+        var first = importDto("a@test.com");
+        var second = importDto("b@test.com");
+        var third = importDto("c@test.com");
+        when(repository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        when(mapper.toEntity(any(FreelancerDto.class))).thenAnswer(invocation -> {
+            var entity = new FreelancerEntity();
+            entity.setFreelancerEmail(invocation.<FreelancerDto>getArgument(0).getFreelancerEmail());
+            return entity;
+        });
+        doThrow(new RepositoryException(new SQLException("Duplicate entry")))
+                .when(repository).saveAll(anyList());
+        when(repository.saveIfEmailAbsent(any())).thenAnswer(invocation -> {
+            FreelancerEntity entity = invocation.getArgument(0);
+            switch (entity.getFreelancerEmail()) {
+                case "a@test.com":
+                    entity.setId(7L);
+                    return Optional.of(entity);
+                case "b@test.com":
+                    return Optional.empty();
+                default:
+                    throw new RepositoryException(new SQLException("Cannot add or update a child row"));
+            }
+        });
+
+        var result = service.importAll(List.of(first, second, third).iterator());
+
+        assertAll(
+                () -> assertArrayEquals(new long[]{7, 0, 0}, result.getIds()),
+                () -> assertEquals(FreelancerImportOutcome.DUPLICATE_EMAIL, result.getIssues().get(0).getOutcome()),
+                () -> assertEquals(FreelancerImportOutcome.FAILED, result.getIssues().get(1).getOutcome()),
+                () -> assertEquals(2, result.getIssues().get(1).getIndex())
+        );
+    }
+
+    @Test
+    void importAllWhenRecordUnreadableThenStopsAfterImportingEarlierRecords() {
+        givenImportSavesWithIds(new ArrayList<>(), Set.of());
+        var records = List.of(importDto("a@test.com")).iterator();
+        Iterator<FreelancerDto> failing = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                if (records.hasNext()) return true;
+                throw new IllegalStateException("Unexpected end-of-input");
+            }
+
+            @Override
+            public FreelancerDto next() {
+                return records.next();
+            }
+        };
+
+        var result = service.importAll(failing);
+
+        assertArrayEquals(new long[]{101}, result.getIds());
+        assertEquals(1, result.getIssues().get(0).getIndex());
+        assertTrue(result.getIssues().get(0).getReason().startsWith("Unreadable record"));
+    }
+
+    @Test
+    void importAllWhenEmailLookupFailsThenKeepsEarlierChunksAndStopsAtTheFailedOne() {
+        var chunked = new FreelancerServiceImpl(repository, mapper, new DirectTransactionManager(), 2);
+        givenImportSavesWithIds(new ArrayList<>(), Set.of());
+        when(repository.findExistingEmails(anyCollection())).thenReturn(Set.of())
+                .thenThrow(new RepositoryException(new SQLException("Mocked")));
+
+        var result = chunked.importAll(List.of(importDto("a@test.com"), importDto("b@test.com"),
+                importDto("c@test.com"), importDto(""), importDto("e@test.com")).iterator());
+
+        assertAll(
+                () -> assertArrayEquals(new long[]{101, 102}, result.getIds()),
+                () -> assertEquals(2, result.getFailedIndex()),
+                () -> assertEquals(2, result.getCreated()),
+                () -> assertEquals(1, result.getIssues().size()),
+                () -> assertEquals(FreelancerImportOutcome.FAILED, result.getIssues().get(0).getOutcome()),
+                () -> assertEquals(2, result.getIssues().get(0).getIndex())
+        );
+        verify(repository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void validateChecksFreelancerColumns() {
+        var longName = importDto("a@test.com");
+        longName.setFreelancerName("n".repeat(46));
+        var nullQualification = importDto("a@test.com");
+        nullQualification.setQualifications(List.of(new QualificationSimpleDto()));
+
+        assertAll(
+                () -> assertNull(FreelancerServiceImpl.validate(importDto("a@test.com"))),
+                () -> assertNotNull(FreelancerServiceImpl.validate(null)),
+                () -> assertNotNull(FreelancerServiceImpl.validate(importDto(null))),
+                () -> assertNotNull(FreelancerServiceImpl.validate(longName)),
+                () -> assertNotNull(FreelancerServiceImpl.validate(nullQualification))
+        );
+    }
+
+    private static void givenImportSavesWithIds(List<Integer> lookups, Set<String> existing) {
+        long[] nextId = {101};
+        when(repository.findExistingEmails(anyCollection())).thenAnswer(invocation -> {
+            lookups.add(invocation.<Collection<String>>getArgument(0).size());
+            return existing;
+        });
+        when(mapper.toEntity(any(FreelancerDto.class))).thenAnswer(invocation -> new FreelancerEntity());
+        doAnswer(invocation -> {
+            invocation.<List<FreelancerEntity>>getArgument(0).forEach(entity -> entity.setId(nextId[0]++));
+            return null;
+        }).when(repository).saveAll(anyList());
+    }
+
+    private static FreelancerDto importDto(String email) {
+        var dto = new FreelancerDto();
+        dto.setFreelancerName("Ivan");
+        dto.setFreelancerSecondName("Ivanov");
+        dto.setFreelancerEmail(email);
+        dto.setQualifications(List.of(new QualificationSimpleDto(1L, null)));
+        return dto;
+    }
+
     private static FreelancerDto prepareNewDtoWithNullId() {
         var dto = new FreelancerDto();
         dto.setFreelancerName("test");
@@ -1,10 +1,12 @@
 package org.example.service.impl;
 
+import org.example.exception.RepositoryException;
 import org.example.model.OrderEntity;
 import org.example.repository.OrderRepository;
 import org.example.service.OrderService;
 import org.example.service.dto.OrderDto;
 import org.example.service.dto.OrderSimpleDto;
+import org.example.service.dto.QualificationSimpleDto;
 import org.example.service.mapper.OrderMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,8 +14,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
+import java.sql.BatchUpdateException;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -68,6 +82,43 @@ class OrderServiceImplTest {
         verify(mapper, times(1)).toDto(any(OrderEntity.class));
     }
 
+    @Test
+    void findByIdWhenConcurrentCallersThenShareOneRepositoryCall() throws Exception {
+        Long id = 1L;
+        var entity = new OrderEntity();
+        var dto = new OrderDto();
+        var threads = 16;
+        var entered = new CountDownLatch(threads);
+        var release = new CountDownLatch(1);
+
+        when(repository.findById(id)).thenAnswer(invocation -> {
+            release.await();
+            return Optional.of(entity);
+        });
+        when(mapper.toDto(entity)).thenReturn(dto);
+
+        var executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<OrderDto>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    entered.countDown();
+                    return service.findById(id);
+                }));
+            }
+            entered.await();
+            TimeUnit.MILLISECONDS.sleep(100);
+            release.countDown();
+
+            for (Future<OrderDto> result : results) {
+                assertSame(dto, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(repository, times(1)).findById(id);
+    }
+
     @Test
     void findAll() {
         var entity1 = spy(OrderEntity.class);
@@ -76,18 +127,50 @@ class OrderServiceImplTest {
         var dto2 = spy(OrderSimpleDto.class);
         List<OrderEntity> entities = List.of(entity1, entity2);
 
-        when(repository.findAll()).thenReturn(entities);
+        when(repository.findAllSummaries()).thenReturn(entities);
         when(mapper.toSimpleDto(entity1)).thenReturn(dto1);
         when(mapper.toSimpleDto(entity2)).thenReturn(dto2);
 
         List<OrderSimpleDto> all = service.findAll();
 
-        verify(repository, times(1)).findAll();
+        verify(repository, times(1)).findAllSummaries();
         verify(mapper, times(2)).toSimpleDto(any(OrderEntity.class));
 
         assertEquals(2, all.size());
     }
 
+    @Test
+    void findPage() {
+        var entity = spy(OrderEntity.class);
+        var dto = spy(OrderSimpleDto.class);
+
+        when(repository.findSummaryPage(10L, 5)).thenReturn(List.of(entity));
+        when(mapper.toSimpleDto(entity)).thenReturn(dto);
+
+        List<OrderSimpleDto> page = service.findPage(10L, 5);
+
+        verify(repository, times(1)).findSummaryPage(10L, 5);
+        assertEquals(List.of(dto), page);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void forEachMapsEveryEntity() {
+        var entity = spy(OrderEntity.class);
+        var dto = spy(OrderSimpleDto.class);
+        List<OrderSimpleDto> streamed = new ArrayList<>();
+
+        doAnswer(invocation -> {
+            ((Consumer<OrderEntity>) invocation.getArgument(0)).accept(entity);
+            return null;
+        }).when(repository).forEachSummary(any());
+        when(mapper.toSimpleDto(entity)).thenReturn(dto);
+
+        service.forEach(streamed::add);
+
+        assertEquals(List.of(dto), streamed);
+    }
+
     @Test
     void updateWhenDtoAndIdNotNullThenTrue() {
         var dto = new OrderDto();
@@ -142,4 +225,168 @@ class OrderServiceImplTest {
     void deleteWhenExistAndIdNullThenFalse() {
         assertFalse(service.delete(null));
     }
-}
\ No newline at end of file
+
+    @Test
+    void saveAllSavesInChunksAndReturnsIdsInInputOrder() {
+        var sizes = givenSaveAllAssignsIds();
+        var chunked = new OrderServiceImpl(repository, mapper, 2);
+
+        var result = chunked.saveAll(List.of(validDto(), validDto(), validDto(), validDto(), validDto()).iterator());
+
+        assertAll(
+                () -> assertArrayEquals(new long[]{1, 2, 3, 4, 5}, result.getIds()),
+                () -> assertNull(result.getFailedIndex()),
+                () -> assertEquals(List.of(2, 2, 1), sizes)
+        );
+    }
+
+    @Test
+    void saveAllWhenRecordInvalidThenSavesRecordsBeforeItAndStops() {
+        var sizes = givenSaveAllAssignsIds();
+        var chunked = new OrderServiceImpl(repository, mapper, 2);
+        var invalid = validDto();
+        invalid.setOrderTitle(" ");
+
+        var result = chunked.saveAll(List.of(validDto(), validDto(), validDto(), invalid, validDto()).iterator());
+
+        assertAll(
+                () -> assertArrayEquals(new long[]{1, 2, 3}, result.getIds()),
+                () -> assertEquals(3, result.getFailedIndex()),
+                () -> assertEquals("orderTitle is required", result.getError()),
+                () -> assertEquals(List.of(2, 1), sizes)
+        );
+    }
+
+    @Test
+    void saveAllWhenRecordUnreadableThenReportsItsIndex() {
+        var sizes = givenSaveAllAssignsIds();
+        var records = List.of(validDto()).iterator();
+        Iterator<OrderDto> failing = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                if (records.hasNext()) return true;
+                throw new IllegalStateException("Unexpected character");
+            }
+
+            @Override
+            public OrderDto next() {
+                return records.next();
+            }
+        };
+
+        var result = service.saveAll(failing);
+
+        assertAll(
+                () -> assertArrayEquals(new long[]{1}, result.getIds()),
+                () -> assertEquals(1, result.getFailedIndex()),
+                () -> assertTrue(result.getError().contains("Unexpected character")),
+                () -> assertEquals(List.of(1), sizes)
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void saveAllWhenChunkNotStoredThenKeepsEarlierChunksAndStopsAtItsFirstRecord() {
+        long[] nextId = {1};
+        when(mapper.toEntity(any(OrderDto.class))).thenAnswer(invocation -> new OrderEntity());
+        doAnswer(invocation -> {
+            List<OrderEntity> chunk = invocation.getArgument(0);
+            chunk.forEach(entity -> entity.setId(nextId[0]++));
+            return null;
+        }).doThrow(new RepositoryException(new SQLException("Mocked"))).when(repository).saveAll(anyList());
+        var chunked = new OrderServiceImpl(repository, mapper, 2);
+
+        var result = chunked.saveAll(List.of(validDto(), validDto(), validDto(), validDto(), validDto()).iterator());
+
+        assertAll(
+                () -> assertArrayEquals(new long[]{1, 2}, result.getIds()),
+                () -> assertEquals(2, result.getFailedIndex()),
+                () -> assertTrue(result.isRetryable()),
+                () -> verify(repository, times(2)).saveAll(anyList())
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void saveAllWhenRecordBreaksAConstraintThenReportsThatRecordAsNotRetryable() {
+        long[] nextId = {1};
+        var unknownQualification = new SQLException("Cannot add or update a child row", "23000", 1452);
+        when(mapper.toEntity(any(OrderDto.class))).thenAnswer(invocation -> new OrderEntity());
+        doAnswer(invocation -> {
+            List<OrderEntity> chunk = invocation.getArgument(0);
+            chunk.forEach(entity -> entity.setId(nextId[0]++));
+            return null;
+        }).doThrow(new RepositoryException(new BatchUpdateException(unknownQualification.getMessage(), "23000", 1452,
+                new int[0], unknownQualification))).when(repository).saveAll(anyList());
+        when(repository.save(any(OrderEntity.class))).thenAnswer(invocation -> {
+            OrderEntity entity = invocation.getArgument(0);
+            entity.setId(nextId[0]++);
+            return entity;
+        }).thenThrow(new RepositoryException(unknownQualification));
+        var chunked = new OrderServiceImpl(repository, mapper, 2);
+
+        var result = chunked.saveAll(List.of(validDto(), validDto(), validDto(), validDto(), validDto()).iterator());
+
+        assertAll(
+                () -> assertArrayEquals(new long[]{1, 2, 3}, result.getIds()),
+                () -> assertEquals(3, result.getFailedIndex()),
+                () -> assertFalse(result.isRetryable()),
+                () -> assertTrue(result.getError().contains("qualification.id")),
+                () -> verify(repository, times(2)).save(any(OrderEntity.class)),
+                () -> verify(repository, times(2)).saveAll(anyList())
+        );
+    }
+
+    @Test
+    void saveAllWhenEmptyThenNothingSaved() {
+        var result = service.saveAll(Collections.emptyIterator());
+
+        assertEquals(0, result.getIds().length);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void validateChecksColumnConstraints() {
+        var longTitle = validDto();
+        longTitle.setOrderTitle("t".repeat(66));
+        var negative = validDto();
+        negative.setOrderPrice(new BigDecimal("-1"));
+        var fractional = validDto();
+        fractional.setOrderPrice(new BigDecimal("1.005"));
+        var noQualification = validDto();
+        noQualification.setQualification(null);
+
+        assertAll(
+                () -> assertNull(OrderServiceImpl.validate(validDto())),
+                () -> assertNotNull(OrderServiceImpl.validate(null)),
+                () -> assertNotNull(OrderServiceImpl.validate(longTitle)),
+                () -> assertNotNull(OrderServiceImpl.validate(negative)),
+                () -> assertNotNull(OrderServiceImpl.validate(fractional)),
+                () -> assertNotNull(OrderServiceImpl.validate(noQualification))
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Integer> givenSaveAllAssignsIds() {
+        List<Integer> sizes = new ArrayList<>();
+        long[] nextId = {1};
+        when(mapper.toEntity(any(OrderDto.class))).thenAnswer(invocation -> new OrderEntity());
+        doAnswer(invocation -> {
+            List<OrderEntity> chunk = invocation.getArgument(0);
+            sizes.add(chunk.size());
+            chunk.forEach(entity -> entity.setId(nextId[0]++));
+            return null;
+        }).when(repository).saveAll(anyList());
+        return sizes;
+    }
+
+    private static OrderDto validDto() {
+        var dto = new OrderDto();
+        dto.setOrderTitle("Title");
+        dto.setOrderDescription("Description");
+        dto.setOrderPrice(new BigDecimal("100.50"));
+        dto.setOrderTerm(LocalDate.of(2024, 3, 1));
+        dto.setQualification(new QualificationSimpleDto(1L, null));
+        return dto;
+    }
+}
@@ -11,8 +11,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -87,6 +89,38 @@ class QualificationServiceImplTest {
         assertEquals(2, all.size());
     }
 
+    @Test
+    void findPage() {
+        var entity = spy(QualificationEntity.class);
+        var dto = spy(QualificationSimpleDto.class);
+
+        when(repository.findPage(10L, 5)).thenReturn(List.of(entity));
+        when(mapper.toSimpleDto(entity)).thenReturn(dto);
+
+        List<QualificationSimpleDto> page = service.findPage(10L, 5);
+
+        verify(repository, times(1)).findPage(10L, 5);
+        assertEquals(List.of(dto), page);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void forEachMapsEveryEntity() {
+        var entity = spy(QualificationEntity.class);
+        var dto = spy(QualificationSimpleDto.class);
+        List<QualificationSimpleDto> streamed = new ArrayList<>();
+
+        doAnswer(invocation -> {
+            ((Consumer<QualificationEntity>) invocation.getArgument(0)).accept(entity);
+            return null;
+        }).when(repository).forEach(any());
+        when(mapper.toSimpleDto(entity)).thenReturn(dto);
+
+        service.forEach(streamed::add);
+
+        assertEquals(List.of(dto), streamed);
+    }
+
     @Test
     void updateWhenDtoAndIdNotNullThenTrue() {
         var dto = new QualificationSimpleDto();
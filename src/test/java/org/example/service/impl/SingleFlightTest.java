@@ -0,0 +1,154 @@
+package org.example.service.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+    private static final int THREADS = 32;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    private final SingleFlight<Long, Object> singleFlight = new SingleFlight<>();
+
+    @AfterEach
+    void afterEach() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersForSameKeyShareOneCall() throws Exception {
+        var calls = new AtomicInteger();
+        var entered = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        var result = new Object();
+
+        List<Future<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                entered.incrementAndGet();
+                return singleFlight.execute(1L, () -> {
+                    calls.incrementAndGet();
+                    awaitQuietly(release);
+                    return result;
+                });
+            }));
+        }
+        while (entered.get() < THREADS) {
+            Thread.onSpinWait();
+        }
+        TimeUnit.MILLISECONDS.sleep(100);
+        release.countDown();
+
+        for (Future<Object> future : futures) {
+            assertSame(result, future.get(5, TimeUnit.SECONDS));
+        }
+        assertAll(
+                () -> assertEquals(1, calls.get()),
+                () -> assertEquals(0, singleFlight.inFlightCount())
+        );
+    }
+
+    @Test
+    void failureIsSharedAndNotCached() throws Exception {
+        var release = new CountDownLatch(1);
+        var failure = new IllegalStateException("boom");
+
+        var first = executor.submit(() -> singleFlight.execute(1L, () -> {
+            awaitQuietly(release);
+            throw failure;
+        }));
+        while (singleFlight.inFlightCount() == 0) {
+            Thread.onSpinWait();
+        }
+        var second = executor.submit(() -> singleFlight.execute(1L, Object::new));
+        TimeUnit.MILLISECONDS.sleep(50);
+        release.countDown();
+
+        var firstError = assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+        var secondError = assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+        var retried = singleFlight.execute(1L, () -> "retried");
+
+        assertAll(
+                () -> assertSame(failure, firstError.getCause()),
+                () -> assertSame(failure, secondError.getCause()),
+                () -> assertEquals("retried", retried),
+                () -> assertEquals(0, singleFlight.inFlightCount())
+        );
+    }
+
+    @Test
+    void stressManyKeysReturnsCorrectValuesAndLeavesNoEntries() throws Exception {
+        var keys = 8;
+        var opsPerThread = 2_000;
+        var calls = new AtomicInteger();
+        var start = new CyclicBarrier(THREADS);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int seed = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                var random = ThreadLocalRandom.current();
+                for (int i = 0; i < opsPerThread; i++) {
+                    long key = (seed + i) % keys;
+                    try {
+                        Object value = singleFlight.execute(key, () -> {
+                            calls.incrementAndGet();
+                            if (random.nextInt(10) == 0) {
+                                throw new IllegalStateException("failed " + key);
+                            }
+                            return key * 10;
+                        });
+                        assertEquals(key * 10, value);
+                    } catch (IllegalStateException e) {
+                        assertEquals("failed " + key, e.getMessage());
+                    }
+                }
+                return null;
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        assertAll(
+                () -> assertEquals(0, singleFlight.inFlightCount()),
+                () -> assertTrue(calls.get() <= THREADS * opsPerThread)
+        );
+    }
+
+    @Test
+    void forgetLetsNextCallerStartFreshLookup() throws Exception {
+        var release = new CountDownLatch(1);
+        var stale = executor.submit(() -> singleFlight.execute(1L, () -> {
+            awaitQuietly(release);
+            return "stale";
+        }));
+        while (singleFlight.inFlightCount() == 0) {
+            Thread.onSpinWait();
+        }
+
+        singleFlight.forget(1L);
+        var fresh = singleFlight.execute(1L, () -> "fresh");
+        release.countDown();
+
+        assertAll(
+                () -> assertEquals("fresh", fresh),
+                () -> assertEquals("stale", stale.get(5, TimeUnit.SECONDS))
+        );
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
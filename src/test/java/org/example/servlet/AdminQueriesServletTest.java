@@ -0,0 +1,106 @@
+package org.example.servlet;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.db.metrics.QueryMetrics;
+import org.example.db.metrics.QueryNames;
+import org.example.servlet.handler.ExceptionHandler;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AdminQueriesServletTest {
+    private static final String TOKEN = "s3cret";
+
+    @Test
+    void doGetWritesStatsPerStatement() throws IOException {
+        QueryNames.register("AdminSQL.FIND", "SELECT * FROM admin_test WHERE id=?");
+        var metrics = new QueryMetrics(60_000);
+        metrics.record(metrics.statsFor("SELECT * FROM admin_test WHERE id=?"), 2_000_000, () -> "[Long]");
+        var response = mock(HttpServletResponse.class);
+        var body = new ByteArrayOutputStream();
+        when(response.getOutputStream()).thenReturn(outputStream(body));
+        var servlet = new AdminQueriesServlet(metrics, mock(ExceptionHandler.class), TOKEN);
+
+        servlet.doGet(request("Bearer " + TOKEN), response);
+
+        var json = body.toString(StandardCharsets.UTF_8);
+        verify(response, times(1)).setStatus(HttpServletResponse.SC_OK);
+        assertAll(
+                () -> assertTrue(json.contains("\"name\":\"AdminSQL.FIND\""), json),
+                () -> assertTrue(json.contains("\"count\":1"), json),
+                () -> assertTrue(json.contains("\"maxMicros\":2000"), json)
+        );
+    }
+
+    @Test
+    void doDeleteResetsStats() {
+        var metrics = new QueryMetrics(60_000);
+        metrics.record(metrics.statsFor("SELECT 1"), 1_000, () -> "[]");
+        var response = mock(HttpServletResponse.class);
+
+        new AdminQueriesServlet(metrics, mock(ExceptionHandler.class), TOKEN).doDelete(request("Bearer " + TOKEN), response);
+
+        verify(response, times(1)).setStatus(HttpServletResponse.SC_NO_CONTENT);
+        assertTrue(metrics.snapshot().isEmpty());
+    }
+
+    @Test
+    void requestsWithoutTheTokenAreRefused() throws IOException {
+        var metrics = new QueryMetrics(60_000);
+        metrics.record(metrics.statsFor("SELECT 1"), 1_000, () -> "[]");
+        var servlet = new AdminQueriesServlet(metrics, mock(ExceptionHandler.class), TOKEN);
+        var missing = mock(HttpServletResponse.class);
+        var wrong = mock(HttpServletResponse.class);
+
+        servlet.doGet(request(null), missing);
+        servlet.doDelete(request("Bearer nope"), wrong);
+
+        verify(missing, times(1)).setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        verify(wrong, times(1)).setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        verify(missing, never()).getOutputStream();
+        assertFalse(metrics.snapshot().isEmpty());
+    }
+
+    @Test
+    void withoutAConfiguredTokenTheEndpointIsHidden() throws IOException {
+        var response = mock(HttpServletResponse.class);
+        var servlet = new AdminQueriesServlet(new QueryMetrics(60_000), mock(ExceptionHandler.class), "");
+
+        servlet.doGet(request("Bearer "), response);
+
+        verify(response, times(1)).setStatus(HttpServletResponse.SC_NOT_FOUND);
+        verify(response, never()).getOutputStream();
+    }
+
+    private static HttpServletRequest request(String authorization) {
+        var request = mock(HttpServletRequest.class);
+        when(request.getHeader("Authorization")).thenReturn(authorization);
+        return request;
+    }
+
+    private static ServletOutputStream outputStream(ByteArrayOutputStream body) {
+        return new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+                body.write(b);
+            }
+        };
+    }
+}
@@ -0,0 +1,244 @@
+package org.example.servlet;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.exception.RepositoryException;
+import org.example.model.OrderFilter;
+import org.example.service.FreelancerService;
+import org.example.service.OrderService;
+import org.example.service.dto.FreelancerSimpleDto;
+import org.example.service.dto.OrderDto;
+import org.example.service.dto.QualificationSimpleDto;
+import org.example.servlet.handler.ExceptionHandler;
+import org.example.servlet.mapper.impl.FreelancerJsonMapperImpl;
+import org.example.servlet.mapper.impl.OrderJsonMapperImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ExportServletTest {
+    private final OrderService orderService = mock(OrderService.class);
+    private final FreelancerService freelancerService = mock(FreelancerService.class);
+    private final ExceptionHandler exceptionHandler = mock(ExceptionHandler.class);
+    private final HttpServletRequest request = mock(HttpServletRequest.class);
+    private final HttpServletResponse response = mock(HttpServletResponse.class);
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+    private ExportServlet servlet;
+
+    @BeforeEach
+    void setup() throws IOException {
+        servlet = new ExportServlet(orderService, freelancerService, new OrderJsonMapperImpl(),
+                new FreelancerJsonMapperImpl(), exceptionHandler, 1_000);
+        when(response.getOutputStream()).thenReturn(servletOutputStream(body));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void doGetOrdersWritesFilteredCsv() {
+        when(request.getPathInfo()).thenReturn("/orders");
+        when(request.getParameter("qualificationId")).thenReturn("3");
+        doAnswer(invocation -> {
+            Consumer<OrderDto> action = invocation.getArgument(1);
+            action.accept(order(1L, "Logo, \"v2\"", 3L));
+            action.accept(order(2L, "Site", null));
+            return null;
+        }).when(orderService).forEachFiltered(any(), any());
+
+        servlet.doGet(request, response);
+
+        var filter = ArgumentCaptor.forClass(OrderFilter.class);
+        verify(orderService).forEachFiltered(filter.capture(), any());
+        assertEquals(3L, filter.getValue().getQualificationId());
+        assertEquals(Integer.MAX_VALUE, filter.getValue().getLimit());
+        verify(response).setStatus(HttpServletResponse.SC_OK);
+        verify(response).setContentType("text/csv;charset=UTF-8");
+        verify(response).setHeader("Content-Disposition", "attachment; filename=\"orders.csv\"");
+        verify(response, never()).setHeader(eq("Content-Encoding"), anyString());
+        assertEquals("id,orderTitle,orderDescription,orderPrice,orderTerm,qualificationId\r\n" +
+                     "1,\"Logo, \"\"v2\"\"\",description,1000.50,2024-03-01,3\r\n" +
+                     "2,Site,description,1000.50,2024-03-01,\r\n", body.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void doGetFreelancersWritesGzippedNdjsonWhenAccepted() throws IOException {
+        when(request.getPathInfo()).thenReturn("/freelancers");
+        when(request.getParameter("format")).thenReturn("ndjson");
+        when(request.getHeader("Accept-Encoding")).thenReturn("gzip, deflate");
+        doAnswer(invocation -> {
+            Consumer<FreelancerSimpleDto> action = invocation.getArgument(0);
+            action.accept(new FreelancerSimpleDto(1L, "Ivan", "Petrov", "ivan@example.org"));
+            action.accept(new FreelancerSimpleDto(2L, "Anna", "Smirnova", "anna@example.org"));
+            return null;
+        }).when(freelancerService).forEach(any());
+
+        servlet.doGet(request, response);
+
+        verify(response).setContentType("application/x-ndjson");
+        verify(response).setHeader("Content-Encoding", "gzip");
+        verify(response).setHeader("Vary", "Accept-Encoding");
+        verify(response).setHeader("Content-Disposition", "attachment; filename=\"freelancers.ndjson.gz\"");
+        String ndjson;
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(body.toByteArray()))) {
+            ndjson = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String[] lines = ndjson.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"freelancerEmail\":\"ivan@example.org\""));
+        assertTrue(lines[1].startsWith("{\"id\":2,"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void doGetStreamsRowsBeforeTheSourceIsExhausted() {
+        when(request.getPathInfo()).thenReturn("/freelancers");
+        doAnswer(invocation -> {
+            Consumer<FreelancerSimpleDto> action = invocation.getArgument(0);
+            for (long id = 1; id <= 10_000; id++) {
+                action.accept(new FreelancerSimpleDto(id, "Name", "Surname", id + "@example.org"));
+            }
+            assertTrue(body.size() > 0, "rows are still buffered after 10000 records");
+            return null;
+        }).when(freelancerService).forEach(any());
+
+        servlet.doGet(request, response);
+
+        verifyNoInteractions(exceptionHandler);
+        assertTrue(body.toString(StandardCharsets.UTF_8).endsWith("10000,Name,Surname,10000@example.org\r\n"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void doGetWhenSourceFailsAfterRowsWentOutThenConnectionAbortedWithoutTrailer() throws IOException {
+        when(request.getPathInfo()).thenReturn("/freelancers");
+        when(request.getHeader("Accept-Encoding")).thenReturn("gzip");
+        when(response.isCommitted()).thenReturn(true);
+        var failure = new RepositoryException(new SQLException("Mocked"));
+        doAnswer(invocation -> {
+            Consumer<FreelancerSimpleDto> action = invocation.getArgument(0);
+            for (long id = 1; id <= 10_000; id++) {
+                action.accept(new FreelancerSimpleDto(id, "Name" + id, "Surname", id + "@example.org"));
+            }
+            throw failure;
+        }).when(freelancerService).forEach(any());
+
+        var thrown = assertThrows(RepositoryException.class, () -> servlet.doGet(request, response));
+
+        assertSame(failure, thrown);
+        verifyNoInteractions(exceptionHandler);
+        verify(response, never()).reset();
+        assertTrue(body.size() > 0);
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(body.toByteArray()))) {
+            assertThrows(EOFException.class, in::readAllBytes);
+        }
+    }
+
+    @Test
+    void doGetWhenSourceFailsBeforeAnyOutputThenHandledAsError() {
+        when(request.getPathInfo()).thenReturn("/orders");
+        var failure = new RepositoryException(new SQLException("Mocked"));
+        doThrow(failure).when(orderService).forEachFiltered(any(), any());
+
+        servlet.doGet(request, response);
+
+        verify(response).reset();
+        verify(exceptionHandler).handleException(failure, response);
+        assertEquals(0, body.size());
+    }
+
+    @Test
+    void doGetUnknownTableThenNotFound() {
+        when(request.getPathInfo()).thenReturn("/qualifications");
+
+        servlet.doGet(request, response);
+
+        verify(response).setStatus(HttpServletResponse.SC_NOT_FOUND);
+        verifyNoInteractions(orderService, freelancerService);
+    }
+
+    @Test
+    void doGetUnknownFormatThenHandledAsBadRequest() {
+        when(request.getPathInfo()).thenReturn("/orders");
+        when(request.getParameter("format")).thenReturn("xml");
+
+        servlet.doGet(request, response);
+
+        verify(exceptionHandler).handleException(any(NumberFormatException.class), eq(response));
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    void doGetOrdersSortedByPriceThenHandledAsBadRequest() {
+        when(request.getPathInfo()).thenReturn("/orders");
+        when(request.getParameter("sort")).thenReturn("price");
+
+        servlet.doGet(request, response);
+
+        verify(exceptionHandler).handleException(any(NumberFormatException.class), eq(response));
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    void acceptsGzipHonoursQualityValues() {
+        assertTrue(ExportServlet.acceptsGzip("gzip"));
+        assertTrue(ExportServlet.acceptsGzip("deflate, GZIP;q=0.8"));
+        assertTrue(ExportServlet.acceptsGzip("*"));
+        assertFalse(ExportServlet.acceptsGzip(null));
+        assertFalse(ExportServlet.acceptsGzip("deflate, br"));
+        assertFalse(ExportServlet.acceptsGzip("gzip;q=0"));
+    }
+
+    private static OrderDto order(Long id, String title, Long qualificationId) {
+        var dto = new OrderDto();
+        dto.setId(id);
+        dto.setOrderTitle(title);
+        dto.setOrderDescription("description");
+        dto.setOrderPrice(new BigDecimal("1000.50"));
+        dto.setOrderTerm(LocalDate.of(2024, 3, 1));
+        if (qualificationId != null) {
+            dto.setQualification(new QualificationSimpleDto(qualificationId, "Design"));
+        }
+        return dto;
+    }
+
+    private static ServletOutputStream servletOutputStream(ByteArrayOutputStream target) {
+        return new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void write(int b) {
+                target.write(b);
+            }
+
+            @Override
+            public void write(byte[] buffer, int offset, int length) {
+                target.write(buffer, offset, length);
+            }
+        };
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.servlet;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.exception.PayloadTooLargeException;
+import org.example.service.FreelancerService;
+import org.example.service.dto.FreelancerDto;
+import org.example.service.dto.FreelancerImportIssueDto;
+import org.example.service.dto.FreelancerImportOutcome;
+import org.example.service.dto.FreelancerImportResultDto;
+import org.example.servlet.handler.ExceptionHandler;
+import org.example.servlet.mapper.FreelancerJsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FreelancerImportServletTest {
+    @Mock
+    private FreelancerService service;
+    @Mock
+    private FreelancerJsonMapper jsonMapper;
+    @Mock
+    private ExceptionHandler exceptionHandler;
+    @Mock
+    private HttpServletRequest request;
+    @Mock
+    private HttpServletResponse response;
+    @Mock
+    private ServletOutputStream outputStream;
+
+    private FreelancerImportServlet servlet;
+
+    @BeforeEach
+    void setup() {
+        servlet = new FreelancerImportServlet(service, jsonMapper, exceptionHandler);
+    }
+
+    @Test
+    void doPostWritesPerRecordOutcomes() throws IOException {
+        Iterator<FreelancerDto> dtos = Collections.emptyIterator();
+        var result = new FreelancerImportResultDto(1, 1, 0, new long[]{5, 0},
+                List.of(new FreelancerImportIssueDto(1, FreelancerImportOutcome.DUPLICATE_EMAIL, "Email already registered")));
+        when(request.getInputStream()).thenReturn(ServletUtilTest.servletInputStream("[]".getBytes()));
+        when(jsonMapper.readDtos(any(InputStream.class))).thenReturn(dtos);
+        when(service.importAll(any())).thenReturn(result);
+        when(response.getOutputStream()).thenReturn(outputStream);
+
+        servlet.doPost(request, response);
+
+        verify(response, times(1)).setStatus(HttpServletResponse.SC_OK);
+        verify(jsonMapper, times(1)).writeJson(result, outputStream);
+    }
+
+    @Test
+    void doPostWhenStoringStoppedThenInternalErrorWithOutcomesSoFar() throws IOException {
+        Iterator<FreelancerDto> dtos = Collections.emptyIterator();
+        var result = new FreelancerImportResultDto(1, 0, 1, new long[]{5},
+                List.of(new FreelancerImportIssueDto(1, FreelancerImportOutcome.FAILED, "Storage failed")), 1);
+        when(request.getInputStream()).thenReturn(ServletUtilTest.servletInputStream("[]".getBytes()));
+        when(jsonMapper.readDtos(any(InputStream.class))).thenReturn(dtos);
+        when(service.importAll(any())).thenReturn(result);
+        when(response.getOutputStream()).thenReturn(outputStream);
+
+        servlet.doPost(request, response);
+
+        verify(response, times(1)).setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        verify(jsonMapper, times(1)).writeJson(result, outputStream);
+    }
+
+    @Test
+    void doPostWhenBodyOutgrowsLimitWhileParsingThenPayloadTooLarge() throws IOException {
+        Iterator<FreelancerDto> dtos = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                throw new RuntimeException("Read failed", new PayloadTooLargeException(10));
+            }
+
+            @Override
+            public FreelancerDto next() {
+                throw new NoSuchElementException();
+            }
+        };
+        var result = new FreelancerImportResultDto(0, 0, 1, new long[0],
+                List.of(new FreelancerImportIssueDto(0, FreelancerImportOutcome.INVALID, "Unreadable record")));
+        when(request.getInputStream()).thenReturn(ServletUtilTest.servletInputStream("[]".getBytes()));
+        when(jsonMapper.readDtos(any(InputStream.class))).thenReturn(dtos);
+        when(service.importAll(any())).thenAnswer(invocation -> {
+            Iterator<FreelancerDto> records = invocation.getArgument(0);
+            assertThrows(RuntimeException.class, records::hasNext);
+            return result;
+        });
+        when(response.getOutputStream()).thenReturn(outputStream);
+
+        servlet.doPost(request, response);
+
+        verify(response, times(1)).setStatus(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+        verify(jsonMapper, times(1)).writeJson(result, outputStream);
+    }
+
+    @Test
+    void doPostWhenDeclaredBodyTooLargeThenHandledBeforeParsing() throws IOException {
+        when(request.getContentLengthLong()).thenReturn(Long.MAX_VALUE);
+
+        servlet.doPost(request, response);
+
+        verify(exceptionHandler, times(1)).handleException(any(PayloadTooLargeException.class), eq(response));
+        verifyNoInteractions(jsonMapper, service);
+    }
+}
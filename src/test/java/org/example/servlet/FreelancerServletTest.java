@@ -1,23 +1,33 @@
 package org.example.servlet;
 
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.example.db.impl.ConnectionManagerImpl;
+import org.example.repository.cache.TableVersions;
+import org.example.repository.cache.impl.TableVersionsImpl;
 import org.example.service.FreelancerService;
 import org.example.service.dto.*;
+import org.example.servlet.executor.impl.DirectRequestExecutor;
 import org.example.servlet.handler.ExceptionHandler;
+import org.example.servlet.mapper.JsonArrayWriter;
 import org.example.servlet.mapper.FreelancerJsonMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -34,16 +44,20 @@ class FreelancerServletTest {
     private HttpServletRequest request;
     @Mock
     private HttpServletResponse response;
+    @Mock
+    private ServletOutputStream outputStream;
     private FreelancerServlet servlet;
 
     private static final String JSON_CONTENT_TYPE = "application/json";
     private static final String PARAMETER_ID = "id";
+    private static final int DEFAULT_LIMIT = 50;
     private static final String JSON_TEST = "test";
     private static final Long LONG_ID = 1L;
 
     @BeforeEach
     void setup() {
-        servlet = new FreelancerServlet(service, jsonMapper, exceptionHandler);
+        servlet = new FreelancerServlet(service, jsonMapper, exceptionHandler, new DirectRequestExecutor(),
+                new TableVersionsImpl(16));
     }
 
     @Test
@@ -58,27 +72,51 @@ class FreelancerServletTest {
     }
 
     @Test
-    void doGetWhenParameterPresentAndValidThenReturnDto() {
+    void doGetWhenParameterPresentAndValidThenReturnDto() throws IOException {
         var dtoMock = mock(FreelancerDto.class);
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
             when(request.getParameter(PARAMETER_ID)).thenReturn(String.valueOf(LONG_ID));
             when(service.findById(LONG_ID)).thenReturn(dtoMock);
-            when(jsonMapper.toJson(dtoMock)).thenReturn(JSON_TEST);
+            when(response.getOutputStream()).thenReturn(outputStream);
 
             servlet.doGet(request, response);
 
             verify(request, times(1)).getParameter(PARAMETER_ID);
             verify(service, times(1)).findById(LONG_ID);
-            verify(jsonMapper, times(1)).toJson(dtoMock);
+            verify(jsonMapper, times(1)).writeJson(dtoMock, outputStream);
             verify(response, times(1)).setContentType(JSON_CONTENT_TYPE);
             verify(response, times(1)).setStatus(HttpServletResponse.SC_OK);
-            mockedStatic.verify(() -> ServletUtil.sendJsonResponse(anyString(), eq(response)), times(1));
         }
     }
 
     @Test
-    void doGetWhenParameterInvalidThenHandleNumberFormatException() {
+    void doGetWhenSeveralIdsThenReturnDtosInRequestOrder() throws IOException {
+        List<FreelancerDto> dtos = List.of(new FreelancerDto(), new FreelancerDto());
+
+        when(request.getParameter(PARAMETER_ID)).thenReturn("3, 1,3");
+        when(service.findAllById(new LinkedHashSet<>(List.of(3L, 1L)))).thenReturn(dtos);
+        when(response.getOutputStream()).thenReturn(outputStream);
+
+        servlet.doGet(request, response);
+
+        verify(service, never()).findById(any());
+        verify(jsonMapper, times(1)).writeDtoListJson(dtos, outputStream);
+        verify(response, times(1)).setStatus(HttpServletResponse.SC_OK);
+    }
+
+    @Test
+    void doGetWhenSeveralIdsInvalidThenHandleNumberFormatException() throws IOException {
+        when(request.getParameter(PARAMETER_ID)).thenReturn("1,x");
+
+        servlet.doGet(request, response);
+
+        verify(service, never()).findAllById(any());
+        verify(exceptionHandler, times(1)).handleException(any(NumberFormatException.class), eq(response));
+    }
+
+    @Test
+    void doGetWhenParameterInvalidThenHandleNumberFormatException() throws IOException {
         when(request.getParameter(PARAMETER_ID)).thenReturn("invalidId");
 
         servlet.doGet(request, response);
@@ -88,7 +126,7 @@ class FreelancerServletTest {
     }
 
     @Test
-    void doGetWhenNullDtoThenResponseNotFound() {
+    void doGetWhenNullDtoThenResponseNotFound() throws IOException {
         when(request.getParameter(PARAMETER_ID)).thenReturn(String.valueOf(LONG_ID));
         when(service.findById(LONG_ID)).thenReturn(null);
 
@@ -100,155 +138,252 @@ class FreelancerServletTest {
     }
 
     @Test
-    void doGetWhenParameterAbsentThenReturnList() {
+    void doGetWhenParameterAbsentThenReturnList() throws IOException {
         List<FreelancerSimpleDto> orders = Arrays.asList(new FreelancerSimpleDto(), new FreelancerSimpleDto());
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
             when(request.getParameter(PARAMETER_ID)).thenReturn(null);
-            when(service.findAll()).thenReturn(orders);
-            when(jsonMapper.toJson(orders)).thenReturn(JSON_TEST);
+            when(service.findPage(0L, DEFAULT_LIMIT)).thenReturn(orders);
+            when(response.getOutputStream()).thenReturn(outputStream);
 
             servlet.doGet(request, response);
 
             verify(request, times(1)).getParameter(PARAMETER_ID);
-            verify(service, times(1)).findAll();
-            verify(jsonMapper, times(1)).toJson(orders);
+            verify(service, times(1)).findPage(0L, DEFAULT_LIMIT);
+            verify(jsonMapper, times(1)).writeJson(orders, outputStream);
             verify(response, times(1)).setContentType(JSON_CONTENT_TYPE);
             verify(response, times(1)).setStatus(HttpServletResponse.SC_OK);
-            mockedStatic.verify(() -> ServletUtil.sendJsonResponse(anyString(), eq(response)));
         }
 
     }
 
     @Test
-    void doGetWhenEmptyListThenResponseNotFound() {
+    void doGetWhenPageFullThenSetNextLink() throws IOException {
+        var first = new FreelancerSimpleDto();
+        first.setId(3L);
+        var last = new FreelancerSimpleDto();
+        last.setId(7L);
+        List<FreelancerSimpleDto> page = Arrays.asList(first, last);
+
+        try (MockedStatic<ServletUtil> ignored = mockStatic(ServletUtil.class)) {
+            when(request.getParameter(PARAMETER_ID)).thenReturn(null);
+            when(request.getParameter("stream")).thenReturn(null);
+            when(request.getParameter("include")).thenReturn(null);
+        when(request.getParameter("after")).thenReturn("2");
+            when(request.getParameter("limit")).thenReturn("2");
+            when(request.getRequestURI()).thenReturn("/freelancers");
+            when(service.findPage(2L, 2)).thenReturn(page);
+
+            servlet.doGet(request, response);
+
+            verify(service, times(1)).findPage(2L, 2);
+            verify(response, times(1)).setHeader("Link", "</freelancers?after=7&limit=2>; rel=\"next\"");
+            verify(response, times(1)).setStatus(HttpServletResponse.SC_OK);
+        }
+    }
+
+    @Test
+    void doGetWhenIncludeQualificationsThenReturnFullDtos() throws IOException {
+        var first = new FreelancerDto();
+        first.setId(3L);
+        var last = new FreelancerDto();
+        last.setId(7L);
+        List<FreelancerDto> page = Arrays.asList(first, last);
+
+        when(request.getParameter(PARAMETER_ID)).thenReturn(null);
+        when(request.getParameter("stream")).thenReturn(null);
+        when(request.getParameter("include")).thenReturn("qualifications");
+        when(request.getParameter("after")).thenReturn(null);
+        when(request.getParameter("limit")).thenReturn("2");
+        when(request.getRequestURI()).thenReturn("/freelancers");
+        when(request.getQueryString()).thenReturn("include=qualifications&limit=2");
+        when(service.findPageWithQualifications(0L, 2)).thenReturn(page);
+
+        servlet.doGet(request, response);
+
+        verify(service, never()).findPage(anyLong(), anyInt());
+        verify(jsonMapper, times(1)).writeDtoListJson(eq(page), any());
+        verify(response, times(1)).setHeader("Link",
+                "</freelancers?include=qualifications&after=7&limit=2>; rel=\"next\"");
+        verify(response, times(1)).setStatus(HttpServletResponse.SC_OK);
+    }
+
+    @Test
+    void doGetWhenIncludeUnknownThenHandleNumberFormatException() throws IOException {
+        when(request.getParameter(PARAMETER_ID)).thenReturn(null);
+        when(request.getParameter("stream")).thenReturn(null);
+        when(request.getParameter("include")).thenReturn("orders");
+
+        servlet.doGet(request, response);
+
+        verify(service, never()).findPageWithQualifications(anyLong(), anyInt());
+        verify(exceptionHandler, times(1)).handleException(any(NumberFormatException.class), eq(response));
+    }
+
+    @Test
+    void doGetWhenLimitInvalidThenHandleNumberFormatException() throws IOException {
+        when(request.getParameter(PARAMETER_ID)).thenReturn(null);
+        when(request.getParameter("stream")).thenReturn(null);
+        when(request.getParameter("include")).thenReturn(null);
+        when(request.getParameter("after")).thenReturn(null);
+        when(request.getParameter("limit")).thenReturn("0");
+
+        servlet.doGet(request, response);
+
+        verify(service, never()).findPage(anyLong(), anyInt());
+        verify(exceptionHandler, times(1)).handleException(any(NumberFormatException.class), eq(response));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void doGetWhenStreamThenWriteEveryRowToOutputStream() throws IOException {
+        var dto = new FreelancerSimpleDto();
+        JsonArrayWriter<FreelancerSimpleDto> writer = mock(JsonArrayWriter.class);
+
+        when(request.getParameter(PARAMETER_ID)).thenReturn(null);
+        when(request.getParameter("stream")).thenReturn("true");
+        when(response.getOutputStream()).thenReturn(outputStream);
+        when(jsonMapper.openJsonArray(outputStream)).thenReturn(writer);
+        doAnswer(invocation -> {
+            ((Consumer<FreelancerSimpleDto>) invocation.getArgument(0)).accept(dto);
+            return null;
+        }).when(service).forEach(any());
+
+        servlet.doGet(request, response);
+
+        verify(writer, times(1)).write(dto);
+        verify(writer, times(1)).close();
+        verify(service, never()).findPage(anyLong(), anyInt());
+        verify(response, times(1)).setContentType(JSON_CONTENT_TYPE);
+        verify(response, times(1)).setStatus(HttpServletResponse.SC_OK);
+    }
+
+    @Test
+    void doGetWhenEmptyListThenResponseNotFound() throws IOException {
         when(request.getParameter(PARAMETER_ID)).thenReturn(null);
-        when(service.findAll()).thenReturn(new ArrayList<>());
+        when(service.findPage(0L, DEFAULT_LIMIT)).thenReturn(new ArrayList<>());
 
         servlet.doGet(request, response);
 
         verify(request, times(1)).getParameter(PARAMETER_ID);
-        verify(service, times(1)).findAll();
+        verify(service, times(1)).findPage(0L, DEFAULT_LIMIT);
         verify(response, times(1)).setStatus(HttpServletResponse.SC_NOT_FOUND);
     }
 
     @Test
-    void doGetWhenSendJsonThrowsIOExceptionThenHandleException() {
+    void doGetWhenSendJsonThrowsIOExceptionThenHandleException() throws IOException {
         var dto = mock(FreelancerDto.class);
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
             when(request.getParameter(PARAMETER_ID)).thenReturn(String.valueOf(LONG_ID));
             when(service.findById(LONG_ID)).thenReturn(dto);
-            when(jsonMapper.toJson(dto)).thenReturn(JSON_TEST);
-            mockedStatic.when(() -> ServletUtil.sendJsonResponse(JSON_TEST, response)).thenThrow(new IOException("Mocked IOException"));
+            when(response.getOutputStream()).thenReturn(outputStream);
+            doThrow(new IOException("Mocked IOException")).when(jsonMapper).writeJson(dto, outputStream);
 
             servlet.doGet(request, response);
 
             verify(request, times(1)).getParameter(PARAMETER_ID);
             verify(service, times(1)).findById(LONG_ID);
-            verify(jsonMapper, times(1)).toJson(dto);
+            verify(jsonMapper, times(1)).writeJson(dto, outputStream);
             verify(response, times(1)).setContentType(JSON_CONTENT_TYPE);
             verify(response, times(1)).setStatus(HttpServletResponse.SC_OK);
-            mockedStatic.verify(() -> ServletUtil.sendJsonResponse(anyString(), eq(response)));
             verify(exceptionHandler, times(1)).handleException(any(IOException.class), eq(response));
         }
     }
 
     @Test
-    void doPostWhenBodyPresentedAndSaveSuccessThenCreated() {
-        String jsonBody = "test";
+    void doPostWhenBodyPresentedAndSaveSuccessThenCreated() throws IOException {
+        var body = new ByteArrayInputStream(JSON_TEST.getBytes());
         var dto = spy(FreelancerDto.class);
         var dtoSaved = spy(FreelancerDto.class);
         dtoSaved.setId(1L);
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
-            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(jsonBody);
-            when(jsonMapper.toDto(jsonBody)).thenReturn(dto);
+            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(body);
+            when(jsonMapper.toDto(body)).thenReturn(dto);
             when(service.save(dto)).thenReturn(dtoSaved);
-            when(jsonMapper.toJson(dtoSaved)).thenReturn(jsonBody);
+            when(response.getOutputStream()).thenReturn(outputStream);
 
             servlet.doPost(request, response);
 
             mockedStatic.verify(() -> ServletUtil.getJsonBody(request), times(1));
-            verify(jsonMapper, times(1)).toDto(anyString());
+            verify(jsonMapper, times(1)).toDto(any(InputStream.class));
             verify(service, times(1)).save(any(FreelancerDto.class));
-            verify(jsonMapper, times(1)).toJson(any(FreelancerDto.class));
+            verify(jsonMapper, times(1)).writeJson(any(FreelancerDto.class), eq(outputStream));
             verify(response, times(1)).setContentType(JSON_CONTENT_TYPE);
             verify(response, times(1)).setStatus(HttpServletResponse.SC_CREATED);
-            mockedStatic.verify(() -> ServletUtil.sendJsonResponse(jsonBody, response), times(1));
         }
     }
 
     @Test
-    void doPostWhenBodyPresentedAndSaveFailThenBadRequest() {
-        String jsonBody = "test";
+    void doPostWhenBodyPresentedAndSaveFailThenBadRequest() throws IOException {
+        var body = new ByteArrayInputStream(JSON_TEST.getBytes());
         var dto = spy(FreelancerDto.class);
         var dtoSaved = spy(FreelancerDto.class);
         dtoSaved.setId(1L);
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
-            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(jsonBody);
-            when(jsonMapper.toDto(jsonBody)).thenReturn(dto);
+            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(body);
+            when(jsonMapper.toDto(body)).thenReturn(dto);
             when(service.save(dto)).thenReturn(null);
 
             servlet.doPost(request, response);
 
             mockedStatic.verify(() -> ServletUtil.getJsonBody(request), times(1));
-            verify(jsonMapper, times(1)).toDto(anyString());
+            verify(jsonMapper, times(1)).toDto(any(InputStream.class));
             verify(service, times(1)).save(any(FreelancerDto.class));
             verify(response, times(1)).setStatus(HttpServletResponse.SC_BAD_REQUEST);
         }
     }
 
     @Test
-    void doPostWhenBodyPresentedAndDtoIdNullThenBadRequest() {
-        String jsonBody = "test";
+    void doPostWhenBodyPresentedAndDtoIdNullThenBadRequest() throws IOException {
+        var body = new ByteArrayInputStream(JSON_TEST.getBytes());
         var dto = spy(FreelancerDto.class);
         var dtoSaved = spy(FreelancerDto.class);
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
-            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(jsonBody);
-            when(jsonMapper.toDto(jsonBody)).thenReturn(dto);
+            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(body);
+            when(jsonMapper.toDto(body)).thenReturn(dto);
             when(service.save(dto)).thenReturn(dtoSaved);
 
             servlet.doPost(request, response);
 
             mockedStatic.verify(() -> ServletUtil.getJsonBody(request), times(1));
-            verify(jsonMapper, times(1)).toDto(anyString());
+            verify(jsonMapper, times(1)).toDto(any(InputStream.class));
             verify(service, times(1)).save(any(FreelancerDto.class));
             verify(response, times(1)).setStatus(HttpServletResponse.SC_BAD_REQUEST);
         }
     }
 
     @Test
-    void doPostWhenSendJsonThrowsIOThenHandleException() {
-        String jsonBody = "test";
+    void doPostWhenSendJsonThrowsIOThenHandleException() throws IOException {
+        var body = new ByteArrayInputStream(JSON_TEST.getBytes());
         var dto = spy(FreelancerDto.class);
         var dtoSaved = spy(FreelancerDto.class);
         dtoSaved.setId(1L);
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
-            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(jsonBody);
-            when(jsonMapper.toDto(jsonBody)).thenReturn(dto);
+            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(body);
+            when(jsonMapper.toDto(body)).thenReturn(dto);
             when(service.save(dto)).thenReturn(dtoSaved);
-            when(jsonMapper.toJson(dtoSaved)).thenReturn(jsonBody);
-            mockedStatic.when(() -> ServletUtil.sendJsonResponse(jsonBody, response)).thenThrow(new IOException("Mocked"));
+            when(response.getOutputStream()).thenReturn(outputStream);
+            doThrow(new IOException("Mocked")).when(jsonMapper).writeJson(dtoSaved, outputStream);
 
             servlet.doPost(request, response);
 
             mockedStatic.verify(() -> ServletUtil.getJsonBody(request), times(1));
-            verify(jsonMapper, times(1)).toDto(anyString());
+            verify(jsonMapper, times(1)).toDto(any(InputStream.class));
             verify(service, times(1)).save(any(FreelancerDto.class));
-            verify(jsonMapper, times(1)).toJson(any(FreelancerDto.class));
+            verify(jsonMapper, times(1)).writeJson(any(FreelancerDto.class), eq(outputStream));
             verify(response, times(1)).setContentType(JSON_CONTENT_TYPE);
             verify(response, times(1)).setStatus(HttpServletResponse.SC_CREATED);
-            mockedStatic.verify(() -> ServletUtil.sendJsonResponse(anyString(), eq(response)));
             verify(exceptionHandler, times(1)).handleException(any(IOException.class), eq(response));
         }
     }
 
     @Test
-    void doPostWhenGetJsonBodyThrowsIOThenHandleException() {
+    void doPostWhenGetJsonBodyThrowsIOThenHandleException() throws IOException {
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
             mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenThrow(new IOException("Mock"));
 
@@ -260,65 +395,65 @@ class FreelancerServletTest {
     }
 
     @Test
-    void doPutWhenBodyPresentedAndUpdateSuccessThenCreated() {
-        String jsonBody = "test";
+    void doPutWhenBodyPresentedAndUpdateSuccessThenCreated() throws IOException {
+        var body = new ByteArrayInputStream(JSON_TEST.getBytes());
         var dtoUpdate = spy(FreelancerDto.class);
         dtoUpdate.setId(1L);
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
-            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(jsonBody);
-            when(jsonMapper.toDto(jsonBody)).thenReturn(dtoUpdate);
+            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(body);
+            when(jsonMapper.toDto(body)).thenReturn(dtoUpdate);
             when(service.update(dtoUpdate)).thenReturn(true);
 
             servlet.doPut(request, response);
 
             mockedStatic.verify(() -> ServletUtil.getJsonBody(request), times(1));
-            verify(jsonMapper, times(1)).toDto(anyString());
+            verify(jsonMapper, times(1)).toDto(any(InputStream.class));
             verify(service, times(1)).update(any(FreelancerDto.class));
             verify(response, times(1)).setStatus(HttpServletResponse.SC_OK);
         }
     }
 
     @Test
-    void doPutWhenBodyPresentedAndUpdateFailThenBadRequest() {
-        String jsonBody = "test";
+    void doPutWhenBodyPresentedAndUpdateFailThenBadRequest() throws IOException {
+        var body = new ByteArrayInputStream(JSON_TEST.getBytes());
         var dtoUpdate = spy(FreelancerDto.class);
         dtoUpdate.setId(1L);
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
-            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(jsonBody);
-            when(jsonMapper.toDto(jsonBody)).thenReturn(dtoUpdate);
+            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(body);
+            when(jsonMapper.toDto(body)).thenReturn(dtoUpdate);
             when(service.update(dtoUpdate)).thenReturn(false);
 
             servlet.doPut(request, response);
 
             mockedStatic.verify(() -> ServletUtil.getJsonBody(request), times(1));
-            verify(jsonMapper, times(1)).toDto(anyString());
+            verify(jsonMapper, times(1)).toDto(any(InputStream.class));
             verify(service, times(1)).update(any(FreelancerDto.class));
             verify(response, times(1)).setStatus(HttpServletResponse.SC_BAD_REQUEST);
         }
     }
 
     @Test
-    void doPutWhenBodyPresentedButWithNullIdThenBadRequest() {
-        String jsonBody = "test";
+    void doPutWhenBodyPresentedButWithNullIdThenBadRequest() throws IOException {
+        var body = new ByteArrayInputStream(JSON_TEST.getBytes());
         var dto = spy(FreelancerDto.class);
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
-            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(jsonBody);
-            when(jsonMapper.toDto(jsonBody)).thenReturn(dto);
+            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(body);
+            when(jsonMapper.toDto(body)).thenReturn(dto);
 
             servlet.doPut(request, response);
 
             mockedStatic.verify(() -> ServletUtil.getJsonBody(request), times(1));
-            verify(jsonMapper, times(1)).toDto(jsonBody);
+            verify(jsonMapper, times(1)).toDto(body);
             verify(service, never()).update(any(FreelancerDto.class));
             verify(response, times(1)).setStatus(HttpServletResponse.SC_BAD_REQUEST);
         }
     }
 
     @Test
-    void doPutWhenGetJsonBodyThrowsIOThenHandleException() {
+    void doPutWhenGetJsonBodyThrowsIOThenHandleException() throws IOException {
         var dtoSaved = spy(FreelancerDto.class);
         dtoSaved.setId(1L);
 
@@ -333,7 +468,7 @@ class FreelancerServletTest {
     }
 
     @Test
-    void doDeleteWhenParameterInvalidThenHandleNumberFormatException() {
+    void doDeleteWhenParameterInvalidThenHandleNumberFormatException() throws IOException {
         when(request.getParameter(PARAMETER_ID)).thenReturn("invalidId");
 
         servlet.doDelete(request, response);
@@ -343,7 +478,7 @@ class FreelancerServletTest {
     }
 
     @Test
-    void doDeleteWhenParameterValidThenDelete() {
+    void doDeleteWhenParameterValidThenDelete() throws IOException {
         when(request.getParameter(PARAMETER_ID)).thenReturn(String.valueOf(LONG_ID));
         when(service.delete(LONG_ID)).thenReturn(true);
         servlet.doDelete(request, response);
@@ -354,7 +489,7 @@ class FreelancerServletTest {
     }
 
     @Test
-    void doDeleteWhenNoSuchDtoThenResponseBadRequest() {
+    void doDeleteWhenNoSuchDtoThenResponseBadRequest() throws IOException {
         when(request.getParameter(PARAMETER_ID)).thenReturn(String.valueOf(LONG_ID));
         when(service.delete(LONG_ID)).thenReturn(false);
 
@@ -364,4 +499,67 @@ class FreelancerServletTest {
         verify(service, times(1)).delete(LONG_ID);
         verify(response, times(1)).setStatus(HttpServletResponse.SC_BAD_REQUEST);
     }
-}
\ No newline at end of file
+
+    @Test
+    void doGetWhenTagStillMatchesThenNotModifiedWithoutLoading() throws IOException {
+        var versions = new TableVersionsImpl(16);
+        var conditional = new FreelancerServlet(service, jsonMapper, exceptionHandler,
+                new DirectRequestExecutor(), versions);
+        var dto = new FreelancerDto();
+        when(request.getParameter(PARAMETER_ID)).thenReturn(String.valueOf(LONG_ID));
+        when(service.findById(LONG_ID)).thenReturn(dto);
+        when(response.getOutputStream()).thenReturn(outputStream);
+
+        conditional.doGet(request, response);
+        var tag = ArgumentCaptor.forClass(String.class);
+        verify(response).setHeader(eq("ETag"), tag.capture());
+        versions.changed(TableVersions.Table.FREELANCER, LONG_ID + 1);
+        versions.changed(TableVersions.Table.ORDER);
+        when(request.getHeader("If-None-Match")).thenReturn("\"other\", W/" + tag.getValue());
+        conditional.doGet(request, response);
+
+        verify(response, times(1)).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        verify(service, times(1)).findById(LONG_ID);
+        verify(jsonMapper, times(1)).writeJson(dto, outputStream);
+    }
+
+    @Test
+    void doGetWhenFreelancerOrQualificationChangedThenTagNoLongerMatches() throws IOException {
+        var versions = new TableVersionsImpl(16);
+        var conditional = new FreelancerServlet(service, jsonMapper, exceptionHandler,
+                new DirectRequestExecutor(), versions);
+        var dto = new FreelancerDto();
+        when(request.getParameter(PARAMETER_ID)).thenReturn(String.valueOf(LONG_ID));
+        when(service.findById(LONG_ID)).thenReturn(dto);
+        when(response.getOutputStream()).thenReturn(outputStream);
+
+        conditional.doGet(request, response);
+        var tags = ArgumentCaptor.forClass(String.class);
+        verify(response).setHeader(eq("ETag"), tags.capture());
+        when(request.getHeader("If-None-Match")).thenReturn(tags.getValue());
+        versions.changed(TableVersions.Table.FREELANCER, LONG_ID);
+        conditional.doGet(request, response);
+        versions.changed(TableVersions.Table.QUALIFICATION, 7L);
+        conditional.doGet(request, response);
+
+        verify(response, never()).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        verify(service, times(3)).findById(LONG_ID);
+        verify(response, times(3)).setHeader(eq("ETag"), tags.capture());
+        assertEquals(3, new LinkedHashSet<>(tags.getAllValues()).size());
+    }
+
+    @Test
+    void doGetWhenListTagMatchesThenNotModifiedWithoutLoading() {
+        var versions = new TableVersionsImpl(16);
+        versions.changed(TableVersions.Table.FREELANCER, 5L);
+        var conditional = new FreelancerServlet(service, jsonMapper, exceptionHandler,
+                new DirectRequestExecutor(), versions);
+        when(request.getHeader("If-None-Match")).thenReturn(EntityTag.of(versions, 1L));
+
+        conditional.doGet(request, response);
+
+        verify(response, times(1)).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        verify(response, times(1)).setHeader("ETag", EntityTag.of(versions, 1L));
+        verifyNoInteractions(service, jsonMapper);
+    }
+}
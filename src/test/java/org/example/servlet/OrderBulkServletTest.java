@@ -0,0 +1,132 @@
+package org.example.servlet;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.exception.PayloadTooLargeException;
+import org.example.service.OrderService;
+import org.example.service.dto.OrderBulkResultDto;
+import org.example.service.dto.OrderDto;
+import org.example.servlet.handler.ExceptionHandler;
+import org.example.servlet.mapper.OrderJsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderBulkServletTest {
+    @Mock
+    private OrderService service;
+    @Mock
+    private OrderJsonMapper jsonMapper;
+    @Mock
+    private ExceptionHandler exceptionHandler;
+    @Mock
+    private HttpServletRequest request;
+    @Mock
+    private HttpServletResponse response;
+    @Mock
+    private ServletOutputStream outputStream;
+
+    private OrderBulkServlet servlet;
+
+    @BeforeEach
+    void setup() {
+        servlet = new OrderBulkServlet(service, jsonMapper, exceptionHandler);
+    }
+
+    @Test
+    void doPostWhenAllRecordsSavedThenCreated() throws IOException {
+        Iterator<OrderDto> dtos = Collections.emptyIterator();
+        var result = new OrderBulkResultDto(new long[]{1, 2}, null, null);
+        when(request.getInputStream()).thenReturn(ServletUtilTest.servletInputStream("[]".getBytes()));
+        when(jsonMapper.readDtos(any(InputStream.class))).thenReturn(dtos);
+        when(service.saveAll(any())).thenReturn(result);
+        when(response.getOutputStream()).thenReturn(outputStream);
+
+        servlet.doPost(request, response);
+
+        verify(response, times(1)).setStatus(HttpServletResponse.SC_CREATED);
+        verify(jsonMapper, times(1)).writeJson(result, outputStream);
+    }
+
+    @Test
+    void doPostWhenRecordRejectedThenBadRequestWithSavedIds() throws IOException {
+        Iterator<OrderDto> dtos = Collections.emptyIterator();
+        var result = new OrderBulkResultDto(new long[]{1}, 1, "orderTitle is required");
+        when(request.getInputStream()).thenReturn(ServletUtilTest.servletInputStream("[]".getBytes()));
+        when(jsonMapper.readDtos(any(InputStream.class))).thenReturn(dtos);
+        when(service.saveAll(any())).thenReturn(result);
+        when(response.getOutputStream()).thenReturn(outputStream);
+
+        servlet.doPost(request, response);
+
+        verify(response, times(1)).setStatus(HttpServletResponse.SC_BAD_REQUEST);
+        verify(jsonMapper, times(1)).writeJson(result, outputStream);
+    }
+
+    @Test
+    void doPostWhenChunkNotStoredThenInternalErrorWithSavedIds() throws IOException {
+        Iterator<OrderDto> dtos = Collections.emptyIterator();
+        var result = new OrderBulkResultDto(new long[]{1, 2}, 2, "Records from index 2 were not saved", true);
+        when(request.getInputStream()).thenReturn(ServletUtilTest.servletInputStream("[]".getBytes()));
+        when(jsonMapper.readDtos(any(InputStream.class))).thenReturn(dtos);
+        when(service.saveAll(any())).thenReturn(result);
+        when(response.getOutputStream()).thenReturn(outputStream);
+
+        servlet.doPost(request, response);
+
+        verify(response, times(1)).setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        verify(jsonMapper, times(1)).writeJson(result, outputStream);
+    }
+
+    @Test
+    void doPostWhenBodyOutgrowsLimitWhileParsingThenPayloadTooLargeWithSavedIds() throws IOException {
+        Iterator<OrderDto> dtos = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                throw new RuntimeException("Read failed", new PayloadTooLargeException(10));
+            }
+
+            @Override
+            public OrderDto next() {
+                throw new NoSuchElementException();
+            }
+        };
+        var result = new OrderBulkResultDto(new long[]{1}, 1, "Unreadable record: Read failed");
+        when(request.getInputStream()).thenReturn(ServletUtilTest.servletInputStream("[]".getBytes()));
+        when(jsonMapper.readDtos(any(InputStream.class))).thenReturn(dtos);
+        when(service.saveAll(any())).thenAnswer(invocation -> {
+            Iterator<OrderDto> records = invocation.getArgument(0);
+            assertThrows(RuntimeException.class, records::hasNext);
+            return result;
+        });
+        when(response.getOutputStream()).thenReturn(outputStream);
+
+        servlet.doPost(request, response);
+
+        verify(response, times(1)).setStatus(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+        verify(jsonMapper, times(1)).writeJson(result, outputStream);
+    }
+
+    @Test
+    void doPostWhenDeclaredBodyTooLargeThenHandledBeforeParsing() throws IOException {
+        when(request.getContentLengthLong()).thenReturn(Long.MAX_VALUE);
+
+        servlet.doPost(request, response);
+
+        verify(exceptionHandler, times(1)).handleException(any(PayloadTooLargeException.class), eq(response));
+        verifyNoInteractions(jsonMapper, service);
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.servlet;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.service.CandidateService;
+import org.example.service.dto.FreelancerSimpleDto;
+import org.example.servlet.handler.ExceptionHandler;
+import org.example.servlet.mapper.FreelancerJsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderCandidateServletTest {
+    @Mock
+    private CandidateService service;
+    @Mock
+    private FreelancerJsonMapper jsonMapper;
+    @Mock
+    private ExceptionHandler exceptionHandler;
+    @Mock
+    private HttpServletRequest request;
+    @Mock
+    private HttpServletResponse response;
+    @Mock
+    private ServletOutputStream outputStream;
+
+    private OrderCandidateServlet servlet;
+
+    @BeforeEach
+    void setup() {
+        servlet = new OrderCandidateServlet(service, jsonMapper, exceptionHandler);
+    }
+
+    @Test
+    void doGetWhenOrderExistsThenWritesCandidatesAndNextLink() throws IOException {
+        var first = new FreelancerSimpleDto();
+        first.setId(4L);
+        var second = new FreelancerSimpleDto();
+        second.setId(9L);
+        List<FreelancerSimpleDto> dtos = List.of(first, second);
+        when(request.getPathInfo()).thenReturn("/1/candidates");
+        when(request.getParameter("after")).thenReturn("2");
+        when(request.getParameter("limit")).thenReturn("2");
+        when(request.getRequestURI()).thenReturn("/orders/1/candidates");
+        when(service.findCandidates(1L, 2L, 2)).thenReturn(dtos);
+        when(response.getOutputStream()).thenReturn(outputStream);
+
+        servlet.doGet(request, response);
+
+        verify(response, times(1)).setHeader("Link", "</orders/1/candidates?after=9&limit=2>; rel=\"next\"");
+        verify(response, times(1)).setStatus(HttpServletResponse.SC_OK);
+        verify(jsonMapper, times(1)).writeJson(dtos, outputStream);
+    }
+
+    @Test
+    void doGetWhenOrderMissingThenNotFound() throws IOException {
+        when(request.getPathInfo()).thenReturn("/5/candidates");
+        when(service.findCandidates(5L, 0L, 50)).thenReturn(null);
+
+        servlet.doGet(request, response);
+
+        verify(response, times(1)).setStatus(HttpServletResponse.SC_NOT_FOUND);
+        verify(jsonMapper, never()).writeJson(anyList(), any());
+    }
+
+    @Test
+    void doGetWhenPathUnknownThenNotFound() {
+        when(request.getPathInfo()).thenReturn("/1/freelancers");
+
+        servlet.doGet(request, response);
+
+        verify(response, times(1)).setStatus(HttpServletResponse.SC_NOT_FOUND);
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    void doGetWhenIdInvalidThenHandlesException() {
+        when(request.getPathInfo()).thenReturn("/abc/candidates");
+
+        servlet.doGet(request, response);
+
+        verify(exceptionHandler, times(1)).handleException(any(NumberFormatException.class), eq(response));
+        verifyNoInteractions(service);
+    }
+}
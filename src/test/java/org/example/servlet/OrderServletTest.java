@@ -1,12 +1,17 @@
 package org.example.servlet;
 
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.example.db.impl.ConnectionManagerImpl;
+import org.example.model.OrderFilter;
+import org.example.model.OrderSort;
 import org.example.service.OrderService;
 import org.example.service.dto.OrderDto;
 import org.example.service.dto.OrderSimpleDto;
+import org.example.servlet.executor.impl.DirectRequestExecutor;
 import org.example.servlet.handler.ExceptionHandler;
+import org.example.servlet.mapper.JsonArrayWriter;
 import org.example.servlet.mapper.OrderJsonMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,9 +21,14 @@ import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -35,17 +45,20 @@ class OrderServletTest {
     private HttpServletRequest request;
     @Mock
     private HttpServletResponse response;
+    @Mock
+    private ServletOutputStream outputStream;
 
     private OrderServlet servlet;
 
     private static final String JSON_CONTENT_TYPE = "application/json";
     private static final String PARAMETER_ID = "id";
+    private static final int DEFAULT_LIMIT = 50;
     private static final String JSON_TEST = "test";
     private static final Long LONG_ID = 1L;
 
     @BeforeEach
     void setup() {
-        servlet = new OrderServlet(service, jsonMapper, exceptionHandler);
+        servlet = new OrderServlet(service, jsonMapper, exceptionHandler, new DirectRequestExecutor());
     }
 
     @Test
@@ -60,27 +73,51 @@ class OrderServletTest {
     }
 
     @Test
-    void doGetWhenParameterPresentAndValidThenReturnDto() {
+    void doGetWhenParameterPresentAndValidThenReturnDto() throws IOException {
         var dtoMock = mock(OrderDto.class);
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
             when(request.getParameter(PARAMETER_ID)).thenReturn(String.valueOf(LONG_ID));
             when(service.findById(LONG_ID)).thenReturn(dtoMock);
-            when(jsonMapper.toJson(dtoMock)).thenReturn(JSON_TEST);
+            when(response.getOutputStream()).thenReturn(outputStream);
 
             servlet.doGet(request, response);
 
             verify(request, times(1)).getParameter(PARAMETER_ID);
             verify(service, times(1)).findById(LONG_ID);
-            verify(jsonMapper, times(1)).toJson(dtoMock);
+            verify(jsonMapper, times(1)).writeJson(dtoMock, outputStream);
             verify(response, times(1)).setContentType(JSON_CONTENT_TYPE);
             verify(response, times(1)).setStatus(HttpServletResponse.SC_OK);
-            mockedStatic.verify(() -> ServletUtil.sendJsonResponse(anyString(), eq(response)), times(1));
         }
     }
 
     @Test
-    void doGetWhenParameterInvalidThenHandleNumberFormatException() {
+    void doGetWhenSeveralIdsThenReturnDtosInRequestOrder() throws IOException {
+        List<OrderDto> dtos = List.of(new OrderDto(), new OrderDto());
+
+        when(request.getParameter(PARAMETER_ID)).thenReturn("3, 1,3");
+        when(service.findAllById(new LinkedHashSet<>(List.of(3L, 1L)))).thenReturn(dtos);
+        when(response.getOutputStream()).thenReturn(outputStream);
+
+        servlet.doGet(request, response);
+
+        verify(service, never()).findById(any());
+        verify(jsonMapper, times(1)).writeDtoListJson(dtos, outputStream);
+        verify(response, times(1)).setStatus(HttpServletResponse.SC_OK);
+    }
+
+    @Test
+    void doGetWhenSeveralIdsInvalidThenHandleNumberFormatException() throws IOException {
+        when(request.getParameter(PARAMETER_ID)).thenReturn("1,x");
+
+        servlet.doGet(request, response);
+
+        verify(service, never()).findAllById(any());
+        verify(exceptionHandler, times(1)).handleException(any(NumberFormatException.class), eq(response));
+    }
+
+    @Test
+    void doGetWhenParameterInvalidThenHandleNumberFormatException() throws IOException {
         when(request.getParameter(PARAMETER_ID)).thenReturn("invalidId");
 
         servlet.doGet(request, response);
@@ -90,7 +127,7 @@ class OrderServletTest {
     }
 
     @Test
-    void doGetWhenNullDtoThenResponseNotFound() {
+    void doGetWhenNullDtoThenResponseNotFound() throws IOException {
         when(request.getParameter(PARAMETER_ID)).thenReturn(String.valueOf(LONG_ID));
         when(service.findById(LONG_ID)).thenReturn(null);
 
@@ -102,155 +139,288 @@ class OrderServletTest {
     }
 
     @Test
-    void doGetWhenParameterAbsentThenReturnList() {
+    void doGetWhenParameterAbsentThenReturnList() throws IOException {
         List<OrderSimpleDto> orders = Arrays.asList(new OrderSimpleDto(), new OrderSimpleDto());
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
             when(request.getParameter(PARAMETER_ID)).thenReturn(null);
-            when(service.findAll()).thenReturn(orders);
-            when(jsonMapper.toJson(orders)).thenReturn(JSON_TEST);
+            when(service.findPage(0L, DEFAULT_LIMIT)).thenReturn(orders);
+            when(response.getOutputStream()).thenReturn(outputStream);
 
             servlet.doGet(request, response);
 
             verify(request, times(1)).getParameter(PARAMETER_ID);
-            verify(service, times(1)).findAll();
-            verify(jsonMapper, times(1)).toJson(orders);
+            verify(service, times(1)).findPage(0L, DEFAULT_LIMIT);
+            verify(jsonMapper, times(1)).writeJson(orders, outputStream);
             verify(response, times(1)).setContentType(JSON_CONTENT_TYPE);
             verify(response, times(1)).setStatus(HttpServletResponse.SC_OK);
-            mockedStatic.verify(() -> ServletUtil.sendJsonResponse(anyString(), eq(response)));
         }
 
     }
 
     @Test
-    void doGetWhenEmptyListThenResponseNotFound() {
+    void doGetWhenPageFullThenSetNextLink() throws IOException {
+        var first = new OrderSimpleDto();
+        first.setId(3L);
+        var last = new OrderSimpleDto();
+        last.setId(7L);
+        List<OrderSimpleDto> page = Arrays.asList(first, last);
+
+        try (MockedStatic<ServletUtil> ignored = mockStatic(ServletUtil.class)) {
+            when(request.getParameter(PARAMETER_ID)).thenReturn(null);
+            when(request.getParameter("stream")).thenReturn(null);
+        when(request.getParameter("after")).thenReturn("2");
+            when(request.getParameter("limit")).thenReturn("2");
+            when(request.getRequestURI()).thenReturn("/orders");
+            givenNoFilter();
+            when(service.findPage(2L, 2)).thenReturn(page);
+
+            servlet.doGet(request, response);
+
+            verify(service, times(1)).findPage(2L, 2);
+            verify(response, times(1)).setHeader("Link", "</orders?after=7&limit=2>; rel=\"next\"");
+            verify(response, times(1)).setStatus(HttpServletResponse.SC_OK);
+        }
+    }
+
+    @Test
+    void doGetWhenFilterPresentThenFindFilteredAndKeepFiltersInNextLink() throws IOException {
+        var first = new OrderSimpleDto();
+        first.setId(3L);
+        var last = new OrderSimpleDto();
+        last.setId(7L);
+        List<OrderSimpleDto> page = Arrays.asList(first, last);
+        var expectedFilter = new OrderFilter(2L, new BigDecimal("1000"), null,
+                null, LocalDate.of(2024, 6, 1), OrderSort.ID, 0L, 2);
+
+        givenParameters(Map.of("qualificationId", "2", "minPrice", "1000", "termTo", "2024-06-01", "limit", "2"));
+        when(request.getRequestURI()).thenReturn("/orders");
+        when(request.getQueryString()).thenReturn("qualificationId=2&minPrice=1000&termTo=2024-06-01&limit=2");
+        when(service.findFiltered(expectedFilter)).thenReturn(page);
+        when(response.getOutputStream()).thenReturn(outputStream);
+
+        servlet.doGet(request, response);
+
+        verify(service, never()).findPage(any(), anyInt());
+        verify(response, times(1)).setHeader("Link",
+                "</orders?qualificationId=2&minPrice=1000&termTo=2024-06-01&after=7&limit=2>; rel=\"next\"");
+        verify(jsonMapper, times(1)).writeJson(page, outputStream);
+        verify(response, times(1)).setStatus(HttpServletResponse.SC_OK);
+    }
+
+    @Test
+    void doGetWhenSortedByPriceThenNoNextLink() throws IOException {
+        List<OrderSimpleDto> page = Arrays.asList(new OrderSimpleDto(), new OrderSimpleDto());
+        var expectedFilter = new OrderFilter(null, null, null, null, null, OrderSort.PRICE, 0L, 2);
+
+        givenParameters(Map.of("sort", "price", "limit", "2"));
+        when(service.findFiltered(expectedFilter)).thenReturn(page);
+        when(response.getOutputStream()).thenReturn(outputStream);
+
+        servlet.doGet(request, response);
+
+        verify(response, never()).setHeader(eq("Link"), anyString());
+        verify(jsonMapper, times(1)).writeJson(page, outputStream);
+    }
+
+    @Test
+    void doGetWhenFilterMatchesNothingThenNotFound() throws IOException {
+        var expectedFilter = new OrderFilter(2L, null, null, null, null, OrderSort.ID, 0L, 2);
+
+        givenParameters(Map.of("qualificationId", "2", "limit", "2"));
+        when(service.findFiltered(expectedFilter)).thenReturn(List.of());
+
+        servlet.doGet(request, response);
+
+        verify(response, times(1)).setStatus(HttpServletResponse.SC_NOT_FOUND);
+        verify(response, never()).setHeader(eq("Link"), anyString());
+        verify(jsonMapper, never()).writeJson(anyList(), any());
+    }
+
+    @Test
+    void doGetWhenFilterInvalidThenHandleNumberFormatException() throws IOException {
+        givenParameters(Map.of("termFrom", "tomorrow"));
+
+        servlet.doGet(request, response);
+
+        verify(service, never()).findFiltered(any());
+        verify(exceptionHandler, times(1)).handleException(any(NumberFormatException.class), eq(response));
+    }
+
+    @Test
+    void doGetWhenCursorWithPriceSortThenHandleNumberFormatException() throws IOException {
+        givenParameters(Map.of("sort", "price", "after", "5"));
+
+        servlet.doGet(request, response);
+
+        verify(service, never()).findFiltered(any());
+        verify(exceptionHandler, times(1)).handleException(any(NumberFormatException.class), eq(response));
+    }
+
+    @Test
+    void doGetWhenLimitInvalidThenHandleNumberFormatException() throws IOException {
+        when(request.getParameter(PARAMETER_ID)).thenReturn(null);
+        when(request.getParameter("stream")).thenReturn(null);
+        when(request.getParameter("after")).thenReturn(null);
+        when(request.getParameter("limit")).thenReturn("0");
+        givenNoFilter();
+
+        servlet.doGet(request, response);
+
+        verify(service, never()).findPage(anyLong(), anyInt());
+        verify(exceptionHandler, times(1)).handleException(any(NumberFormatException.class), eq(response));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void doGetWhenStreamThenWriteEveryRowToOutputStream() throws IOException {
+        var dto = new OrderSimpleDto();
+        JsonArrayWriter<OrderSimpleDto> writer = mock(JsonArrayWriter.class);
+
+        when(request.getParameter(PARAMETER_ID)).thenReturn(null);
+        when(request.getParameter("stream")).thenReturn("true");
+        when(response.getOutputStream()).thenReturn(outputStream);
+        when(jsonMapper.openJsonArray(outputStream)).thenReturn(writer);
+        doAnswer(invocation -> {
+            ((Consumer<OrderSimpleDto>) invocation.getArgument(0)).accept(dto);
+            return null;
+        }).when(service).forEach(any());
+
+        servlet.doGet(request, response);
+
+        verify(writer, times(1)).write(dto);
+        verify(writer, times(1)).close();
+        verify(service, never()).findPage(anyLong(), anyInt());
+        verify(response, times(1)).setContentType(JSON_CONTENT_TYPE);
+        verify(response, times(1)).setStatus(HttpServletResponse.SC_OK);
+    }
+
+    @Test
+    void doGetWhenEmptyListThenResponseNotFound() throws IOException {
         when(request.getParameter(PARAMETER_ID)).thenReturn(null);
-        when(service.findAll()).thenReturn(new ArrayList<>());
+        when(service.findPage(0L, DEFAULT_LIMIT)).thenReturn(new ArrayList<>());
 
         servlet.doGet(request, response);
 
         verify(request, times(1)).getParameter(PARAMETER_ID);
-        verify(service, times(1)).findAll();
+        verify(service, times(1)).findPage(0L, DEFAULT_LIMIT);
         verify(response, times(1)).setStatus(HttpServletResponse.SC_NOT_FOUND);
     }
 
     @Test
-    void doGetWhenSendJsonThrowsIOExceptionThenHandleException() {
+    void doGetWhenSendJsonThrowsIOExceptionThenHandleException() throws IOException {
         var dto = mock(OrderDto.class);
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
             when(request.getParameter(PARAMETER_ID)).thenReturn(String.valueOf(LONG_ID));
             when(service.findById(LONG_ID)).thenReturn(dto);
-            when(jsonMapper.toJson(dto)).thenReturn(JSON_TEST);
-            mockedStatic.when(() -> ServletUtil.sendJsonResponse(JSON_TEST, response)).thenThrow(new IOException("Mocked IOException"));
+            when(response.getOutputStream()).thenReturn(outputStream);
+            doThrow(new IOException("Mocked IOException")).when(jsonMapper).writeJson(dto, outputStream);
 
             servlet.doGet(request, response);
 
             verify(request, times(1)).getParameter(PARAMETER_ID);
             verify(service, times(1)).findById(LONG_ID);
-            verify(jsonMapper, times(1)).toJson(dto);
+            verify(jsonMapper, times(1)).writeJson(dto, outputStream);
             verify(response, times(1)).setContentType(JSON_CONTENT_TYPE);
             verify(response, times(1)).setStatus(HttpServletResponse.SC_OK);
-            mockedStatic.verify(() -> ServletUtil.sendJsonResponse(anyString(), eq(response)));
             verify(exceptionHandler, times(1)).handleException(any(IOException.class), eq(response));
         }
     }
 
     @Test
-    void doPostWhenBodyPresentedAndSaveSuccessThenCreated() {
-        String jsonBody = "test";
+    void doPostWhenBodyPresentedAndSaveSuccessThenCreated() throws IOException {
+        var body = new ByteArrayInputStream(JSON_TEST.getBytes());
         var dto = spy(OrderDto.class);
         var dtoSaved = spy(OrderDto.class);
         dtoSaved.setId(1L);
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
-            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(jsonBody);
-            when(jsonMapper.toDto(jsonBody)).thenReturn(dto);
+            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(body);
+            when(jsonMapper.toDto(body)).thenReturn(dto);
             when(service.save(dto)).thenReturn(dtoSaved);
-            when(jsonMapper.toJson(dtoSaved)).thenReturn(jsonBody);
+            when(response.getOutputStream()).thenReturn(outputStream);
 
             servlet.doPost(request, response);
 
             mockedStatic.verify(() -> ServletUtil.getJsonBody(request), times(1));
-            verify(jsonMapper, times(1)).toDto(anyString());
+            verify(jsonMapper, times(1)).toDto(any(InputStream.class));
             verify(service, times(1)).save(any(OrderDto.class));
-            verify(jsonMapper, times(1)).toJson(any(OrderDto.class));
+            verify(jsonMapper, times(1)).writeJson(any(OrderDto.class), eq(outputStream));
             verify(response, times(1)).setContentType(JSON_CONTENT_TYPE);
             verify(response, times(1)).setStatus(HttpServletResponse.SC_CREATED);
-            mockedStatic.verify(() -> ServletUtil.sendJsonResponse(jsonBody, response), times(1));
         }
     }
 
     @Test
-    void doPostWhenBodyPresentedAndSaveFailThenBadRequest() {
-        String jsonBody = "test";
+    void doPostWhenBodyPresentedAndSaveFailThenBadRequest() throws IOException {
+        var body = new ByteArrayInputStream(JSON_TEST.getBytes());
         var dto = spy(OrderDto.class);
         var dtoSaved = spy(OrderDto.class);
         dtoSaved.setId(1L);
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
-            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(jsonBody);
-            when(jsonMapper.toDto(jsonBody)).thenReturn(dto);
+            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(body);
+            when(jsonMapper.toDto(body)).thenReturn(dto);
             when(service.save(dto)).thenReturn(null);
 
             servlet.doPost(request, response);
 
             mockedStatic.verify(() -> ServletUtil.getJsonBody(request), times(1));
-            verify(jsonMapper, times(1)).toDto(anyString());
+            verify(jsonMapper, times(1)).toDto(any(InputStream.class));
             verify(service, times(1)).save(any(OrderDto.class));
             verify(response, times(1)).setStatus(HttpServletResponse.SC_BAD_REQUEST);
         }
     }
 
     @Test
-    void doPostWhenBodyPresentedAndDtoIdNullThenBadRequest() {
-        String jsonBody = "test";
+    void doPostWhenBodyPresentedAndDtoIdNullThenBadRequest() throws IOException {
+        var body = new ByteArrayInputStream(JSON_TEST.getBytes());
         var dto = spy(OrderDto.class);
         var dtoSaved = spy(OrderDto.class);
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
-            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(jsonBody);
-            when(jsonMapper.toDto(jsonBody)).thenReturn(dto);
+            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(body);
+            when(jsonMapper.toDto(body)).thenReturn(dto);
             when(service.save(dto)).thenReturn(dtoSaved);
 
             servlet.doPost(request, response);
 
             mockedStatic.verify(() -> ServletUtil.getJsonBody(request), times(1));
-            verify(jsonMapper, times(1)).toDto(anyString());
+            verify(jsonMapper, times(1)).toDto(any(InputStream.class));
             verify(service, times(1)).save(any(OrderDto.class));
             verify(response, times(1)).setStatus(HttpServletResponse.SC_BAD_REQUEST);
         }
     }
 
     @Test
-    void doPostWhenSendJsonThrowsIOThenHandleException() {
-        String jsonBody = "test";
+    void doPostWhenSendJsonThrowsIOThenHandleException() throws IOException {
+        var body = new ByteArrayInputStream(JSON_TEST.getBytes());
         var dto = spy(OrderDto.class);
         var dtoSaved = spy(OrderDto.class);
         dtoSaved.setId(1L);
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
-            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(jsonBody);
-            when(jsonMapper.toDto(jsonBody)).thenReturn(dto);
+            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(body);
+            when(jsonMapper.toDto(body)).thenReturn(dto);
             when(service.save(dto)).thenReturn(dtoSaved);
-            when(jsonMapper.toJson(dtoSaved)).thenReturn(jsonBody);
-            mockedStatic.when(() -> ServletUtil.sendJsonResponse(jsonBody, response)).thenThrow(new IOException("Mocked"));
+            when(response.getOutputStream()).thenReturn(outputStream);
+            doThrow(new IOException("Mocked")).when(jsonMapper).writeJson(dtoSaved, outputStream);
 
             servlet.doPost(request, response);
 
             mockedStatic.verify(() -> ServletUtil.getJsonBody(request), times(1));
-            verify(jsonMapper, times(1)).toDto(anyString());
+            verify(jsonMapper, times(1)).toDto(any(InputStream.class));
             verify(service, times(1)).save(any(OrderDto.class));
-            verify(jsonMapper, times(1)).toJson(any(OrderDto.class));
+            verify(jsonMapper, times(1)).writeJson(any(OrderDto.class), eq(outputStream));
             verify(response, times(1)).setContentType(JSON_CONTENT_TYPE);
             verify(response, times(1)).setStatus(HttpServletResponse.SC_CREATED);
-            mockedStatic.verify(() -> ServletUtil.sendJsonResponse(anyString(), eq(response)));
             verify(exceptionHandler, times(1)).handleException(any(IOException.class), eq(response));
         }
     }
 
     @Test
-    void doPostWhenGetJsonBodyThrowsIOThenHandleException() {
+    void doPostWhenGetJsonBodyThrowsIOThenHandleException() throws IOException {
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
             mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenThrow(new IOException("Mock"));
 
@@ -262,65 +432,65 @@ class OrderServletTest {
     }
 
     @Test
-    void doPutWhenBodyPresentedAndUpdateSuccessThenCreated() {
-        String jsonBody = "test";
+    void doPutWhenBodyPresentedAndUpdateSuccessThenCreated() throws IOException {
+        var body = new ByteArrayInputStream(JSON_TEST.getBytes());
         var dtoUpdate = spy(OrderDto.class);
         dtoUpdate.setId(1L);
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
-            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(jsonBody);
-            when(jsonMapper.toDto(jsonBody)).thenReturn(dtoUpdate);
+            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(body);
+            when(jsonMapper.toDto(body)).thenReturn(dtoUpdate);
             when(service.update(dtoUpdate)).thenReturn(true);
 
             servlet.doPut(request, response);
 
             mockedStatic.verify(() -> ServletUtil.getJsonBody(request), times(1));
-            verify(jsonMapper, times(1)).toDto(anyString());
+            verify(jsonMapper, times(1)).toDto(any(InputStream.class));
             verify(service, times(1)).update(any(OrderDto.class));
             verify(response, times(1)).setStatus(HttpServletResponse.SC_OK);
         }
     }
 
     @Test
-    void doPutWhenBodyPresentedAndUpdateFailThenBadRequest() {
-        String jsonBody = "test";
+    void doPutWhenBodyPresentedAndUpdateFailThenBadRequest() throws IOException {
+        var body = new ByteArrayInputStream(JSON_TEST.getBytes());
         var dtoUpdate = spy(OrderDto.class);
         dtoUpdate.setId(1L);
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
-            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(jsonBody);
-            when(jsonMapper.toDto(jsonBody)).thenReturn(dtoUpdate);
+            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(body);
+            when(jsonMapper.toDto(body)).thenReturn(dtoUpdate);
             when(service.update(dtoUpdate)).thenReturn(false);
 
             servlet.doPut(request, response);
 
             mockedStatic.verify(() -> ServletUtil.getJsonBody(request), times(1));
-            verify(jsonMapper, times(1)).toDto(anyString());
+            verify(jsonMapper, times(1)).toDto(any(InputStream.class));
             verify(service, times(1)).update(any(OrderDto.class));
             verify(response, times(1)).setStatus(HttpServletResponse.SC_BAD_REQUEST);
         }
     }
 
     @Test
-    void doPutWhenBodyPresentedMapperReturnNullThenBadRequest() {
-        String jsonBody = "test";
+    void doPutWhenBodyPresentedMapperReturnNullThenBadRequest() throws IOException {
+        var body = new ByteArrayInputStream(JSON_TEST.getBytes());
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
-            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(jsonBody);
-            when(jsonMapper.toDto(jsonBody)).thenReturn(null);
+            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(body);
+            when(jsonMapper.toDto(body)).thenReturn(null);
             when(service.update(null)).thenReturn(false);
 
             servlet.doPut(request, response);
 
             mockedStatic.verify(() -> ServletUtil.getJsonBody(request), times(1));
-            verify(jsonMapper, times(1)).toDto(jsonBody);
+            verify(jsonMapper, times(1)).toDto(body);
             verify(service, times(1)).update(null);
             verify(response, times(1)).setStatus(HttpServletResponse.SC_BAD_REQUEST);
         }
     }
 
     @Test
-    void doPutWhenGetJsonBodyThrowsIOThenHandleException() {
+    void doPutWhenGetJsonBodyThrowsIOThenHandleException() throws IOException {
         var dtoSaved = spy(OrderDto.class);
         dtoSaved.setId(1L);
 
@@ -335,7 +505,7 @@ class OrderServletTest {
     }
 
     @Test
-    void doDeleteWhenParameterInvalidThenHandleNumberFormatException() {
+    void doDeleteWhenParameterInvalidThenHandleNumberFormatException() throws IOException {
         when(request.getParameter(PARAMETER_ID)).thenReturn("invalidId");
 
         servlet.doDelete(request, response);
@@ -345,7 +515,7 @@ class OrderServletTest {
     }
 
     @Test
-    void doDeleteWhenParameterValidThenDelete() {
+    void doDeleteWhenParameterValidThenDelete() throws IOException {
         when(request.getParameter(PARAMETER_ID)).thenReturn(String.valueOf(LONG_ID));
         when(service.delete(LONG_ID)).thenReturn(true);
         servlet.doDelete(request, response);
@@ -356,7 +526,7 @@ class OrderServletTest {
     }
 
     @Test
-    void doDeleteWhenNoSuchDtoThenResponseBadRequest() {
+    void doDeleteWhenNoSuchDtoThenResponseBadRequest() throws IOException {
         when(request.getParameter(PARAMETER_ID)).thenReturn(String.valueOf(LONG_ID));
         when(service.delete(LONG_ID)).thenReturn(false);
 
@@ -366,4 +536,14 @@ class OrderServletTest {
         verify(service, times(1)).delete(LONG_ID);
         verify(response, times(1)).setStatus(HttpServletResponse.SC_BAD_REQUEST);
     }
-}
\ No newline at end of file
+
+    private void givenParameters(Map<String, String> parameters) {
+        when(request.getParameter(anyString())).thenAnswer(invocation -> parameters.get(invocation.<String>getArgument(0)));
+    }
+
+    private void givenNoFilter() {
+        for (String parameter : new String[]{"qualificationId", "minPrice", "maxPrice", "termFrom", "termTo", "sort"}) {
+            when(request.getParameter(parameter)).thenReturn(null);
+        }
+    }
+}
@@ -1,24 +1,34 @@
 package org.example.servlet;
 
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.example.db.impl.ConnectionManagerImpl;
+import org.example.repository.cache.TableVersions;
+import org.example.repository.cache.impl.TableVersionsImpl;
 import org.example.service.QualificationService;
 import org.example.service.dto.QualificationDto;
 import org.example.service.dto.QualificationSimpleDto;
+import org.example.servlet.executor.impl.DirectRequestExecutor;
 import org.example.servlet.handler.ExceptionHandler;
+import org.example.servlet.mapper.JsonArrayWriter;
 import org.example.servlet.mapper.QualificationJsonMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -35,17 +45,21 @@ class QualificationServletTest {
     private HttpServletRequest request;
     @Mock
     private HttpServletResponse response;
+    @Mock
+    private ServletOutputStream outputStream;
 
     private QualificationServlet servlet;
 
     private static final String JSON_CONTENT_TYPE = "application/json";
     private static final String PARAMETER_ID = "id";
+    private static final int DEFAULT_LIMIT = 50;
     private static final String JSON_TEST = "test";
     private static final Long LONG_ID = 1L;
 
     @BeforeEach
     void setup() {
-        servlet = new QualificationServlet(service, jsonMapper, exceptionHandler);
+        servlet = new QualificationServlet(service, jsonMapper, exceptionHandler, new DirectRequestExecutor(),
+                new TableVersionsImpl(16));
     }
 
     @Test
@@ -60,27 +74,51 @@ class QualificationServletTest {
     }
 
     @Test
-    void doGetWhenParameterPresentAndValidThenReturnDto() {
+    void doGetWhenParameterPresentAndValidThenReturnDto() throws IOException {
         var dtoMock = mock(QualificationDto.class);
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
             when(request.getParameter(PARAMETER_ID)).thenReturn(String.valueOf(LONG_ID));
             when(service.findById(LONG_ID)).thenReturn(dtoMock);
-            when(jsonMapper.toJson(dtoMock)).thenReturn(JSON_TEST);
+            when(response.getOutputStream()).thenReturn(outputStream);
 
             servlet.doGet(request, response);
 
             verify(request, times(1)).getParameter(PARAMETER_ID);
             verify(service, times(1)).findById(LONG_ID);
-            verify(jsonMapper, times(1)).toJson(dtoMock);
+            verify(jsonMapper, times(1)).writeJson(dtoMock, outputStream);
             verify(response, times(1)).setContentType(JSON_CONTENT_TYPE);
             verify(response, times(1)).setStatus(HttpServletResponse.SC_OK);
-            mockedStatic.verify(() -> ServletUtil.sendJsonResponse(anyString(), eq(response)), times(1));
         }
     }
 
     @Test
-    void doGetWhenParameterInvalidThenHandleNumberFormatException() {
+    void doGetWhenSeveralIdsThenReturnDtosInRequestOrder() throws IOException {
+        List<QualificationDto> dtos = List.of(new QualificationDto(), new QualificationDto());
+
+        when(request.getParameter(PARAMETER_ID)).thenReturn("3, 1,3");
+        when(service.findAllById(new LinkedHashSet<>(List.of(3L, 1L)))).thenReturn(dtos);
+        when(response.getOutputStream()).thenReturn(outputStream);
+
+        servlet.doGet(request, response);
+
+        verify(service, never()).findById(any());
+        verify(jsonMapper, times(1)).writeDtoListJson(dtos, outputStream);
+        verify(response, times(1)).setStatus(HttpServletResponse.SC_OK);
+    }
+
+    @Test
+    void doGetWhenSeveralIdsInvalidThenHandleNumberFormatException() throws IOException {
+        when(request.getParameter(PARAMETER_ID)).thenReturn("1,x");
+
+        servlet.doGet(request, response);
+
+        verify(service, never()).findAllById(any());
+        verify(exceptionHandler, times(1)).handleException(any(NumberFormatException.class), eq(response));
+    }
+
+    @Test
+    void doGetWhenParameterInvalidThenHandleNumberFormatException() throws IOException {
         when(request.getParameter(PARAMETER_ID)).thenReturn("invalidId");
 
         servlet.doGet(request, response);
@@ -90,7 +128,7 @@ class QualificationServletTest {
     }
 
     @Test
-    void doGetWhenNullDtoThenResponseNotFound() {
+    void doGetWhenNullDtoThenResponseNotFound() throws IOException {
         when(request.getParameter(PARAMETER_ID)).thenReturn(String.valueOf(LONG_ID));
         when(service.findById(LONG_ID)).thenReturn(null);
 
@@ -102,155 +140,212 @@ class QualificationServletTest {
     }
 
     @Test
-    void doGetWhenParameterAbsentThenReturnList() {
+    void doGetWhenParameterAbsentThenReturnList() throws IOException {
         List<QualificationSimpleDto> orders = Arrays.asList(new QualificationSimpleDto(), new QualificationSimpleDto());
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
             when(request.getParameter(PARAMETER_ID)).thenReturn(null);
-            when(service.findAll()).thenReturn(orders);
-            when(jsonMapper.toJson(orders)).thenReturn(JSON_TEST);
+            when(service.findPage(0L, DEFAULT_LIMIT)).thenReturn(orders);
+            when(response.getOutputStream()).thenReturn(outputStream);
 
             servlet.doGet(request, response);
 
             verify(request, times(1)).getParameter(PARAMETER_ID);
-            verify(service, times(1)).findAll();
-            verify(jsonMapper, times(1)).toJson(orders);
+            verify(service, times(1)).findPage(0L, DEFAULT_LIMIT);
+            verify(jsonMapper, times(1)).writeJson(orders, outputStream);
             verify(response, times(1)).setContentType(JSON_CONTENT_TYPE);
             verify(response, times(1)).setStatus(HttpServletResponse.SC_OK);
-            mockedStatic.verify(() -> ServletUtil.sendJsonResponse(anyString(), eq(response)));
         }
 
     }
 
     @Test
-    void doGetWhenEmptyListThenResponseNotFound() {
+    void doGetWhenPageFullThenSetNextLink() throws IOException {
+        var first = new QualificationSimpleDto();
+        first.setId(3L);
+        var last = new QualificationSimpleDto();
+        last.setId(7L);
+        List<QualificationSimpleDto> page = Arrays.asList(first, last);
+
+        try (MockedStatic<ServletUtil> ignored = mockStatic(ServletUtil.class)) {
+            when(request.getParameter(PARAMETER_ID)).thenReturn(null);
+            when(request.getParameter("stream")).thenReturn(null);
+        when(request.getParameter("after")).thenReturn("2");
+            when(request.getParameter("limit")).thenReturn("2");
+            when(request.getRequestURI()).thenReturn("/qualifications");
+            when(service.findPage(2L, 2)).thenReturn(page);
+
+            servlet.doGet(request, response);
+
+            verify(service, times(1)).findPage(2L, 2);
+            verify(response, times(1)).setHeader("Link", "</qualifications?after=7&limit=2>; rel=\"next\"");
+            verify(response, times(1)).setStatus(HttpServletResponse.SC_OK);
+        }
+    }
+
+    @Test
+    void doGetWhenLimitInvalidThenHandleNumberFormatException() throws IOException {
         when(request.getParameter(PARAMETER_ID)).thenReturn(null);
-        when(service.findAll()).thenReturn(new ArrayList<>());
+        when(request.getParameter("stream")).thenReturn(null);
+        when(request.getParameter("after")).thenReturn(null);
+        when(request.getParameter("limit")).thenReturn("0");
+
+        servlet.doGet(request, response);
+
+        verify(service, never()).findPage(anyLong(), anyInt());
+        verify(exceptionHandler, times(1)).handleException(any(NumberFormatException.class), eq(response));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void doGetWhenStreamThenWriteEveryRowToOutputStream() throws IOException {
+        var dto = new QualificationSimpleDto();
+        JsonArrayWriter<QualificationSimpleDto> writer = mock(JsonArrayWriter.class);
+
+        when(request.getParameter(PARAMETER_ID)).thenReturn(null);
+        when(request.getParameter("stream")).thenReturn("true");
+        when(response.getOutputStream()).thenReturn(outputStream);
+        when(jsonMapper.openJsonArray(outputStream)).thenReturn(writer);
+        doAnswer(invocation -> {
+            ((Consumer<QualificationSimpleDto>) invocation.getArgument(0)).accept(dto);
+            return null;
+        }).when(service).forEach(any());
+
+        servlet.doGet(request, response);
+
+        verify(writer, times(1)).write(dto);
+        verify(writer, times(1)).close();
+        verify(service, never()).findPage(anyLong(), anyInt());
+        verify(response, times(1)).setContentType(JSON_CONTENT_TYPE);
+        verify(response, times(1)).setStatus(HttpServletResponse.SC_OK);
+    }
+
+    @Test
+    void doGetWhenEmptyListThenResponseNotFound() throws IOException {
+        when(request.getParameter(PARAMETER_ID)).thenReturn(null);
+        when(service.findPage(0L, DEFAULT_LIMIT)).thenReturn(new ArrayList<>());
 
         servlet.doGet(request, response);
 
         verify(request, times(1)).getParameter(PARAMETER_ID);
-        verify(service, times(1)).findAll();
+        verify(service, times(1)).findPage(0L, DEFAULT_LIMIT);
         verify(response, times(1)).setStatus(HttpServletResponse.SC_NOT_FOUND);
     }
 
     @Test
-    void doGetWhenSendJsonThrowsIOExceptionThenHandleException() {
+    void doGetWhenSendJsonThrowsIOExceptionThenHandleException() throws IOException {
         var dto = mock(QualificationDto.class);
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
             when(request.getParameter(PARAMETER_ID)).thenReturn(String.valueOf(LONG_ID));
             when(service.findById(LONG_ID)).thenReturn(dto);
-            when(jsonMapper.toJson(dto)).thenReturn(JSON_TEST);
-            mockedStatic.when(() -> ServletUtil.sendJsonResponse(JSON_TEST, response)).thenThrow(new IOException("Mocked IOException"));
+            when(response.getOutputStream()).thenReturn(outputStream);
+            doThrow(new IOException("Mocked IOException")).when(jsonMapper).writeJson(dto, outputStream);
 
             servlet.doGet(request, response);
 
             verify(request, times(1)).getParameter(PARAMETER_ID);
             verify(service, times(1)).findById(LONG_ID);
-            verify(jsonMapper, times(1)).toJson(dto);
+            verify(jsonMapper, times(1)).writeJson(dto, outputStream);
             verify(response, times(1)).setContentType(JSON_CONTENT_TYPE);
             verify(response, times(1)).setStatus(HttpServletResponse.SC_OK);
-            mockedStatic.verify(() -> ServletUtil.sendJsonResponse(anyString(), eq(response)));
             verify(exceptionHandler, times(1)).handleException(any(IOException.class), eq(response));
         }
     }
 
     @Test
-    void doPostWhenBodyPresentedAndSaveSuccessThenCreated() {
-        String jsonBody = "test";
+    void doPostWhenBodyPresentedAndSaveSuccessThenCreated() throws IOException {
+        var body = new ByteArrayInputStream(JSON_TEST.getBytes());
         var dto = spy(QualificationSimpleDto.class);
         var dtoSaved = spy(QualificationSimpleDto.class);
         dtoSaved.setId(1L);
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
-            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(jsonBody);
-            when(jsonMapper.toSimpleDto(jsonBody)).thenReturn(dto);
+            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(body);
+            when(jsonMapper.toSimpleDto(body)).thenReturn(dto);
             when(service.save(dto)).thenReturn(dtoSaved);
-            when(jsonMapper.toJson(dtoSaved)).thenReturn(jsonBody);
+            when(response.getOutputStream()).thenReturn(outputStream);
 
             servlet.doPost(request, response);
 
             mockedStatic.verify(() -> ServletUtil.getJsonBody(request), times(1));
-            verify(jsonMapper, times(1)).toSimpleDto(anyString());
+            verify(jsonMapper, times(1)).toSimpleDto(any(InputStream.class));
             verify(service, times(1)).save(any(QualificationSimpleDto.class));
-            verify(jsonMapper, times(1)).toJson(any(QualificationSimpleDto.class));
+            verify(jsonMapper, times(1)).writeJson(any(QualificationSimpleDto.class), eq(outputStream));
             verify(response, times(1)).setContentType(JSON_CONTENT_TYPE);
             verify(response, times(1)).setStatus(HttpServletResponse.SC_CREATED);
-            mockedStatic.verify(() -> ServletUtil.sendJsonResponse(jsonBody, response), times(1));
         }
     }
 
     @Test
-    void doPostWhenBodyPresentedAndSaveFailThenBadRequest() {
-        String jsonBody = "test";
+    void doPostWhenBodyPresentedAndSaveFailThenBadRequest() throws IOException {
+        var body = new ByteArrayInputStream(JSON_TEST.getBytes());
         var dto = spy(QualificationSimpleDto.class);
         var dtoSaved = spy(QualificationSimpleDto.class);
         dtoSaved.setId(1L);
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
-            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(jsonBody);
-            when(jsonMapper.toSimpleDto(jsonBody)).thenReturn(dto);
+            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(body);
+            when(jsonMapper.toSimpleDto(body)).thenReturn(dto);
             when(service.save(dto)).thenReturn(null);
 
             servlet.doPost(request, response);
 
             mockedStatic.verify(() -> ServletUtil.getJsonBody(request), times(1));
-            verify(jsonMapper, times(1)).toSimpleDto(anyString());
+            verify(jsonMapper, times(1)).toSimpleDto(any(InputStream.class));
             verify(service, times(1)).save(any(QualificationSimpleDto.class));
             verify(response, times(1)).setStatus(HttpServletResponse.SC_BAD_REQUEST);
         }
     }
 
     @Test
-    void doPostWhenBodyPresentedAndDtoIdNullThenBadRequest() {
-        String jsonBody = "test";
+    void doPostWhenBodyPresentedAndDtoIdNullThenBadRequest() throws IOException {
+        var body = new ByteArrayInputStream(JSON_TEST.getBytes());
         var dto = spy(QualificationSimpleDto.class);
         var dtoSaved = spy(QualificationSimpleDto.class);
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
-            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(jsonBody);
-            when(jsonMapper.toSimpleDto(jsonBody)).thenReturn(dto);
+            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(body);
+            when(jsonMapper.toSimpleDto(body)).thenReturn(dto);
             when(service.save(dto)).thenReturn(dtoSaved);
 
             servlet.doPost(request, response);
 
             mockedStatic.verify(() -> ServletUtil.getJsonBody(request), times(1));
-            verify(jsonMapper, times(1)).toSimpleDto(anyString());
+            verify(jsonMapper, times(1)).toSimpleDto(any(InputStream.class));
             verify(service, times(1)).save(any(QualificationSimpleDto.class));
             verify(response, times(1)).setStatus(HttpServletResponse.SC_BAD_REQUEST);
         }
     }
 
     @Test
-    void doPostWhenSendJsonThrowsIOThenHandleException() {
-        String jsonBody = "test";
+    void doPostWhenSendJsonThrowsIOThenHandleException() throws IOException {
+        var body = new ByteArrayInputStream(JSON_TEST.getBytes());
         var dto = spy(QualificationSimpleDto.class);
         var dtoSaved = spy(QualificationSimpleDto.class);
         dtoSaved.setId(1L);
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
-            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(jsonBody);
-            when(jsonMapper.toSimpleDto(jsonBody)).thenReturn(dto);
+            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(body);
+            when(jsonMapper.toSimpleDto(body)).thenReturn(dto);
             when(service.save(dto)).thenReturn(dtoSaved);
-            when(jsonMapper.toJson(dtoSaved)).thenReturn(jsonBody);
-            mockedStatic.when(() -> ServletUtil.sendJsonResponse(jsonBody, response)).thenThrow(new IOException("Mocked"));
+            when(response.getOutputStream()).thenReturn(outputStream);
+            doThrow(new IOException("Mocked")).when(jsonMapper).writeJson(dtoSaved, outputStream);
 
             servlet.doPost(request, response);
 
             mockedStatic.verify(() -> ServletUtil.getJsonBody(request), times(1));
-            verify(jsonMapper, times(1)).toSimpleDto(anyString());
+            verify(jsonMapper, times(1)).toSimpleDto(any(InputStream.class));
             verify(service, times(1)).save(any(QualificationSimpleDto.class));
-            verify(jsonMapper, times(1)).toJson(any(QualificationSimpleDto.class));
+            verify(jsonMapper, times(1)).writeJson(any(QualificationSimpleDto.class), eq(outputStream));
             verify(response, times(1)).setContentType(JSON_CONTENT_TYPE);
             verify(response, times(1)).setStatus(HttpServletResponse.SC_CREATED);
-            mockedStatic.verify(() -> ServletUtil.sendJsonResponse(anyString(), eq(response)));
             verify(exceptionHandler, times(1)).handleException(any(IOException.class), eq(response));
         }
     }
 
     @Test
-    void doPostWhenGetJsonBodyThrowsIOThenHandleException() {
+    void doPostWhenGetJsonBodyThrowsIOThenHandleException() throws IOException {
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
             mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenThrow(new IOException("Mock"));
 
@@ -262,65 +357,65 @@ class QualificationServletTest {
     }
 
     @Test
-    void doPutWhenBodyPresentedAndUpdateSuccessThenCreated() {
-        String jsonBody = "test";
+    void doPutWhenBodyPresentedAndUpdateSuccessThenCreated() throws IOException {
+        var body = new ByteArrayInputStream(JSON_TEST.getBytes());
         var dtoUpdate = spy(QualificationSimpleDto.class);
         dtoUpdate.setId(1L);
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
-            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(jsonBody);
-            when(jsonMapper.toSimpleDto(jsonBody)).thenReturn(dtoUpdate);
+            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(body);
+            when(jsonMapper.toSimpleDto(body)).thenReturn(dtoUpdate);
             when(service.update(dtoUpdate)).thenReturn(true);
 
             servlet.doPut(request, response);
 
             mockedStatic.verify(() -> ServletUtil.getJsonBody(request), times(1));
-            verify(jsonMapper, times(1)).toSimpleDto(anyString());
+            verify(jsonMapper, times(1)).toSimpleDto(any(InputStream.class));
             verify(service, times(1)).update(any(QualificationSimpleDto.class));
             verify(response, times(1)).setStatus(HttpServletResponse.SC_OK);
         }
     }
 
     @Test
-    void doPutWhenBodyPresentedAndUpdateFailThenBadRequest() {
-        String jsonBody = "test";
+    void doPutWhenBodyPresentedAndUpdateFailThenBadRequest() throws IOException {
+        var body = new ByteArrayInputStream(JSON_TEST.getBytes());
         var dtoUpdate = spy(QualificationSimpleDto.class);
         dtoUpdate.setId(1L);
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
-            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(jsonBody);
-            when(jsonMapper.toSimpleDto(jsonBody)).thenReturn(dtoUpdate);
+            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(body);
+            when(jsonMapper.toSimpleDto(body)).thenReturn(dtoUpdate);
             when(service.update(dtoUpdate)).thenReturn(false);
 
             servlet.doPut(request, response);
 
             mockedStatic.verify(() -> ServletUtil.getJsonBody(request), times(1));
-            verify(jsonMapper, times(1)).toSimpleDto(anyString());
+            verify(jsonMapper, times(1)).toSimpleDto(any(InputStream.class));
             verify(service, times(1)).update(any(QualificationSimpleDto.class));
             verify(response, times(1)).setStatus(HttpServletResponse.SC_BAD_REQUEST);
         }
     }
 
     @Test
-    void doPutWhenBodyPresentedMapperReturnNullThenBadRequest() {
-        String jsonBody = "test";
+    void doPutWhenBodyPresentedMapperReturnNullThenBadRequest() throws IOException {
+        var body = new ByteArrayInputStream(JSON_TEST.getBytes());
 
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
-            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(jsonBody);
-            when(jsonMapper.toSimpleDto(jsonBody)).thenReturn(null);
+            mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenReturn(body);
+            when(jsonMapper.toSimpleDto(body)).thenReturn(null);
             when(service.update(null)).thenReturn(false);
 
             servlet.doPut(request, response);
 
             mockedStatic.verify(() -> ServletUtil.getJsonBody(request), times(1));
-            verify(jsonMapper, times(1)).toSimpleDto(jsonBody);
+            verify(jsonMapper, times(1)).toSimpleDto(body);
             verify(service, times(1)).update(null);
             verify(response, times(1)).setStatus(HttpServletResponse.SC_BAD_REQUEST);
         }
     }
 
     @Test
-    void doPutWhenGetJsonBodyThrowsIOThenHandleException() {
+    void doPutWhenGetJsonBodyThrowsIOThenHandleException() throws IOException {
         try (MockedStatic<ServletUtil> mockedStatic = mockStatic(ServletUtil.class)) {
             mockedStatic.when(() -> ServletUtil.getJsonBody(request)).thenThrow(new IOException("Mocked IOException"));
 
@@ -332,7 +427,7 @@ class QualificationServletTest {
     }
 
     @Test
-    void doDeleteWhenParameterInvalidThenHandleNumberFormatException() {
+    void doDeleteWhenParameterInvalidThenHandleNumberFormatException() throws IOException {
         when(request.getParameter(PARAMETER_ID)).thenReturn("invalidId");
 
         servlet.doDelete(request, response);
@@ -342,7 +437,7 @@ class QualificationServletTest {
     }
 
     @Test
-    void doDeleteWhenParameterValidThenDelete() {
+    void doDeleteWhenParameterValidThenDelete() throws IOException {
         when(request.getParameter(PARAMETER_ID)).thenReturn(String.valueOf(LONG_ID));
         when(service.delete(LONG_ID)).thenReturn(true);
         servlet.doDelete(request, response);
@@ -353,7 +448,7 @@ class QualificationServletTest {
     }
 
     @Test
-    void doDeleteWhenNoSuchDtoThenResponseBadRequest() {
+    void doDeleteWhenNoSuchDtoThenResponseBadRequest() throws IOException {
         when(request.getParameter(PARAMETER_ID)).thenReturn(String.valueOf(LONG_ID));
         when(service.delete(LONG_ID)).thenReturn(false);
 
@@ -363,4 +458,40 @@ class QualificationServletTest {
         verify(service, times(1)).delete(LONG_ID);
         verify(response, times(1)).setStatus(HttpServletResponse.SC_BAD_REQUEST);
     }
-}
\ No newline at end of file
+
+    @Test
+    void doGetGraphTagFollowsOrderAndFreelancerWrites() throws IOException {
+        var versions = new TableVersionsImpl(16);
+        var conditional = new QualificationServlet(service, jsonMapper, exceptionHandler,
+                new DirectRequestExecutor(), versions);
+        var dto = new QualificationDto();
+        when(request.getParameter(PARAMETER_ID)).thenReturn(String.valueOf(LONG_ID));
+        when(service.findById(LONG_ID)).thenReturn(dto);
+        when(response.getOutputStream()).thenReturn(outputStream);
+
+        conditional.doGet(request, response);
+        var tag = ArgumentCaptor.forClass(String.class);
+        verify(response).setHeader(eq("ETag"), tag.capture());
+        when(request.getHeader("If-None-Match")).thenReturn(tag.getValue());
+        conditional.doGet(request, response);
+        versions.changed(TableVersions.Table.ORDER, 40L);
+        conditional.doGet(request, response);
+
+        verify(response, times(1)).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        verify(service, times(2)).findById(LONG_ID);
+        verify(jsonMapper, times(2)).writeJson(dto, outputStream);
+    }
+
+    @Test
+    void doGetWhenPageTagMatchesThenNotModifiedWithoutLoading() {
+        var versions = new TableVersionsImpl(16);
+        var conditional = new QualificationServlet(service, jsonMapper, exceptionHandler,
+                new DirectRequestExecutor(), versions);
+        when(request.getHeader("If-None-Match")).thenReturn(EntityTag.of(versions, 0L));
+
+        conditional.doGet(request, response);
+
+        verify(response, times(1)).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        verifyNoInteractions(service, jsonMapper);
+    }
+}
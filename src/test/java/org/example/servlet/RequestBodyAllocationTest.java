@@ -0,0 +1,97 @@
+package org.example.servlet;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.sun.management.ThreadMXBean;
+import jakarta.servlet.http.HttpServletRequest;
+import org.example.service.dto.OrderDto;
+import org.example.servlet.mapper.impl.JsonEngine;
+import org.example.servlet.mapper.impl.OrderJsonMapperImpl;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+
+import static java.util.stream.Collectors.joining;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// Bytes allocated per parsed POST body: the former reader-line-join path against parsing the input stream.
+// The request is a plain proxy so that mock bookkeeping does not show up in the counts.
+class RequestBodyAllocationTest {
+    private static final int WARMUP = 500;
+    private static final int ITERATIONS = 500;
+    private static final OrderJsonMapperImpl MAPPER = new OrderJsonMapperImpl();
+    private static final ObjectReader JOINED_READER = JsonEngine.readerFor(OrderDto.class);
+
+    private interface BodyParser {
+        OrderDto parse(HttpServletRequest req) throws IOException;
+    }
+
+    @Test
+    @Tag("benchmark")
+    void streamingAllocatesLessThanLineJoining() throws IOException {
+        var threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof ThreadMXBean && ((ThreadMXBean) threads).isThreadAllocatedMemorySupported());
+
+        for (int descriptionLength : new int[]{100, 200_000}) {
+            byte[] body = body(descriptionLength);
+            long joined = allocatedPerRequest(body, RequestBodyAllocationTest::parseJoined);
+            long streamed = allocatedPerRequest(body, req -> MAPPER.toDto(ServletUtil.getJsonBody(req)));
+            if (descriptionLength > 1_000) {
+                assertTrue(streamed < joined, "streamed " + streamed + " >= joined " + joined);
+            }
+        }
+    }
+
+    private static long allocatedPerRequest(byte[] body, BodyParser parser) throws IOException {
+        var threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        for (int i = 0; i < WARMUP; i++) {
+            assertNotNull(parser.parse(request(body)));
+        }
+        long total = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            var req = request(body);
+            long before = threads.getThreadAllocatedBytes(thread);
+            parser.parse(req);
+            total += threads.getThreadAllocatedBytes(thread) - before;
+        }
+        return total / ITERATIONS;
+    }
+
+    private static OrderDto parseJoined(HttpServletRequest req) throws IOException {
+        try (var reader = req.getReader()) {
+            return JOINED_READER.readValue(reader.lines().collect(joining()));
+        }
+    }
+
+    private static HttpServletRequest request(byte[] body) {
+        var in = ServletUtilTest.servletInputStream(body);
+        var reader = new BufferedReader(new InputStreamReader(ServletUtilTest.servletInputStream(body),
+                StandardCharsets.UTF_8));
+        return (HttpServletRequest) Proxy.newProxyInstance(HttpServletRequest.class.getClassLoader(),
+                new Class<?>[]{HttpServletRequest.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getContentLengthLong":
+                            return (long) body.length;
+                        case "getInputStream":
+                            return in;
+                        case "getReader":
+                            return reader;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static byte[] body(int descriptionLength) {
+        return ("{\"orderTitle\": \"Title\", \"orderDescription\": \"" + "d".repeat(descriptionLength) + "\", " +
+                "\"orderPrice\": 100.50, \"orderTerm\": \"2024-03-15\", \"qualification\": {\"id\": 1}}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+}
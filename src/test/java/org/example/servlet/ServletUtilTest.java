@@ -1,15 +1,23 @@
 package org.example.servlet;
 
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.example.exception.PayloadTooLargeException;
+import org.example.exception.RepositoryException;
+import org.example.servlet.mapper.ExportWriter;
+import org.example.servlet.mapper.JsonArrayWriter;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.util.stream.Stream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -22,24 +30,139 @@ class ServletUtilTest {
     @Mock
     private HttpServletResponse response;
 
+    private static final long MAX_BODY_BYTES = 1_048_576;
+
+
+    @Test
+    void testGetJsonBodyKeepsBytesIncludingNewlines() throws IOException {
+        String json = "{\"key\": \"line1\\nline2\"}\n";
+
+        when(request.getContentLengthLong()).thenReturn((long) json.length());
+        when(request.getInputStream()).thenReturn(servletInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        try (var body = ServletUtil.getJsonBody(request)) {
+            assertEquals(json, new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testGetJsonBodyWhenDeclaredLengthTooLargeThenRejectsBeforeReading() throws IOException {
+        when(request.getContentLengthLong()).thenReturn(MAX_BODY_BYTES + 1);
+
+        assertThrows(PayloadTooLargeException.class, () -> ServletUtil.getJsonBody(request));
+        verify(request, never()).getInputStream();
+    }
 
     @Test
-    void testGetJsonBody() throws IOException {
-        BufferedReader reader = mock(BufferedReader.class);
-        String json = "{'key': 'value'}";
+    void testGetJsonBodyWhenUndeclaredBodyTooLargeThenFailsOnRead() throws IOException {
+        when(request.getContentLengthLong()).thenReturn(-1L);
+        when(request.getInputStream()).thenReturn(servletInputStream(new byte[(int) MAX_BODY_BYTES + 1]));
 
-        when(request.getReader()).thenReturn(reader);
-        when(reader.lines()).thenReturn(Stream.of(json));
+        var body = ServletUtil.getJsonBody(request);
 
-        String result = ServletUtil.getJsonBody(request);
+        assertThrows(PayloadTooLargeException.class, body::readAllBytes);
+    }
+
+    static ServletInputStream servletInputStream(byte[] bytes) {
+        var in = new ByteArrayInputStream(bytes);
+        return new ServletInputStream() {
+            @Override
+            public boolean isFinished() {
+                return in.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int read() {
+                return in.read();
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) {
+                return in.read(buffer, offset, length);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testStreamJsonArrayWritesEveryElementAndCloses() throws IOException {
+        JsonArrayWriter<String> writer = mock(JsonArrayWriter.class);
 
-        assertEquals(json, result);
+        ServletUtil.streamJsonArray(writer, action -> List.of("a", "b").forEach(action));
+
+        verify(writer).write("a");
+        verify(writer).write("b");
+        verify(writer).close();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testStreamJsonArrayRethrowsWriteIOException() throws IOException {
+        JsonArrayWriter<String> writer = mock(JsonArrayWriter.class);
+        doThrow(new IOException("Mocked")).when(writer).write("a");
+
+        assertThrows(IOException.class,
+                () -> ServletUtil.streamJsonArray(writer, action -> List.of("a", "b").forEach(action)));
+        verify(writer, never()).write("b");
+        verify(writer, never()).close();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testStreamJsonArrayWhenSourceFailsThenArrayLeftOpenAndExceptionPropagates() throws IOException {
+        JsonArrayWriter<String> writer = mock(JsonArrayWriter.class);
+        var failure = new RepositoryException(new SQLException("Mocked"));
+
+        var thrown = assertThrows(RepositoryException.class, () -> ServletUtil.streamJsonArray(writer, action -> {
+            action.accept("a");
+            throw failure;
+        }));
+
+        assertSame(failure, thrown);
+        verify(writer).write("a");
+        verify(writer, never()).close();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testStreamExportWhenSourceFailsAfterRowsThenWriterLeftOpen() throws IOException {
+        ExportWriter<Integer> writer = mock(ExportWriter.class);
+        var failure = new RepositoryException(new SQLException("Mocked"));
+
+        var thrown = assertThrows(RepositoryException.class, () -> ServletUtil.streamExport(writer, action -> {
+            for (int row = 1; row <= 3; row++) {
+                action.accept(row);
+            }
+            throw failure;
+        }));
+
+        assertSame(failure, thrown);
+        verify(writer, times(3)).write(anyInt());
+        verify(writer, never()).close();
+    }
+
+    @Test
+    void parseIdsKeepsRequestOrderWithoutRepeats() {
+        assertEquals(List.of(5L, 2L, 9L), List.copyOf(ServletUtil.parseIds("5, 2,5,9")));
     }
 
     @Test
-    void testSendJsonResponseThrowsIOException() throws IOException {
-        when(response.getWriter()).thenThrow(new IOException("Mocked"));
+    void parseIdsWhenTooManyThenNumberFormatException() {
+        var ids = new StringBuilder("1");
+        for (int i = 2; i <= 101; i++) {
+            ids.append(',').append(i);
+        }
 
-        assertThrows(IOException.class, () -> ServletUtil.sendJsonResponse("test", response));
+        assertThrows(NumberFormatException.class, () -> ServletUtil.parseIds(ids.toString()));
     }
-}
\ No newline at end of file
+}
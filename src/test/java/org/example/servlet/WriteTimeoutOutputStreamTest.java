@@ -0,0 +1,65 @@
+package org.example.servlet;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteTimeoutOutputStreamTest {
+
+    @Test
+    void writesThatKeepUpPassThrough() throws IOException {
+        var target = new ByteArrayOutputStream();
+
+        try (var out = new WriteTimeoutOutputStream(target, 1_000)) {
+            out.write('a');
+            out.write(new byte[]{'b', 'c'}, 0, 2);
+            out.flush();
+        }
+
+        assertEquals("abc", target.toString());
+    }
+
+    @Test
+    void blockedWriteIsFailedOnceTheTimeoutPasses() throws IOException {
+        var stalled = new StalledOutputStream();
+        var out = new WriteTimeoutOutputStream(stalled, 50);
+        long start = System.nanoTime();
+
+        assertThrows(InterruptedIOException.class, () -> out.write(new byte[8], 0, 8));
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMillis >= 50 && elapsedMillis < 5_000, elapsedMillis + " ms");
+        assertTrue(stalled.closed);
+        assertThrows(InterruptedIOException.class, () -> out.write('x'));
+        out.close();
+    }
+
+    // Accepts nothing until closed, like a client that stopped reading
+    private static final class StalledOutputStream extends OutputStream {
+        private final CountDownLatch closing = new CountDownLatch(1);
+        private volatile boolean closed;
+
+        @Override
+        public void write(int b) throws IOException {
+            try {
+                closing.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IOException("Stream closed");
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            closing.countDown();
+        }
+    }
+}
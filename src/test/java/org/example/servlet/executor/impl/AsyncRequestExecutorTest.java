@@ -0,0 +1,244 @@
+package org.example.servlet.executor.impl;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.servlet.executor.RequestExecutor;
+import org.example.servlet.executor.RequestHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AsyncRequestExecutorTest {
+    private static final long TIMEOUT_MILLIS = 5_000;
+    private static final int REQUESTS = 64;
+    private static final int POOL_SIZE = 16;
+    private static final long QUERY_MILLIS = 20;
+
+    private final ExecutorService workers = RequestExecutorFactory.newPlatformThreadExecutor(REQUESTS);
+
+    @AfterEach
+    void afterEach() {
+        workers.shutdownNow();
+    }
+
+    @Test
+    void executeWhenAsyncUnsupportedThenRunInline() {
+        var executor = new AsyncRequestExecutor(workers, 1, TIMEOUT_MILLIS);
+        var req = mock(HttpServletRequest.class);
+        var resp = mock(HttpServletResponse.class);
+        var handler = mock(RequestHandler.class);
+
+        executor.execute(req, resp, handler);
+
+        verify(handler, times(1)).handle(req, resp);
+        verify(req, never()).startAsync(req, resp);
+    }
+
+    @Test
+    void executeWhenAdmittedThenRunOnWorkerAndComplete() throws InterruptedException {
+        var executor = new AsyncRequestExecutor(workers, 1, TIMEOUT_MILLIS);
+        var req = mock(HttpServletRequest.class);
+        var resp = mock(HttpServletResponse.class);
+        var completed = new CountDownLatch(1);
+        var handlerThread = new Thread[1];
+        prepareAsync(req, resp, completed);
+
+        executor.execute(req, resp, (request, response) -> handlerThread[0] = Thread.currentThread());
+
+        assertTrue(completed.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertAll(
+                () -> assertNotSame(Thread.currentThread(), handlerThread[0]),
+                () -> assertEquals(1, executor.getAvailablePermits())
+        );
+    }
+
+    @Test
+    void executeWhenSaturatedThenServiceUnavailable() throws InterruptedException {
+        var executor = new AsyncRequestExecutor(workers, 1, TIMEOUT_MILLIS);
+        var release = new CountDownLatch(1);
+        var completed = new CountDownLatch(1);
+        var busyReq = mock(HttpServletRequest.class);
+        var busyResp = mock(HttpServletResponse.class);
+        prepareAsync(busyReq, busyResp, completed);
+        executor.execute(busyReq, busyResp, (request, response) -> awaitQuietly(release));
+
+        var req = mock(HttpServletRequest.class);
+        var resp = mock(HttpServletResponse.class);
+        when(req.isAsyncSupported()).thenReturn(true);
+        var handler = mock(RequestHandler.class);
+        executor.execute(req, resp, handler);
+        release.countDown();
+
+        verify(resp, times(1)).setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        verify(resp, times(1)).setHeader("Retry-After", "1");
+        verify(handler, never()).handle(any(), any());
+        assertTrue(completed.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void executeWhenHandlerThrowsThenInternalErrorAndPermitReleased() throws InterruptedException {
+        var executor = new AsyncRequestExecutor(workers, 1, TIMEOUT_MILLIS);
+        var req = mock(HttpServletRequest.class);
+        var resp = mock(HttpServletResponse.class);
+        var completed = new CountDownLatch(1);
+        prepareAsync(req, resp, completed);
+
+        executor.execute(req, resp, (request, response) -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertTrue(completed.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        verify(resp, times(1)).setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        assertEquals(1, executor.getAvailablePermits());
+    }
+
+    @Test
+    void executeWhenWorkersRejectThenServiceUnavailableAndPermitReleased() {
+        var rejecting = mock(ExecutorService.class);
+        doThrow(new RejectedExecutionException()).when(rejecting).execute(any());
+        var executor = new AsyncRequestExecutor(rejecting, 1, TIMEOUT_MILLIS);
+        var req = mock(HttpServletRequest.class);
+        var resp = mock(HttpServletResponse.class);
+        var asyncContext = prepareAsync(req, resp, new CountDownLatch(1));
+
+        executor.execute(req, resp, mock(RequestHandler.class));
+
+        verify(resp, times(1)).setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        verify(asyncContext, times(1)).complete();
+        assertEquals(1, executor.getAvailablePermits());
+    }
+
+    @Test
+    void executeWhenTimedOutThenServiceUnavailableAndWorkerKeepsOff() throws Exception {
+        var executor = new AsyncRequestExecutor(workers, 1, TIMEOUT_MILLIS);
+        var req = mock(HttpServletRequest.class);
+        var resp = mock(HttpServletResponse.class);
+        var asyncContext = prepareAsync(req, resp, new CountDownLatch(1));
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var handlerDone = new CountDownLatch(1);
+        var writeFailure = new Exception[1];
+        executor.execute(req, resp, (request, response) -> {
+            started.countDown();
+            awaitQuietly(release);
+            response.setStatus(HttpServletResponse.SC_OK);
+            try {
+                response.getOutputStream().write(1);
+            } catch (IOException e) {
+                writeFailure[0] = e;
+            }
+            handlerDone.countDown();
+        });
+        var listener = ArgumentCaptor.forClass(AsyncListener.class);
+        verify(asyncContext).addListener(listener.capture());
+        assertTrue(started.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+
+        var event = mock(AsyncEvent.class);
+        when(event.getAsyncContext()).thenReturn(asyncContext);
+        listener.getValue().onTimeout(event);
+        assertEquals(0, executor.getAvailablePermits());
+        release.countDown();
+        assertTrue(handlerDone.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        awaitPermits(executor, 1);
+
+        verify(resp, times(1)).setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        verify(resp, never()).setStatus(HttpServletResponse.SC_OK);
+        verify(resp, never()).getOutputStream();
+        verify(asyncContext, times(1)).complete();
+        assertNotNull(writeFailure[0]);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void asyncModeIsNotCappedByContainerThreads() throws Exception {
+        for (int containerThreads : new int[]{2, 4, 8}) {
+            double sync = measureThroughput(new DirectRequestExecutor(), containerThreads);
+            var asyncExecutor = new AsyncRequestExecutor(workers, REQUESTS, TIMEOUT_MILLIS);
+            double async = measureThroughput(asyncExecutor, containerThreads);
+            if (containerThreads <= POOL_SIZE / 4) {
+                assertTrue(async > 2 * sync, "async " + async + " req/s vs sync " + sync + " req/s");
+            }
+        }
+    }
+
+    // Container threads hand requests to the executor; the "query" holds one of POOL_SIZE connections.
+    private double measureThroughput(RequestExecutor executor, int containerThreads) throws Exception {
+        var container = Executors.newFixedThreadPool(containerThreads);
+        var connections = new Semaphore(POOL_SIZE);
+        var completed = new CountDownLatch(REQUESTS);
+        RequestHandler handler = (request, response) -> {
+            connections.acquireUninterruptibly();
+            try {
+                TimeUnit.MILLISECONDS.sleep(QUERY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                connections.release();
+            }
+        };
+        var requests = new HttpServletRequest[REQUESTS];
+        var responses = new HttpServletResponse[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            requests[i] = mock(HttpServletRequest.class);
+            responses[i] = mock(HttpServletResponse.class);
+            if (executor instanceof AsyncRequestExecutor) {
+                prepareAsync(requests[i], responses[i], completed);
+            }
+        }
+        try {
+            long start = System.nanoTime();
+            for (int i = 0; i < REQUESTS; i++) {
+                var req = requests[i];
+                var resp = responses[i];
+                container.execute(() -> {
+                    executor.execute(req, resp, handler);
+                    if (!(executor instanceof AsyncRequestExecutor)) {
+                        completed.countDown();
+                    }
+                });
+            }
+            assertTrue(completed.await(30, TimeUnit.SECONDS));
+            return REQUESTS / (Duration.ofNanos(System.nanoTime() - start).toMillis() / 1000.0);
+        } finally {
+            container.shutdownNow();
+        }
+    }
+
+    private static AsyncContext prepareAsync(HttpServletRequest req, HttpServletResponse resp, CountDownLatch completed) {
+        var asyncContext = mock(AsyncContext.class);
+        when(req.isAsyncSupported()).thenReturn(true);
+        when(req.startAsync(req, resp)).thenReturn(asyncContext);
+        doAnswer(invocation -> {
+            completed.countDown();
+            return null;
+        }).when(asyncContext).complete();
+        return asyncContext;
+    }
+
+    private static void awaitPermits(AsyncRequestExecutor executor, int permits) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLIS);
+        while (executor.getAvailablePermits() < permits && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+        assertEquals(permits, executor.getAvailablePermits());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
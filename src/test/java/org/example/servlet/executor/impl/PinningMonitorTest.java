@@ -0,0 +1,20 @@
+package org.example.servlet.executor.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PinningMonitorTest {
+
+    @Test
+    void monitorStartsAndStopsWithoutPinnedEvents() {
+        try (var monitor = new PinningMonitor(Duration.ofMillis(20))) {
+            assertAll(
+                    () -> assertEquals(0, monitor.getPinnedCount()),
+                    () -> assertEquals(0, monitor.getJdbcPinnedCount())
+            );
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.servlet.handler.impl;
 
 import jakarta.servlet.http.HttpServletResponse;
+import org.example.exception.PayloadTooLargeException;
 import org.example.servlet.handler.ExceptionHandler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,6 +31,13 @@ class ExceptionHandlerImplTest {
         verify(mockResponse).setStatus(HttpServletResponse.SC_BAD_REQUEST);
     }
 
+    @Test
+    void testHandlePayloadTooLargeException() {
+        exceptionHandler.handleException(new PayloadTooLargeException(1), mockResponse);
+
+        verify(mockResponse).setStatus(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+    }
+
     @Test
     void testHandleOtherException() {
         exceptionHandler.handleException(new Exception(), mockResponse);
@@ -0,0 +1,27 @@
+package org.example.servlet.mapper.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvExportWriterTest {
+
+    @Test
+    void writesHeaderAndQuotesOnlyFieldsThatNeedIt() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (var writer = new CsvExportWriter<Object[]>(out, new String[]{"id", "title", "note"}, row -> row)) {
+            writer.write(new Object[]{1L, "plain", null});
+            writer.write(new Object[]{2L, "a, \"quoted\" one", "two\nlines"});
+            writer.write(new Object[]{3L, "Заказ", ""});
+        }
+
+        assertEquals("id,title,note\r\n" +
+                     "1,plain,\r\n" +
+                     "2,\"a, \"\"quoted\"\" one\",\"two\nlines\"\r\n" +
+                     "3,Заказ,\r\n", out.toString(StandardCharsets.UTF_8));
+    }
+}
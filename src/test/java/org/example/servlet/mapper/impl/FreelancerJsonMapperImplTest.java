@@ -0,0 +1,47 @@
+package org.example.servlet.mapper.impl;
+
+import org.example.service.dto.FreelancerDto;
+import org.example.service.dto.FreelancerImportIssueDto;
+import org.example.service.dto.FreelancerImportOutcome;
+import org.example.service.dto.FreelancerImportResultDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FreelancerJsonMapperImplTest {
+
+    private final FreelancerJsonMapperImpl jsonMapper = new FreelancerJsonMapperImpl();
+
+    @Test
+    void readDtosAcceptsJsonArrayAndNdjson() throws Exception {
+        String record = "{\"freelancerName\":\"Ivan\",\"freelancerSecondName\":\"Ivanov\"," +
+                        "\"freelancerEmail\":\"ivanov@test.com\",\"qualifications\":[{\"id\":2}]}";
+
+        for (String body : List.of("[" + record + "," + record + "]", record + "\n" + record)) {
+            List<FreelancerDto> read = new ArrayList<>();
+            jsonMapper.readDtos(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))).forEachRemaining(read::add);
+            assertEquals(2, read.size());
+            assertEquals("ivanov@test.com", read.get(1).getFreelancerEmail());
+            assertEquals(2L, read.get(1).getQualifications().get(0).getId());
+        }
+    }
+
+    @Test
+    void writeImportResult() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        var result = new FreelancerImportResultDto(1, 0, 1, new long[]{4, 0},
+                List.of(new FreelancerImportIssueDto(1, FreelancerImportOutcome.INVALID, "freelancerEmail is required")));
+
+        jsonMapper.writeJson(result, out);
+
+        String json = out.toString(StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"ids\":[4,0]"));
+        assertTrue(json.contains("\"outcome\":\"INVALID\""));
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.servlet.mapper.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.management.ThreadMXBean;
+import org.example.service.dto.OrderSimpleDto;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// Deterministic stand-in for a JMH run: one list response per request, written the way the servlets did before
+// the shared engine (a mapper per servlet, writeValueAsString, then the response writer) and the way they do now
+// (a shared ObjectWriter straight onto the response stream). Both write into the same discarding sink.
+// Serialization itself costs the same either way, so time only has to stay within noise of the old path;
+// the saving is the intermediate String and its re-encoding.
+class JsonEngineBenchmarkTest {
+    private static final int WARMUP = 2_000;
+    private static final int REQUESTS = 2_000;
+    private static final int ROUNDS = 5;
+    private static final double TIME_TOLERANCE = 1.25;
+    private static final List<OrderSimpleDto> PAGE = page(100);
+
+    private interface Response {
+        void write(List<OrderSimpleDto> page) throws IOException;
+    }
+
+    @Test
+    @Tag("benchmark")
+    void sharedWriterAllocatesLessThanPerMapperStringsAtTheSameSpeed() throws IOException {
+        var threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof ThreadMXBean && ((ThreadMXBean) threads).isThreadAllocatedMemorySupported());
+        var sink = new DiscardingOutputStream();
+        var legacyMapper = legacyMapper();
+        var responseWriter = new PrintWriter(new OutputStreamWriter(sink, StandardCharsets.UTF_8));
+        Response legacy = page -> {
+            responseWriter.write(legacyMapper.writeValueAsString(page));
+            responseWriter.flush();
+        };
+        var jsonMapper = new OrderJsonMapperImpl();
+        Response shared = page -> jsonMapper.writeJson(page, sink);
+        assertEquals(output(legacy, sink), output(shared, sink));
+
+        long legacyNanos = Long.MAX_VALUE;
+        long sharedNanos = Long.MAX_VALUE;
+        long legacyBytes = Long.MAX_VALUE;
+        long sharedBytes = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long[] legacyRun = measure(legacy);
+            long[] sharedRun = measure(shared);
+            legacyNanos = Math.min(legacyNanos, legacyRun[0]);
+            legacyBytes = Math.min(legacyBytes, legacyRun[1]);
+            sharedNanos = Math.min(sharedNanos, sharedRun[0]);
+            sharedBytes = Math.min(sharedBytes, sharedRun[1]);
+        }
+
+        long nanosPerLegacy = legacyNanos;
+        long nanosPerShared = sharedNanos;
+        long bytesPerLegacy = legacyBytes;
+        long bytesPerShared = sharedBytes;
+        assertAll(
+                () -> assertTrue(nanosPerShared < nanosPerLegacy * TIME_TOLERANCE,
+                        "shared " + nanosPerShared + " ns vs legacy " + nanosPerLegacy + " ns per request"),
+                () -> assertTrue(bytesPerShared < bytesPerLegacy,
+                        "shared " + bytesPerShared + " B vs legacy " + bytesPerLegacy + " B per request")
+        );
+    }
+
+    // Nanoseconds and allocated bytes per request
+    private static long[] measure(Response response) throws IOException {
+        var threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        for (int i = 0; i < WARMUP; i++) {
+            response.write(PAGE);
+        }
+        long allocated = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            response.write(PAGE);
+        }
+        long nanos = System.nanoTime() - start;
+        allocated = threads.getThreadAllocatedBytes(thread) - allocated;
+        return new long[]{nanos / REQUESTS, allocated / REQUESTS};
+    }
+
+    private static String output(Response response, DiscardingOutputStream sink) throws IOException {
+        sink.capture = new ByteArrayOutputStream();
+        response.write(PAGE);
+        String json = sink.capture.toString(StandardCharsets.UTF_8);
+        sink.capture = null;
+        return json;
+    }
+
+    // Configured as each JSON mapper used to configure its own ObjectMapper
+    private static ObjectMapper legacyMapper() {
+        var mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.setDateFormat(new SimpleDateFormat("yyyy-MM-dd"));
+        return mapper;
+    }
+
+    private static List<OrderSimpleDto> page(int size) {
+        List<OrderSimpleDto> dtos = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            dtos.add(new OrderSimpleDto(i, "title" + i, "description of order " + i,
+                    BigDecimal.valueOf(i * 25, 2), LocalDate.of(2024, 1, 1).plusDays(i)));
+        }
+        return dtos;
+    }
+
+    private static final class DiscardingOutputStream extends OutputStream {
+        private ByteArrayOutputStream capture;
+
+        @Override
+        public void write(int b) {
+            if (capture != null) {
+                capture.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            if (capture != null) {
+                capture.write(b, off, len);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package org.example.servlet.mapper.impl;
+
+import org.example.service.dto.OrderBulkResultDto;
+import org.example.service.dto.OrderDto;
+import org.example.service.dto.OrderSimpleDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderJsonMapperImplTest {
+
+    private final OrderJsonMapperImpl jsonMapper = new OrderJsonMapperImpl();
+
+    @Test
+    void writeJsonThenReadBackSameDto() throws Exception {
+        OrderSimpleDto dto = new OrderSimpleDto(1L, "title", "description",
+                new BigDecimal("1000.50"), LocalDate.of(2024, 3, 1));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        jsonMapper.writeJson(dto, out);
+
+        String json = out.toString(StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"orderTerm\":\"2024-03-01\""));
+        assertEquals(dto, jsonMapper.toSimpleDto(new ByteArrayInputStream(out.toByteArray())));
+    }
+
+    @Test
+    void writersAreSharedBetweenMapperInstances() {
+        assertSame(JsonEngine.writerFor(OrderSimpleDto.class), JsonEngine.writerFor(OrderSimpleDto.class));
+        assertSame(JsonEngine.listWriterFor(OrderSimpleDto.class), JsonEngine.listWriterFor(OrderSimpleDto.class));
+        assertSame(JsonEngine.readerFor(OrderSimpleDto.class), JsonEngine.readerFor(OrderSimpleDto.class));
+    }
+
+    @Test
+    void concurrentSerializationProducesIdenticalOutput() throws Exception {
+        List<OrderSimpleDto> dtos = new ArrayList<>();
+        for (long i = 1; i <= 100; i++) {
+            dtos.add(new OrderSimpleDto(i, "title" + i, "description" + i,
+                    BigDecimal.valueOf(i), LocalDate.of(2024, 1, 1).plusDays(i)));
+        }
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        new OrderJsonMapperImpl().writeJson(dtos, expected);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<byte[]>> tasks = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                tasks.add(() -> {
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    new OrderJsonMapperImpl().writeJson(dtos, out);
+                    return out.toByteArray();
+                });
+            }
+            for (Future<byte[]> result : executor.invokeAll(tasks)) {
+                assertArrayEquals(expected.toByteArray(), result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void readDtosAcceptsJsonArrayAndNdjson() throws Exception {
+        String record = "{\"orderTitle\":\"title\",\"orderPrice\":10.5,\"orderTerm\":\"2024-03-01\"}";
+        String array = "[" + record + "," + record + "]";
+        String ndjson = record + "\n" + record + "\n";
+
+        for (String body : List.of(array, ndjson)) {
+            Iterator<OrderDto> dtos = jsonMapper.readDtos(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+            List<OrderDto> read = new ArrayList<>();
+            dtos.forEachRemaining(read::add);
+            assertEquals(2, read.size());
+            assertEquals("title", read.get(1).getOrderTitle());
+            assertEquals(LocalDate.of(2024, 3, 1), read.get(1).getOrderTerm());
+        }
+    }
+
+    @Test
+    void writeBulkResultWithFailedIndex() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        jsonMapper.writeJson(new OrderBulkResultDto(new long[]{7, 8}, 2, "orderTitle is required"), out);
+
+        String json = out.toString(StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"ids\":[7,8]"));
+        assertTrue(json.contains("\"failedIndex\":2"));
+    }
+
+    @Test
+    void openNdjsonWritesOneObjectPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        var first = new OrderDto();
+        first.setId(1L);
+        var second = new OrderDto();
+        second.setId(2L);
+
+        try (var writer = jsonMapper.openNdjson(out)) {
+            writer.write(first);
+            writer.write(second);
+        }
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,"));
+        assertTrue(lines[1].startsWith("{\"id\":2,"));
+        assertEquals("", lines[2]);
+    }
+}